@@ -70,27 +70,12 @@ object Gatling extends StrictLogging {
       val configuration = GatlingConfiguration.load()
       logger.trace("Configuration loaded")
       logger.trace("ActorSystem instantiated")
-      val runResult =
-        gatlingArgs.reportsOnly match {
-          case Some(runId) => new RunResult(runId, hasAssertions = true)
-          case _           =>
-            // start actor system before creating simulation instance, some components might need it (e.g. shutdown hook)
-            val system = new ActorSystem
-            val eventLoopGroup = Transports.newEventLoopGroup(configuration.netty.useNativeTransport, configuration.netty.useIoUring, 0, "gatling")
-            try {
-              val runner = Runner(system, eventLoopGroup, gatlingArgs, configuration)
-              logger.trace("Runner instantiated")
-              runner.run()
-            } catch {
-              case e: Throwable =>
-                logger.error("Run crashed", e)
-                throw e
-            } finally {
-              terminateActorSystem(system)
-              eventLoopGroup.shutdownGracefully(0, configuration.core.shutdownTimeout, TimeUnit.MILLISECONDS)
-            }
-        }
-      new RunResultProcessor(gatlingArgs, configuration).processRunResult(runResult).code
+      val runResultProcessor = new RunResultProcessor(gatlingArgs, configuration)
+      val statusCode = gatlingArgs.liveReports match {
+        case Some(runId) => runResultProcessor.processLiveRun(runId)
+        case _           => runResultProcessor.processRunResult(runResult(gatlingArgs, configuration))
+      }
+      statusCode.code
     } finally {
       val factory = LoggerFactory.getILoggerFactory
       try {
@@ -100,4 +85,25 @@ object Gatling extends StrictLogging {
         case NonFatal(ex)             => logger.warn("Logback failed to shutdown.", ex)
       }
     }
+
+  private def runResult(gatlingArgs: GatlingArgs, configuration: GatlingConfiguration): RunResult =
+    gatlingArgs.reportsOnly match {
+      case Some(runId) => new RunResult(runId, hasAssertions = true)
+      case _           =>
+        // start actor system before creating simulation instance, some components might need it (e.g. shutdown hook)
+        val system = new ActorSystem
+        val eventLoopGroup = Transports.newEventLoopGroup(configuration.netty.useNativeTransport, configuration.netty.useIoUring, 0, "gatling")
+        try {
+          val runner = Runner(system, eventLoopGroup, gatlingArgs, configuration)
+          logger.trace("Runner instantiated")
+          runner.run()
+        } catch {
+          case e: Throwable =>
+            logger.error("Run crashed", e)
+            throw e
+        } finally {
+          terminateActorSystem(system)
+          eventLoopGroup.shutdownGracefully(0, configuration.core.shutdownTimeout, TimeUnit.MILLISECONDS)
+        }
+    }
 }
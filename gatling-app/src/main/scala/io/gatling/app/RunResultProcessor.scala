@@ -20,7 +20,7 @@ import java.nio.file.Path
 
 import io.gatling.app.cli.StatusCode
 import io.gatling.charts.report.{ ReportsGenerationInputs, ReportsGenerator }
-import io.gatling.charts.stats.{ LogFileData, LogFileReader }
+import io.gatling.charts.stats.{ LogFileData, LogFileReader, LogFileTailer }
 import io.gatling.core.cli.GatlingArgs
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.shared.model.assertion.{ AssertionMessage, AssertionResult, AssertionValidator }
@@ -42,6 +42,33 @@ private final class RunResultProcessor(gatlingArgs: GatlingArgs, configuration:
         StatusCode.Success
     }
 
+  // regenerates the reports of a run that's still going as new records are logged, only the new records are parsed each time
+  @SuppressWarnings(Array("org.wartremover.warts.ThreadSleep"))
+  def processLiveRun(runId: String): StatusCode = {
+    val tailer = LogFileTailer(runId, resultsDirectory, configuration)
+    var idle = false
+    var live = true
+    while (live) {
+      tailer.read() match {
+        case Some(logFileData) =>
+          idle = false
+          val assertionResults = new AssertionValidator(logFileData).validateAssertions(logFileData.assertions)
+          generateReports(runId, logFileData, assertionResults)
+        case _ if idle =>
+          println(s"Nothing was logged for the last ${gatlingArgs.liveReportsInterval.toSeconds}s, stopping live reports.")
+          live = false
+        case _ =>
+          idle = true
+      }
+
+      if (live) {
+        Thread.sleep(gatlingArgs.liveReportsInterval.toMillis)
+      }
+    }
+
+    StatusCode.Success
+  }
+
   private def resultsDirectory: Path =
     gatlingArgs.resultsDirectory.getOrElse(throw new IllegalArgumentException("Can't generate reports if resultsDirectory is not set"))
 
@@ -57,7 +84,7 @@ private final class RunResultProcessor(gatlingArgs: GatlingArgs, configuration:
     }
 
   private def reportsGenerationEnabled: Boolean =
-    gatlingArgs.reportsOnly.isDefined || (configuration.data.fileDataWriterEnabled && !gatlingArgs.noReports)
+    gatlingArgs.reportsOnly.isDefined || gatlingArgs.liveReports.isDefined || (configuration.data.fileDataWriterEnabled && !gatlingArgs.noReports)
 
   private def generateReports(runId: String, logFileData: LogFileData, assertionResults: List[AssertionResult]): Unit =
     if (reportsGenerationEnabled) {
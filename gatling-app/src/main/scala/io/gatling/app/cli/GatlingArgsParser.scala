@@ -20,11 +20,25 @@ import java.nio.charset.StandardCharsets
 import java.nio.file.Paths
 import java.util.Base64
 
+import scala.concurrent.duration._
+
 import io.gatling.commons.util.StringHelper._
 import io.gatling.core.cli.{ CliOptionParser, GatlingArgs }
+import io.gatling.shared.cli.CliOption
 import io.gatling.shared.cli.GatlingCliOptions._
 
+private[cli] object GatlingArgsParser {
+  // only used when launching Gatling directly, not by the build tool plugins
+  val LiveReports: CliOption =
+    new CliOption("live-reports", "lr", "Periodically generates the reports of a run that's still going, until nothing new gets logged", "<directoryName>")
+
+  val LiveReportsInterval: CliOption =
+    new CliOption("live-reports-interval", "lri", "Interval between live reports, 900 by default", "<seconds>")
+}
+
 private[app] final class GatlingArgsParser(args: Array[String]) {
+  import GatlingArgsParser._
+
   private var gatlingArgs = GatlingArgs.Empty
 
   private val cliOptsParser = new CliOptionParser[Unit]("gatling") {
@@ -34,6 +48,12 @@ private[app] final class GatlingArgsParser(args: Array[String]) {
     opt[String](ReportsOnly)
       .foreach(value => gatlingArgs = gatlingArgs.copy(reportsOnly = value.trimToOption))
 
+    opt[String](LiveReports)
+      .foreach(value => gatlingArgs = gatlingArgs.copy(liveReports = value.trimToOption))
+
+    opt[Int](LiveReportsInterval)
+      .foreach(value => gatlingArgs = gatlingArgs.copy(liveReportsInterval = value.seconds))
+
     opt[String](ResultsFolder)
       .foreach(value => gatlingArgs = gatlingArgs.copy(resultsDirectory = value.trimToOption.map(trimmed => Paths.get(trimmed))))
 
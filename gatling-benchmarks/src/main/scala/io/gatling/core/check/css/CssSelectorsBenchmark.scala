@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011-2024 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.css
+
+import org.openjdk.jmh.annotations.{ Benchmark, Scope, State }
+import org.openjdk.jmh.infra.Blackhole
+
+object CssSelectorsBenchmark {
+  private val Page: Array[Char] =
+    (1 to 500)
+      .map(i => s"""<div class="item" id="item-$i"><p>Item $i</p><a class="link" href="/items/$i">details</a></div>""")
+      .mkString("<html><head><title>items</title></head><body>", "\n", """<input type="hidden" name="csrf" value="token"></body></html>""")
+      .toCharArray
+}
+
+@State(Scope.Thread)
+class CssSelectorsBenchmark {
+  import CssSelectorsBenchmark._
+
+  private val selectors = new CssSelectors(100)
+
+  @Benchmark
+  def streamedAttribute(blackhole: Blackhole): Unit =
+    blackhole.consume(selectors.extract[String](selectors.parse(Page), ("input[name=csrf]", Some("value")), 1))
+
+  @Benchmark
+  def streamedAttributes(blackhole: Blackhole): Unit =
+    blackhole.consume(selectors.extractAll[String](selectors.parse(Page), ("a.link", Some("href"))))
+
+  @Benchmark
+  def domAttribute(blackhole: Blackhole): Unit = {
+    // the descendant combinator can't be matched while streaming
+    blackhole.consume(selectors.extract[String](selectors.parse(Page), ("body input[name=csrf]", Some("value")), 1))
+  }
+
+  @Benchmark
+  def domAttributes(blackhole: Blackhole): Unit =
+    blackhole.consume(selectors.extractAll[String](selectors.parse(Page), ("div a.link", Some("href"))))
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2024 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import java.io.ByteArrayInputStream
+import java.nio.charset.StandardCharsets.UTF_8
+
+import org.openjdk.jmh.annotations.{ Benchmark, Scope, State }
+import org.openjdk.jmh.infra.Blackhole
+
+object XPathBenchmark {
+  private val Namespaces = Map("soap" -> "http://schemas.xmlsoap.org/soap/envelope/", "ns" -> "http://gatling.io/ns")
+
+  private val Envelope: String =
+    (1 to 1000)
+      .map(i => s"<ns:Item><ns:Id>$i</ns:Id><ns:Label>item $i</ns:Label></ns:Item>")
+      .mkString(
+        """<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" xmlns:ns="http://gatling.io/ns"><soap:Body><ns:Resp><ns:Id>42</ns:Id>""",
+        "",
+        "</ns:Resp></soap:Body></soap:Envelope>"
+      )
+}
+
+@State(Scope.Thread)
+class XPathBenchmark {
+  import XPathBenchmark._
+
+  private val xmlParsers = new XmlParsers(100)
+  private val envelope = Envelope.getBytes(UTF_8)
+
+  private def document(): XmlDocument = XmlDocument(() => new ByteArrayInputStream(envelope), UTF_8)
+
+  @Benchmark
+  def streamedFind(blackhole: Blackhole): Unit =
+    blackhole.consume(xmlParsers.select("/soap:Envelope/soap:Body/ns:Resp/ns:Id", Namespaces, document(), 1))
+
+  @Benchmark
+  def streamedCount(blackhole: Blackhole): Unit =
+    blackhole.consume(xmlParsers.count("/soap:Envelope/soap:Body/ns:Resp/ns:Item", Namespaces, document()))
+
+  @Benchmark
+  def treeFind(blackhole: Blackhole): Unit = {
+    // the descendant axis can't be evaluated while streaming
+    blackhole.consume(xmlParsers.select("//ns:Resp/ns:Id", Namespaces, document(), 1))
+  }
+
+  @Benchmark
+  def treeCount(blackhole: Blackhole): Unit =
+    blackhole.consume(xmlParsers.count("//ns:Resp/ns:Item", Namespaces, document()))
+}
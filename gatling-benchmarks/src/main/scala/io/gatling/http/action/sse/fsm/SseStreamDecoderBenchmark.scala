@@ -0,0 +1,55 @@
+/*
+ * Copyright 2011-2024 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.sse.fsm
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import org.openjdk.jmh.annotations.{ Benchmark, Scope, State }
+import org.openjdk.jmh.infra.Blackhole
+
+object SseStreamDecoderBenchmark {
+  private val Chunk: Array[Byte] =
+    (1 to 20)
+      .map(i => s"""event: update
+                   |id: $i
+                   |data: {"id":$i,"price":${i * 3},"symbol":"GTLG"}
+                   |
+                   |""".stripMargin)
+      .mkString
+      .getBytes(UTF_8)
+}
+
+@State(Scope.Thread)
+class SseStreamDecoderBenchmark {
+  import SseStreamDecoderBenchmark._
+
+  private val chunk: ByteBuf = Unpooled.wrappedBuffer(Chunk)
+
+  @Benchmark
+  def decodeUnmatchedEvents(blackhole: Blackhole): Unit = {
+    // events nobody checks or buffers: nothing gets decoded
+    val decoder = new SseStreamDecoder(event => blackhole.consume(event))
+    decoder.decodeStream(chunk)
+  }
+
+  @Benchmark
+  def decodeCheckedEvents(blackhole: Blackhole): Unit = {
+    val decoder = new SseStreamDecoder(event => blackhole.consume(event.asJsonString))
+    decoder.decodeStream(chunk)
+  }
+}
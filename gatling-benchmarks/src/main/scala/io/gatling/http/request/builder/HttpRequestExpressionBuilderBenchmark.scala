@@ -0,0 +1,127 @@
+/*
+ * Copyright 2011-2024 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.request.builder
+
+import io.gatling.commons.util.DefaultClock
+import io.gatling.commons.validation.Validation
+import io.gatling.core.ValidationImplicits
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.body.StringBody
+import io.gatling.core.session._
+import io.gatling.core.session.el._
+import io.gatling.http.cache.{ DnsCacheSupport, HttpCaches }
+import io.gatling.http.client.Request
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.client.uri.Uri
+import io.gatling.http.cookie.CookieSupport
+import io.gatling.http.protocol.{ HttpProtocol, HttpProtocolBuilder }
+
+import io.netty.handler.codec.http.HttpMethod
+import io.netty.handler.codec.http.cookie.DefaultCookie
+import org.openjdk.jmh.annotations.Benchmark
+
+object HttpRequestExpressionBuilderBenchmark extends ValidationImplicits {
+  private implicit val config: GatlingConfiguration = GatlingConfiguration.loadForTest()
+  private val clock = new DefaultClock
+  private val httpCaches = new HttpCaches(clock, config)
+  private val httpProtocol: HttpProtocol = HttpProtocolBuilder(config).baseUrl("http://localhost:8000").build
+
+  private val Session1: Session =
+    Session("Scenario", 0, null)
+      .set(DnsCacheSupport.DnsNameResolverAttributeName, InetAddressNameResolver.JAVA_RESOLVER)
+      .set("id", 3)
+      .set("token", "abcdef")
+
+  private val SessionWithCookies: Session =
+    CookieSupport.storeCookie(Session1, "localhost", "/", new DefaultCookie("JSESSIONID", "1234567890"), clock.nowMillis)
+
+  private def clientRequest(f: HttpRequestBuilder => HttpRequestBuilder, url: String): Expression[Request] =
+    f(HttpRequestBuilder("requestName".expressionSuccess, HttpMethod.GET, Left(url.el[String])))
+      .build(httpCaches, httpProtocol, throttled = false, config)
+      .clientRequest
+
+  private val Reference: Expression[Request] =
+    HttpRequestBuilder("requestName".expressionSuccess, HttpMethod.GET, Right(Uri.create("http://localhost:8000/ping")))
+      .build(httpCaches, httpProtocol, throttled = false, config)
+      .clientRequest
+
+  private val RequestWithStaticAbsoluteUrl = clientRequest(identity, "http://localhost:8000/ping")
+
+  private val RequestWithStaticRelativeUrl = clientRequest(identity, "/ping")
+
+  private val RequestWithStaticHeaders = clientRequest(
+    _.header("X-Foo", "foo".el[String]).header("X-Bar", "bar".el[String]).header("Accept-Language", "en-US".el[String]),
+    "/ping"
+  )
+
+  private val RequestWithDynamicHeaders = clientRequest(
+    _.header("X-Foo", "foo".el[String]).header("Authorization", "Bearer #{token}".el[String]),
+    "/ping"
+  )
+
+  private val RequestWithStaticQueryParams = clientRequest(
+    _.queryParam("hello".expressionSuccess, "world".expressionSuccess).queryParam("foo".expressionSuccess, "bar".expressionSuccess),
+    "/ping"
+  )
+
+  private val RequestWithDynamicQuery = clientRequest(identity, "/ping?id=#{id}")
+
+  private val RequestWithStringBody = clientRequest(
+    _.body(StringBody("""{"foo": "bar"}""".el[String], config.core.charset)).asJson,
+    "/ping"
+  )
+}
+
+class HttpRequestExpressionBuilderBenchmark {
+  import HttpRequestExpressionBuilderBenchmark._
+
+  @Benchmark
+  def testReference(): Validation[Request] =
+    Reference(Session1)
+
+  @Benchmark
+  def testRequestWithStaticAbsoluteUrl(): Validation[Request] =
+    RequestWithStaticAbsoluteUrl(Session1)
+
+  @Benchmark
+  def testRequestWithStaticRelativeUrl(): Validation[Request] =
+    RequestWithStaticRelativeUrl(Session1)
+
+  @Benchmark
+  def testRequestWithStaticHeaders(): Validation[Request] =
+    RequestWithStaticHeaders(Session1)
+
+  @Benchmark
+  def testRequestWithDynamicHeaders(): Validation[Request] =
+    RequestWithDynamicHeaders(Session1)
+
+  @Benchmark
+  def testRequestWithStaticQueryParams(): Validation[Request] =
+    RequestWithStaticQueryParams(Session1)
+
+  @Benchmark
+  def testRequestWithDynamicQuery(): Validation[Request] =
+    RequestWithDynamicQuery(Session1)
+
+  @Benchmark
+  def testRequestWithStringBody(): Validation[Request] =
+    RequestWithStringBody(Session1)
+
+  @Benchmark
+  def testRequestWithCookies(): Validation[Request] =
+    RequestWithStaticRelativeUrl(SessionWithCookies)
+}
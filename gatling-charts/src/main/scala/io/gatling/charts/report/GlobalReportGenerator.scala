@@ -117,6 +117,6 @@ private[charts] class GlobalReportGenerator(
       responsesChartComponent
     )
 
-    new TemplateWriter(chartsFiles.globalFile).writeToFile(template.getOutput, charset)
+    new TemplateWriter(chartsFiles.globalFile).writeToFile(charset)(template.writeOutput)
   }
 }
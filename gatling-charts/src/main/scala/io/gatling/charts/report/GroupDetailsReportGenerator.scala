@@ -18,6 +18,8 @@ package io.gatling.charts.report
 
 import java.nio.charset.Charset
 
+import scala.concurrent.ExecutionContext
+
 import io.gatling.charts.component.{ Component, ComponentLibrary, DetailsStatsTableComponent, ErrorsTableComponent }
 import io.gatling.charts.config.ChartsFiles
 import io.gatling.charts.stats.{ Group, GroupStatsPath, PercentilesVsTimePlot, RequestPath, Series }
@@ -32,7 +34,8 @@ private[charts] class GroupDetailsReportGenerator(
     componentLibrary: ComponentLibrary,
     charset: Charset,
     configuration: ReportsConfiguration
-) extends ReportGenerator {
+)(implicit executionContext: ExecutionContext)
+    extends ReportGenerator {
   def generate(): Unit = {
     import reportsGenerationInputs._
 
@@ -96,12 +99,10 @@ private[charts] class GroupDetailsReportGenerator(
         cumulatedResponseTimeChartComponent
       )
 
-      new TemplateWriter(chartsFiles.groupFile(path)).writeToFile(template.getOutput, charset)
+      new TemplateWriter(chartsFiles.groupFile(path)).writeToFile(charset)(template.writeOutput)
     }
 
-    logFileData.statsPaths.foreach {
-      case GroupStatsPath(group) => generateDetailPage(RequestPath.path(group), group)
-      case _                     =>
-    }
+    val groups = logFileData.statsPaths.collect { case GroupStatsPath(group) => group }
+    generateConcurrently(groups)(group => generateDetailPage(RequestPath.path(group), group))
   }
 }
@@ -16,6 +16,9 @@
 
 package io.gatling.charts.report
 
+import scala.concurrent.{ Await, ExecutionContext, Future }
+import scala.concurrent.duration.Duration
+
 import io.gatling.charts.stats.CountsVsTimePlot
 import io.gatling.commons.stats.{ OK, Status }
 import io.gatling.commons.util.Collections._
@@ -23,6 +26,10 @@ import io.gatling.commons.util.Collections._
 private[charts] abstract class ReportGenerator {
   def generate(): Unit
 
+  // pages only read the stats, so they can be generated concurrently
+  protected def generateConcurrently[T](items: List[T])(generatePage: T => Unit)(implicit executionContext: ExecutionContext): Unit =
+    Await.result(Future.traverse(items)(item => Future(generatePage(item))), Duration.Inf)
+
   def count(records: Seq[CountsVsTimePlot], status: Status): Int = records.sumBy { counts =>
     status match {
       case OK => counts.oks
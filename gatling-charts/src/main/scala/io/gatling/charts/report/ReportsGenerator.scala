@@ -19,6 +19,9 @@ package io.gatling.charts.report
 import java.nio.charset.Charset
 import java.nio.file.Path
 import java.time.ZoneId
+import java.util.concurrent.Executors
+
+import scala.concurrent.ExecutionContext
 
 import io.gatling.charts.component.ComponentLibrary
 import io.gatling.charts.config.ChartsFiles
@@ -33,7 +36,16 @@ private[gatling] final class ReportsGenerator(
     reportsConfiguration: ReportsConfiguration
 ) {
   def generateFor(reportsGenerationInputs: ReportsGenerationInputs): Path = {
+    // bounded pool for generating detail pages, there can be thousands of them
+    val executorService = Executors.newFixedThreadPool(Runtime.getRuntime.availableProcessors)
+    try {
+      generate(reportsGenerationInputs, ExecutionContext.fromExecutorService(executorService))
+    } finally {
+      executorService.shutdown()
+    }
+  }
 
+  private def generate(reportsGenerationInputs: ReportsGenerationInputs, detailPagesExecutionContext: ExecutionContext): Path = {
     val chartsFiles = new ChartsFiles(reportsGenerationInputs.reportFolderName, resultsDirectory)
 
     def hasAtLeastOneRequestReported: Boolean =
@@ -68,14 +80,14 @@ private[gatling] final class ReportsGenerator(
           ComponentLibrary.Instance,
           charset,
           reportsConfiguration
-        ),
+        )(detailPagesExecutionContext),
         new GroupDetailsReportGenerator(
           reportsGenerationInputs,
           chartsFiles,
           ComponentLibrary.Instance,
           charset,
           reportsConfiguration
-        )
+        )(detailPagesExecutionContext)
       )
 
     copyAssets()
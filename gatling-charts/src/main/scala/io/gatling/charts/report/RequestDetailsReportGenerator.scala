@@ -18,6 +18,8 @@ package io.gatling.charts.report
 
 import java.nio.charset.Charset
 
+import scala.concurrent.ExecutionContext
+
 import io.gatling.charts.component._
 import io.gatling.charts.config.ChartsFiles
 import io.gatling.charts.stats._
@@ -32,7 +34,8 @@ private[charts] class RequestDetailsReportGenerator(
     componentLibrary: ComponentLibrary,
     charset: Charset,
     configuration: ReportsConfiguration
-) extends ReportGenerator {
+)(implicit executionContext: ExecutionContext)
+    extends ReportGenerator {
   def generate(): Unit = {
     import reportsGenerationInputs._
 
@@ -119,12 +122,12 @@ private[charts] class RequestDetailsReportGenerator(
           responseTimeScatterChartComponent
         )
 
-      new TemplateWriter(chartsFiles.requestFile(path)).writeToFile(template.getOutput, charset)
+      new TemplateWriter(chartsFiles.requestFile(path)).writeToFile(charset)(template.writeOutput)
     }
 
-    logFileData.statsPaths.foreach {
-      case RequestStatsPath(request, group) => generateDetailPage(RequestPath.path(request, group), request, group)
-      case _                                =>
+    val requests = logFileData.statsPaths.collect { case path: RequestStatsPath => path }
+    generateConcurrently(requests) { case RequestStatsPath(request, group) =>
+      generateDetailPage(RequestPath.path(request, group), request, group)
     }
   }
 }
@@ -140,8 +140,8 @@ private[charts] class StatsReportGenerator(
       rootContainer.addRequest(group, request, stats)
     }
 
-    new TemplateWriter(chartsFiles.statsJsFile).writeToFile(new StatsJsTemplate(rootContainer, false).getOutput, charset)
-    new TemplateWriter(chartsFiles.statsJsonFile).writeToFile(new StatsJsTemplate(rootContainer, true).getOutput, charset)
+    new TemplateWriter(chartsFiles.statsJsFile).writeToFile(charset)(new StatsJsTemplate(rootContainer, false).writeOutput)
+    new TemplateWriter(chartsFiles.statsJsonFile).writeToFile(charset)(new StatsJsTemplate(rootContainer, true).writeOutput)
     new TemplateWriter(chartsFiles.globalStatsJsonFile).writeToFile(new GlobalStatsJsonTemplate(rootContainer.stats, true).getOutput, charset)
     println(ConsoleTemplate.println(rootContainer.stats, logFileData.errors(None, None)))
   }
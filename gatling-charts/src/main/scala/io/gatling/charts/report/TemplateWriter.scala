@@ -16,6 +16,7 @@
 
 package io.gatling.charts.report
 
+import java.io.Writer
 import java.nio.charset.Charset
 import java.nio.file.{ Files, Path }
 
@@ -24,4 +25,7 @@ import scala.util.Using
 private[charts] class TemplateWriter(path: Path) {
   def writeToFile(output: String, charset: Charset): Unit =
     Using.resource(Files.newBufferedWriter(path, charset))(_.write(output))
+
+  def writeToFile(charset: Charset)(write: Writer => Unit): Unit =
+    Using.resource(Files.newBufferedWriter(path, charset))(write)
 }
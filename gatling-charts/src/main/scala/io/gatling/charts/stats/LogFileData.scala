@@ -33,7 +33,7 @@ private[gatling] final class LogFileData(
 
   //// BEGIN AssertionStatsRepository
   override def allRequestPaths(): List[AssertionStatsRepository.StatsPath.Request] =
-    resultsHolder.groupAndRequestsNameBuffer.map.toList
+    resultsHolder.groupAndRequestsNames
       .collect { case (RequestStatsPath(request, group), time) =>
         val path = AssertionStatsRepository.StatsPath.Request(group.map(_.hierarchy).getOrElse(Nil), request)
         val depth = group.map(_.hierarchy.size + 1).getOrElse(0)
@@ -43,10 +43,10 @@ private[gatling] final class LogFileData(
       .map(_._1)
 
   override def findPathByParts(parts: List[String]): Option[AssertionStatsRepository.StatsPath] =
-    resultsHolder.groupAndRequestsNameBuffer.map.keys.collectFirst {
-      case RequestStatsPath(request, group) if group.map(_.hierarchy).getOrElse(Nil) ::: request :: Nil == parts =>
+    resultsHolder.groupAndRequestsNames.collectFirst {
+      case (RequestStatsPath(request, group), _) if group.map(_.hierarchy).getOrElse(Nil) ::: request :: Nil == parts =>
         AssertionStatsRepository.StatsPath.Request(group.map(_.hierarchy).getOrElse(Nil), request)
-      case GroupStatsPath(group) if group.hierarchy == parts => AssertionStatsRepository.StatsPath.Group(group.hierarchy)
+      case (GroupStatsPath(group), _) if group.hierarchy == parts => AssertionStatsRepository.StatsPath.Group(group.hierarchy)
     }
 
   private def toAssertionStats(generalStats: GeneralStats): AssertionStatsRepository.Stats =
@@ -71,7 +71,7 @@ private[gatling] final class LogFileData(
   def assertions: List[Assertion] = runInfo.assertions
 
   val statsPaths: List[StatsPath] =
-    resultsHolder.groupAndRequestsNameBuffer.map.toList
+    resultsHolder.groupAndRequestsNames
       .map {
         case (path @ RequestStatsPath(_, group), time) => (path, (time, group.map(_.hierarchy.size + 1).getOrElse(0)))
         case (path @ GroupStatsPath(group), time)      => (path, (time, group.hierarchy.size))
@@ -17,12 +17,15 @@
 package io.gatling.charts.stats
 
 import java.{ lang => jl, util => ju }
-import java.io.{ BufferedInputStream, DataInputStream, EOFException, File }
+import java.io.{ BufferedInputStream, DataInputStream, EOFException, File, FilterInputStream, InputStream }
 import java.nio.ByteBuffer
-import java.nio.file.{ Files, Path }
+import java.nio.channels.{ Channels, FileChannel }
+import java.nio.file.{ Path, StandardOpenOption }
 import java.time.ZoneId
+import java.util.concurrent.Executors
 
-import scala.util.Using
+import scala.concurrent.{ Await, ExecutionContext, Future }
+import scala.concurrent.duration.Duration
 
 import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.commons.stats.assertion.Assertion
@@ -39,23 +42,68 @@ private object LogFileParser {
   val LogStep = 100000
 }
 
-private abstract class LogFileParser[T](logFile: File) extends AutoCloseable {
-  private val is = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile.toPath)))
+// tracks the offset in the file of what was actually consumed, as opposed to what was buffered
+private final class PositionInputStream(in: InputStream, initialPosition: Long) extends FilterInputStream(in) {
+  private var pos = initialPosition
+
+  def position: Long = pos
+
+  override def read(): Int = {
+    val b = super.read()
+    if (b >= 0) {
+      pos += 1
+    }
+    b
+  }
+
+  override def read(b: Array[Byte], off: Int, len: Int): Int = {
+    val count = super.read(b, off, len)
+    if (count > 0) {
+      pos += count
+    }
+    count
+  }
+
+  override def skip(n: Long): Long = {
+    val skipped = super.skip(n)
+    pos += skipped
+    skipped
+  }
+}
+
+/**
+ * Parsers can be resumed: each call to parse starts from the end of the last complete record read by the previous call, with the same state (string cache,
+ * stats), so a file that's still being written only has its new records parsed.
+ */
+private abstract class LogFileParser(logFile: File) extends StrictLogging {
   private val skipBuffer = new Array[Byte](1024)
   private val stringCache = new ju.HashMap[Int, String]
+  private var positionStream: PositionInputStream = _
+  private var is: DataInputStream = _
+  private var completeRecordsOffset = 0L
+  private var count = 0
+
+  protected def passName: String
 
   protected def read(): Int = is.read()
   protected def readByte(): Byte = is.readByte()
   protected def readBoolean(): Boolean = is.readBoolean()
   protected def readInt(): Int = is.readInt()
-  protected def readByteArray(): Array[Byte] = is.readNBytes(readInt())
+  protected def readByteArray(): Array[Byte] = readNBytes(readInt())
   protected def readLong(): Long = is.readLong()
+  private def readNBytes(length: Int): Array[Byte] = {
+    val bytes = is.readNBytes(length)
+    if (bytes.length < length) {
+      throw new EOFException(s"Failed to read $length bytes")
+    }
+    bytes
+  }
   protected def readString(): String = {
     val length = readInt()
     if (length == 0) {
       ""
     } else {
-      val value = is.readNBytes(length)
+      val value = readNBytes(length)
       val coder = readByte()
       StringInternals.newString(value, coder)
     }
@@ -101,23 +149,90 @@ private abstract class LogFileParser[T](logFile: File) extends AutoCloseable {
       skipString()
     }
 
-  override def close(): Unit = is.close()
+  protected def parseRunRecord(): Unit
+  protected def parseUserRecord(): Unit
+  protected def parseRequestRecord(): Unit
+  protected def parseGroupRecord(): Unit
+  protected def parseErrorRecord(): Unit
+
+  // the end of the last complete record, where the next call to parse resumes
+  def offset: Long = completeRecordsOffset
+
+  /**
+   * @param endOffset
+   *   where to stop, even if the file is longer, must be the end of a record
+   * @param tailing
+   *   if the file is still being written, in which case an incomplete last record is expected and read again by the next call instead of being reported as
+   *   a truncation
+   */
+  def parse(endOffset: Long, tailing: Boolean): Unit = {
+    logger.info(s"$passName from offset $completeRecordsOffset")
+    val channel = FileChannel.open(logFile.toPath, StandardOpenOption.READ)
+    channel.position(completeRecordsOffset)
+    positionStream = new PositionInputStream(new BufferedInputStream(Channels.newInputStream(channel)), completeRecordsOffset)
+    is = new DataInputStream(positionStream)
+
+    try {
+      var continue = true
+      while (continue && positionStream.position < endOffset) {
+        val headerValue = read().toByte
+        try {
+          if (count == 0) {
+            headerValue match {
+              case RecordHeader.Run.value => parseRunRecord()
+              case -1 if tailing          => continue = false
+              case _ =>
+                throw new UnsupportedOperationException(s"The log file $logFile is malformed and doesn't start with a proper record")
+            }
+          } else {
+            headerValue match {
+              case RecordHeader.User.value    => parseUserRecord()
+              case RecordHeader.Request.value => parseRequestRecord()
+              case RecordHeader.Group.value   => parseGroupRecord()
+              case RecordHeader.Error.value   => parseErrorRecord()
+              case -1                         => continue = false
+              case _                          => throw new UnsupportedOperationException(s"Unsupported header $headerValue for record $count")
+            }
+          }
+
+          if (continue) {
+            count += 1
+            completeRecordsOffset = positionStream.position
+            if (count % LogFileParser.LogStep == 0) logger.info(s"$passName, read $count records")
+          }
+        } catch {
+          case _: EOFException if tailing =>
+            logger.debug(s"Record ${count + 1} is still being written, will read it again on next pass")
+            continue = false
+          case e: EOFException =>
+            logger.error(s"Log file is truncated after record $count, can only generate partial results.", e)
+            continue = false
+        }
+      }
+    } finally {
+      is.close()
+    }
 
-  def parse(): T
+    logger.info(s"$passName done: read $count records")
+  }
 }
 
-private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFileParser[RunInfo](logFile) with StrictLogging {
-
+private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFileParser(logFile) {
+  private var runMessage: RunMessage = _
+  private var scenarios: Array[String] = _
+  private var assertions: List[Assertion] = Nil
   private var injectStart = Long.MaxValue
   private var injectEnd = Long.MinValue
 
+  override protected def passName: String = "First pass"
+
   private def updateInjectStart(eventStart: Long): Unit =
     injectStart = math.min(injectStart, eventStart)
 
   private def updateInjectEnd(eventEnd: Long): Unit =
     injectEnd = math.max(injectEnd, eventEnd)
 
-  private def parseRunRecord(): (RunMessage, Array[String], List[Assertion]) = {
+  override protected def parseRunRecord(): Unit = {
     val gatlingVersion = readString()
     assert(
       gatlingVersion == GatlingVersion.ThisVersion.fullVersion,
@@ -143,14 +258,17 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
       Unpickle.apply[Assertion].fromBytes(ByteBuffer.wrap(bytes))
     }
 
-    (localRunMessage, localScenarios, localAssertions)
+    // only set once complete, as an incomplete record is read again
+    runMessage = localRunMessage
+    scenarios = localScenarios
+    assertions = localAssertions
   }
 
-  private def parseUserRecord(startTimeStamp: Long): Unit = {
+  override protected def parseUserRecord(): Unit = {
     // scenario
     skipInt()
     val event = if (readBoolean()) MessageEvent.Start else MessageEvent.End
-    val timestamp = readInt() + startTimeStamp
+    val timestamp = readInt() + runMessage.start
 
     if (event == MessageEvent.Start) {
       updateInjectStart(timestamp)
@@ -158,14 +276,14 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
     updateInjectEnd(timestamp)
   }
 
-  private def parseRequestRecord(startTimeStamp: Long): Unit = {
+  override protected def parseRequestRecord(): Unit = {
     // group
     val groupsSize = readInt()
     cfor(0 until groupsSize)(_ => skipCachedString())
     // name
     skipCachedString()
-    val startTimestamp = readInt() + startTimeStamp
-    val endTimestamp = readInt() + startTimeStamp
+    val startTimestamp = readInt() + runMessage.start
+    val endTimestamp = readInt() + runMessage.start
     // status
     skipByte()
     // message
@@ -175,12 +293,12 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
     updateInjectEnd(endTimestamp)
   }
 
-  private def parseGroupRecord(startTimeStamp: Long): Unit = {
+  override protected def parseGroupRecord(): Unit = {
     // group
     val groupsSize = readInt()
     cfor(0 until groupsSize)(_ => skipCachedString())
-    val startTimestamp = readInt() + startTimeStamp
-    val endTimestamp = readInt() + startTimeStamp
+    val startTimestamp = readInt() + runMessage.start
+    val endTimestamp = readInt() + runMessage.start
     // cumulatedResponseTime
     skipInt()
     // status
@@ -190,43 +308,17 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
     updateInjectEnd(endTimestamp)
   }
 
-  private def parseErrorRecord(): Unit = {
+  override protected def parseErrorRecord(): Unit = {
     // message
     skipCachedString()
     // timestamp
     skipInt()
   }
 
-  override def parse(): RunInfo = {
-    logger.info("First pass")
-    val (runMessage, scenarios, assertions) = readByte() match {
-      case RecordHeader.Run.value => parseRunRecord()
-      case _                      => throw new UnsupportedOperationException(s"The log file $logFile is malformed and doesn't start with a proper record")
-    }
+  // false while a live run hasn't logged anything past its start
+  def hasRunData: Boolean = runMessage != null && injectEnd > injectStart
 
-    var count = 1
-    var continue = true
-    while (continue) {
-      count += 1
-      if (count % LogFileParser.LogStep == 0) logger.info(s"First pass, read $count records")
-      val headerValue = read().toByte
-      try {
-        headerValue match {
-          case RecordHeader.User.value    => parseUserRecord(runMessage.start)
-          case RecordHeader.Request.value => parseRequestRecord(runMessage.start)
-          case RecordHeader.Group.value   => parseGroupRecord(runMessage.start)
-          case RecordHeader.Error.value   => parseErrorRecord()
-          case -1                         => continue = false
-          case _                          => throw new UnsupportedOperationException(s"Unsupported header $headerValue for record $count")
-        }
-      } catch {
-        case e: EOFException =>
-          logger.error(s"Log file is truncated after record $count, can only generate partial results.", e)
-          continue = false
-      }
-    }
-
-    logger.info(s"First pass done: read $count records")
+  def runInfo: RunInfo = {
     assert(injectStart != Long.MaxValue, "Undefined run start")
     assert(injectEnd != Long.MinValue, "Undefined run end")
     assert(injectEnd > injectStart, "Run didn't last")
@@ -234,24 +326,39 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
   }
 }
 
-private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Double, lowerBound: Int, higherBound: Int)
-    extends LogFileParser[ResultsHolder](logFile)
-    with StrictLogging {
-
-  private val buckets = StatsHelper.buckets(0, runInfo.injectEnd - runInfo.injectStart, step)
-  private val bucketFunction = StatsHelper.timeToBucketNumber(runInfo.injectStart, step, buckets.length)
-  private val resultsHolder =
+/**
+ * @param runInfo
+ *   the first pass results for this log file
+ * @param statsStart
+ *   the start of the time range the stats buckets are laid out over, which can be wider than this log file's, when tailing it or merging it with others
+ * @param statsEnd
+ *   the end of the time range the stats buckets are laid out over
+ */
+private final class SecondPassParser(
+    logFile: File,
+    runInfo: RunInfo,
+    statsStart: Long,
+    statsEnd: Long,
+    step: Double,
+    lowerBound: Int,
+    higherBound: Int
+) extends LogFileParser(logFile) {
+  private val buckets = StatsHelper.buckets(0, statsEnd - statsStart, step)
+  private val bucketFunction = StatsHelper.timeToBucketNumber(statsStart, step, buckets.length)
+  private val statsPaths = new StatsPathInterner
+  val resultsHolder: ResultsHolder =
     new ResultsHolder(
-      runInfo.injectStart,
-      runInfo.injectEnd,
+      statsStart,
+      statsEnd,
       buckets,
       lowerBound,
-      higherBound
+      higherBound,
+      statsPaths
     )
 
-  private def skipRunRecord(): Unit = {
-    // header
-    skipByte()
+  override protected def passName: String = "Second pass"
+
+  override protected def parseRunRecord(): Unit = {
     // gatlingVersion
     skipString()
     // simulationClassName
@@ -268,130 +375,187 @@ private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Doub
     cfor(0 until assertionsSize)(_ => skip(readInt()))
   }
 
-  private def parseUserRecord(): UserRecord =
-    UserRecord(
-      scenario = runInfo.scenarios(readInt()),
-      event = if (readBoolean()) MessageEvent.Start else MessageEvent.End,
-      timestamp = readInt() + runInfo.runStart
+  override protected def parseUserRecord(): Unit =
+    resultsHolder.addUserRecord(
+      UserRecord(
+        scenario = runInfo.scenarios(readInt()),
+        event = if (readBoolean()) MessageEvent.Start else MessageEvent.End,
+        timestamp = readInt() + runInfo.runStart
+      )
     )
 
-  private def parseRequestRecord(): RequestRecord = {
+  // walks the interned hierarchy while reading it, so known groups don't allocate anything
+  private def readGroupNode(): statsPaths.GroupNode = {
     val groupsSize = readInt()
-    val group = Option.when(groupsSize > 0)(Group(List.fill(groupsSize)(readCachedSanitizedString())))
-    val name = readCachedSanitizedString()
+    var groupNode = statsPaths.root
+    cfor(0 until groupsSize)(_ => groupNode = groupNode.subGroup(readCachedSanitizedString()))
+    groupNode
+  }
+
+  override protected def parseRequestRecord(): Unit = {
+    val groupNode = readGroupNode()
+    val requestId = groupNode.requestId(readCachedSanitizedString())
     val startTimestamp = readInt() + runInfo.runStart
     val endTimestamp = readInt() + runInfo.runStart
     val status = if (readBoolean()) OK else KO
     val errorMessage = readCachedSanitizedString().trimToOption
 
-    if (endTimestamp != Long.MinValue) {
-      // regular request
-      RequestRecord(
-        group,
-        name,
-        status,
-        startTimestamp,
-        bucketFunction(startTimestamp),
-        bucketFunction(endTimestamp),
-        (endTimestamp - startTimestamp).toInt,
-        errorMessage,
-        incoming = false
-      )
-    } else {
-      // unmatched incoming event
-      RequestRecord(group, name, status, startTimestamp, bucketFunction(startTimestamp), bucketFunction(endTimestamp), 0, errorMessage, incoming = true)
-    }
+    val record =
+      if (endTimestamp != Long.MinValue) {
+        // regular request
+        RequestRecord(
+          requestId,
+          groupNode.id,
+          status,
+          startTimestamp,
+          bucketFunction(startTimestamp),
+          bucketFunction(endTimestamp),
+          (endTimestamp - startTimestamp).toInt,
+          errorMessage,
+          incoming = false
+        )
+      } else {
+        // unmatched incoming event
+        RequestRecord(
+          requestId,
+          groupNode.id,
+          status,
+          startTimestamp,
+          bucketFunction(startTimestamp),
+          bucketFunction(endTimestamp),
+          0,
+          errorMessage,
+          incoming = true
+        )
+      }
+
+    resultsHolder.addRequestRecord(record)
   }
 
-  private def parseGroupRecord(): GroupRecord = {
-    val groupsSize = readInt()
-    val group = Group(List.fill(groupsSize)(readCachedSanitizedString()))
+  override protected def parseGroupRecord(): Unit = {
+    val groupId = readGroupNode().id
     val startTimestamp = readInt() + runInfo.runStart
     val endTimestamp = readInt() + runInfo.runStart
     val cumulatedResponseTime = readInt()
     val status = if (readBoolean()) OK else KO
 
-    GroupRecord(group, (endTimestamp - startTimestamp).toInt, cumulatedResponseTime, status, startTimestamp, bucketFunction(startTimestamp))
+    resultsHolder.addGroupRecord(
+      GroupRecord(groupId, (endTimestamp - startTimestamp).toInt, cumulatedResponseTime, status, startTimestamp, bucketFunction(startTimestamp))
+    )
   }
 
-  private def parseErrorRecord(): ErrorRecord = {
+  override protected def parseErrorRecord(): Unit = {
     val message = readCachedSanitizedString()
     val timestamp = readInt() + runInfo.runStart
-    ErrorRecord(message, timestamp)
-  }
-
-  override def parse(): ResultsHolder = {
-    logger.info("Second pass")
-
-    skipRunRecord()
-
-    var count = 1
-    var continue = true
-    while (continue) {
-      count += 1
-      if (count % LogFileParser.LogStep == 0) logger.info(s"First pass, read $count records")
-      val headerValue = read().toByte
-
-      try {
-        headerValue match {
-          case RecordHeader.User.value    => resultsHolder.addUserRecord(parseUserRecord())
-          case RecordHeader.Request.value => resultsHolder.addRequestRecord(parseRequestRecord())
-          case RecordHeader.Group.value   => resultsHolder.addGroupRecord(parseGroupRecord())
-          case RecordHeader.Error.value   => resultsHolder.addErrorRecord(parseErrorRecord())
-          case -1                         => continue = false
-          case _                          => throw new UnsupportedOperationException(s"Unsupported header $headerValue for record $count")
-        }
-      } catch {
-        case e: EOFException =>
-          logger.error(s"Log file is truncated after record $count, can only generate partial results.", e)
-          continue = false
-      }
-    }
-
-    resultsHolder.endDandlingStartedUser()
-
-    logger.info(s"Second pass: read $count records")
-
-    resultsHolder
+    resultsHolder.addErrorRecord(ErrorRecord(message, timestamp))
   }
 }
 
 private[gatling] object LogFileReader extends StrictLogging {
   private val SecMillisecRatio: Double = 1000.0
+  private val LogFileExtension = ".log"
+  private val GeneratorLogFileNamePrefix = LogFileDataWriter.LogFileName.stripSuffix(LogFileExtension) + "-"
+
+  // other log files, eg from logback, can live in the run directory too
+  private def isRunLogFileName(name: String): Boolean =
+    name == LogFileDataWriter.LogFileName || (name.startsWith(GeneratorLogFileNamePrefix) && name.endsWith(LogFileExtension))
 
   def apply(runUuid: String, resultsDirectory: Path, configuration: GatlingConfiguration): LogFileReader = {
+    val logFile = this.logFile(runUuid, resultsDirectory)
+    // log files of the same run from other load generators can be copied alongside as simulation-<generator>.log
+    val logFiles = logFile.getParentFile
+      .listFiles((_, name) => isRunLogFileName(name))
+      .toList
+      .sortBy(_.getName)
+
+    if (logFiles.sizeIs > 1) {
+      logger.info(s"Collected ${logFiles.mkString(", ")} from $runUuid, they'll be merged")
+    }
+
+    new LogFileReader(logFiles, configuration)
+  }
+
+  private[stats] def logFile(runUuid: String, resultsDirectory: Path): File = {
     StringInternals.checkAvailability()
     val logFile = LogFileDataWriter.logFile(resultsDirectory, runUuid, create = false).toFile
 
     logger.info(s"Collected $logFile from $runUuid")
     require(logFile.exists(), s"Could not locate log file for $runUuid.")
 
-    new LogFileReader(logFile, configuration)
+    logFile
   }
-}
 
-private[gatling] final class LogFileReader(logFile: File, configuration: GatlingConfiguration) extends StrictLogging {
-  import LogFileReader._
-
-  def read(): LogFileData = {
-    val runInfo = Using.resource(new FirstPassParser(logFile, configuration.data.zoneId))(_.parse())
-
-    val step = StatsHelper.step(
-      math.floor(runInfo.injectStart / SecMillisecRatio).toInt,
-      math.ceil(runInfo.injectEnd / SecMillisecRatio).toInt,
+  private[stats] def step(injectStart: Long, injectEnd: Long, configuration: GatlingConfiguration): Double =
+    StatsHelper.step(
+      math.floor(injectStart / SecMillisecRatio).toInt,
+      math.ceil(injectEnd / SecMillisecRatio).toInt,
       configuration.reports.maxPlotsPerSeries
     ) * SecMillisecRatio
 
-    val resultsHolder = Using.resource(
-      new SecondPassParser(
-        logFile,
-        runInfo,
-        step,
-        configuration.reports.indicators.lowerBound,
-        configuration.reports.indicators.higherBound
+  // timestamps are absolute, so runs from different load generators only have to be aligned on the earliest start
+  private def mergeRunInfos(runInfos: List[RunInfo]): RunInfo =
+    runInfos.reduceLeft { (merged, runInfo) =>
+      if (runInfo.simulationClassName != merged.simulationClassName) {
+        logger.warn(s"Merging log files from different simulations: ${merged.simulationClassName} and ${runInfo.simulationClassName}")
+      }
+      new RunInfo(
+        math.min(merged.injectStart, runInfo.injectStart),
+        math.max(merged.injectEnd, runInfo.injectEnd),
+        merged.simulationClassName,
+        merged.runDescription,
+        math.min(merged.runStart, runInfo.runStart),
+        (merged.scenarios ++ runInfo.scenarios).distinct,
+        merged.assertions
       )
-    )(_.parse())
+    }
+}
 
-    new LogFileData(runInfo, resultsHolder, step)
+/**
+ * Log files are parsed concurrently, each with its own string cache and scenario indexes. The stats of all of them are laid out over the same time range and
+ * merged once parsed.
+ */
+private[gatling] final class LogFileReader(logFiles: List[File], configuration: GatlingConfiguration) {
+  import LogFileReader._
+
+  private def parseAll[T, R](items: List[T])(parse: T => R)(implicit executionContext: ExecutionContext): List[R] =
+    Await.result(Future.traverse(items)(item => Future(parse(item))), Duration.Inf)
+
+  def read(): LogFileData = {
+    val executorService = Executors.newFixedThreadPool(math.min(logFiles.size, Runtime.getRuntime.availableProcessors))
+    implicit val executionContext: ExecutionContext = ExecutionContext.fromExecutorService(executorService)
+
+    try {
+      val logFileRunInfos = parseAll(logFiles) { logFile =>
+        val firstPass = new FirstPassParser(logFile, configuration.data.zoneId)
+        firstPass.parse(Long.MaxValue, tailing = false)
+        logFile -> firstPass.runInfo
+      }
+      val runInfo = mergeRunInfos(logFileRunInfos.map(_._2))
+
+      val step = LogFileReader.step(runInfo.injectStart, runInfo.injectEnd, configuration)
+
+      val resultsHolders = parseAll(logFileRunInfos) { case (logFile, logFileRunInfo) =>
+        val secondPass = new SecondPassParser(
+          logFile,
+          logFileRunInfo,
+          runInfo.injectStart,
+          runInfo.injectEnd,
+          step,
+          configuration.reports.indicators.lowerBound,
+          configuration.reports.indicators.higherBound
+        )
+        secondPass.parse(Long.MaxValue, tailing = false)
+        secondPass.resultsHolder
+      }
+      val resultsHolder = resultsHolders.reduceLeft { (merged, resultsHolder) =>
+        merged.merge(resultsHolder)
+        merged
+      }
+      resultsHolder.endDandlingStartedUser()
+
+      new LogFileData(runInfo, resultsHolder, step)
+    } finally {
+      executorService.shutdown()
+    }
   }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.io.File
+import java.nio.file.Path
+
+import io.gatling.core.config.GatlingConfiguration
+
+import com.typesafe.scalalogging.StrictLogging
+
+private[gatling] object LogFileTailer {
+  private val MinHorizonMillis = 60 * 1000L
+
+  def apply(runUuid: String, resultsDirectory: Path, configuration: GatlingConfiguration): LogFileTailer =
+    new LogFileTailer(LogFileReader.logFile(runUuid, resultsDirectory), configuration)
+}
+
+/**
+ * Reads the log file of a run that's still going, for intermediate reports. Parsers are kept between reads, so each read only parses the records appended
+ * since the previous one.
+ *
+ * Stats buckets need a fixed time range, so they're laid out over a horizon twice as long as what was logged so far. When the run outlasts it, the stats are
+ * rebuilt from the start of the file with a doubled horizon, so the whole file is only parsed again a logarithmic number of times over the run. Until then,
+ * the charts' time axis goes up to the horizon.
+ *
+ * Not thread-safe.
+ */
+private[gatling] final class LogFileTailer(logFile: File, configuration: GatlingConfiguration) extends StrictLogging {
+  import LogFileTailer._
+
+  private val firstPass = new FirstPassParser(logFile, configuration.data.zoneId)
+  private var secondPass: SecondPassParser = _
+  private var step = 0.0
+  // the time range the stats buckets are laid out over
+  private var horizonStart = Long.MaxValue
+  private var horizonEnd = Long.MinValue
+
+  /**
+   * @return
+   *   the stats of the records logged so far, None if nothing new was logged since the previous read
+   */
+  def read(): Option[LogFileData] = {
+    val previousOffset = firstPass.offset
+    firstPass.parse(Long.MaxValue, tailing = true)
+
+    if (firstPass.offset == previousOffset || !firstPass.hasRunData) {
+      None
+    } else {
+      val runInfo = firstPass.runInfo
+
+      if (runInfo.injectStart < horizonStart || runInfo.injectEnd > horizonEnd) {
+        horizonStart = runInfo.injectStart
+        horizonEnd = runInfo.injectStart + math.max((runInfo.injectEnd - runInfo.injectStart) * 2, MinHorizonMillis)
+        logger.info(s"Laying out stats over the first ${(horizonEnd - horizonStart) / 1000}s of the run, parsing $logFile from the start")
+        step = LogFileReader.step(horizonStart, horizonEnd, configuration)
+        secondPass = new SecondPassParser(
+          logFile,
+          runInfo,
+          horizonStart,
+          horizonEnd,
+          step,
+          configuration.reports.indicators.lowerBound,
+          configuration.reports.indicators.higherBound
+        )
+      }
+
+      // don't go past what the first pass read, records further away might be out of the horizon
+      secondPass.parse(firstPass.offset, tailing = true)
+      secondPass.resultsHolder.runEnd = runInfo.injectEnd
+      secondPass.resultsHolder.refreshGeneralStatsBuffers()
+
+      Some(new LogFileData(runInfo, secondPass.resultsHolder, step))
+    }
+  }
+}
@@ -19,9 +19,10 @@ package io.gatling.charts.stats
 import io.gatling.commons.stats.Status
 import io.gatling.core.stats.message.MessageEvent
 
+// requestId and groupId are interned by the StatsPathInterner, groupId being GlobalId when the request isn't in a group
 private final case class RequestRecord(
-    group: Option[Group],
-    name: String,
+    requestId: Int,
+    groupId: Int,
     status: Status,
     start: Long,
     startBucket: Int,
@@ -30,6 +31,6 @@ private final case class RequestRecord(
     errorMessage: Option[String],
     incoming: Boolean
 )
-private final case class GroupRecord(group: Group, duration: Int, cumulatedResponseTime: Int, status: Status, start: Long, startBucket: Int)
+private final case class GroupRecord(groupId: Int, duration: Int, cumulatedResponseTime: Int, status: Status, start: Long, startBucket: Int)
 private final case class UserRecord(scenario: String, event: MessageEvent, timestamp: Long)
 private final case class ErrorRecord(message: String, timestamp: Long)
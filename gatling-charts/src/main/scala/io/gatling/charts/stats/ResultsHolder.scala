@@ -16,20 +16,19 @@
 
 package io.gatling.charts.stats
 
-import scala.annotation.tailrec
-
 import io.gatling.charts.stats.buffers._
-import io.gatling.commons.stats.OK
 
 private class ResultsHolder(
     override val minTimestamp: Long,
     override val maxTimestamp: Long,
     override val buckets: Array[Int],
     override val lowerBound: Int,
-    override val higherBound: Int
-) extends GeneralStatsBuffers(math.ceil((maxTimestamp - minTimestamp) / 1000.0).toInt)
+    override val higherBound: Int,
+    override val statsPaths: StatsPathInterner
+) extends GeneralStatsBuffers
     with Buckets
     with RunTimes
+    with StatsPaths
     with NamesBuffers
     with RequestsPerSecBuffers
     with ResponseTimeRangeBuffers
@@ -38,6 +37,11 @@ private class ResultsHolder(
     with ErrorsBuffers
     with RequestPercentilesBuffers
     with GroupPercentilesBuffers {
+  // what was logged so far when tailing a live run, whose buckets span further than that
+  var runEnd: Long = maxTimestamp
+
+  override def durationInSec: Long = math.ceil((runEnd - minTimestamp) / 1000.0).toLong
+
   def addUserRecord(record: UserRecord): Unit = {
     addSessionBuffers(record)
     addScenarioName(record)
@@ -50,18 +54,9 @@ private class ResultsHolder(
     updateGroupResponseTimeRangeBuffer(record)
   }
 
-  @tailrec
-  private def addAllParentGroups(group: Group): Unit = {
-    addGroupName(GroupRecord(group, 0, 0, OK, 0, 0))
-    group.hierarchy.reverse match {
-      case _ :: tail if tail.nonEmpty => addAllParentGroups(Group(tail.reverse))
-      case _                          =>
-    }
-  }
-
   def addRequestRecord(record: RequestRecord): Unit =
     if (!record.incoming) {
-      record.group.foreach(addAllParentGroups)
+      addAllParentGroupNames(record)
       updateRequestsPerSecBuffers(record)
       updateResponsesPerSecBuffers(record)
       addRequestName(record)
@@ -73,4 +68,18 @@ private class ResultsHolder(
 
   def addErrorRecord(record: ErrorRecord): Unit =
     updateGlobalError(record.message)
+
+  // other must have been built over the same time range, typically from another log file of the same run
+  def merge(other: ResultsHolder): Unit = {
+    val idMapping = statsPaths.internAll(other.statsPaths)
+    mergeGeneralStatsBuffers(other, idMapping)
+    mergeNamesBuffers(other, idMapping)
+    mergeRequestsPerSecBuffers(other, idMapping)
+    mergeResponseTimeRangeBuffers(other, idMapping)
+    mergeSessionDeltaPerSecBuffers(other)
+    mergeResponsesPerSecBuffers(other, idMapping)
+    mergeErrorsBuffers(other, idMapping)
+    mergeRequestPercentilesBuffers(other, idMapping)
+    mergeGroupPercentilesBuffers(other, idMapping)
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import java.{ util => ju }
+
+private[stats] object StatsPathInterner {
+  // stats across all requests
+  val GlobalId: Int = 0
+  val NotFound: Int = -1
+}
+
+/**
+ * Interns request and group paths into dense ids when first seen, so stats buffers can be arrays indexed by id instead of maps keyed by freshly allocated
+ * paths. Walking the hierarchy only hashes strings the log file parser already caches, along with their hash code.
+ */
+private[stats] final class StatsPathInterner {
+  import StatsPathInterner._
+
+  // null for the global id
+  private val pathsById = new ju.ArrayList[StatsPath]
+  private var parentIds = new Array[Int](64)
+
+  val root: GroupNode = new GroupNode(newId(null, GlobalId), None)
+
+  final class GroupNode private[StatsPathInterner] (val id: Int, val group: Option[Group]) {
+    private val subGroups = new ju.HashMap[String, GroupNode]
+    private val requestIds = new ju.HashMap[String, Integer]
+
+    private[StatsPathInterner] def findSubGroup(name: String): GroupNode = subGroups.get(name)
+
+    private[StatsPathInterner] def findRequestId(name: String): Int = {
+      val existing = requestIds.get(name)
+      if (existing != null) existing else NotFound
+    }
+
+    def subGroup(name: String): GroupNode = {
+      val existing = subGroups.get(name)
+      if (existing != null) {
+        existing
+      } else {
+        val subGroup = Group(group.fold(List(name))(_.hierarchy ::: name :: Nil))
+        val node = new GroupNode(newId(GroupStatsPath(subGroup), id), Some(subGroup))
+        subGroups.put(name, node)
+        node
+      }
+    }
+
+    def requestId(name: String): Int = {
+      val existing = requestIds.get(name)
+      if (existing != null) {
+        existing
+      } else {
+        val requestId = newId(RequestStatsPath(name, group), id)
+        requestIds.put(name, requestId)
+        requestId
+      }
+    }
+  }
+
+  private def newId(path: StatsPath, parentId: Int): Int = {
+    val id = pathsById.size
+    pathsById.add(path)
+    if (id == parentIds.length) {
+      parentIds = ju.Arrays.copyOf(parentIds, id * 2)
+    }
+    parentIds(id) = parentId
+    id
+  }
+
+  def size: Int = pathsById.size
+
+  def path(id: Int): StatsPath = pathsById.get(id)
+
+  // the enclosing group of a request or a group, GlobalId when there's none
+  def parentId(id: Int): Int = parentIds(id)
+
+  // maps the ids of another interner, typically from another log file, to this one's, interning the paths it doesn't know yet
+  def internAll(other: StatsPathInterner): Array[Int] =
+    Array.tabulate(other.size) { id =>
+      other.path(id) match {
+        case RequestStatsPath(request, group) => group.fold(root)(_.hierarchy.foldLeft(root)(_.subGroup(_))).requestId(request)
+        case GroupStatsPath(group)            => group.hierarchy.foldLeft(root)(_.subGroup(_)).id
+        case _                                => GlobalId
+      }
+    }
+
+  // read only, so it can be called concurrently once parsing is done
+  def find(requestName: Option[String], group: Option[Group]): Int = {
+    val node = group.fold(root)(_.hierarchy.foldLeft(root)((node, name) => if (node == null) null else node.findSubGroup(name)))
+    if (node == null) {
+      NotFound
+    } else {
+      requestName.fold(node.id)(node.findRequestId)
+    }
+  }
+}
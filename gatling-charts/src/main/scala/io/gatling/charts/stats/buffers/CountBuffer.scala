@@ -35,6 +35,12 @@ private[stats] class CountsBuffer(buckets: Array[Int]) {
   def update(bucketNumber: Int, status: Status): Unit =
     counts(bucketNumber).increment(status)
 
+  def merge(other: CountsBuffer): Unit =
+    for (bucketNumber <- counts.indices) {
+      counts(bucketNumber).oks += other.counts(bucketNumber).oks
+      counts(bucketNumber).kos += other.counts(bucketNumber).kos
+    }
+
   def distribution: Iterable[CountsVsTimePlot] =
     counts.view.zipWithIndex
       .map { case (count, bucketNumber) => new CountsVsTimePlot(buckets(bucketNumber), count.oks, count.kos) }
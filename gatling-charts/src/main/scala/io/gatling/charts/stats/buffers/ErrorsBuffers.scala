@@ -18,30 +18,37 @@ package io.gatling.charts.stats.buffers
 
 import scala.collection.mutable
 
-import io.gatling.charts.stats.{ Group, RequestRecord }
+import io.gatling.charts.stats.{ Group, RequestRecord, StatsPathInterner }
 
 private[stats] trait ErrorsBuffers {
-  private val errorsBuffers = mutable.Map.empty[BufferKey, mutable.Map[String, Int]]
+  this: StatsPaths =>
+
+  private val errorsBuffers = new IdIndexedBuffers(() => mutable.Map.empty[String, Int])
 
   def getErrorsBuffers(requestName: Option[String], group: Option[Group]): mutable.Map[String, Int] =
-    errorsBuffers.getOrElseUpdate(BufferKey(requestName, group, None), mutable.Map.empty[String, Int])
+    errorsBuffers.getOrEmpty(statsPaths.find(requestName, group))
 
-  def updateGlobalError(errorMessage: String): Unit = {
-    val buffer = getErrorsBuffers(None, None)
+  private def updateError(id: Int, errorMessage: String): Unit = {
+    val buffer = errorsBuffers(id)
     buffer += errorMessage -> (buffer.getOrElseUpdate(errorMessage, 0) + 1)
   }
 
+  def mergeErrorsBuffers(other: ErrorsBuffers, idMapping: Array[Int]): Unit =
+    errorsBuffers.mergeFrom(other.errorsBuffers, idMapping(_)) { (buffer, otherBuffer) =>
+      otherBuffer.foreachEntry((errorMessage, count) => buffer += errorMessage -> (buffer.getOrElse(errorMessage, 0) + count))
+    }
+
+  def updateGlobalError(errorMessage: String): Unit =
+    updateError(StatsPathInterner.GlobalId, errorMessage)
+
   def updateErrorBuffers(record: RequestRecord): Unit = {
     def updateGroupError(errorMessage: String): Unit =
-      record.group.foreach { group =>
-        val buffer = getErrorsBuffers(None, Some(group))
-        buffer += errorMessage -> (buffer.getOrElseUpdate(errorMessage, 0) + 1)
+      if (record.groupId != StatsPathInterner.GlobalId) {
+        updateError(record.groupId, errorMessage)
       }
 
-    def updateRequestError(errorMessage: String): Unit = {
-      val buffer = getErrorsBuffers(Some(record.name), record.group)
-      buffer += errorMessage -> (buffer.getOrElseUpdate(errorMessage, 0) + 1)
-    }
+    def updateRequestError(errorMessage: String): Unit =
+      updateError(record.requestId, errorMessage)
 
     record.errorMessage.foreach { errorMessage =>
       updateGlobalError(errorMessage)
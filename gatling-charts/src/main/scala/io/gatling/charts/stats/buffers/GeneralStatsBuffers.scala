@@ -16,81 +16,122 @@
 
 package io.gatling.charts.stats.buffers
 
-import scala.collection.mutable
+import scala.jdk.CollectionConverters._
 
-import io.gatling.charts.stats.{ GeneralStats, Group, GroupRecord, IntVsTimePlot, RequestRecord }
+import io.gatling.charts.stats.{ GeneralStats, Group, GroupRecord, IntVsTimePlot, RequestRecord, StatsPathInterner }
 import io.gatling.commons.stats.Status
 
-import com.tdunning.math.stats.AVLTreeDigest
+import org.HdrHistogram.IntCountsHistogram
 
-private[stats] abstract class GeneralStatsBuffers(durationInSec: Long) {
-  private val requestGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
-  private val groupDurationGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
-  private val groupCumulatedResponseTimeGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
+private[stats] abstract class GeneralStatsBuffers {
+  this: StatsPaths =>
+
+  def durationInSec: Long
+
+  private val requestGeneralStatsBuffers = new IdIndexedBuffers(() => new GeneralStatsBuffer(() => durationInSec))
+  private val groupDurationGeneralStatsBuffers = new IdIndexedBuffers(() => new GeneralStatsBuffer(() => durationInSec))
+  private val groupCumulatedResponseTimeGeneralStatsBuffers = new IdIndexedBuffers(() => new GeneralStatsBuffer(() => durationInSec))
 
   def getRequestGeneralStatsBuffers(request: Option[String], group: Option[Group], status: Option[Status]): GeneralStatsBuffer =
-    requestGeneralStatsBuffers.getOrElseUpdate(BufferKey(request, group, status), new GeneralStatsBuffer(durationInSec))
+    requestGeneralStatsBuffers.getOrEmpty(IdIndexedBuffers.index(statsPaths.find(request, group), status))
 
   def getGroupDurationGeneralStatsBuffers(group: Group, status: Option[Status]): GeneralStatsBuffer =
-    groupDurationGeneralStatsBuffers.getOrElseUpdate(BufferKey(None, Some(group), status), new GeneralStatsBuffer(durationInSec))
+    groupDurationGeneralStatsBuffers.getOrEmpty(IdIndexedBuffers.index(statsPaths.find(None, Some(group)), status))
 
   def getGroupCumulatedResponseTimeGeneralStatsBuffers(group: Group, status: Option[Status]): GeneralStatsBuffer =
-    groupCumulatedResponseTimeGeneralStatsBuffers.getOrElseUpdate(BufferKey(None, Some(group), status), new GeneralStatsBuffer(durationInSec))
+    groupCumulatedResponseTimeGeneralStatsBuffers.getOrEmpty(IdIndexedBuffers.index(statsPaths.find(None, Some(group)), status))
 
   def updateRequestGeneralStatsBuffers(record: RequestRecord): Unit = {
     import record._
-    getRequestGeneralStatsBuffers(Some(name), group, None).update(responseTime)
-    getRequestGeneralStatsBuffers(Some(name), group, Some(status)).update(responseTime)
+    requestGeneralStatsBuffers(IdIndexedBuffers.index(requestId, None)).update(responseTime)
+    requestGeneralStatsBuffers(IdIndexedBuffers.index(requestId, status)).update(responseTime)
 
-    getRequestGeneralStatsBuffers(None, None, None).update(responseTime)
-    getRequestGeneralStatsBuffers(None, None, Some(status)).update(responseTime)
+    requestGeneralStatsBuffers(IdIndexedBuffers.index(StatsPathInterner.GlobalId, None)).update(responseTime)
+    requestGeneralStatsBuffers(IdIndexedBuffers.index(StatsPathInterner.GlobalId, status)).update(responseTime)
   }
 
   def updateGroupGeneralStatsBuffers(record: GroupRecord): Unit = {
     import record._
-    getGroupCumulatedResponseTimeGeneralStatsBuffers(group, None).update(cumulatedResponseTime)
-    getGroupCumulatedResponseTimeGeneralStatsBuffers(group, Some(status)).update(cumulatedResponseTime)
-    getGroupDurationGeneralStatsBuffers(group, None).update(duration)
-    getGroupDurationGeneralStatsBuffers(group, Some(status)).update(duration)
+    groupCumulatedResponseTimeGeneralStatsBuffers(IdIndexedBuffers.index(groupId, None)).update(cumulatedResponseTime)
+    groupCumulatedResponseTimeGeneralStatsBuffers(IdIndexedBuffers.index(groupId, status)).update(cumulatedResponseTime)
+    groupDurationGeneralStatsBuffers(IdIndexedBuffers.index(groupId, None)).update(duration)
+    groupDurationGeneralStatsBuffers(IdIndexedBuffers.index(groupId, status)).update(duration)
+  }
+
+  // stats are memoized, they must be refreshed when a live run's buffers are updated between reports
+  def refreshGeneralStatsBuffers(): Unit = {
+    requestGeneralStatsBuffers.foreach(_.refresh())
+    groupDurationGeneralStatsBuffers.foreach(_.refresh())
+    groupCumulatedResponseTimeGeneralStatsBuffers.foreach(_.refresh())
+  }
+
+  def mergeGeneralStatsBuffers(other: GeneralStatsBuffers, idMapping: Array[Int]): Unit = {
+    val remapIndex = IdIndexedBuffers.remapStatusIndex(idMapping)
+    requestGeneralStatsBuffers.mergeFrom(other.requestGeneralStatsBuffers, remapIndex)(_.merge(_))
+    groupDurationGeneralStatsBuffers.mergeFrom(other.groupDurationGeneralStatsBuffers, remapIndex)(_.merge(_))
+    groupCumulatedResponseTimeGeneralStatsBuffers.mergeFrom(other.groupCumulatedResponseTimeGeneralStatsBuffers, remapIndex)(_.merge(_))
   }
 }
 
-private[stats] class GeneralStatsBuffer(durationInSec: Long) {
-  val counts = mutable.Map.empty[Int, Int]
-  val digest = new AVLTreeDigest(100.0)
+/**
+ * Single structure for the exact distribution and the stats of a key. The histogram keeps 3 significant digits, so values are exact up to 2047ms and within
+ * 0.1% above. It only grows with the highest recorded value, so memory per key is capped by the Int range (under 100KB) whatever the number of records.
+ */
+private[stats] class GeneralStatsBuffer(durationInSec: () => Long) {
+  private val histogram = new IntCountsHistogram(3)
   private var sumOfSquares = 0L
+  private var min = Int.MaxValue
+  private var max = Int.MinValue
   var sum = 0L
+  private var memoizedStats: GeneralStats = _
 
   def update(time: Int): Unit = {
-    val newCount = counts.get(time) match {
-      case Some(count) => count + 1
-      case _           => 1
+    // response times can't be negative, unless clocks went backwards
+    val value = math.max(time, 0)
+    histogram.recordValue(value)
+    sumOfSquares += value.toLong * value.toLong
+    sum += value
+    min = math.min(min, value)
+    max = math.max(max, value)
+  }
+
+  // histograms can be merged without losing precision
+  def merge(other: GeneralStatsBuffer): Unit =
+    if (other.histogram.getTotalCount > 0) {
+      histogram.add(other.histogram)
+      sumOfSquares += other.sumOfSquares
+      sum += other.sum
+      min = math.min(min, other.min)
+      max = math.max(max, other.max)
     }
-    counts.put(time, newCount)
 
-    digest.add(time)
-    sumOfSquares += time.toLong * time.toLong
-    sum += time
+  def stats: GeneralStats = {
+    if (memoizedStats == null) {
+      memoizedStats = computeStats()
+    }
+    memoizedStats
   }
 
-  lazy val stats: GeneralStats = {
-    val valuesCount = digest.size
+  def refresh(): Unit = memoizedStats = null
+
+  private def computeStats(): GeneralStats = {
+    val valuesCount = histogram.getTotalCount
     if (valuesCount == 0) {
       GeneralStats.NoPlot
     } else {
-      val count = digest.size
-      val mean = sum.toDouble / count
-      val stdDev = math.sqrt(sumOfSquares.toDouble / count - math.pow(mean, 2))
-      val meanRequestsPerSec = valuesCount.toDouble / durationInSec
-
-      val min = digest.quantile(0).toInt
-      val max = digest.quantile(1).toInt
+      val mean = sum.toDouble / valuesCount
+      val stdDev = math.sqrt(sumOfSquares.toDouble / valuesCount - math.pow(mean, 2))
+      val meanRequestsPerSec = valuesCount.toDouble / durationInSec()
 
-      val percentile: Double => Int = (rank: Double) => math.round(digest.quantile(rank / 100.0)).toInt
+      val percentile: Double => Int = (rank: Double) => math.min(histogram.getValueAtPercentile(rank), max.toLong).toInt
 
       GeneralStats(min, max, valuesCount, math.round(mean).toInt, math.round(stdDev).toInt, percentile, meanRequestsPerSec)
     }
   }
 
-  def distribution: Iterable[IntVsTimePlot] = counts.map { case (time, count) => new IntVsTimePlot(time, count) }
+  def distribution: Iterable[IntVsTimePlot] =
+    histogram
+      .recordedValues()
+      .asScala
+      .map(value => new IntVsTimePlot(math.min(value.getValueIteratedTo, max.toLong).toInt, value.getCountAtValueIteratedTo.toInt))
 }
@@ -16,18 +16,16 @@
 
 package io.gatling.charts.stats.buffers
 
-import scala.collection.mutable
-
 import io.gatling.charts.stats.{ Group, GroupRecord }
 import io.gatling.commons.stats.Status
 
 private[stats] trait GroupPercentilesBuffers {
-  this: Buckets =>
+  this: Buckets with StatsPaths =>
 
-  private val groupPercentilesBuffers = mutable.Map.empty[BufferKey, (PercentilesBuffers, PercentilesBuffers)]
+  private val groupPercentilesBuffers = new IdIndexedBuffers(() => (new PercentilesBuffers(buckets), new PercentilesBuffers(buckets)))
 
   private def percentilesBufferPair(group: Group, status: Status): (PercentilesBuffers, PercentilesBuffers) =
-    groupPercentilesBuffers.getOrElseUpdate(BufferKey(None, Some(group), Some(status)), (new PercentilesBuffers(buckets), new PercentilesBuffers(buckets)))
+    groupPercentilesBuffers.getOrEmpty(IdIndexedBuffers.index(statsPaths.find(None, Some(group)), status))
 
   def getGroupCumulatedResponseTimePercentilesBuffers(group: Group, status: Status): PercentilesBuffers =
     percentilesBufferPair(group, status)._1
@@ -37,8 +35,14 @@ private[stats] trait GroupPercentilesBuffers {
 
   def updateGroupPercentilesBuffers(record: GroupRecord): Unit = {
     import record._
-    val (cumulatedResponseTimePercentilesBuffers, durationPercentilesBuffers) = percentilesBufferPair(group, status)
+    val (cumulatedResponseTimePercentilesBuffers, durationPercentilesBuffers) = groupPercentilesBuffers(IdIndexedBuffers.index(groupId, status))
     cumulatedResponseTimePercentilesBuffers.update(startBucket, cumulatedResponseTime)
     durationPercentilesBuffers.update(startBucket, duration)
   }
+
+  def mergeGroupPercentilesBuffers(other: GroupPercentilesBuffers, idMapping: Array[Int]): Unit =
+    groupPercentilesBuffers.mergeFrom(other.groupPercentilesBuffers, IdIndexedBuffers.remapStatusIndex(idMapping)) { (buffers, otherBuffers) =>
+      buffers._1.merge(otherBuffers._1)
+      buffers._2.merge(otherBuffers._2)
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats.buffers
+
+import java.{ util => ju }
+
+import io.gatling.commons.stats.{ OK, Status }
+
+private[stats] object IdIndexedBuffers {
+  private val StatusCount = 3
+
+  // slot 0 is for all statuses
+  def index(id: Int, status: Option[Status]): Int =
+    id * StatusCount + (status match {
+      case Some(s) => statusOffset(s)
+      case _       => 0
+    })
+
+  def index(id: Int, status: Status): Int = id * StatusCount + statusOffset(status)
+
+  private def statusOffset(status: Status): Int = if (status == OK) 1 else 2
+
+  // for buffers indexed with a status, when merging buffers whose ids were interned separately
+  def remapStatusIndex(idMapping: Array[Int]): Int => Int =
+    index => idMapping(index / StatusCount) * StatusCount + index % StatusCount
+}
+
+/**
+ * Buffers indexed by interned stats path ids, optionally combined with a status, lazily created on first access.
+ */
+private[stats] final class IdIndexedBuffers[T <: AnyRef](newBuffer: () => T) {
+  private var buffers = new Array[AnyRef](64)
+
+  // read only, so it can be called concurrently once parsing is done, returns an empty buffer for unknown indexes
+  def getOrEmpty(index: Int): T =
+    if (index >= 0 && index < buffers.length && buffers(index) != null) {
+      buffers(index).asInstanceOf[T]
+    } else {
+      newBuffer()
+    }
+
+  // only the buffers that were created
+  def foreach(f: T => Unit): Unit =
+    buffers.foreach { buffer =>
+      if (buffer != null) {
+        f(buffer.asInstanceOf[T])
+      }
+    }
+
+  def mergeFrom(other: IdIndexedBuffers[T], remapIndex: Int => Int)(merge: (T, T) => Unit): Unit =
+    for (index <- other.buffers.indices) {
+      val buffer = other.buffers(index)
+      if (buffer != null) {
+        merge(apply(remapIndex(index)), buffer.asInstanceOf[T])
+      }
+    }
+
+  def apply(index: Int): T = {
+    if (index >= buffers.length) {
+      buffers = ju.Arrays.copyOf(buffers, math.max(index + 1, buffers.length * 2))
+    }
+    val existing = buffers(index)
+    if (existing != null) {
+      existing.asInstanceOf[T]
+    } else {
+      val buffer = newBuffer()
+      buffers(index) = buffer
+      buffer
+    }
+  }
+}
@@ -16,12 +16,16 @@
 
 package io.gatling.charts.stats.buffers
 
+import java.{ util => ju }
+
 import scala.collection.mutable
 
-import io.gatling.charts.stats.{ GroupRecord, GroupStatsPath, RequestRecord, RequestStatsPath, StatsPath, UserRecord }
+import io.gatling.charts.stats.{ GroupRecord, RequestRecord, StatsPath, StatsPathInterner, UserRecord }
 import io.gatling.core.stats.message.MessageEvent
 
 private[stats] trait NamesBuffers {
+  this: StatsPaths =>
+
   class NameBuffer[A] {
     val map: mutable.Map[A, Long] = mutable.Map.empty
 
@@ -29,17 +33,51 @@ private[stats] trait NamesBuffers {
       map += (name -> (time min map.getOrElse(name, Long.MaxValue)))
   }
 
-  val groupAndRequestsNameBuffer: NameBuffer[StatsPath] = new NameBuffer[StatsPath]
+  // first start time indexed by stats path id, Long.MaxValue if the path wasn't seen
+  private var groupAndRequestsFirstStarts: Array[Long] = Array.fill(64)(Long.MaxValue)
   val scenarioNameBuffer: NameBuffer[String] = new NameBuffer[String]
 
+  private def updateGroupOrRequestName(id: Int, time: Long): Unit = {
+    if (id >= groupAndRequestsFirstStarts.length) {
+      val oldLength = groupAndRequestsFirstStarts.length
+      groupAndRequestsFirstStarts = ju.Arrays.copyOf(groupAndRequestsFirstStarts, math.max(id + 1, oldLength * 2))
+      ju.Arrays.fill(groupAndRequestsFirstStarts, oldLength, groupAndRequestsFirstStarts.length, Long.MaxValue)
+    }
+    groupAndRequestsFirstStarts(id) = time min groupAndRequestsFirstStarts(id)
+  }
+
+  def groupAndRequestsNames: List[(StatsPath, Long)] =
+    (1 until math.min(statsPaths.size, groupAndRequestsFirstStarts.length)).toList.collect {
+      case id if groupAndRequestsFirstStarts(id) != Long.MaxValue => statsPaths.path(id) -> groupAndRequestsFirstStarts(id)
+    }
+
   def addScenarioName(record: UserRecord): Unit =
     if (record.event == MessageEvent.Start) {
       scenarioNameBuffer.update(record.scenario, record.timestamp)
     }
 
   def addRequestName(record: RequestRecord): Unit =
-    groupAndRequestsNameBuffer.update(RequestStatsPath(record.name, record.group), record.start)
+    updateGroupOrRequestName(record.requestId, record.start)
+
+  // enclosing groups are listed first
+  def addAllParentGroupNames(record: RequestRecord): Unit = {
+    var groupId = record.groupId
+    while (groupId != StatsPathInterner.GlobalId) {
+      updateGroupOrRequestName(groupId, 0)
+      groupId = statsPaths.parentId(groupId)
+    }
+  }
 
   def addGroupName(record: GroupRecord): Unit =
-    groupAndRequestsNameBuffer.update(GroupStatsPath(record.group), record.start)
+    updateGroupOrRequestName(record.groupId, record.start)
+
+  def mergeNamesBuffers(other: NamesBuffers, idMapping: Array[Int]): Unit = {
+    for (id <- 1 until math.min(idMapping.length, other.groupAndRequestsFirstStarts.length)) {
+      val firstStart = other.groupAndRequestsFirstStarts(id)
+      if (firstStart != Long.MaxValue) {
+        updateGroupOrRequestName(idMapping(id), firstStart)
+      }
+    }
+    other.scenarioNameBuffer.map.foreachEntry(scenarioNameBuffer.update)
+  }
 }
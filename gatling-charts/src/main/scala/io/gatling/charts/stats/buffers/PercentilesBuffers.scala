@@ -32,6 +32,19 @@ private[stats] class PercentilesBuffers(buckets: Array[Int]) {
         digests(bucketNumber) = Some(digest)
     }
 
+  def merge(other: PercentilesBuffers): Unit =
+    for (bucketNumber <- digests.indices) {
+      other.digests(bucketNumber).foreach { otherDigest =>
+        digests(bucketNumber) match {
+          case Some(digest) => digest.add(otherDigest)
+          case _ =>
+            val digest = new AVLTreeDigest(100.0)
+            digest.add(otherDigest)
+            digests(bucketNumber) = Some(digest)
+        }
+      }
+    }
+
   def percentiles: Iterable[PercentilesVsTimePlot] =
     digests.view.zipWithIndex
       .map { case (digestO, bucketNumber) =>
@@ -16,33 +16,23 @@
 
 package io.gatling.charts.stats.buffers
 
-import scala.collection.mutable
-
-import io.gatling.charts.stats.{ Group, RequestRecord }
+import io.gatling.charts.stats.{ Group, RequestRecord, StatsPathInterner }
 import io.gatling.commons.stats.Status
 
 private[stats] trait RequestPercentilesBuffers {
-  this: Buckets =>
+  this: Buckets with StatsPaths =>
 
-  private val responseTimePercentilesBuffers = mutable.Map.empty[BufferKey, PercentilesBuffers]
+  private val responseTimePercentilesBuffers = new IdIndexedBuffers(() => new PercentilesBuffers(buckets))
 
   def getResponseTimePercentilesBuffers(requestName: Option[String], group: Option[Group], status: Status): PercentilesBuffers =
-    responseTimePercentilesBuffers.getOrElseUpdate(BufferKey(requestName, group, Some(status)), new PercentilesBuffers(buckets))
-
-  private def updateRequestPercentilesBuffers(
-      requestName: Option[String],
-      group: Option[Group],
-      status: Status,
-      requestStartBucket: Int,
-      responseTime: Int
-  ): Unit = {
-    val responseTimePercentilesBuffers = getResponseTimePercentilesBuffers(requestName, group, status)
-    responseTimePercentilesBuffers.update(requestStartBucket, responseTime)
-  }
+    responseTimePercentilesBuffers.getOrEmpty(IdIndexedBuffers.index(statsPaths.find(requestName, group), status))
 
   def updateRequestPercentilesBuffers(record: RequestRecord): Unit = {
     import record._
-    updateRequestPercentilesBuffers(Some(name), group, status, startBucket, responseTime)
-    updateRequestPercentilesBuffers(None, None, status, startBucket, responseTime)
+    responseTimePercentilesBuffers(IdIndexedBuffers.index(requestId, status)).update(startBucket, responseTime)
+    responseTimePercentilesBuffers(IdIndexedBuffers.index(StatsPathInterner.GlobalId, status)).update(startBucket, responseTime)
   }
+
+  def mergeRequestPercentilesBuffers(other: RequestPercentilesBuffers, idMapping: Array[Int]): Unit =
+    responseTimePercentilesBuffers.mergeFrom(other.responseTimePercentilesBuffers, IdIndexedBuffers.remapStatusIndex(idMapping))(_.merge(_))
 }
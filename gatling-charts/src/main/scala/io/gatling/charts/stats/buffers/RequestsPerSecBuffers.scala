@@ -16,20 +16,21 @@
 
 package io.gatling.charts.stats.buffers
 
-import scala.collection.mutable
-
-import io.gatling.charts.stats.{ Group, RequestRecord }
+import io.gatling.charts.stats.{ Group, RequestRecord, StatsPathInterner }
 
 private[stats] trait RequestsPerSecBuffers {
-  this: Buckets =>
+  this: Buckets with StatsPaths =>
 
-  private val requestsPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
+  private val requestsPerSecBuffers = new IdIndexedBuffers(() => new CountsBuffer(buckets))
 
   def getRequestsPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
-    requestsPerSecBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new CountsBuffer(buckets))
+    requestsPerSecBuffers.getOrEmpty(statsPaths.find(requestName, group))
 
   def updateRequestsPerSecBuffers(record: RequestRecord): Unit = {
-    getRequestsPerSecBuffer(Some(record.name), record.group).update(record.startBucket, record.status)
-    getRequestsPerSecBuffer(None, None).update(record.startBucket, record.status)
+    requestsPerSecBuffers(record.requestId).update(record.startBucket, record.status)
+    requestsPerSecBuffers(StatsPathInterner.GlobalId).update(record.startBucket, record.status)
   }
+
+  def mergeRequestsPerSecBuffers(other: RequestsPerSecBuffers, idMapping: Array[Int]): Unit =
+    requestsPerSecBuffers.mergeFrom(other.requestsPerSecBuffers, idMapping(_))(_.merge(_))
 }
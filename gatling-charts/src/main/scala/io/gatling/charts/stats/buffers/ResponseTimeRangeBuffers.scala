@@ -16,39 +16,49 @@
 
 package io.gatling.charts.stats.buffers
 
-import scala.collection.mutable
-
-import io.gatling.charts.stats.{ Group, GroupRecord, RequestRecord }
+import io.gatling.charts.stats.{ Group, GroupRecord, RequestRecord, StatsPathInterner }
 import io.gatling.commons.stats.{ KO, Status }
 
 private[stats] trait ResponseTimeRangeBuffers {
+  this: StatsPaths =>
+
   protected def lowerBound: Int
   protected def higherBound: Int
 
-  private val responseTimeRangeBuffers: mutable.Map[BufferKey, ResponseTimeRangeBuffer] = mutable.Map.empty
+  private val responseTimeRangeBuffers = new IdIndexedBuffers(() => new ResponseTimeRangeBuffer(lowerBound, higherBound))
 
   def getResponseTimeRangeBuffers(requestName: Option[String], group: Option[Group]): ResponseTimeRangeBuffer =
-    responseTimeRangeBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new ResponseTimeRangeBuffer)
+    responseTimeRangeBuffers.getOrEmpty(statsPaths.find(requestName, group))
 
   def updateResponseTimeRangeBuffer(record: RequestRecord): Unit = {
     import record._
-    getResponseTimeRangeBuffers(Some(name), group).update(responseTime, status)
-    getResponseTimeRangeBuffers(None, None).update(responseTime, status)
+    responseTimeRangeBuffers(requestId).update(responseTime, status)
+    responseTimeRangeBuffers(StatsPathInterner.GlobalId).update(responseTime, status)
   }
 
   def updateGroupResponseTimeRangeBuffer(record: GroupRecord): Unit =
-    getResponseTimeRangeBuffers(None, Some(record.group)).update(record.duration, record.status)
-
-  final class ResponseTimeRangeBuffer {
-    var low: Int = 0
-    var middle: Int = 0
-    var high: Int = 0
-    var ko: Int = 0
-
-    def update(time: Int, status: Status): Unit =
-      if (status == KO) ko += 1
-      else if (time < lowerBound) low += 1
-      else if (time >= higherBound) high += 1
-      else middle += 1
+    responseTimeRangeBuffers(record.groupId).update(record.duration, record.status)
+
+  def mergeResponseTimeRangeBuffers(other: ResponseTimeRangeBuffers, idMapping: Array[Int]): Unit =
+    responseTimeRangeBuffers.mergeFrom(other.responseTimeRangeBuffers, idMapping(_))(_.merge(_))
+}
+
+private[stats] final class ResponseTimeRangeBuffer(lowerBound: Int, higherBound: Int) {
+  var low: Int = 0
+  var middle: Int = 0
+  var high: Int = 0
+  var ko: Int = 0
+
+  def update(time: Int, status: Status): Unit =
+    if (status == KO) ko += 1
+    else if (time < lowerBound) low += 1
+    else if (time >= higherBound) high += 1
+    else middle += 1
+
+  def merge(other: ResponseTimeRangeBuffer): Unit = {
+    low += other.low
+    middle += other.middle
+    high += other.high
+    ko += other.ko
   }
 }
@@ -16,20 +16,21 @@
 
 package io.gatling.charts.stats.buffers
 
-import scala.collection.mutable
-
-import io.gatling.charts.stats.{ Group, RequestRecord }
+import io.gatling.charts.stats.{ Group, RequestRecord, StatsPathInterner }
 
 private[stats] trait ResponsesPerSecBuffers {
-  this: Buckets =>
+  this: Buckets with StatsPaths =>
 
-  private val responsesPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
+  private val responsesPerSecBuffers = new IdIndexedBuffers(() => new CountsBuffer(buckets))
 
   def getResponsesPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
-    responsesPerSecBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new CountsBuffer(buckets))
+    responsesPerSecBuffers.getOrEmpty(statsPaths.find(requestName, group))
 
   def updateResponsesPerSecBuffers(record: RequestRecord): Unit = {
-    getResponsesPerSecBuffer(Some(record.name), record.group).update(record.endBucket, record.status)
-    getResponsesPerSecBuffer(None, None).update(record.endBucket, record.status)
+    responsesPerSecBuffers(record.requestId).update(record.endBucket, record.status)
+    responsesPerSecBuffers(StatsPathInterner.GlobalId).update(record.endBucket, record.status)
   }
+
+  def mergeResponsesPerSecBuffers(other: ResponsesPerSecBuffers, idMapping: Array[Int]): Unit =
+    responsesPerSecBuffers.mergeFrom(other.responsesPerSecBuffers, idMapping(_))(_.merge(_))
 }
@@ -33,6 +33,13 @@ private[stats] class SessionDeltaBuffer(minTimestamp: Long, maxTimestamp: Long,
 
   def endDandling(): Unit = addEnd(runDurationInSeconds - 1)
 
+  // both buffers must cover the same run duration
+  def merge(other: SessionDeltaBuffer): Unit =
+    for (second <- startCounts.indices) {
+      startCounts(second) += other.startCounts(second)
+      endCounts(second) += other.endCounts(second)
+    }
+
   private val bucketWidthInMillis = ((maxTimestamp - minTimestamp) / buckets.length).toInt
   private def secondToBucket(second: Int): Int = math.min(second * 1000 / bucketWidthInMillis, buckets.length - 1)
 
@@ -95,6 +102,11 @@ private[stats] trait SessionDeltaPerSecBuffers {
         userCountByScenario.getOrElseUpdate(record.scenario, new LongAdder).decrement()
     }
 
+  def mergeSessionDeltaPerSecBuffers(other: SessionDeltaPerSecBuffers): Unit = {
+    other.sessionDeltaPerSecBuffers.foreachEntry((scenarioName, buffer) => getSessionDeltaPerSecBuffers(scenarioName).merge(buffer))
+    other.userCountByScenario.foreachEntry((scenario, count) => userCountByScenario.getOrElseUpdate(scenario, new LongAdder).add(count.sum()))
+  }
+
   @SuppressWarnings(Array("org.wartremover.warts.ForeachEntry"))
   def endDandlingStartedUser(): Unit =
     for {
@@ -16,7 +16,8 @@
 
 package io.gatling.charts.stats.buffers
 
-import io.gatling.charts.stats.Group
-import io.gatling.commons.stats.Status
+import io.gatling.charts.stats.StatsPathInterner
 
-private[stats] final case class BufferKey(requestName: Option[String], group: Option[Group], status: Option[Status])
+private[stats] trait StatsPaths {
+  def statsPaths: StatsPathInterner
+}
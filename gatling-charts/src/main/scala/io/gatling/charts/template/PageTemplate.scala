@@ -16,6 +16,7 @@
 
 package io.gatling.charts.template
 
+import java.io.Writer
 import java.time.{ ZoneOffset, ZonedDateTime }
 
 import io.gatling.charts.FileNamingConventions
@@ -35,8 +36,9 @@ private[charts] abstract class PageTemplate(
 ) {
   def jsFiles: Seq[String] = (CommonJsFiles ++ components.flatMap(_.jsFiles)).distinct
 
+  // components are written one by one instead of building the whole page in memory
   @SuppressWarnings(Array("org.wartremover.warts.ListAppend"))
-  def getOutput: String = {
+  def writeOutput(writer: Writer): Unit = {
     val simulationClassSimpleName = runInfo.simulationClassName.lastIndexOf(".") match {
       case -1 => runInfo.simulationClassName
       case i  => runInfo.simulationClassName.substring(i + 1)
@@ -85,7 +87,7 @@ private[charts] abstract class PageTemplate(
         .getOrElse("")
     }
 
-    s"""
+    writer.write(s"""
 <!DOCTYPE html>
 <html lang="en">
 <head>
@@ -148,7 +150,9 @@ ${jsFiles.map(jsFile => s"""<script src="js/$jsFile"></script>""").mkString(Eol)
             <div class="container-article">
             <div class="article">
               $deprecationWarning
-              ${components.map(_.html).mkString}
+              """)
+    components.foreach(component => writer.write(component.html))
+    writer.write(s"""
             </div>
           </div>
         </div>
@@ -163,12 +167,14 @@ ${jsFiles.map(jsFile => s"""<script src="js/$jsFile"></script>""").mkString(Eol)
         ${if (isDetails) "setDetailsMenu();" else "setGlobalMenu();"}
         setActiveMenu();
         fillStats(pageStats);
-        ${components.map(_.js).mkString}
+        """)
+    components.foreach(component => writer.write(component.js))
+    writer.write("""
     });
 </script>
 </div>
 </body>
 </html>
-"""
+""")
   }
 }
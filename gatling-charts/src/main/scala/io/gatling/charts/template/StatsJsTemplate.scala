@@ -16,6 +16,8 @@
 
 package io.gatling.charts.template
 
+import java.io.Writer
+
 import io.gatling.charts.FileNamingConventions
 import io.gatling.charts.component.RequestStatistics
 import io.gatling.charts.report.Container.{ Group, Request }
@@ -25,7 +27,9 @@ import io.gatling.charts.util.JsHelper._
 private[charts] final class StatsJsTemplate(stats: GroupContainer, outputJson: Boolean) {
   private def fieldName(field: String): String = if (outputJson) s""""$field"""" else field
 
-  def getOutput: String = {
+  // groups and requests are written one by one instead of building the whole tree in memory
+  @SuppressWarnings(Array("org.wartremover.warts.Recursion"))
+  def writeOutput(writer: Writer): Unit = {
     def renderStats(request: RequestStatistics, path: String): String = {
       val jsonStats = new GlobalStatsJsonTemplate(request, outputJson).getOutput
 
@@ -35,36 +39,53 @@ ${fieldName("pathFormatted")}: "$path",
 ${fieldName("stats")}: $jsonStats"""
     }
 
-    def renderSubGroups(group: GroupContainer): Iterable[String] =
-      group.groups.values.map { subGroup =>
-        s""""${subGroup.name.toGroupFileName}": {
-          ${renderGroup(subGroup)}
-     }"""
+    def writeGroup(group: GroupContainer): Unit = {
+      writer.write(s"""${fieldName("type")}: "$Group",
+${renderStats(group.stats, group.stats.path.toGroupFileName)},
+${fieldName("contents")}: {
+""")
+
+      var first = true
+      def writeSeparator(): Unit =
+        if (first) {
+          first = false
+        } else {
+          writer.write(",")
+        }
+
+      group.groups.values.foreach { subGroup =>
+        writeSeparator()
+        writer.write(s""""${subGroup.name.toGroupFileName}": {
+          """)
+        writeGroup(subGroup)
+        writer.write("""
+     }""")
       }
 
-    def renderSubRequests(group: GroupContainer): Iterable[String] =
-      group.requests.values.map { request =>
-        s""""${request.name.toRequestFileName}": {
+      group.requests.values.foreach { request =>
+        writeSeparator()
+        writer.write(s""""${request.name.toRequestFileName}": {
         ${fieldName("type")}: "$Request",
         ${renderStats(request.stats, request.stats.path.toRequestFileName)}
-    }"""
+    }""")
       }
 
-    def renderGroup(group: GroupContainer): String =
-      s"""${fieldName("type")}: "$Group",
-${renderStats(group.stats, group.stats.path.toGroupFileName)},
-${fieldName("contents")}: {
-${(renderSubGroups(group) ++ renderSubRequests(group)).mkString(",")}
+      writer.write("""
 }
-"""
-
-    if (outputJson)
-      s"""{
-  ${renderGroup(stats)}
-}"""
-    else
-      s"""var stats = {
-    ${renderGroup(stats)}
+""")
+    }
+
+    if (outputJson) {
+      writer.write("""{
+  """)
+      writeGroup(stats)
+      writer.write("""
+}""")
+    } else {
+      writer.write("""var stats = {
+    """)
+      writeGroup(stats)
+      writer.write(s"""
 }
 
 function fillStats(stat){
@@ -108,6 +129,7 @@ function fillStats(stat){
     $$("#meanNumberOfRequestsPerSecondOK").append(stat.meanNumberOfRequestsPerSecond.ok);
     $$("#meanNumberOfRequestsPerSecondKO").append(stat.meanNumberOfRequestsPerSecond.ko);
 }
-"""
+""")
+    }
   }
 }
@@ -16,18 +16,15 @@
 
 package io.gatling.charts.result.reader
 
-import java.{ lang => jl }
-import java.io.{ BufferedOutputStream, DataOutputStream, File, FileOutputStream }
 import java.nio.charset.StandardCharsets.UTF_8
-import java.nio.file.{ Files, Paths }
-
-import scala.util.Using
+import java.nio.file.Files
 
 import io.gatling.charts.stats.{ LogFileData, LogFileReader }
-import io.gatling.commons.util.GatlingVersion
+import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.core.config.ConfigKeys._
 import io.gatling.core.config.GatlingConfiguration
-import io.gatling.core.stats.writer.LogFileDataWriter
+import io.gatling.core.stats.writer.{ LogFileDataWriter, LogFileFixtures }
+import io.gatling.core.stats.writer.DataWriterMessage.LoadEvent.{ Response, User }
 
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
@@ -36,30 +33,11 @@ import org.scalatest.matchers.should.Matchers
 class LogFileReaderSpec extends AnyFlatSpecLike with Matchers {
   private val runUuid = "known_stats"
   private val resultsDirectory = {
-    // we need a log file whose version matches Gatling's
-    // the sample contains a static value while Gatling's is computed by sbt based on git
-    // so we need to replace it
-    val rawLogFile = Paths.get(Thread.currentThread().getContextClassLoader.getResource(s"$runUuid/${LogFileDataWriter.LogFileName}").toURI)
-
     val tmpResultsDirectory = Files.createTempDirectory("gatling")
-    val runDirectory = tmpResultsDirectory.resolve(runUuid).toFile
-    runDirectory.mkdir()
-    val logFileWithMatchingLibraryVersion = new File(runDirectory, LogFileDataWriter.LogFileName)
-    logFileWithMatchingLibraryVersion.deleteOnExit()
-
-    Using.resource(new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFileWithMatchingLibraryVersion)))) { os =>
-      val sampleBytes = Files.readAllBytes(rawLogFile)
-      // run record header
-      os.write(sampleBytes, 0, jl.Byte.BYTES)
-      val gatlingFullVersionBytes = GatlingVersion.ThisVersion.fullVersion.getBytes(UTF_8)
-      // Gatling version length
-      os.writeInt(gatlingFullVersionBytes.length)
-      os.write(gatlingFullVersionBytes)
-      // rest of the original file, after skipping the original Gatling version in the file
-      val offset = jl.Byte.BYTES + jl.Integer.BYTES + "3.12.1".getBytes(UTF_8).length
-      os.write(sampleBytes, offset, sampleBytes.length - offset)
-    }
-
+    val logFile = tmpResultsDirectory.resolve(runUuid).resolve(LogFileDataWriter.LogFileName)
+    Files.createDirectories(logFile.getParent)
+    Files.write(logFile, LogFileFixtures.sampleLogFileBytes(runUuid))
+    logFile.toFile.deleteOnExit()
     tmpResultsDirectory
   }
 
@@ -137,4 +115,68 @@ class LogFileReaderSpec extends AnyFlatSpecLike with Matchers {
     )
     fileData.numberOfRequestInResponseTimeRanges(None, None).highCount shouldBe 0
   }
+
+  it should "merge the log files of the same run from several load generators" in {
+    val mergedResultsDirectory = Files.createTempDirectory("gatling")
+    val runDirectory = mergedResultsDirectory.resolve(runUuid)
+    Files.createDirectories(runDirectory)
+    val logFile = resultsDirectory.resolve(runUuid).resolve(LogFileDataWriter.LogFileName)
+    for (name <- List(LogFileDataWriter.LogFileName, "simulation-generator2.log")) {
+      Files.copy(logFile, runDirectory.resolve(name))
+      runDirectory.resolve(name).toFile.deleteOnExit()
+    }
+
+    val stats = LogFileReader(runUuid, mergedResultsDirectory, GatlingConfiguration.loadForTest()).read().requestGeneralStats(None, None, None)
+    stats.count shouldBe 210
+    stats.min shouldBe 87
+    stats.max shouldBe 368
+    stats.percentile(70.0) shouldBe 113
+  }
+
+  it should "merge log files with different string caches and scenario indexes, and ignore the other log files" in {
+    val mergedResultsDirectory = Files.createTempDirectory("gatling")
+    val runDirectory = mergedResultsDirectory.resolve("merged")
+    val runStart = 1700000000000L
+
+    LogFileFixtures.write(
+      runDirectory.resolve(LogFileDataWriter.LogFileName),
+      runStart,
+      Seq("scnA"),
+      Seq(
+        User("scnA", runStart, start = true),
+        Response("scnA", Nil, "login", runStart + 10, runStart + 110, OK, None, None),
+        Response("scnA", Nil, "search", runStart + 200, runStart + 250, KO, None, Some("boom")),
+        User("scnA", runStart + 300, start = false)
+      )
+    )
+    // scenarios and strings are indexed in a different order on this load generator
+    val runStart2 = runStart + 1000
+    LogFileFixtures.write(
+      runDirectory.resolve("simulation-generator2.log"),
+      runStart2,
+      Seq("scnB", "scnA"),
+      Seq(
+        User("scnB", runStart2, start = true),
+        Response("scnB", Nil, "checkout", runStart2 + 10, runStart2 + 310, OK, None, None),
+        Response("scnB", Nil, "search", runStart2 + 400, runStart2 + 470, OK, None, None),
+        User("scnB", runStart2 + 500, start = false),
+        User("scnA", runStart2 + 600, start = true),
+        Response("scnA", Nil, "search", runStart2 + 610, runStart2 + 690, KO, None, Some("boom")),
+        User("scnA", runStart2 + 700, start = false)
+      )
+    )
+    val otherLogFile = runDirectory.resolve("gatling.log")
+    Files.write(otherLogFile, "not a simulation log".getBytes(UTF_8))
+    otherLogFile.toFile.deleteOnExit()
+
+    val fileData = LogFileReader("merged", mergedResultsDirectory, GatlingConfiguration.loadForTest()).read()
+
+    fileData.requestGeneralStats(None, None, None).count shouldBe 5
+    fileData.requestGeneralStats(Some("login"), None, None).count shouldBe 1
+    fileData.requestGeneralStats(Some("search"), None, None).count shouldBe 3
+    fileData.requestGeneralStats(Some("search"), None, Some(KO)).count shouldBe 2
+    fileData.requestGeneralStats(Some("checkout"), None, None).max shouldBe 300
+    fileData.scenarioNames should contain theSameElementsAs List("scnA", "scnB")
+    fileData.errors(None, None).map(error => error.message -> error.count) shouldBe Seq("boom" -> 2)
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.result.reader
+
+import java.nio.file.{ Files, StandardOpenOption }
+
+import io.gatling.charts.stats.{ LogFileReader, LogFileTailer }
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.stats.writer.{ LogFileDataWriter, LogFileFixtures }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class LogFileTailerSpec extends AnyFlatSpecLike with Matchers {
+  private val runUuid = "known_stats"
+  private val configuration = GatlingConfiguration.loadForTest()
+
+  private val logFileBytes = LogFileFixtures.sampleLogFileBytes(runUuid)
+
+  "LogFileTailer" should "only read complete records and resume once the log file was appended" in {
+    val resultsDirectory = Files.createTempDirectory("gatling")
+    val logFile = resultsDirectory.resolve(runUuid).resolve(LogFileDataWriter.LogFileName)
+    Files.createDirectories(logFile.getParent)
+    logFile.toFile.deleteOnExit()
+
+    // most likely in the middle of a record
+    val half = logFileBytes.length / 2
+    Files.write(logFile, logFileBytes.take(half))
+
+    val tailer = LogFileTailer(runUuid, resultsDirectory, configuration)
+    val partialCount = tailer.read().map(_.requestGeneralStats(None, None, None).count)
+    partialCount.exists(count => count > 0 && count < 105) shouldBe true
+
+    Files.write(logFile, logFileBytes.drop(half), StandardOpenOption.APPEND)
+
+    val liveStats = tailer.read().map(_.requestGeneralStats(None, None, None))
+    val stats = LogFileReader(runUuid, resultsDirectory, configuration).read().requestGeneralStats(None, None, None)
+    liveStats.map(_.count) shouldBe Some(stats.count)
+    liveStats.map(_.min) shouldBe Some(stats.min)
+    liveStats.map(_.max) shouldBe Some(stats.max)
+    liveStats.map(_.percentile(70)) shouldBe Some(stats.percentile(70))
+
+    tailer.read() shouldBe None
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class StatsPathInternerSpec extends AnyFlatSpecLike with Matchers {
+  "StatsPathInterner" should "intern the same path into the same id" in {
+    val interner = new StatsPathInterner
+
+    val requestId = interner.root.subGroup("group").requestId("request")
+
+    interner.root.subGroup("group") shouldBe theSameInstanceAs(interner.root.subGroup("group"))
+    interner.root.subGroup("group").requestId("request") shouldBe requestId
+    interner.size shouldBe 3
+  }
+
+  it should "assign dense ids in order of appearance, the global one first" in {
+    val interner = new StatsPathInterner
+
+    interner.root.id shouldBe StatsPathInterner.GlobalId
+    interner.root.requestId("request1") shouldBe 1
+    interner.root.subGroup("group").id shouldBe 2
+    interner.root.requestId("request2") shouldBe 3
+  }
+
+  it should "tell group and request paths apart, even with the same name" in {
+    val interner = new StatsPathInterner
+
+    val group = interner.root.subGroup("name")
+    val requestId = interner.root.requestId("name")
+    val nestedRequestId = group.requestId("name")
+
+    requestId should not be group.id
+    nestedRequestId should not be requestId
+    interner.path(group.id) shouldBe GroupStatsPath(Group(List("name")))
+    interner.path(requestId) shouldBe RequestStatsPath("name", None)
+    interner.path(nestedRequestId) shouldBe RequestStatsPath("name", Some(Group(List("name"))))
+  }
+
+  it should "record the enclosing group of each path" in {
+    val interner = new StatsPathInterner
+
+    val group = interner.root.subGroup("group")
+    val subGroup = group.subGroup("subGroup")
+    val requestId = subGroup.requestId("request")
+
+    interner.parentId(group.id) shouldBe StatsPathInterner.GlobalId
+    interner.parentId(subGroup.id) shouldBe group.id
+    interner.parentId(requestId) shouldBe subGroup.id
+    subGroup.group shouldBe Some(Group(List("group", "subGroup")))
+  }
+
+  it should "find interned paths without interning unknown ones" in {
+    val interner = new StatsPathInterner
+    val groupId = interner.root.subGroup("group").id
+    val requestId = interner.root.subGroup("group").requestId("request")
+
+    interner.find(None, None) shouldBe StatsPathInterner.GlobalId
+    interner.find(None, Some(Group(List("group")))) shouldBe groupId
+    interner.find(Some("request"), Some(Group(List("group")))) shouldBe requestId
+    interner.find(Some("request"), None) shouldBe StatsPathInterner.NotFound
+    interner.find(None, Some(Group(List("group", "unknown")))) shouldBe StatsPathInterner.NotFound
+    interner.size shouldBe 3
+  }
+
+  it should "keep parent ids when growing past its initial capacity" in {
+    val interner = new StatsPathInterner
+    val group = interner.root.subGroup("group")
+
+    val requestIds = (0 until 200).map(i => group.requestId(s"request$i"))
+
+    requestIds shouldBe (2 until 202)
+    requestIds.map(interner.parentId).distinct shouldBe Seq(group.id)
+  }
+
+  it should "map the ids of another interner, interning the paths it doesn't know" in {
+    val interner = new StatsPathInterner
+    val requestId = interner.root.subGroup("group").requestId("request")
+
+    val other = new StatsPathInterner
+    val otherNewRequestId = other.root.requestId("new")
+    val otherGroupId = other.root.subGroup("group").id
+    val otherRequestId = other.root.subGroup("group").requestId("request")
+
+    val mapping = interner.internAll(other)
+
+    mapping(StatsPathInterner.GlobalId) shouldBe StatsPathInterner.GlobalId
+    mapping(otherGroupId) shouldBe interner.find(None, Some(Group(List("group"))))
+    mapping(otherRequestId) shouldBe requestId
+    interner.path(mapping(otherNewRequestId)) shouldBe RequestStatsPath("new", None)
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.stats.buffers
+
+import scala.collection.mutable
+
+import io.gatling.commons.stats.{ KO, OK }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class IdIndexedBuffersSpec extends AnyFlatSpecLike with Matchers {
+  private def newBuffers(): IdIndexedBuffers[mutable.ArrayBuffer[Int]] = new IdIndexedBuffers(() => mutable.ArrayBuffer.empty[Int])
+
+  "IdIndexedBuffers.index" should "give each id its own slots for all statuses, OK and KO" in {
+    val indexes = for {
+      id <- 0 until 3
+      status <- Seq(None, Some(OK), Some(KO))
+    } yield IdIndexedBuffers.index(id, status)
+
+    indexes shouldBe (0 until 9)
+    IdIndexedBuffers.index(2, OK) shouldBe IdIndexedBuffers.index(2, Some(OK))
+    IdIndexedBuffers.index(2, KO) shouldBe IdIndexedBuffers.index(2, Some(KO))
+  }
+
+  it should "remap status indexes along with their id" in {
+    val remap = IdIndexedBuffers.remapStatusIndex(Array(0, 5, 3))
+
+    remap(IdIndexedBuffers.index(1, None)) shouldBe IdIndexedBuffers.index(5, None)
+    remap(IdIndexedBuffers.index(1, KO)) shouldBe IdIndexedBuffers.index(5, KO)
+    remap(IdIndexedBuffers.index(2, OK)) shouldBe IdIndexedBuffers.index(3, OK)
+  }
+
+  "IdIndexedBuffers" should "create buffers once, on first access" in {
+    val buffers = newBuffers()
+
+    buffers(3) += 1
+    buffers(3) += 2
+
+    buffers(3) shouldBe mutable.ArrayBuffer(1, 2)
+    buffers(3) shouldBe theSameInstanceAs(buffers(3))
+  }
+
+  it should "return empty buffers for unknown indexes without creating them" in {
+    val buffers = newBuffers()
+    buffers(1) += 1
+
+    buffers.getOrEmpty(0) shouldBe empty
+    buffers.getOrEmpty(-1) shouldBe empty
+    buffers.getOrEmpty(10000) shouldBe empty
+    buffers.getOrEmpty(0) should not be theSameInstanceAs(buffers.getOrEmpty(0))
+    buffers.getOrEmpty(1) shouldBe theSameInstanceAs(buffers(1))
+  }
+
+  it should "keep existing buffers when growing at and past its capacity boundary" in {
+    val buffers = newBuffers()
+    buffers(63) += 63
+
+    buffers(64) += 64
+    buffers(1000) += 1000
+
+    buffers(63) shouldBe mutable.ArrayBuffer(63)
+    buffers(64) shouldBe mutable.ArrayBuffer(64)
+    buffers(1000) shouldBe mutable.ArrayBuffer(1000)
+    buffers(999) shouldBe empty
+  }
+
+  it should "merge buffers from another instance with remapped indexes" in {
+    val buffers = newBuffers()
+    buffers(2) += 1
+
+    val other = newBuffers()
+    other(0) += 2
+    other(70) += 3
+
+    buffers.mergeFrom(other, index => if (index == 0) 2 else index + 1)(_ ++= _)
+
+    buffers.getOrEmpty(2) shouldBe mutable.ArrayBuffer(1, 2)
+    buffers.getOrEmpty(71) shouldBe mutable.ArrayBuffer(3)
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.{ lang => jl }
+import java.io.{ ByteArrayOutputStream, DataOutputStream }
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path, Paths }
+import java.time.ZoneId
+
+import scala.concurrent.Promise
+
+import io.gatling.commons.util.GatlingVersion
+import io.gatling.core.config.GatlingConfiguration
+
+/**
+ * Writes log files with the actual serializers, so specs can build runs whose string caches and scenario indexes differ.
+ */
+object LogFileFixtures {
+  /**
+   * The sample log file of the run in the test resources, with its Gatling version replaced with the current one so it can be read: the sample contains a
+   * static value while Gatling's is computed by sbt based on git.
+   */
+  def sampleLogFileBytes(runUuid: String): Array[Byte] = {
+    val rawLogFile = Paths.get(Thread.currentThread().getContextClassLoader.getResource(s"$runUuid/${LogFileDataWriter.LogFileName}").toURI)
+    val sampleBytes = Files.readAllBytes(rawLogFile)
+    val bytes = new ByteArrayOutputStream
+    val os = new DataOutputStream(bytes)
+    // run record header
+    os.write(sampleBytes, 0, jl.Byte.BYTES)
+    val gatlingFullVersionBytes = GatlingVersion.ThisVersion.fullVersion.getBytes(UTF_8)
+    // Gatling version length
+    os.writeInt(gatlingFullVersionBytes.length)
+    os.write(gatlingFullVersionBytes)
+    // rest of the original file, after skipping the original Gatling version in the file
+    val offset = jl.Byte.BYTES + jl.Integer.BYTES + "3.12.1".getBytes(UTF_8).length
+    os.write(sampleBytes, offset, sampleBytes.length - offset)
+    os.flush()
+    bytes.toByteArray
+  }
+
+  def write(logFile: Path, start: Long, scenarios: Seq[String], events: Seq[DataWriterMessage.LoadEvent]): Unit = {
+    val tmpResultsDirectory = Files.createTempDirectory("gatling")
+    val runMessage = RunMessage("io.gatling.Fixture", "fixture", start, "", GatlingVersion.ThisVersion.fullVersion, ZoneId.systemDefault)
+    val writer = new LogFileDataWriter(tmpResultsDirectory, GatlingConfiguration.loadForTest())
+
+    val data = writer.onInit(DataWriterMessage.Init(Nil, runMessage, scenarios.map(ShortScenarioDescription(_, None)), Promise[Unit]()))
+    events.foreach(writer.onMessage(_, data))
+    writer.onStop(data)
+
+    Files.createDirectories(logFile.getParent)
+    Files.move(LogFileDataWriter.logFile(tmpResultsDirectory, runMessage.runId, create = false), logFile)
+    logFile.toFile.deleteOnExit()
+  }
+}
@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.gatling.core.check.css.CssCheckType;
+import io.gatling.core.check.css.HtmlDocument;
 import io.gatling.core.check.css.NodeConverter;
 import io.gatling.core.check.jmespath.JmesPathCheckType;
 import io.gatling.core.check.jmespath.JsonpJmesPathCheckType;
@@ -40,7 +41,6 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import jodd.lagarto.dom.Node;
-import jodd.lagarto.dom.NodeSelector;
 import net.jodah.typetools.TypeResolver;
 
 /**
@@ -1270,17 +1270,18 @@ public interface CheckBuilder {
   }
 
   /** An implementation of {@link CaptureGroupCheckBuilder} for regex applied on Strings */
-  final class Regex extends CaptureGroupCheckBuilder.Default<RegexCheckType, String> {
+  final class Regex extends CaptureGroupCheckBuilder.Default<RegexCheckType, CharSequence> {
 
     public Regex(
-        io.gatling.core.check.CheckBuilder.MultipleFind<RegexCheckType, String, String> wrapped) {
+        io.gatling.core.check.CheckBuilder.MultipleFind<RegexCheckType, CharSequence, String>
+            wrapped) {
       super(wrapped, CoreCheckType.Regex);
     }
 
     @Override
     @NonNull
     protected <X>
-        io.gatling.core.check.CheckBuilder.MultipleFind<RegexCheckType, String, X> extract(
+        io.gatling.core.check.CheckBuilder.MultipleFind<RegexCheckType, CharSequence, X> extract(
             @NonNull GroupExtractor<X> groupExtractor) {
       io.gatling.core.check.regex.RegexCheckBuilder<String> actual =
           (io.gatling.core.check.regex.RegexCheckBuilder<String>) wrapped;
@@ -1696,17 +1697,17 @@ public interface CheckBuilder {
      *
      * @param <T> the check type
      */
-    abstract class Default<T> extends MultipleFind.Default<T, NodeSelector, String, String>
+    abstract class Default<T> extends MultipleFind.Default<T, HtmlDocument, String, String>
         implements CssOfTypeMultipleFind {
       public Default(
-          io.gatling.core.check.CheckBuilder.MultipleFind<T, NodeSelector, String> wrapped,
+          io.gatling.core.check.CheckBuilder.MultipleFind<T, HtmlDocument, String> wrapped,
           CheckType type) {
         super(wrapped, type, String.class, null);
       }
 
       @NonNull
       protected abstract <X>
-          io.gatling.core.check.CheckBuilder.MultipleFind<T, NodeSelector, X> ofType(
+          io.gatling.core.check.CheckBuilder.MultipleFind<T, HtmlDocument, X> ofType(
               io.gatling.core.check.css.NodeConverter<X> nodeConverter);
 
       @Override
@@ -1735,7 +1736,7 @@ public interface CheckBuilder {
   final class Css extends CssOfTypeMultipleFind.Default<CssCheckType> {
 
     public Css(
-        io.gatling.core.check.CheckBuilder.MultipleFind<CssCheckType, NodeSelector, String>
+        io.gatling.core.check.CheckBuilder.MultipleFind<CssCheckType, HtmlDocument, String>
             wrapped) {
       super(wrapped, CoreCheckType.Css);
     }
@@ -1743,7 +1744,7 @@ public interface CheckBuilder {
     @NonNull
     @Override
     protected <X>
-        io.gatling.core.check.CheckBuilder.MultipleFind<CssCheckType, NodeSelector, X> ofType(
+        io.gatling.core.check.CheckBuilder.MultipleFind<CssCheckType, HtmlDocument, X> ofType(
             NodeConverter<X> nodeConverter) {
       io.gatling.core.check.css.CssCheckBuilder<String> actual =
           (io.gatling.core.check.css.CssCheckBuilder<String>) wrapped;
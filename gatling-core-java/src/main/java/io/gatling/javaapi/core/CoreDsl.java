@@ -3791,9 +3791,33 @@ public final class CoreDsl {
    * A function to pass to process the request body and compress it with GZIP before writing it on
    * the wire
    */
-  public static final Function<Body, Body.WithBytes> gzipBody =
+  public static final Function<Body, Body> gzipBody =
       javaBody ->
-          new Body.WithBytes(io.gatling.core.body.BodyProcessors.gzip().apply(javaBody.asScala()));
+          new Body.Default(io.gatling.core.body.BodyProcessors.gzip().apply(javaBody.asScala()));
+
+  /**
+   * A function to pass to process the request body and compress it with DEFLATE before writing it
+   * on the wire
+   */
+  public static final Function<Body, Body> deflateBody =
+      javaBody ->
+          new Body.Default(io.gatling.core.body.BodyProcessors.deflate().apply(javaBody.asScala()));
+
+  /**
+   * A function to pass to process the request body and compress it with Brotli before writing it
+   * on the wire
+   */
+  public static final Function<Body, Body> brotliBody =
+      javaBody ->
+          new Body.Default(io.gatling.core.body.BodyProcessors.brotli().apply(javaBody.asScala()));
+
+  /**
+   * A function to pass to process the request body and compress it with Zstandard before writing
+   * it on the wire
+   */
+  public static final Function<Body, Body> zstdBody =
+      javaBody ->
+          new Body.Default(io.gatling.core.body.BodyProcessors.zstd().apply(javaBody.asScala()));
 
   /**
    * Create a body from a String.
@@ -26,5 +26,6 @@ object Bodies {
     case b: io.gatling.core.body.ByteArrayBody   => new Body.WithBytes(b)
     case b: io.gatling.core.body.ElBody          => new Body.WithString(b)
     case b: io.gatling.core.body.InputStreamBody => new Body.Default(b)
+    case b: io.gatling.core.body.CompressedBody  => new Body.Default(b)
   }
 }
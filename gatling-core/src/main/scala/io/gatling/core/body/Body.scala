@@ -104,6 +104,21 @@ final case class ElBody(partsE: Expression[List[ElBody.ElBodyPart]]) extends Bod
 
 final case class InputStreamBody(is: Expression[InputStream]) extends Body
 
+sealed abstract class BodyCompression(val contentEncoding: String) extends Product with Serializable
+
+object BodyCompression {
+  case object Gzip extends BodyCompression("gzip")
+  case object Deflate extends BodyCompression("deflate")
+  case object Brotli extends BodyCompression("br")
+  case object Zstd extends BodyCompression("zstd")
+}
+
+/**
+ * A body compressed by the protocol when writing the request, so the compressed bytes of a body that doesn't depend on the virtual user are only computed
+ * once, and the ones of the other bodies are streamed instead of being buffered.
+ */
+final case class CompressedBody(body: Body, compression: BodyCompression) extends Body
+
 object PebbleStringBody {
   def apply(string: String, charset: Charset): BodyWithStringExpression = {
     val template = Pebble.getStringTemplate(string)
@@ -16,25 +16,12 @@
 
 package io.gatling.core.body
 
-import io.gatling.commons.util.GzipHelper
-
 private object BodyProcessors {
-  def gzip: Body => ByteArrayBody =
-    (body: Body) => {
-      val gzippedBytes = body match {
-        case StringBody(string, charset) => string.map(GzipHelper.gzip(_, charset))
-        case ByteArrayBody(byteArray)    => byteArray.map(GzipHelper.gzip)
-        case RawFileBody(resourceAndCachedBytes) =>
-          resourceAndCachedBytes.map { case ResourceAndCachedBytes(resource, cachedBytes) =>
-            cachedBytes match {
-              case Some(bytes) => GzipHelper.gzip(bytes)
-              case _           => GzipHelper.gzip(resource.inputStream)
-            }
-          }
-        case InputStreamBody(inputStream) => inputStream.map(GzipHelper.gzip)
-        case b: ElBody                    => b.asStream.map(GzipHelper.gzip)
-      }
+  def gzip: Body => Body = CompressedBody(_, BodyCompression.Gzip)
+
+  def deflate: Body => Body = CompressedBody(_, BodyCompression.Deflate)
+
+  def brotli: Body => Body = CompressedBody(_, BodyCompression.Brotli)
 
-      ByteArrayBody(gzippedBytes)
-    }
+  def zstd: Body => Body = CompressedBody(_, BodyCompression.Zstd)
 }
@@ -26,6 +26,12 @@ import io.pebbletemplates.pebble.extension.Extension
 trait BodySupport {
   def gzipBody: Body => Body = BodyProcessors.gzip
 
+  def deflateBody: Body => Body = BodyProcessors.deflate
+
+  def brotliBody: Body => Body = BodyProcessors.brotli
+
+  def zstdBody: Body => Body = BodyProcessors.zstd
+
   def StringBody(string: String)(implicit configuration: GatlingConfiguration): BodyWithStringExpression =
     io.gatling.core.body.ElBody(string, configuration.core.charset)
 
@@ -60,6 +60,7 @@ object CheckBuilder {
         new Extractor[P, X] {
           override def name: String = fae.name
           override def arity: String = "findRandom"
+          override def streamingPreparer: Option[StreamingPreparer[_]] = fae.streamingPreparer
 
           @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
           override def apply(prepared: P): Validation[Option[X]] =
@@ -72,6 +73,7 @@ object CheckBuilder {
         new Extractor[P, Seq[X]] {
           override def name: String = fae.name
           override def arity: String = s"findRandom($num, $failIfLess)"
+          override def streamingPreparer: Option[StreamingPreparer[_]] = fae.streamingPreparer
 
           @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
           override def apply(prepared: P): Validation[Option[Seq[X]]] =
@@ -158,6 +160,7 @@ object CheckBuilder {
           override def name: String = extractor.name
           override def arity: String = arityF(extractor.arity)
           override def apply(prepared: P): Validation[Option[X2]] = extractedF(extractor(prepared))
+          override def streamingPreparer: Option[StreamingPreparer[_]] = extractor.streamingPreparer
         }
 
       override private[gatling] def transform0[X2](
@@ -35,8 +35,6 @@ import io.gatling.core.stats.message.ResponseTimings
 
 import com.fasterxml.jackson.databind.JsonNode
 import io.burt.jmespath.function.{ Function => JmesPathFunction }
-import jodd.lagarto.dom.NodeSelector
-import net.sf.saxon.s9api.XdmNode
 
 trait CheckSupport {
   implicit def validate2Final[T, P, X](validatorCheckBuilder: CheckBuilder.Validate[T, P, X]): CheckBuilder.Final[T, P] =
@@ -52,7 +50,7 @@ trait CheckSupport {
   def checkIf[R, C <: Check[R]](condition: (R, Session) => Validation[Boolean])(thenCheck: C)(implicit maker: TypedCheckIfMaker[R, C]): C =
     maker.make(thenCheck, condition)
 
-  def regex(pattern: Expression[String])(implicit patterns: Patterns): CheckBuilder.MultipleFind[RegexCheckType, String, String] with RegexOfType =
+  def regex(pattern: Expression[String])(implicit patterns: Patterns): CheckBuilder.MultipleFind[RegexCheckType, CharSequence, String] with RegexOfType =
     RegexCheckBuilder.regex(pattern, patterns)
 
   val bodyString: CheckBuilder.Find[BodyStringCheckType, String, String] = BodyStringCheckBuilder
@@ -63,22 +61,22 @@ trait CheckSupport {
 
   val bodyStream: CheckBuilder.Find[BodyStreamCheckType, () => InputStream, InputStream] = BodyStreamCheckBuilder
 
-  def substring(pattern: Expression[String]): CheckBuilder.MultipleFind[SubstringCheckType, String, Int] = new SubstringCheckBuilder(pattern)
+  def substring(pattern: Expression[String]): CheckBuilder.MultipleFind[SubstringCheckType, CharSequence, Int] = new SubstringCheckBuilder(pattern)
 
-  def xpath(path: Expression[String])(implicit xmlParsers: XmlParsers): CheckBuilder.MultipleFind[XPathCheckType, XdmNode, String] =
+  def xpath(path: Expression[String])(implicit xmlParsers: XmlParsers): CheckBuilder.MultipleFind[XPathCheckType, XmlDocument, String] =
     xpath(path, Map.empty[String, String])
   def xpath(path: Expression[String], namespaces: Map[String, String])(implicit
       xmlParsers: XmlParsers
-  ): CheckBuilder.MultipleFind[XPathCheckType, XdmNode, String] =
+  ): CheckBuilder.MultipleFind[XPathCheckType, XmlDocument, String] =
     new XPathCheckBuilder(path, namespaces, xmlParsers)
 
-  def css(selector: Expression[String])(implicit selectors: CssSelectors): CheckBuilder.MultipleFind[CssCheckType, NodeSelector, String] with CssOfType =
+  def css(selector: Expression[String])(implicit selectors: CssSelectors): CheckBuilder.MultipleFind[CssCheckType, HtmlDocument, String] with CssOfType =
     CssCheckBuilder.css(selector, None, selectors)
   def css(selector: Expression[String], nodeAttribute: String)(implicit
       selectors: CssSelectors
-  ): CheckBuilder.MultipleFind[CssCheckType, NodeSelector, String] with CssOfType =
+  ): CheckBuilder.MultipleFind[CssCheckType, HtmlDocument, String] with CssOfType =
     CssCheckBuilder.css(selector, Some(nodeAttribute), selectors)
-  def form(selector: Expression[String])(implicit selectors: CssSelectors): CheckBuilder.MultipleFind[CssCheckType, NodeSelector, Map[String, Any]] =
+  def form(selector: Expression[String])(implicit selectors: CssSelectors): CheckBuilder.MultipleFind[CssCheckType, HtmlDocument, Map[String, Any]] =
     css(selector).ofType[Map[String, Any]]
 
   def jsonPath(path: Expression[String])(implicit jsonPaths: JsonPaths): CheckBuilder.MultipleFind[JsonPathCheckType, JsonNode, String] with JsonPathOfType =
@@ -16,28 +16,30 @@
 
 package io.gatling.core.check
 
+import java.nio.ByteBuffer
+import java.nio.charset.Charset
 import java.security.MessageDigest
 
-import io.gatling.commons.validation.Validation
-import io.gatling.core.session.{ Expression, Session }
+import io.gatling.commons.util.Hex
+import io.gatling.commons.validation._
 
-final class ChecksumAlgorithm private (val name: String, algorithm: String) {
+final class ChecksumAlgorithm private (val name: String, algorithm: String) extends StreamingPreparer[String] {
   private val template = MessageDigest.getInstance(algorithm)
   def digest: MessageDigest = template.clone.asInstanceOf[MessageDigest]
+
+  override def newConsumer(charset: Charset): ChunksConsumer[String] =
+    new ChunksConsumer[String] {
+      private val md = digest
+
+      override def onChunk(chunk: ByteBuffer): Unit = md.update(chunk)
+
+      override def prepared: Validation[String] = Hex.toHexString(md.digest).success
+    }
+
+  override def toString: String = name
 }
 
 object ChecksumAlgorithm {
   val Md5: ChecksumAlgorithm = new ChecksumAlgorithm("md5", "MD5")
   val Sha1: ChecksumAlgorithm = new ChecksumAlgorithm("sha1", "SHA-1")
 }
-
-final class ChecksumCheck[R](wrapped: Check[R], val algorithm: ChecksumAlgorithm) extends Check[R] {
-  override def check(response: R, session: Session, preparedCache: Check.PreparedCache): Validation[CheckResult] =
-    wrapped.check(response, session, preparedCache)
-
-  override def checkIf(condition: (R, Session) => Validation[Boolean]): Check[R] =
-    new ChecksumCheck(wrapped.checkIf(condition), algorithm)
-
-  override def checkIf(condition: Expression[Boolean]): Check[R] =
-    new ChecksumCheck(wrapped.checkIf(condition), algorithm)
-}
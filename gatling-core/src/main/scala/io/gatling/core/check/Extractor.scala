@@ -22,6 +22,9 @@ trait Extractor[P, X] {
   def name: String
   def arity: String
   def apply(prepared: P): Validation[Option[X]]
+
+  // for extractors that protocols can compute from the body chunks as they're received, extractors wrapping another one must forward it
+  def streamingPreparer: Option[StreamingPreparer[_]] = None
 }
 
 final class FindExtractor[P, X](val name: String, extractor: P => Validation[Option[X]]) extends Extractor[P, X] {
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check
+
+import java.nio.ByteBuffer
+import java.nio.charset.Charset
+
+import io.gatling.commons.validation._
+import io.gatling.core.session._
+
+/**
+ * Consumes a response body chunk by chunk, as it's received. Each response gets its own instance, so it can be stateful, and it must not retain the chunks it's
+ * given, as they're released right after.
+ */
+trait ChunksConsumer[P] {
+  def onChunk(chunk: ByteBuffer): Unit
+
+  // called once all the chunks have been consumed
+  def prepared: Validation[P]
+}
+
+/**
+ * SPI for checks whose input can be prepared from the body chunks as they're received, instead of from the whole body once received, e.g. a checksum, a
+ * length, or the matches of a substring. When all the body checks of a request are streaming ones, protocols don't have to retain the body at all.
+ *
+ * Preparers are resolved from the check criterion with the session the request was sent with, and equal preparers share the same consumer, so they must
+ * implement equality.
+ */
+trait StreamingPreparer[P] {
+
+  /**
+   * @param charset
+   *   the charset of the response body
+   */
+  def newConsumer(charset: Charset): ChunksConsumer[P]
+}
+
+/**
+ * Wraps a check whose preparer only reads what its [[StreamingPreparer]] computed while the body was received, so protocols know which consumers to feed.
+ */
+final class StreamingCheck[R](wrapped: Check[R], val preparer: Expression[StreamingPreparer[_]]) extends Check[R] {
+  override def check(response: R, session: Session, preparedCache: Check.PreparedCache): Validation[CheckResult] =
+    wrapped.check(response, session, preparedCache)
+
+  override def checkIf(condition: (R, Session) => Validation[Boolean]): Check[R] =
+    new StreamingCheck(wrapped.checkIf(condition), preparer)
+
+  override def checkIf(condition: Expression[Boolean]): Check[R] =
+    new StreamingCheck(wrapped.checkIf(condition), preparer)
+}
+
+object StreamingCheck {
+
+  /**
+   * For checks whose extractor can be computed from the body chunks, see [[Extractor.streamingPreparer]]. Resolving it twice with the same session must
+   * resolve the same criterion.
+   */
+  def extractorStreamingPreparer[R](check: Check[R]): Expression[StreamingPreparer[_]] =
+    check match {
+      case default: Check.Default[R @unchecked, _, _] =>
+        session =>
+          default
+            .extractorExpression(session)
+            .flatMap(extractor => extractor.streamingPreparer.toValidation(s"${extractor.name}.${extractor.arity} can't be computed from the body chunks"))
+      case _ => s"$check can't be computed from the body chunks".expressionFailure
+    }
+}
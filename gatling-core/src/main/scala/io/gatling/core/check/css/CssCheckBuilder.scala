@@ -19,13 +19,11 @@ package io.gatling.core.check.css
 import io.gatling.core.check._
 import io.gatling.core.session._
 
-import jodd.lagarto.dom.NodeSelector
-
 sealed trait CssCheckType
 
 sealed trait CssOfType { self: CssCheckBuilder[String] =>
 
-  def ofType[X: NodeConverter]: CheckBuilder.MultipleFind[CssCheckType, NodeSelector, X] = new CssCheckBuilder[X](expression, nodeAttribute, selectors)
+  def ofType[X: NodeConverter]: CheckBuilder.MultipleFind[CssCheckType, HtmlDocument, X] = new CssCheckBuilder[X](expression, nodeAttribute, selectors)
 }
 
 object CssCheckBuilder {
@@ -37,9 +35,9 @@ class CssCheckBuilder[X: NodeConverter] private[css] (
     private[css] val expression: Expression[String],
     private[css] val nodeAttribute: Option[String],
     private[css] val selectors: CssSelectors
-) extends CheckBuilder.MultipleFind.Default[CssCheckType, NodeSelector, X](displayActualValue = true) {
-  override protected def findExtractor(occurrence: Int): Expression[Extractor[NodeSelector, X]] =
+) extends CheckBuilder.MultipleFind.Default[CssCheckType, HtmlDocument, X](displayActualValue = true) {
+  override protected def findExtractor(occurrence: Int): Expression[Extractor[HtmlDocument, X]] =
     expression.map(CssExtractors.find(_, nodeAttribute, occurrence, selectors))
-  override protected def findAllExtractor: Expression[Extractor[NodeSelector, Seq[X]]] = expression.map(CssExtractors.findAll(_, nodeAttribute, selectors))
-  override protected def countExtractor: Expression[Extractor[NodeSelector, Int]] = expression.map(CssExtractors.count(_, nodeAttribute, selectors))
+  override protected def findAllExtractor: Expression[Extractor[HtmlDocument, Seq[X]]] = expression.map(CssExtractors.findAll(_, nodeAttribute, selectors))
+  override protected def countExtractor: Expression[Extractor[HtmlDocument, Int]] = expression.map(CssExtractors.count(_, nodeAttribute, selectors))
 }
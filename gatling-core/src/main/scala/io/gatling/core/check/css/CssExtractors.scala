@@ -19,37 +19,37 @@ package io.gatling.core.check.css
 import io.gatling.commons.validation._
 import io.gatling.core.check._
 
-import jodd.lagarto.dom.NodeSelector
-
 private object CssExtractors {
+  private val ErrorMapper: String => String = "Could not parse response with Lagarto: " + _
+
   def find[X: NodeConverter](
       query: String,
       nodeAttribute: Option[String],
       occurrence: Int,
       selectors: CssSelectors
-  ): FindCriterionExtractor[NodeSelector, (String, Option[String]), X] =
-    new FindCriterionExtractor[NodeSelector, (String, Option[String]), X](
+  ): FindCriterionExtractor[HtmlDocument, (String, Option[String]), X] =
+    new FindCriterionExtractor[HtmlDocument, (String, Option[String]), X](
       "css",
       (query, nodeAttribute),
       occurrence,
-      selectors.extractAll(_, (query, nodeAttribute)).lift(occurrence).success
+      prepared => safely(ErrorMapper)(selectors.extract(prepared, (query, nodeAttribute), occurrence + 1).lift(occurrence).success)
     )
 
   def findAll[X: NodeConverter](
       query: String,
       nodeAttribute: Option[String],
       selectors: CssSelectors
-  ): FindAllCriterionExtractor[NodeSelector, (String, Option[String]), X] =
-    new FindAllCriterionExtractor[NodeSelector, (String, Option[String]), X](
+  ): FindAllCriterionExtractor[HtmlDocument, (String, Option[String]), X] =
+    new FindAllCriterionExtractor[HtmlDocument, (String, Option[String]), X](
       "css",
       (query, nodeAttribute),
-      selectors.extractAll(_, (query, nodeAttribute)).liftSeqOption.success
+      prepared => safely(ErrorMapper)(selectors.extractAll(prepared, (query, nodeAttribute)).liftSeqOption.success)
     )
 
-  def count(query: String, nodeAttribute: Option[String], selectors: CssSelectors): CountCriterionExtractor[NodeSelector, (String, Option[String])] =
-    new CountCriterionExtractor[NodeSelector, (String, Option[String])](
+  def count(query: String, nodeAttribute: Option[String], selectors: CssSelectors): CountCriterionExtractor[HtmlDocument, (String, Option[String])] =
+    new CountCriterionExtractor[HtmlDocument, (String, Option[String])](
       "css",
       (query, nodeAttribute),
-      prepared => Some(selectors.extractAll[String](prepared, (query, nodeAttribute)).size).success
+      prepared => safely(ErrorMapper)(Some(selectors.count(prepared, (query, nodeAttribute))).success)
     )
 }
@@ -24,24 +24,52 @@ import io.gatling.core.util.cache.Cache
 
 import com.github.benmanes.caffeine.cache.LoadingCache
 import jodd.csselly.{ CSSelly, CssSelector }
-import jodd.lagarto.dom.NodeSelector
 
 final class CssSelectors(cacheMaxCapacity: Long) {
-  private val domBuilder = Lagarto.newLagartoDomBuilder
-  private val selectorCache: LoadingCache[String, ju.List[ju.List[CssSelector]]] =
-    Cache.newConcurrentLoadingCache(cacheMaxCapacity, CSSelly.parse)
+  private final class CompiledSelector(val selectors: ju.List[ju.List[CssSelector]]) {
+    val streaming: Option[StreamingCssSelector] = StreamingCssSelector.compile(selectors)
+  }
 
-  def parse(chars: Array[Char]): NodeSelector = new NodeSelector(domBuilder.parse(chars))
+  private val domBuilder = Lagarto.newLagartoDomBuilder
+  private val selectorCache: LoadingCache[String, CompiledSelector] =
+    Cache.newConcurrentLoadingCache(cacheMaxCapacity, query => new CompiledSelector(CSSelly.parse(query)))
 
-  def extractAll[X: NodeConverter](selector: NodeSelector, criterion: (String, Option[String])): Vector[X] = {
-    val (query, nodeAttribute) = criterion
-    val selectors = selectorCache.get(query)
+  def parse(chars: Array[Char]): HtmlDocument = new HtmlDocument(chars, domBuilder)
 
-    selector
+  private def selectAll[X: NodeConverter](document: HtmlDocument, selectors: ju.List[ju.List[CssSelector]], nodeAttribute: Option[String]): Vector[X] =
+    document.nodeSelector
       .select(selectors)
       .asScala
       .view
       .flatMap(node => NodeConverter[X].convert(node, nodeAttribute).toList)
       .to(Vector)
+
+  /**
+   * Simple selectors extracting an attribute are matched while streaming the tags, stopping after max matches, unless another check already built the DOM.
+   * Other ones are matched on the DOM.
+   */
+  def extract[X: NodeConverter](document: HtmlDocument, criterion: (String, Option[String]), max: Int): Vector[X] = {
+    val (query, nodeAttribute) = criterion
+    val compiled = selectorCache.get(query)
+
+    (compiled.streaming, nodeAttribute, NodeConverter[X].attributeValueConverter) match {
+      case (Some(streaming), Some(attribute), Some(converter)) if !document.isDomBuilt =>
+        streaming.extractAttributeValues(document.chars, attribute, max).map(converter)
+      case _ =>
+        selectAll[X](document, compiled.selectors, nodeAttribute).take(max)
+    }
+  }
+
+  def extractAll[X: NodeConverter](document: HtmlDocument, criterion: (String, Option[String])): Vector[X] =
+    extract[X](document, criterion, Int.MaxValue)
+
+  def count(document: HtmlDocument, criterion: (String, Option[String])): Int = {
+    val (query, nodeAttribute) = criterion
+    val compiled = selectorCache.get(query)
+
+    compiled.streaming match {
+      case Some(streaming) if !document.isDomBuilt => streaming.count(document.chars, nodeAttribute)
+      case _                                       => selectAll[String](document, compiled.selectors, nodeAttribute).size
+    }
   }
 }
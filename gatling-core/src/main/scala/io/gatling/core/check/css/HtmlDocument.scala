@@ -0,0 +1,36 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.css
+
+import jodd.lagarto.dom.{ LagartoDOMBuilder, NodeSelector }
+
+/**
+ * The input of css checks: the DOM is only built if a selector can't be matched while streaming the tags, and then shared by all the checks on the same
+ * response.
+ */
+final class HtmlDocument private[css] (val chars: Array[Char], domBuilder: LagartoDOMBuilder) {
+  private var dom: NodeSelector = _
+
+  def isDomBuilt: Boolean = dom != null
+
+  def nodeSelector: NodeSelector = {
+    if (dom == null) {
+      dom = new NodeSelector(domBuilder.parse(chars))
+    }
+    dom
+  }
+}
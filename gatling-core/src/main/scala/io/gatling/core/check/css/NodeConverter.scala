@@ -21,11 +21,15 @@ import scala.annotation.implicitNotFound
 import jodd.lagarto.dom.Node
 
 sealed trait LowPriorityNodeConverterImplicits {
-  implicit val stringNodeConverter: NodeConverter[String] = (node, nodeAttribute) =>
-    nodeAttribute match {
-      case Some(attr) => Option(node.getAttribute(attr))
-      case _          => Some(node.getTextContent.trim)
-    }
+  implicit val stringNodeConverter: NodeConverter[String] = new NodeConverter[String] {
+    override def convert(node: Node, nodeAttribute: Option[String]): Option[String] =
+      nodeAttribute match {
+        case Some(attr) => Option(node.getAttribute(attr))
+        case _          => Some(node.getTextContent.trim)
+      }
+
+    override val attributeValueConverter: Option[String => String] = Some(identity)
+  }
 
   implicit val nodeNodeConverter: NodeConverter[Node] = (node, _) => Some(node)
 
@@ -43,4 +47,7 @@ object NodeConverter extends LowPriorityNodeConverterImplicits {
 @implicitNotFound("No member of type class NodeConverter found for type ${X}")
 trait NodeConverter[X] {
   def convert(node: Node, nodeAttribute: Option[String]): Option[X]
+
+  // defined if X can be built from an attribute value alone, so it can be extracted while streaming the tags, without the DOM
+  def attributeValueConverter: Option[String => X] = None
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.css
+
+import java.{ util => ju }
+
+import scala.jdk.CollectionConverters._
+import scala.util.control.NoStackTrace
+
+import jodd.csselly.CssSelector
+import jodd.csselly.selector.AttributeSelector
+import jodd.lagarto.{ EmptyTagVisitor, Tag, TagType }
+
+private[css] object StreamingCssSelector {
+  private val Universal = "*"
+
+  private object StopParsing extends RuntimeException with NoStackTrace
+
+  /**
+   * Only a single compound selector, without combinators nor pseudo classes, such as `#id`, `tag.class` or `[name=value]`, can be matched on a tag without
+   * knowing its ancestors, siblings or children.
+   */
+  def compile(selectors: ju.List[ju.List[CssSelector]]): Option[StreamingCssSelector] =
+    selectors.asScala.toList match {
+      case group :: Nil if group.size == 1 =>
+        val selector = group.get(0)
+        val attributeSelectors = (0 until selector.selectorsCount).map(selector.getSelector).collect { case attributeSelector: AttributeSelector =>
+          attributeSelector
+        }
+        // ids and classes are attribute selectors too, pseudo classes and functions are not
+        if (attributeSelectors.sizeIs == selector.selectorsCount) {
+          Some(new StreamingCssSelector(selector.getElement, attributeSelectors.toArray))
+        } else {
+          None
+        }
+      case _ => None
+    }
+}
+
+/**
+ * Matches a simple selector on the tags as they're parsed, in document order, so it doesn't need the DOM and can stop as soon as it has enough matches.
+ */
+private[css] final class StreamingCssSelector private (element: String, attributeSelectors: Array[AttributeSelector]) {
+  import StreamingCssSelector._
+
+  private def attributeValue(tag: Tag, name: String): String =
+    tag.getAttributeValue(name) match {
+      case null  => null
+      case value => value.toString
+    }
+
+  // like AttributeSelector.accept on the DOM: an attribute without a value, eg `<option selected>`, is present but has a null value
+  private def accept(tag: Tag, attributeSelector: AttributeSelector): Boolean =
+    if (!tag.hasAttribute(attributeSelector.getName)) {
+      false
+    } else if (attributeSelector.getValue == null) {
+      true
+    } else {
+      attributeValue(tag, attributeSelector.getName) match {
+        case null  => false
+        case value => attributeSelector.getMatch.compare(value, attributeSelector.getValue)
+      }
+    }
+
+  private def matches(tag: Tag): Boolean =
+    (element == Universal || tag.nameEquals(element)) && attributeSelectors.forall(accept(tag, _))
+
+  /**
+   * @param onMatch
+   *   called with each matching start or self-closing tag, returns if parsing should go on
+   */
+  private def foreachMatch(chars: Array[Char])(onMatch: Tag => Boolean): Unit = {
+    def visit(tag: Tag): Unit =
+      if (matches(tag) && !onMatch(tag)) {
+        throw StopParsing
+      }
+
+    val visitor = new EmptyTagVisitor {
+      override def script(tag: Tag, body: CharSequence): Unit = visit(tag)
+
+      override def tag(tag: Tag): Unit =
+        tag.getType match {
+          case TagType.START | TagType.SELF_CLOSING => visit(tag)
+          case _                                    =>
+        }
+    }
+
+    try {
+      Lagarto.newLagartoParser(chars).parse(visitor)
+    } catch {
+      case StopParsing =>
+    }
+  }
+
+  /**
+   * @return the values of the attribute on the matching tags that have it, up to max
+   */
+  def extractAttributeValues(chars: Array[Char], attribute: String, max: Int): Vector[String] = {
+    val values = Vector.newBuilder[String]
+    var count = 0
+    if (max > 0) {
+      foreachMatch(chars) { tag =>
+        attributeValue(tag, attribute) match {
+          case null =>
+          case value =>
+            values += value
+            count += 1
+        }
+        count < max
+      }
+    }
+    values.result()
+  }
+
+  /**
+   * @return the number of matching tags, that have the attribute if defined
+   */
+  def count(chars: Array[Char], attribute: Option[String]): Int = {
+    var count = 0
+    foreachMatch(chars) { tag =>
+      if (attribute.forall(attributeValue(tag, _) != null)) {
+        count += 1
+      }
+      true
+    }
+    count
+  }
+}
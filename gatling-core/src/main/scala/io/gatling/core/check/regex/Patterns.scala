@@ -30,8 +30,8 @@ final class Patterns(cacheMaxCapacity: Long) {
 
   private def compilePattern(pattern: String): Pattern = patternCache.get(pattern)
 
-  def find[X: GroupExtractor](string: String, pattern: String, n: Int): Option[X] = {
-    val matcher = compilePattern(pattern).matcher(string)
+  def find[X: GroupExtractor](text: CharSequence, pattern: String, n: Int): Option[X] = {
+    val matcher = compilePattern(pattern).matcher(text)
 
     @tailrec
     def findRec(countDown: Int): Boolean = matcher.find && (countDown == 0 || findRec(countDown - 1))
@@ -42,8 +42,8 @@ final class Patterns(cacheMaxCapacity: Long) {
       None
   }
 
-  def findAll[X: GroupExtractor](string: String, pattern: String): Seq[X] = {
-    val matcher = compilePattern(pattern).matcher(string)
+  def findAll[X: GroupExtractor](text: CharSequence, pattern: String): Seq[X] = {
+    val matcher = compilePattern(pattern).matcher(text)
 
     var acc = List.empty[X]
     while (matcher.find) {
@@ -52,8 +52,8 @@ final class Patterns(cacheMaxCapacity: Long) {
     acc.reverse
   }
 
-  def count(string: String, pattern: String): Int = {
-    val matcher = compilePattern(pattern).matcher(string)
+  def count(text: CharSequence, pattern: String): Int = {
+    val matcher = compilePattern(pattern).matcher(text)
 
     var count = 0
     while (matcher.find) count = count + 1
@@ -23,7 +23,7 @@ sealed trait RegexCheckType
 
 sealed trait RegexOfType { self: RegexCheckBuilder[String] =>
 
-  def ofType[X: GroupExtractor]: CheckBuilder.MultipleFind[RegexCheckType, String, X] = new RegexCheckBuilder[X](pattern, patterns)
+  def ofType[X: GroupExtractor]: CheckBuilder.MultipleFind[RegexCheckType, CharSequence, X] = new RegexCheckBuilder[X](pattern, patterns)
 }
 
 object RegexCheckBuilder {
@@ -34,9 +34,9 @@ object RegexCheckBuilder {
 class RegexCheckBuilder[X: GroupExtractor] private[regex] (
     private[regex] val pattern: Expression[String],
     private[regex] val patterns: Patterns
-) extends CheckBuilder.MultipleFind.Default[RegexCheckType, String, X](displayActualValue = true) {
-  override protected def findExtractor(occurrence: Int): Expression[Extractor[String, X]] =
+) extends CheckBuilder.MultipleFind.Default[RegexCheckType, CharSequence, X](displayActualValue = true) {
+  override protected def findExtractor(occurrence: Int): Expression[Extractor[CharSequence, X]] =
     pattern.map(RegexExtractors.find[X]("regex", _, occurrence, patterns))
-  override protected def findAllExtractor: Expression[Extractor[String, Seq[X]]] = pattern.map(RegexExtractors.findAll[X]("regex", _, patterns))
-  override protected def countExtractor: Expression[Extractor[String, Int]] = pattern.map(RegexExtractors.count("regex", _, patterns))
+  override protected def findAllExtractor: Expression[Extractor[CharSequence, Seq[X]]] = pattern.map(RegexExtractors.findAll[X]("regex", _, patterns))
+  override protected def countExtractor: Expression[Extractor[CharSequence, Int]] = pattern.map(RegexExtractors.count("regex", _, patterns))
 }
@@ -20,23 +20,23 @@ import io.gatling.commons.validation._
 import io.gatling.core.check._
 
 object RegexExtractors {
-  def find[X: GroupExtractor](name: String, pattern: String, occurrence: Int, patterns: Patterns): FindCriterionExtractor[String, String, X] =
-    new FindCriterionExtractor[String, String, X](
+  def find[X: GroupExtractor](name: String, pattern: String, occurrence: Int, patterns: Patterns): FindCriterionExtractor[CharSequence, String, X] =
+    new FindCriterionExtractor[CharSequence, String, X](
       name,
       pattern,
       occurrence,
       patterns.find(_, pattern, occurrence).success
     )
 
-  def findAll[X: GroupExtractor](name: String, pattern: String, patterns: Patterns): FindAllCriterionExtractor[String, String, X] =
-    new FindAllCriterionExtractor[String, String, X](
+  def findAll[X: GroupExtractor](name: String, pattern: String, patterns: Patterns): FindAllCriterionExtractor[CharSequence, String, X] =
+    new FindAllCriterionExtractor[CharSequence, String, X](
       name,
       pattern,
       patterns.findAll(_, pattern).liftSeqOption.success
     )
 
-  def count(name: String, pattern: String, patterns: Patterns): CountCriterionExtractor[String, String] =
-    new CountCriterionExtractor[String, String](
+  def count(name: String, pattern: String, patterns: Patterns): CountCriterionExtractor[CharSequence, String] =
+    new CountCriterionExtractor[CharSequence, String](
       name,
       pattern,
       prepared => Some(patterns.count(prepared, pattern)).success
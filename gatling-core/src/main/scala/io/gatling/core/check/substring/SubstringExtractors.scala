@@ -20,60 +20,142 @@ import scala.annotation.tailrec
 
 import io.gatling.commons.validation._
 import io.gatling.core.check._
+import io.gatling.netty.util.{ ByteBufsCharSequence, ByteBufsSubstringSearch }
 
 object SubstringExtractors {
-  private def extractAll(prepared: String, criterion: String): List[Int] = {
-    @tailrec
-    def loop(fromIndex: Int, is: List[Int]): List[Int] =
-      if (fromIndex >= prepared.length)
-        is
-      else
-        prepared.indexOf(criterion, fromIndex) match {
-          case -1 => is
-          case i  => loop(i + criterion.length, i :: is)
+
+  /**
+   * Non-overlapping occurrences, returned as offsets in the underlying representation, so the char indexes are only computed when they're actually needed.
+   */
+  private sealed trait Occurrences {
+    // -1 when there's no more occurrence
+    def next(): Int
+    // must be called in increasing order
+    def charIndex(offset: Int): Int
+  }
+
+  private final class StringOccurrences(text: String, pattern: String) extends Occurrences {
+    private var fromIndex = 0
+
+    override def next(): Int =
+      if (fromIndex > text.length) {
+        -1
+      } else {
+        val i = text.indexOf(pattern, fromIndex)
+        if (i >= 0) {
+          fromIndex = i + math.max(pattern.length, 1)
         }
+        i
+      }
 
-    loop(0, Nil)
+    override def charIndex(offset: Int): Int = offset
   }
 
-  def find(pattern: String, occurrence: Int): FindCriterionExtractor[String, String, Int] =
-    new FindCriterionExtractor[String, String, Int](
-      "substring",
-      pattern,
-      occurrence,
-      text => {
-        @tailrec
-        def loop(fromIndex: Int, occ: Int): Validation[Option[Int]] =
-          if (fromIndex >= pattern.length)
-            Validation.NoneSuccess
-          else
-            text.indexOf(pattern, fromIndex) match {
-              case -1 => Validation.NoneSuccess
-              case i =>
-                if (occ == occurrence)
-                  Some(i).success
-                else
-                  loop(i + pattern.length, occ + 1)
-            }
+  private final class BytesOccurrences(search: ByteBufsSubstringSearch) extends Occurrences {
+    override def next(): Int = search.next()
+    override def charIndex(offset: Int): Int = search.charIndex(offset)
+  }
+
+  // occurrences already searched while the body was received
+  private final class StreamedOccurrences(charIndexes: Seq[Int]) extends Occurrences {
+    private val it = charIndexes.iterator
+
+    override def next(): Int = if (it.hasNext) it.next() else -1
+    override def charIndex(offset: Int): Int = offset
+  }
+
+  private def occurrences(text: CharSequence, pattern: String): Validation[Occurrences] =
+    text match {
+      case streamed: StreamedSubstrings =>
+        streamed.charIndexes(pattern).map(new StreamedOccurrences(_))
+      case bytes: ByteBufsCharSequence if ByteBufsSubstringSearch.isSupported(bytes.charset, pattern) =>
+        new BytesOccurrences(new ByteBufsSubstringSearch(bytes.bufs, bytes.charset, pattern)).success
+      case _ =>
+        new StringOccurrences(text.toString, pattern).success
+    }
 
-        loop(0, 0)
+  private def charIndexes(occs: Occurrences): List[Int] = {
+    val indexes = List.newBuilder[Int]
+
+    @tailrec
+    def loop(): Unit =
+      occs.next() match {
+        case -1 =>
+        case offset =>
+          indexes += occs.charIndex(offset)
+          loop()
       }
+
+    loop()
+    indexes.result()
+  }
+
+  private[substring] def charIndexes(text: String, pattern: String): List[Int] =
+    charIndexes(new StringOccurrences(text, pattern))
+
+  // lets protocols search the pattern in the body chunks as they're received, instead of retaining the body
+  private final class StreamableExtractor[X](wrapped: Extractor[CharSequence, X], pattern: String) extends Extractor[CharSequence, X] {
+    override def name: String = wrapped.name
+    override def arity: String = wrapped.arity
+    override def apply(prepared: CharSequence): Validation[Option[X]] = wrapped(prepared)
+    override val streamingPreparer: Option[StreamingPreparer[_]] = Some(SubstringStreamingPreparer(pattern))
+  }
+
+  def find(pattern: String, occurrence: Int): Extractor[CharSequence, Int] =
+    new StreamableExtractor(
+      new FindCriterionExtractor[CharSequence, String, Int](
+        "substring",
+        pattern,
+        occurrence,
+        text =>
+          occurrences(text, pattern).flatMap { occs =>
+            @tailrec
+            def loop(occ: Int): Validation[Option[Int]] =
+              occs.next() match {
+                case -1 => Validation.NoneSuccess
+                case offset =>
+                  if (occ == occurrence)
+                    Some(occs.charIndex(offset)).success
+                  else
+                    loop(occ + 1)
+              }
+
+            loop(0)
+          }
+      ),
+      pattern
     )
 
-  def findAll(pattern: String): FindAllCriterionExtractor[String, String, Int] =
-    new FindAllCriterionExtractor[String, String, Int](
-      "substring",
-      pattern,
-      extractAll(_, pattern) match {
-        case Nil => Validation.NoneSuccess
-        case is  => Some(is.reverse).success
-      }
+  def findAll(pattern: String): Extractor[CharSequence, Seq[Int]] =
+    new StreamableExtractor(
+      new FindAllCriterionExtractor[CharSequence, String, Int](
+        "substring",
+        pattern,
+        text =>
+          occurrences(text, pattern).map { occs =>
+            charIndexes(occs) match {
+              case Nil     => None
+              case indexes => Some(indexes)
+            }
+          }
+      ),
+      pattern
     )
 
-  def count(pattern: String): CountCriterionExtractor[String, String] =
-    new CountCriterionExtractor[String, String](
-      "substring",
-      pattern,
-      text => Some(extractAll(text, pattern).size).success
+  def count(pattern: String): Extractor[CharSequence, Int] =
+    new StreamableExtractor(
+      new CountCriterionExtractor[CharSequence, String](
+        "substring",
+        pattern,
+        text =>
+          occurrences(text, pattern).map { occs =>
+            @tailrec
+            def loop(count: Int): Int =
+              if (occs.next() == -1) count else loop(count + 1)
+
+            Some(loop(0))
+          }
+      ),
+      pattern
     )
 }
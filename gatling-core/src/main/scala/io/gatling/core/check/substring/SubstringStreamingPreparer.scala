@@ -0,0 +1,74 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.substring
+
+import java.io.ByteArrayOutputStream
+import java.nio.ByteBuffer
+import java.nio.charset.Charset
+
+import io.gatling.commons.validation._
+import io.gatling.core.check.{ ChunksConsumer, StreamingPreparer }
+import io.gatling.netty.util.{ ByteBufsSubstringSearch, StreamingSubstringSearch }
+
+/**
+ * Searches a pattern in the body chunks as they're received, and prepares the char indexes of its non-overlapping occurrences.
+ */
+final case class SubstringStreamingPreparer(pattern: String) extends StreamingPreparer[Seq[Int]] {
+  override def newConsumer(charset: Charset): ChunksConsumer[Seq[Int]] =
+    if (ByteBufsSubstringSearch.isSupported(charset, pattern)) {
+      new ChunksConsumer[Seq[Int]] {
+        private val search = new StreamingSubstringSearch(charset, pattern)
+        private val charIndexes = List.newBuilder[Int]
+
+        override def onChunk(chunk: ByteBuffer): Unit = search.onChunk(chunk, charIndexes += _)
+
+        override def prepared: Validation[Seq[Int]] = charIndexes.result().success
+      }
+    } else {
+      // the encoded pattern can't be matched against the bytes, so they have to be decoded as a whole
+      new ChunksConsumer[Seq[Int]] {
+        private val bytes = new ByteArrayOutputStream
+
+        override def onChunk(chunk: ByteBuffer): Unit =
+          if (chunk.hasArray) {
+            bytes.write(chunk.array, chunk.arrayOffset + chunk.position, chunk.remaining)
+          } else {
+            val copy = new Array[Byte](chunk.remaining)
+            chunk.duplicate.get(copy)
+            bytes.write(copy, 0, copy.length)
+          }
+
+        override def prepared: Validation[Seq[Int]] = SubstringExtractors.charIndexes(new String(bytes.toByteArray, charset), pattern).success
+      }
+    }
+}
+
+/**
+ * Stands for a body that wasn't retained as it was only searched for substrings while it was received, see [[SubstringStreamingPreparer]]: only the
+ * occurrences of the searched patterns are known, its chars can't be read.
+ */
+final class StreamedSubstrings(prepared: SubstringStreamingPreparer => Validation[Seq[Int]]) extends CharSequence {
+  def charIndexes(pattern: String): Validation[Seq[Int]] = prepared(SubstringStreamingPreparer(pattern))
+
+  private def unreadable: Nothing =
+    throw new UnsupportedOperationException("The body wasn't retained, as it was only searched for substrings while it was received")
+
+  override def length(): Int = unreadable
+  override def charAt(index: Int): Char = unreadable
+  override def subSequence(start: Int, end: Int): CharSequence = unreadable
+  override def toString: String = "StreamedSubstrings"
+}
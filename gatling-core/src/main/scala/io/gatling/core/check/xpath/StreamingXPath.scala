@@ -0,0 +1,348 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import javax.xml.stream.XMLStreamConstants._
+import javax.xml.stream.XMLStreamReader
+
+import scala.collection.immutable.VectorBuilder
+import scala.collection.mutable
+import scala.util.control.NoStackTrace
+
+private[xpath] object StreamingXPath {
+  private object Unsupported extends RuntimeException with NoStackTrace
+
+  private def namespaceUri(uri: String): String = if (uri == null) "" else uri
+
+  private def attributeValue(reader: XMLStreamReader, namespace: String, localName: String): String = {
+    var value: String = null
+    var i = 0
+    while (value == null && i < reader.getAttributeCount) {
+      if (reader.getAttributeLocalName(i) == localName && namespaceUri(reader.getAttributeNamespace(i)) == namespace) {
+        value = reader.getAttributeValue(i)
+      }
+      i += 1
+    }
+    value
+  }
+
+  private final class AttributePredicate(namespace: String, localName: String, expectedValue: Option[String]) {
+    def matches(reader: XMLStreamReader): Boolean = {
+      val value = attributeValue(reader, namespace, localName)
+      value != null && expectedValue.forall(_ == value)
+    }
+  }
+
+  /**
+   * @param localName
+   *   null for `*`
+   * @param position
+   *   0 when there's no positional predicate
+   */
+  private final class Step(namespace: String, localName: String, attributePredicates: Array[AttributePredicate], val position: Int) {
+    def matches(reader: XMLStreamReader): Boolean =
+      (localName == null || reader.getLocalName == localName && namespaceUri(reader.getNamespaceURI) == namespace) &&
+        attributePredicates.forall(_.matches(reader))
+  }
+
+  private sealed trait Target
+  private case object ElementTarget extends Target
+  private case object TextTarget extends Target
+  private final case class AttributeTarget(namespace: String, localName: String) extends Target
+
+  private final class Parser(expression: String, namespaces: Map[String, String]) {
+    private var pos = 0
+
+    private def peek: Char = if (pos < expression.length) expression.charAt(pos) else '\u0000'
+
+    private def expect(c: Char): Unit =
+      if (peek == c) {
+        pos += 1
+      } else {
+        throw Unsupported
+      }
+
+    private def skipSpaces(): Unit =
+      while (peek == ' ') {
+        pos += 1
+      }
+
+    private def ncName(): String = {
+      val start = pos
+      if (Character.isLetter(peek) || peek == '_') {
+        pos += 1
+        while (Character.isLetterOrDigit(peek) || peek == '_' || peek == '-' || peek == '.') {
+          pos += 1
+        }
+      }
+      if (pos == start) {
+        throw Unsupported
+      }
+      expression.substring(start, pos)
+    }
+
+    // unprefixed names, for both elements and attributes, are in no namespace
+    private def qName(): (String, String) = {
+      val prefixOrLocalName = ncName()
+      if (peek == ':') {
+        pos += 1
+        (namespaces.getOrElse(prefixOrLocalName, throw Unsupported), ncName())
+      } else {
+        ("", prefixOrLocalName)
+      }
+    }
+
+    private def literal(): String = {
+      val quote = peek
+      if (quote != '\'' && quote != '"') {
+        throw Unsupported
+      }
+      val end = expression.indexOf(quote, pos + 1)
+      if (end == -1) {
+        throw Unsupported
+      }
+      val value = expression.substring(pos + 1, end)
+      pos = end + 1
+      value
+    }
+
+    private def position(): Int = {
+      val start = pos
+      while (pos - start < 9 && Character.isDigit(peek)) {
+        pos += 1
+      }
+      val position = if (pos == start) 0 else expression.substring(start, pos).toInt
+      if (position == 0) {
+        throw Unsupported
+      }
+      position
+    }
+
+    private def step(): Step = {
+      val (namespace, localName) =
+        if (peek == '*') {
+          pos += 1
+          (null, null)
+        } else {
+          qName()
+        }
+
+      val attributePredicates = mutable.ArrayBuffer.empty[AttributePredicate]
+      var position = 0
+      while (peek == '[') {
+        // a positional predicate applies to the elements matching the previous predicates, so it has to be the last one
+        if (position > 0) {
+          throw Unsupported
+        }
+        pos += 1
+        skipSpaces()
+        if (peek == '@') {
+          pos += 1
+          val (attributeNamespace, attributeLocalName) = qName()
+          skipSpaces()
+          val expectedValue =
+            if (peek == '=') {
+              pos += 1
+              skipSpaces()
+              Some(literal())
+            } else {
+              None
+            }
+          attributePredicates += new AttributePredicate(attributeNamespace, attributeLocalName, expectedValue)
+        } else {
+          position = this.position()
+        }
+        skipSpaces()
+        expect(']')
+      }
+
+      new Step(namespace, localName, attributePredicates.toArray, position)
+    }
+
+    def parse(): StreamingXPath = {
+      val steps = mutable.ArrayBuffer.empty[Step]
+      var target: Target = null
+      while (target == null) {
+        expect('/')
+        if (peek == '@') {
+          pos += 1
+          val (namespace, localName) = qName()
+          target = AttributeTarget(namespace, localName)
+        } else if (expression.startsWith("text()", pos)) {
+          pos += "text()".length
+          target = TextTarget
+        } else {
+          steps += step()
+          if (pos == expression.length) {
+            target = ElementTarget
+          }
+        }
+      }
+
+      if (pos < expression.length || steps.isEmpty) {
+        throw Unsupported
+      }
+      new StreamingXPath(steps.toArray, target)
+    }
+  }
+
+  /**
+   * Only absolute paths made of child steps, with name tests, attribute and positional predicates, optionally ending with an attribute or `text()`, such as
+   * `/soap:Envelope/soap:Body/ns:Resp[2]/ns:Id/text()`, can be evaluated without knowing the following siblings of the nodes.
+   */
+  def compile(expression: String, namespaces: Map[String, String]): Option[StreamingXPath] =
+    try {
+      Some(new Parser(expression.trim, namespaces).parse())
+    } catch {
+      case Unsupported => None
+    }
+}
+
+/**
+ * Evaluates a simple absolute path on the StAX events, in document order, so it doesn't need the Saxon tree and can stop as soon as it has enough results.
+ */
+private[xpath] final class StreamingXPath private (steps: Array[StreamingXPath.Step], target: StreamingXPath.Target) {
+  import StreamingXPath._
+
+  // the root step, and the positional ones only preceded by such steps, can only match once: nothing can match anymore once their element is closed
+  private val lastUniqueStep: Int = {
+    var i = 0
+    while (i + 1 < steps.length && steps(i + 1).position > 0) {
+      i += 1
+    }
+    i
+  }
+
+  /**
+   * @return
+   *   false if the document has a DTD or unresolved entities, and must be handed to Saxon instead
+   */
+  private def evaluate(reader: XMLStreamReader, max: Int, captureValues: Boolean)(onResult: String => Unit): Boolean = {
+    // number of matching elements for each step under the current parent
+    val counts = new Array[Int](steps.length)
+    val text = new java.lang.StringBuilder
+    // number of open elements
+    var depth = 0
+    // number of steps matched by the outermost open elements
+    var matched = 0
+    var results = 0
+    var supported = true
+    var done = false
+
+    def emit(value: String): Unit = {
+      onResult(value)
+      results += 1
+      done = results >= max
+    }
+
+    def flushText(): Unit =
+      if (text.length > 0) {
+        emit(text.toString)
+        text.setLength(0)
+      }
+
+    def inTarget: Boolean = matched == steps.length
+
+    while (!done && reader.hasNext) {
+      reader.next() match {
+        case START_ELEMENT =>
+          if (matched == depth) {
+            if (!inTarget) {
+              val step = steps(matched)
+              if (step.matches(reader)) {
+                counts(matched) += 1
+                if (step.position == 0 || counts(matched) == step.position) {
+                  matched += 1
+                  if (!inTarget) {
+                    counts(matched) = 0
+                  } else {
+                    target match {
+                      case AttributeTarget(namespace, localName) =>
+                        val value = attributeValue(reader, namespace, localName)
+                        if (value != null) {
+                          emit(value)
+                        }
+                      case ElementTarget if !captureValues => emit(null)
+                      case _                               => text.setLength(0)
+                    }
+                  }
+                }
+              }
+            } else if (target == TextTarget) {
+              flushText()
+            }
+          }
+          depth += 1
+
+        case CHARACTERS | CDATA | SPACE =>
+          if (inTarget && (target == ElementTarget && captureValues || target == TextTarget && depth == matched)) {
+            text.append(reader.getTextCharacters, reader.getTextStart, reader.getTextLength)
+          }
+
+        case COMMENT | PROCESSING_INSTRUCTION =>
+          // comments and processing instructions split text nodes
+          if (inTarget && target == TextTarget && depth == matched) {
+            flushText()
+          }
+
+        case END_ELEMENT =>
+          depth -= 1
+          if (depth < matched) {
+            if (inTarget) {
+              target match {
+                case ElementTarget if captureValues =>
+                  emit(text.toString)
+                  text.setLength(0)
+                case TextTarget => flushText()
+                case _          =>
+              }
+            }
+            matched = depth
+            if (depth <= lastUniqueStep) {
+              done = true
+            }
+          }
+
+        case DTD | ENTITY_REFERENCE =>
+          supported = false
+          done = true
+
+        case _ =>
+      }
+    }
+
+    supported
+  }
+
+  def select(reader: XMLStreamReader, max: Int): Option[Vector[String]] = {
+    val values = new VectorBuilder[String]
+    if (evaluate(reader, max, captureValues = true)(values += _)) {
+      Some(values.result())
+    } else {
+      None
+    }
+  }
+
+  def count(reader: XMLStreamReader): Option[Int] = {
+    var count = 0
+    if (evaluate(reader, Int.MaxValue, captureValues = false)(_ => count += 1)) {
+      Some(count)
+    } else {
+      None
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import java.io.{ InputStream, StringReader }
+import java.nio.charset.Charset
+import javax.xml.stream.{ XMLInputFactory, XMLStreamReader }
+
+import scala.util.Using
+
+import net.sf.saxon.s9api.XdmNode
+
+object XmlDocument {
+  def apply(text: String): XmlDocument =
+    new XmlDocument {
+      override protected def buildTree(): XdmNode = XmlParsers.parse(text)
+
+      override private[xpath] def stream[T](factory: XMLInputFactory)(f: XMLStreamReader => T): T =
+        read(factory.createXMLStreamReader(new StringReader(text)))(f)
+    }
+
+  def apply(openStream: () => InputStream, charset: Charset): XmlDocument =
+    new XmlDocument {
+      override protected def buildTree(): XdmNode = Using.resource(openStream())(XmlParsers.parse(_, charset))
+
+      override private[xpath] def stream[T](factory: XMLInputFactory)(f: XMLStreamReader => T): T =
+        Using.resource(openStream()) { is =>
+          read(factory.createXMLStreamReader(is, charset.name))(f)
+        }
+    }
+
+  private def read[T](reader: XMLStreamReader)(f: XMLStreamReader => T): T =
+    try {
+      f(reader)
+    } finally {
+      reader.close()
+    }
+}
+
+/**
+ * The input of xpath checks: the Saxon tree is only built if an expression can't be evaluated while streaming the document, and then shared by all the
+ * checks on the same response.
+ */
+sealed abstract class XmlDocument {
+  private var builtTree: XdmNode = _
+
+  protected def buildTree(): XdmNode
+
+  private[xpath] def stream[T](factory: XMLInputFactory)(f: XMLStreamReader => T): T
+
+  def isTreeBuilt: Boolean = builtTree != null
+
+  def tree: XdmNode = {
+    if (builtTree == null) {
+      builtTree = buildTree()
+    }
+    builtTree
+  }
+}
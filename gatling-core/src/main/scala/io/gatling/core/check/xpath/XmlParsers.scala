@@ -18,6 +18,7 @@ package io.gatling.core.check.xpath
 
 import java.io.{ InputStream, StringReader }
 import java.nio.charset.Charset
+import javax.xml.stream.{ XMLInputFactory, XMLStreamReader }
 import javax.xml.transform.sax.SAXSource
 
 import io.gatling.core.util.cache.Cache
@@ -29,7 +30,10 @@ import net.sf.saxon.om.TreeModel
 import net.sf.saxon.s9api.{ Processor, XPathCompiler, XPathSelector, XdmNode, XdmValue }
 import org.xml.sax.InputSource
 
-private final class NamespacesScope(compiler: XPathCompiler, cacheMaxCapacity: Long) {
+private final class NamespacesScope(namespaces: Map[String, String], compiler: XPathCompiler, cacheMaxCapacity: Long) {
+  private val streamingCache: LoadingCache[String, Option[StreamingXPath]] =
+    Cache.newConcurrentLoadingCache(cacheMaxCapacity, StreamingXPath.compile(_, namespaces))
+
   private val selectorCache: LoadingCache[String, ThreadLocal[XPathSelector]] =
     Cache.newConcurrentLoadingCache(
       cacheMaxCapacity,
@@ -48,6 +52,8 @@ private final class NamespacesScope(compiler: XPathCompiler, cacheMaxCapacity: L
       xPathSelector.getUnderlyingXPathContext.setContextItem(null)
     }
   }
+
+  def streaming(expression: String): Option[StreamingXPath] = streamingCache.get(expression)
 }
 
 object XmlParsers {
@@ -59,6 +65,15 @@ object XmlParsers {
       .withSchemaValidationMode(Validation.SKIP)
       .withModel(TreeModel.TINY_TREE)
 
+  private val inputFactories: ThreadLocal[XMLInputFactory] =
+    ThreadLocal.withInitial { () =>
+      val factory = XMLInputFactory.newFactory
+      // documents with a DTD are handed to Saxon
+      factory.setProperty(XMLInputFactory.SUPPORT_DTD, false)
+      factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+      factory
+    }
+
   def parse(text: String): XdmNode =
     parse(new InputSource(new StringReader(text)))
 
@@ -81,10 +96,30 @@ final class XmlParsers(cacheMaxCapacity: Long) {
       namespaces => {
         val compiler = XmlParsers.processor.newXPathCompiler
         namespaces.foreachEntry((prefix, uri) => compiler.declareNamespace(prefix, uri))
-        new NamespacesScope(compiler, cacheMaxCapacity)
+        new NamespacesScope(namespaces, compiler, cacheMaxCapacity)
       }
     )
 
-  def evaluateXPath(criterion: String, namespaces: Map[String, String], xdmNode: XdmNode): XdmValue =
-    scopesByNamespacesCache.get(namespaces).evaluateXPath(criterion, xdmNode)
+  private def streamed[T](document: XmlDocument, streaming: Option[StreamingXPath])(f: (StreamingXPath, XMLStreamReader) => Option[T]): Option[T] =
+    streaming match {
+      case Some(streamingXPath) if !document.isTreeBuilt => document.stream(XmlParsers.inputFactories.get)(f(streamingXPath, _))
+      case _                                              => None
+    }
+
+  /**
+   * Simple absolute paths are evaluated while streaming the document, stopping after max results, unless another check already built the Saxon tree. Other
+   * expressions, and documents with a DTD, are evaluated by Saxon on the tree.
+   */
+  def select(criterion: String, namespaces: Map[String, String], document: XmlDocument, max: Int): Vector[String] = {
+    val scope = scopesByNamespacesCache.get(namespaces)
+    streamed(document, scope.streaming(criterion))(_.select(_, max)).getOrElse {
+      val xdmValue = scope.evaluateXPath(criterion, document.tree)
+      Vector.tabulate(math.min(xdmValue.size, max))(xdmValue.itemAt(_).getStringValue)
+    }
+  }
+
+  def count(criterion: String, namespaces: Map[String, String], document: XmlDocument): Int = {
+    val scope = scopesByNamespacesCache.get(namespaces)
+    streamed(document, scope.streaming(criterion))(_.count(_)).getOrElse(scope.evaluateXPath(criterion, document.tree).size)
+  }
 }
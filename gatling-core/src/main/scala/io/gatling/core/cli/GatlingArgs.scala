@@ -18,12 +18,16 @@ package io.gatling.core.cli
 
 import java.nio.file.Path
 
+import scala.concurrent.duration._
+
 object GatlingArgs {
   val Empty: GatlingArgs = GatlingArgs(
     simulationClass = None,
     runDescription = None,
     noReports = false,
     reportsOnly = None,
+    liveReports = None,
+    liveReportsInterval = 15.minutes,
     resultsDirectory = None,
     launcher = None,
     buildToolVersion = None
@@ -34,6 +38,8 @@ final case class GatlingArgs(
     runDescription: Option[String],
     noReports: Boolean,
     reportsOnly: Option[String],
+    liveReports: Option[String],
+    liveReportsInterval: FiniteDuration,
     resultsDirectory: Option[Path],
     launcher: Option[String],
     buildToolVersion: Option[String]
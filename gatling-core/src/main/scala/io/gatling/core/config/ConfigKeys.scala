@@ -107,6 +107,7 @@ object ConfigKeys {
     object dns {
       val QueryTimeout = "gatling.http.dns.queryTimeout"
       val MaxQueriesPerResolve = "gatling.http.dns.maxQueriesPerResolve"
+      val NegativeTtl = "gatling.http.dns.negativeTtl"
     }
   }
 
@@ -191,7 +191,8 @@ object GatlingConfiguration extends StrictLogging {
       },
       dns = new DnsConfiguration(
         queryTimeout = config.getInt(http.dns.QueryTimeout).millis,
-        maxQueriesPerResolve = config.getInt(http.dns.MaxQueriesPerResolve)
+        maxQueriesPerResolve = config.getInt(http.dns.MaxQueriesPerResolve),
+        negativeTtl = config.getInt(http.dns.NegativeTtl).millis
       )
     )
 
@@ -331,7 +332,8 @@ final class JmsConfiguration(
 
 final class DnsConfiguration(
     val queryTimeout: FiniteDuration,
-    val maxQueriesPerResolve: Int
+    val maxQueriesPerResolve: Int,
+    val negativeTtl: FiniteDuration
 )
 
 final class DataConfiguration(
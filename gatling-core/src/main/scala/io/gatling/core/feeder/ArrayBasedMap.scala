@@ -19,12 +19,13 @@ package io.gatling.core.feeder
 import scala.collection.AbstractIterator
 import scala.collection.immutable.{ AbstractMap, HashMap, Map }
 
-private object ArrayBasedMap {
+private[gatling] object ArrayBasedMap {
   def apply[K, V](keys: Array[K], values: Array[V]): ArrayBasedMap[K, V] =
     new ArrayBasedMap(keys, values, math.min(keys.length, values.length))
 }
 
-private final class ArrayBasedMap[K, +V](keys: Array[K], values: Array[V], override val size: Int) extends AbstractMap[K, V] with Map[K, V] with Serializable {
+private[gatling] final class ArrayBasedMap[K, +V](keys: Array[K], values: Array[V], override val size: Int)
+    extends AbstractMap[K, V] with Map[K, V] with Serializable {
   override def updated[V1 >: V](key: K, value: V1): Map[K, V1] = HashMap.empty[K, V1] ++ this + (key -> value)
 
   override def get(key: K): Option[V] = {
@@ -46,6 +46,27 @@ private[gatling] final case class InMemoryFeederSource[T](records: IndexedSeq[Re
     records.length
 }
 
+/**
+ * A source only readable through a forward-only cursor, such as a database query. As its size can't be known upfront, it's loaded in memory unless batched.
+ *
+ * @param cursorFactory
+ *   opens a new cursor, given the number of records to fetch at once
+ */
+private[gatling] final class CursorFeederSource[T](cursorFactory: Int => CloseableFeeder[T], override val name: String) extends FeederSource[T] {
+  override def feeder(options: FeederOptions[T], configuration: GatlingConfiguration): Feeder[Any] =
+    options.loadingMode match {
+      case Batch(bufferSize) =>
+        BatchedFeeder(() => cursorFactory(bufferSize), options.conversion, options.strategy, bufferSize)
+      case _ =>
+        val records = Using.resource(cursorFactory(Batch.DefaultBufferLines))(_.toVector)
+        require(records.nonEmpty, "Feeder must not be empty")
+        InMemoryFeeder(records, options.conversion, options.strategy)
+    }
+
+  override def recordsCount(options: FeederOptions[T], configuration: GatlingConfiguration): Int =
+    Using.resource(cursorFactory(Batch.DefaultBufferLines))(_.size)
+}
+
 private[feeder] object ZippedResourceCache {
   private val cache = new ConcurrentHashMap[Resource, Resource]()
 
@@ -29,6 +29,14 @@ object Cache {
       .build[K, V]
       .asMap
 
+  /**
+   * Keys are compared by identity and entries go away once their key is no longer referenced elsewhere.
+   */
+  def newWeakKeysConcurrentCache[K <: AnyRef, V]: ConcurrentMap[K, V] =
+    Caffeine.newBuilder.weakKeys
+      .build[K, V]
+      .asMap
+
   def newConcurrentLoadingCache[K, V](maxSize: Long, f: K => V): LoadingCache[K, V] =
     Caffeine.newBuilder
       .maximumSize(maxSize)
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.gatling.commons.validation._
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ChecksumAlgorithmSpec extends AnyFlatSpecLike with Matchers {
+  private def prepare(algorithm: ChecksumAlgorithm, chunks: String*): Validation[String] = {
+    val consumer = algorithm.newConsumer(UTF_8)
+    chunks.foreach(chunk => consumer.onChunk(ByteBuffer.wrap(chunk.getBytes(UTF_8))))
+    consumer.prepared
+  }
+
+  "ChecksumAlgorithm" should "compute the md5 of chunks as if they were a single body" in {
+    prepare(ChecksumAlgorithm.Md5, "hello", " ", "world") shouldBe "5eb63bbbe01eeed093cb22bb8f5acdc3".success
+  }
+
+  it should "compute the sha1 of chunks as if they were a single body" in {
+    prepare(ChecksumAlgorithm.Sha1, "hel", "lo world") shouldBe "2aae6c35c94fcfb415dbe95f408b9ce91ee846ed".success
+  }
+
+  it should "give each response its own digest" in {
+    prepare(ChecksumAlgorithm.Md5, "hello world")
+    prepare(ChecksumAlgorithm.Md5, "hello world") shouldBe "5eb63bbbe01eeed093cb22bb8f5acdc3".success
+  }
+}
@@ -22,14 +22,13 @@ import scala.util.Using
 
 import io.gatling.ValidationValues
 
-import jodd.lagarto.dom.NodeSelector
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
 class CssExtractorSpec extends AnyFlatSpecLike with Matchers with ValidationValues {
   private val cssSelectors = new CssSelectors(Long.MaxValue)
 
-  private def prepared(file: String): NodeSelector = Using.resource(getClass.getResourceAsStream(file)) { is =>
+  private def prepared(file: String): HtmlDocument = Using.resource(getClass.getResourceAsStream(file)) { is =>
     val string = new String(is.readAllBytes(), UTF_8)
     cssSelectors.parse(string.toCharArray)
   }
@@ -122,4 +121,46 @@ class CssExtractorSpec extends AnyFlatSpecLike with Matchers with ValidationValu
       )
     ).succeeded shouldBe Some("foo")
   }
+
+  "streaming selection" should "extract attributes of simple selectors without building the DOM" in {
+    val cssExtractor = CssExtractors.findAll[String]("a[href*=api]", Some("href"), cssSelectors)
+    val document = prepared("/GatlingHomePage.html")
+    cssExtractor(document).succeeded shouldBe Some(List("http://gatling.io/api/"))
+    document.isDomBuilt shouldBe false
+  }
+
+  it should "return the same result as the DOM for an id selector with an attribute" in {
+    val streamed = prepared("/GatlingHomePage.html")
+    val dom = prepared("/GatlingHomePage.html")
+    dom.nodeSelector
+    val cssExtractor = CssExtractors.findAll[String]("#sample_requests", Some("href"), cssSelectors)
+    cssExtractor(streamed).succeeded shouldBe cssExtractor(dom).succeeded
+    streamed.isDomBuilt shouldBe false
+  }
+
+  it should "return the same result as the DOM for a selector on an attribute without a value" in {
+    val html = """<select name="foo"><option value="a">A</option><option value="b" selected>B</option><option disabled>C</option></select>"""
+    val streamed = cssSelectors.parse(html.toCharArray)
+    val dom = cssSelectors.parse(html.toCharArray)
+    dom.nodeSelector
+    val cssExtractor = CssExtractors.findAll[String]("option[selected]", Some("value"), cssSelectors)
+    cssExtractor(streamed).succeeded shouldBe Some(List("b"))
+    cssExtractor(dom).succeeded shouldBe Some(List("b"))
+    CssExtractors.count("option[disabled]", None, cssSelectors)(streamed).succeeded shouldBe Some(1)
+    streamed.isDomBuilt shouldBe false
+  }
+
+  it should "count matching elements without building the DOM" in {
+    val cssExtractor = CssExtractors.count(".nav", Some("id"), cssSelectors)
+    val document = prepared("/GatlingHomePage.html")
+    cssExtractor(document).succeeded shouldBe Some(2)
+    document.isDomBuilt shouldBe false
+  }
+
+  it should "fall back to the DOM for text content" in {
+    val cssExtractor = CssExtractors.find[String]("#social", None, 0, cssSelectors)
+    val document = prepared("/GatlingHomePage.html")
+    cssExtractor(document).succeeded shouldBe Some("Social")
+    document.isDomBuilt shouldBe true
+  }
 }
@@ -16,13 +16,13 @@
 
 package io.gatling.core.check.xpath
 
+import java.io.ByteArrayInputStream
 import java.nio.charset.StandardCharsets.UTF_8
 
 import scala.util.Using
 
 import io.gatling.ValidationValues
 
-import net.sf.saxon.s9api.XdmNode
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
@@ -31,24 +31,24 @@ class XPathExtractorSpec extends AnyFlatSpecLike with Matchers with ValidationVa
 
   private val xmlParsers = new XmlParsers(Long.MaxValue)
 
-  private def dom(file: String): XdmNode =
-    Using.resource(getClass.getResourceAsStream(file)) { is =>
-      XmlParsers.parse(is, UTF_8)
-    }
+  private def document(file: String): XmlDocument = {
+    val bytes = Using.resource(getClass.getResourceAsStream(file))(_.readAllBytes())
+    XmlDocument(() => new ByteArrayInputStream(bytes), UTF_8)
+  }
 
   private def testCount(expression: String, file: String, expected: Int): Unit = {
     val extractor = XPathExtractors.count(expression, namespaces, xmlParsers)
-    extractor(dom(file)).succeeded shouldBe Some(expected)
+    extractor(document(file)).succeeded shouldBe Some(expected)
   }
 
   private def testSingle(expression: String, namespaces: Map[String, String], occurrence: Int, file: String, expected: Option[String]): Unit = {
     val extractor = XPathExtractors.find(expression, namespaces, occurrence, xmlParsers)
-    extractor(dom(file)).succeeded shouldBe expected
+    extractor(document(file)).succeeded shouldBe expected
   }
 
   private def testMultiple(expression: String, namespaces: Map[String, String], file: String, expected: Option[List[String]]): Unit = {
     val extractor = XPathExtractors.findAll(expression, namespaces, xmlParsers)
-    extractor(dom(file)).succeeded shouldBe expected
+    extractor(document(file)).succeeded shouldBe expected
   }
 
   "count" should "return expected result with anywhere expression" in {
@@ -106,4 +106,64 @@ class XPathExtractorSpec extends AnyFlatSpecLike with Matchers with ValidationVa
   it should "return expected result with anywhere namespaced element" in {
     testMultiple("//foo:bar", namespaces, "/test.xml", Some(List("fooBar")))
   }
+
+  "streaming evaluation" should "return the same results as Saxon" in {
+    val xml =
+      """<?xml version="1.0" encoding="UTF-8"?>
+        |<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" xmlns:foo="http://foo/foo">
+        |  <soap:Body>
+        |    <foo:Resp id="1"><foo:Id>a<![CDATA[b]]>c<!-- comment -->d<x>e</x>f</foo:Id></foo:Resp>
+        |    <foo:Resp id="2" kind="bar"><foo:Id>2</foo:Id></foo:Resp>
+        |    <Resp id="3"><Id>3</Id></Resp>
+        |  </soap:Body>
+        |</soap:Envelope>""".stripMargin
+    val namespaces = Map("soap" -> "http://schemas.xmlsoap.org/soap/envelope/", "foo" -> "http://foo/foo")
+
+    val expressions = List(
+      "/soap:Envelope/soap:Body/foo:Resp/foo:Id",
+      "/soap:Envelope/soap:Body/foo:Resp/foo:Id/text()",
+      "/soap:Envelope/soap:Body/foo:Resp/@id",
+      "/soap:Envelope/soap:Body/foo:Resp[2]/foo:Id",
+      "/soap:Envelope/soap:Body/foo:Resp[@kind]/foo:Id",
+      "/soap:Envelope/soap:Body/foo:Resp[@id = '1']/foo:Id/x",
+      "/soap:Envelope/soap:Body/*/@id",
+      "/soap:Envelope/soap:Body/*[3]",
+      "/soap:Envelope/soap:Body/Resp/Id",
+      "/soap:Envelope/soap:Body/foo:Resp[3]",
+      "/soap:Envelope[1]/soap:Body[1]"
+    )
+
+    for (expression <- expressions) {
+      val streamed = XmlDocument(xml)
+      val tree = XmlDocument(xml)
+      tree.tree
+
+      val findAll = XPathExtractors.findAll(expression, namespaces, xmlParsers)
+      val count = XPathExtractors.count(expression, namespaces, xmlParsers)
+      val find = XPathExtractors.find(expression, namespaces, 1, xmlParsers)
+      withClue(expression) {
+        findAll(streamed).succeeded shouldBe findAll(tree).succeeded
+        count(streamed).succeeded shouldBe count(tree).succeeded
+        find(streamed).succeeded shouldBe find(tree).succeeded
+        streamed.isTreeBuilt shouldBe false
+      }
+    }
+  }
+
+  it should "fall back to Saxon for unsupported expressions" in {
+    val document = this.document("/test.xml")
+    XPathExtractors.find("//author", namespaces, 0, xmlParsers)(document).succeeded shouldBe Some("Nigel Rees")
+    document.isTreeBuilt shouldBe true
+  }
+
+  it should "fall back to Saxon for documents with a DTD" in {
+    val document = XmlDocument("""<!DOCTYPE root [<!ENTITY name "foo">]><root><id>&name;</id></root>""")
+    XPathExtractors.find("/root/id", namespaces, 0, xmlParsers)(document).succeeded shouldBe Some("foo")
+    document.isTreeBuilt shouldBe true
+  }
+
+  it should "fail on malformed documents" in {
+    val extractor = XPathExtractors.find("/root/id", namespaces, 0, xmlParsers)
+    extractor(XmlDocument("<root><id>")).failed should startWith("Could not parse response into a DOM Document: ")
+  }
 }
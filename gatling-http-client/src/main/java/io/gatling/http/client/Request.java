@@ -47,6 +47,7 @@ public final class Request {
   private final boolean http2Enabled;
   private final Http2PriorKnowledge http2PriorKnowledge;
   private final String wsSubprotocol;
+  private final int wsMaxFramePayloadLength;
 
   public Request(
       String name,
@@ -66,7 +67,8 @@ public final class Request {
       InetAddressNameResolver nameResolver,
       boolean http2Enabled,
       Http2PriorKnowledge http2PriorKnowledge,
-      String wsSubprotocol) {
+      String wsSubprotocol,
+      int wsMaxFramePayloadLength) {
     this.name = name;
     this.method = method;
     this.uri = uri;
@@ -85,6 +87,7 @@ public final class Request {
     this.http2Enabled = http2Enabled;
     this.http2PriorKnowledge = http2PriorKnowledge;
     this.wsSubprotocol = wsSubprotocol;
+    this.wsMaxFramePayloadLength = wsMaxFramePayloadLength;
   }
 
   public Request copyWithCopiedHeaders() {
@@ -106,7 +109,8 @@ public final class Request {
         this.nameResolver,
         this.http2Enabled,
         this.http2PriorKnowledge,
-        this.wsSubprotocol);
+        this.wsSubprotocol,
+        this.wsMaxFramePayloadLength);
   }
 
   public Request copyWithNewUri(Uri uri) {
@@ -128,7 +132,8 @@ public final class Request {
         this.nameResolver,
         this.http2Enabled,
         this.http2PriorKnowledge,
-        this.wsSubprotocol);
+        this.wsSubprotocol,
+        this.wsMaxFramePayloadLength);
   }
 
   public Request copyWithNewBody(RequestBody body) {
@@ -150,7 +155,8 @@ public final class Request {
         this.nameResolver,
         this.http2Enabled,
         this.http2PriorKnowledge,
-        this.wsSubprotocol);
+        this.wsSubprotocol,
+        this.wsMaxFramePayloadLength);
   }
 
   public Request copyWithHttp2PriorKnowledge(Http2PriorKnowledge http2PriorKnowledge) {
@@ -172,7 +178,8 @@ public final class Request {
         this.nameResolver,
         this.http2Enabled,
         http2PriorKnowledge,
-        this.wsSubprotocol);
+        this.wsSubprotocol,
+        this.wsMaxFramePayloadLength);
   }
 
   public String getName() {
@@ -247,6 +254,10 @@ public final class Request {
     return wsSubprotocol;
   }
 
+  public int getWsMaxFramePayloadLength() {
+    return wsMaxFramePayloadLength;
+  }
+
   @Override
   public String toString() {
     return "Request{"
@@ -282,6 +293,8 @@ public final class Request {
         + http2PriorKnowledge
         + ", wsSubprotocol="
         + wsSubprotocol
+        + ", wsMaxFramePayloadLength="
+        + wsMaxFramePayloadLength
         + '}';
   }
 }
@@ -63,6 +63,7 @@ public final class RequestBuilder {
   private boolean http2Enabled;
   private Http2PriorKnowledge http2PriorKnowledge;
   private String wsSubprotocol;
+  private int wsMaxFramePayloadLength = Integer.MAX_VALUE;
   private Charset defaultCharset = UTF_8;
 
   public RequestBuilder(
@@ -157,6 +158,11 @@ public final class RequestBuilder {
     return this;
   }
 
+  public RequestBuilder setWsMaxFramePayloadLength(int wsMaxFramePayloadLength) {
+    this.wsMaxFramePayloadLength = wsMaxFramePayloadLength;
+    return this;
+  }
+
   public String getContentType() {
     return headers.get(CONTENT_TYPE);
   }
@@ -242,6 +248,7 @@ public final class RequestBuilder {
         nameResolver,
         http2Enabled,
         http2PriorKnowledge,
-        wsSubprotocol);
+        wsSubprotocol,
+        wsMaxFramePayloadLength);
   }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.body;
+
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ReferenceCounted;
+import java.util.List;
+
+/**
+ * An ordered sequence of messages (ByteBufs and FileRegions) to be written one after the other, eg
+ * a multipart body whose file parts are transferred with zero-copy.
+ *
+ * <p>Ownership of the messages is transferred to the channel once they've been written.
+ */
+public final class ContentSequence extends AbstractReferenceCounted {
+
+  private List<Object> messages;
+
+  public ContentSequence(List<Object> messages) {
+    this.messages = messages;
+  }
+
+  /**
+   * Hand over the messages to be written, this sequence no longer owns them afterward.
+   *
+   * @return the messages
+   */
+  public List<Object> drain() {
+    List<Object> drained = messages;
+    messages = null;
+    return drained;
+  }
+
+  @Override
+  protected void deallocate() {
+    if (messages != null) {
+      for (Object message : messages) {
+        ReferenceCountUtil.release(message);
+      }
+      messages = null;
+    }
+  }
+
+  @Override
+  public ReferenceCounted touch(Object hint) {
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "ContentSequence{" + "messages=" + messages + '}';
+  }
+}
@@ -23,6 +23,16 @@ public interface RequestBody {
 
   WritableContent build(ByteBufAllocator alloc) throws IOException;
 
+  /**
+   * @param alloc the allocator
+   * @param zeroCopy if the channel can transfer FileRegions as is, ie plain HTTP/1.1 without TLS
+   * @return the content to be written
+   * @throws IOException if the content can't be built
+   */
+  default WritableContent build(ByteBufAllocator alloc, boolean zeroCopy) throws IOException {
+    return build(alloc);
+  }
+
   RequestBodyBuilder newBuilder();
 
   byte[] getBytes();
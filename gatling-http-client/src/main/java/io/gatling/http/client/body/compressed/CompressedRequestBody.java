@@ -0,0 +1,90 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.body.compressed;
+
+import io.gatling.http.client.body.RequestBody;
+import io.gatling.http.client.body.RequestBodyBuilder;
+import io.gatling.http.client.body.WritableContent;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public final class CompressedRequestBody extends RequestBody.Base<RequestBody> {
+
+  private final RequestBodyEncoding encoding;
+  private final byte[] compressed;
+
+  /**
+   * @param content the body to compress
+   * @param encoding the compression encoding
+   * @param compressed the already compressed content, null if it has to be compressed on the fly
+   */
+  public CompressedRequestBody(
+      RequestBody content, RequestBodyEncoding encoding, byte[] compressed) {
+    super(content);
+    this.encoding = encoding;
+    this.compressed = compressed;
+  }
+
+  @Override
+  public WritableContent build(ByteBufAllocator alloc) throws IOException {
+    if (compressed != null) {
+      return new WritableContent(Unpooled.wrappedBuffer(compressed), compressed.length);
+    }
+    // no zero copy, the content goes through the encoder
+    ByteBuf compressedContent = encoding.encode(alloc, content.build(alloc).getContent());
+    return new WritableContent(compressedContent, compressedContent.readableBytes());
+  }
+
+  @Override
+  public RequestBodyBuilder newBuilder() {
+    return new CompressedRequestBodyBuilder(content.newBuilder(), encoding, false);
+  }
+
+  @Override
+  public byte[] getBytes() {
+    if (compressed != null) {
+      return compressed;
+    }
+    try {
+      return encoding.encode(content.getBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public CharSequence getPatchedContentType() {
+    return content.getPatchedContentType();
+  }
+
+  public RequestBodyEncoding getEncoding() {
+    return encoding;
+  }
+
+  @Override
+  public String print(int maxLength) {
+    return "CompressedRequestBody{"
+        + "encoding="
+        + encoding.contentEncoding()
+        + ", content="
+        + content.print(maxLength)
+        + '}';
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.body.compressed;
+
+import io.gatling.http.client.body.RequestBody;
+import io.gatling.http.client.body.RequestBodyBuilder;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CompressedRequestBodyBuilder
+    extends RequestBodyBuilder.Base<RequestBodyBuilder> {
+
+  private final RequestBodyEncoding encoding;
+  // the compressed bytes, per charset, when the builder is shared by all the requests
+  private final Map<Charset, byte[]> cache;
+
+  /**
+   * @param content the builder of the body to compress
+   * @param encoding the compression encoding
+   * @param cached if the body doesn't change, so it only has to be compressed once per charset
+   */
+  public CompressedRequestBodyBuilder(
+      RequestBodyBuilder content, RequestBodyEncoding encoding, boolean cached) {
+    super(content);
+    this.encoding = encoding;
+    this.cache = cached ? new ConcurrentHashMap<>() : null;
+  }
+
+  @Override
+  public RequestBody build(String contentType, Charset charset, Charset defaultCharset) {
+    RequestBody body = content.build(contentType, charset, defaultCharset);
+    if (cache == null) {
+      return new CompressedRequestBody(body, encoding, null);
+    }
+    byte[] compressed =
+        cache.computeIfAbsent(
+            charset != null ? charset : defaultCharset,
+            c -> new CompressedRequestBody(body, encoding, null).getBytes());
+    return new CompressedRequestBody(body, encoding, compressed);
+  }
+}
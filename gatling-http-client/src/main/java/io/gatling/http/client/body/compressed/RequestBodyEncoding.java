@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.body.compressed;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.stream.ChunkedInput;
+import java.io.IOException;
+
+/** The encodings request bodies can be compressed with, implemented with Netty's encoders. */
+public enum RequestBodyEncoding {
+  GZIP("gzip") {
+    @Override
+    ChannelHandler newEncoder() {
+      return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP);
+    }
+  },
+  DEFLATE("deflate") {
+    @Override
+    ChannelHandler newEncoder() {
+      return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB);
+    }
+  },
+  BROTLI("br") {
+    @Override
+    ChannelHandler newEncoder() {
+      return new BrotliEncoder();
+    }
+  },
+  ZSTD("zstd") {
+    @Override
+    ChannelHandler newEncoder() {
+      return new ZstdEncoder();
+    }
+  };
+
+  private final String contentEncoding;
+
+  RequestBodyEncoding(String contentEncoding) {
+    this.contentEncoding = contentEncoding;
+  }
+
+  public String contentEncoding() {
+    return contentEncoding;
+  }
+
+  abstract ChannelHandler newEncoder();
+
+  /**
+   * Compresses the content while it's being produced, straight into buffers from the given
+   * allocator.
+   *
+   * @param alloc the allocator of the compressed buffers
+   * @param content a ByteBuf, released once compressed, or a ChunkedInput, closed once consumed
+   * @return the compressed content
+   * @throws IOException if the content can't be read or compressed
+   */
+  public ByteBuf encode(ByteBufAllocator alloc, Object content) throws IOException {
+    EmbeddedChannel channel = new EmbeddedChannel(newEncoder());
+    channel.config().setAllocator(alloc);
+    CompositeByteBuf compressed = alloc.compositeBuffer(Integer.MAX_VALUE);
+    try {
+      if (content instanceof ByteBuf) {
+        channel.write(content);
+      } else if (content instanceof ChunkedInput) {
+        @SuppressWarnings("unchecked")
+        ChunkedInput<ByteBuf> input = (ChunkedInput<ByteBuf>) content;
+        try {
+          while (!input.isEndOfInput()) {
+            ByteBuf chunk = input.readChunk(alloc);
+            if (chunk != null) {
+              channel.write(chunk);
+            }
+          }
+        } finally {
+          input.close();
+        }
+      } else {
+        throw new IllegalArgumentException("Can't compress content " + content);
+      }
+      // a single flush so encoders such as zstd produce a single frame
+      channel.flush();
+      channel.finish();
+
+      ByteBuf chunk;
+      while ((chunk = channel.readOutbound()) != null) {
+        compressed.addComponent(true, chunk);
+      }
+      return compressed;
+
+    } catch (Exception e) {
+      channel.finishAndReleaseAll();
+      compressed.release();
+      throw e instanceof IOException ? (IOException) e : new IOException(e);
+    }
+  }
+
+  public byte[] encode(byte[] bytes) throws IOException {
+    ByteBuf compressed = encode(UnpooledByteBufAllocator.DEFAULT, Unpooled.wrappedBuffer(bytes));
+    try {
+      return ByteBufUtil.getBytes(compressed);
+    } finally {
+      compressed.release();
+    }
+  }
+}
@@ -20,6 +20,7 @@ import io.gatling.http.client.body.RequestBody;
 import io.gatling.http.client.body.RequestBodyBuilder;
 import io.gatling.http.client.body.WritableContent;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.stream.ChunkedFile;
 import java.io.*;
 import java.nio.charset.Charset;
@@ -43,6 +44,16 @@ public final class FileRequestBody extends RequestBody.Base<File> {
     return new WritableContent(new ChunkedFile(content), contentLength);
   }
 
+  @Override
+  public WritableContent build(ByteBufAllocator alloc, boolean zeroCopy) throws IOException {
+    long contentLength = content.length();
+    if (zeroCopy && contentLength > 0) {
+      // sendfile, no copy into ByteBufs
+      return new WritableContent(new DefaultFileRegion(content, 0, contentLength), contentLength);
+    }
+    return build(alloc);
+  }
+
   @Override
   public RequestBodyBuilder newBuilder() {
     return new FileRequestBodyBuilder(content);
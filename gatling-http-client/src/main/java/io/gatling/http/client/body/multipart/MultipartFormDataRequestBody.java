@@ -16,6 +16,9 @@
 
 package io.gatling.http.client.body.multipart;
 
+import static io.gatling.http.client.util.MiscUtils.closeSilently;
+
+import io.gatling.http.client.body.ContentSequence;
 import io.gatling.http.client.body.RequestBody;
 import io.gatling.http.client.body.RequestBodyBuilder;
 import io.gatling.http.client.body.WritableContent;
@@ -26,6 +29,9 @@ import io.gatling.netty.util.ByteBufUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.FileRegion;
+import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -47,14 +53,67 @@ public final class MultipartFormDataRequestBody extends RequestBody.Base<List<Pa
     this.patchedContentType = patchedContentType;
   }
 
-  private MultipartChunkedInput toChunkedInput() {
+  private List<PartImpl> toPartImpls() {
     List<PartImpl> partImpls = new ArrayList<>(content.size() + 1);
     for (Part<?> part : content) {
       partImpls.add(part.toImpl(boundary));
     }
     partImpls.add(new MessageEndPartImpl(boundary));
+    return partImpls;
+  }
 
-    return new MultipartChunkedInput(partImpls);
+  private MultipartChunkedInput toChunkedInput() {
+    return new MultipartChunkedInput(toPartImpls());
+  }
+
+  private boolean hasFilePart() {
+    for (Part<?> part : content) {
+      if (part instanceof FilePart) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private WritableContent toZeroCopyContent(ByteBufAllocator alloc) throws IOException {
+    List<PartImpl> partImpls = toPartImpls();
+    // file contents are sent as FileRegions, everything in between is gathered in ByteBufs
+    List<Object> messages = new ArrayList<>(partImpls.size() * 2);
+    long contentLength = 0;
+    ByteBuf pending = alloc.buffer();
+    try {
+      for (PartImpl partImpl : partImpls) {
+        FileRegion fileRegion = partImpl.contentFileRegion();
+        if (fileRegion == null) {
+          partImpl.copyFullyInto(pending);
+        } else {
+          partImpl.copyPreContentInto(pending);
+          contentLength += pending.readableBytes();
+          messages.add(pending);
+          pending = null;
+          contentLength += fileRegion.count();
+          messages.add(fileRegion);
+          pending = alloc.buffer();
+          partImpl.copyPostContentInto(pending);
+        }
+      }
+      contentLength += pending.readableBytes();
+      messages.add(pending);
+      pending = null;
+      return new WritableContent(new ContentSequence(messages), contentLength);
+
+    } catch (IOException | RuntimeException e) {
+      if (pending != null) {
+        pending.release();
+      }
+      messages.forEach(ReferenceCountUtil::release);
+      throw e;
+
+    } finally {
+      for (PartImpl partImpl : partImpls) {
+        closeSilently(partImpl);
+      }
+    }
   }
 
   @Override
@@ -63,6 +122,11 @@ public final class MultipartFormDataRequestBody extends RequestBody.Base<List<Pa
     return new WritableContent(content, content.length());
   }
 
+  @Override
+  public WritableContent build(ByteBufAllocator alloc, boolean zeroCopy) throws IOException {
+    return zeroCopy && hasFilePart() ? toZeroCopyContent(alloc) : build(alloc);
+  }
+
   @Override
   public RequestBodyBuilder newBuilder() {
     return new MultipartFormDataRequestBodyBuilder(content);
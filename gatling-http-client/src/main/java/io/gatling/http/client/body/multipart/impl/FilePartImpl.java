@@ -20,6 +20,8 @@ import static io.gatling.http.client.util.MiscUtils.*;
 
 import io.gatling.http.client.body.multipart.FilePart;
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -48,6 +50,12 @@ public final class FilePartImpl extends FileLikePartImpl<FilePart> {
     return file.length();
   }
 
+  @Override
+  public FileRegion contentFileRegion() {
+    long length = file.length();
+    return length > 0 ? new DefaultFileRegion(file, 0, length) : null;
+  }
+
   @Override
   protected void copyContentInto(ByteBuf target) throws IOException {
     // can return -1 if file is empty or FileChannel was closed
@@ -24,6 +24,7 @@ import io.gatling.http.client.body.multipart.Part;
 import io.gatling.http.client.body.multipart.impl.PartVisitor.*;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.FileRegion;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -114,6 +115,31 @@ public abstract class PartImpl implements Closeable {
     }
   }
 
+  /**
+   * @return a FileRegion over this part's content if it can be transferred without being copied,
+   *     null otherwise
+   */
+  public FileRegion contentFileRegion() {
+    return null;
+  }
+
+  public void copyPreContentInto(ByteBuf target) {
+    ByteBuf source = lazyLoadPreContentBuffer();
+    target.writeBytes(source, source.readerIndex(), source.readableBytes());
+  }
+
+  public void copyPostContentInto(ByteBuf target) {
+    ByteBuf source = lazyLoadPostContentBuffer();
+    target.writeBytes(source, source.readerIndex(), source.readableBytes());
+  }
+
+  public void copyFullyInto(ByteBuf target) throws IOException {
+    target.ensureWritable((int) length());
+    while (state != PartImplState.DONE) {
+      copyInto(target);
+    }
+  }
+
   private ByteBuf lazyLoadPreContentBuffer() {
     if (preContentBuffer == null) preContentBuffer = computePreContentBytes(preContentLength);
     return preContentBuffer;
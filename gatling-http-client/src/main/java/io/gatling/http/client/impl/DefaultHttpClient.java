@@ -83,7 +83,7 @@ public final class DefaultHttpClient implements HttpClient {
   private static final String CHUNKED_WRITER_HANDLER = "chunked-writer";
   private static final String WS_OBJECT_AGGREGATOR = "ws-object-aggregator";
   private static final String WS_COMPRESSION = "ws-compression";
-  private static final String WS_FRAME_AGGREGATOR = "ws-frame-aggregator";
+  static final String WS_FRAME_AGGREGATOR = "ws-frame-aggregator";
   private static final String APP_WS_HANDLER = "app-ws";
   private static final String ALPN_HANDLER = "alpn";
   static final String APP_HTTP2_HANDLER = "app-http2";
@@ -99,7 +99,7 @@ public final class Http2AppHandler extends ChannelDuplexHandler {
 
     try {
       WritableRequest request =
-          WritableRequestBuilder.buildRequest(tx.request, ctx.alloc(), true, tx.listener);
+          WritableRequestBuilder.buildRequest(tx.request, ctx.alloc(), true, false, tx.listener);
       LOGGER.debug("Write request {}", request);
       tx.listener.onWrite(ctx.channel());
 
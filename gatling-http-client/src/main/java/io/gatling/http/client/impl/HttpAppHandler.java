@@ -20,11 +20,13 @@ import io.gatling.http.client.impl.request.WritableRequest;
 import io.gatling.http.client.impl.request.WritableRequestBuilder;
 import io.gatling.http.client.pool.ChannelPool;
 import io.gatling.http.client.util.HttpUtils;
+import io.gatling.netty.util.Transports;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.DecoderResultProvider;
 import io.netty.handler.codec.http.*;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.util.ReferenceCountUtil;
 import java.io.IOException;
 import org.slf4j.Logger;
@@ -93,6 +95,12 @@ final class HttpAppHandler extends ChannelDuplexHandler {
     }
   }
 
+  // FileRegions can't go through TLS
+  private static boolean canZeroCopy(ChannelHandlerContext ctx) {
+    return ctx.pipeline().get(SslHandler.class) == null
+        && Transports.supportsFileRegion(ctx.channel());
+  }
+
   @Override
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
 
@@ -106,7 +114,8 @@ final class HttpAppHandler extends ChannelDuplexHandler {
 
     try {
       WritableRequest request =
-          WritableRequestBuilder.buildRequest(tx.request, ctx.alloc(), false, tx.listener);
+          WritableRequestBuilder.buildRequest(
+              tx.request, ctx.alloc(), false, canZeroCopy(ctx), tx.listener);
       LOGGER.debug("Write request {}", request);
 
       tx.listener.onWrite(ctx.channel());
@@ -25,6 +25,7 @@ import io.gatling.http.client.proxy.HttpProxyServer;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.websocketx.*;
@@ -52,6 +53,17 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
     wsListener = (WebSocketListener) tx.listener;
   }
 
+  // bound aggregated messages too, so oversized ones crash the WebSocket instead of exhausting
+  // memory
+  static void boundFrameAggregator(ChannelPipeline pipeline, int maxFramePayloadLength) {
+    if (maxFramePayloadLength != Integer.MAX_VALUE) {
+      pipeline.replace(
+          DefaultHttpClient.WS_FRAME_AGGREGATOR,
+          DefaultHttpClient.WS_FRAME_AGGREGATOR,
+          new WebSocketFrameAggregator(maxFramePayloadLength));
+    }
+  }
+
   private void crash(ChannelHandlerContext ctx, Throwable cause, boolean close) {
     LOGGER.debug("Crash", cause);
     if (tx == null) {
@@ -80,7 +92,10 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
 
       try {
         WritableRequest request =
-            WritableRequestBuilder.buildRequest(tx.request, ctx.alloc(), false, tx.listener);
+            WritableRequestBuilder.buildRequest(tx.request, ctx.alloc(), false, false, tx.listener);
+
+        int maxFramePayloadLength = tx.request.getWsMaxFramePayloadLength();
+        boundFrameAggregator(ctx.pipeline(), maxFramePayloadLength);
 
         boolean absoluteUpgradeUrl =
             !tx.request.getUri().isSecured()
@@ -92,7 +107,7 @@ public final class WebSocketHandler extends ChannelDuplexHandler {
                 tx.request.getWsSubprotocol(), // subprotocol
                 true, // allowExtensions
                 request.getRequest().headers(), // customHeaders
-                Integer.MAX_VALUE, // maxFramePayloadLength
+                maxFramePayloadLength, // maxFramePayloadLength
                 true, // performMasking
                 false, // allowMaskMismatch
                 -1, // forceCloseTimeoutMillis
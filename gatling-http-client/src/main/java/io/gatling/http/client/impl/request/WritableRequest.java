@@ -16,6 +16,7 @@
 
 package io.gatling.http.client.impl.request;
 
+import io.gatling.http.client.body.ContentSequence;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpRequest;
@@ -39,12 +40,22 @@ public final class WritableRequest {
     return content;
   }
 
+  private void writeContent0(ChannelHandlerContext ctx) {
+    if (content instanceof ContentSequence) {
+      for (Object message : ((ContentSequence) content).drain()) {
+        ctx.write(message);
+      }
+    } else {
+      ctx.write(content);
+    }
+  }
+
   public ChannelFuture write(ChannelHandlerContext ctx) {
     if (content == null) {
       return ctx.writeAndFlush(request);
     } else {
       ctx.write(request);
-      ctx.write(content);
+      writeContent0(ctx);
       return ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
     }
   }
@@ -54,7 +65,7 @@ public final class WritableRequest {
   }
 
   public ChannelFuture writeContent(ChannelHandlerContext ctx) {
-    ctx.write(content);
+    writeContent0(ctx);
     return ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
   }
 
@@ -90,9 +90,19 @@ public final class WritableRequestBuilder {
   public static WritableRequest buildRequest(
       Request request, ByteBufAllocator alloc, boolean http2, HttpListener listener)
       throws Exception {
+    return buildRequest(request, alloc, http2, false, listener);
+  }
+
+  public static WritableRequest buildRequest(
+      Request request,
+      ByteBufAllocator alloc,
+      boolean http2,
+      boolean zeroCopy,
+      HttpListener listener)
+      throws Exception {
     Request signedRequest = signRequest(request);
     listener.onFinalClientRequest(signedRequest);
-    return buildRequest0(signedRequest, alloc, http2);
+    return buildRequest0(signedRequest, alloc, http2, zeroCopy);
   }
 
   private static Request signRequest(Request request) {
@@ -103,14 +113,15 @@ public final class WritableRequestBuilder {
   }
 
   private static WritableRequest buildRequest0(
-      Request request, ByteBufAllocator alloc, boolean http2) throws Exception {
+      Request request, ByteBufAllocator alloc, boolean http2, boolean zeroCopy) throws Exception {
 
     HttpMethod method = request.getMethod();
     String url = requestUrl(request.getUri(), request.getProxyServer(), http2);
     HttpHeaders headers = request.getHeaders();
     RequestBody requestBody = request.getBody();
 
-    WritableContent writableContent = requestBody != null ? requestBody.build(alloc) : null;
+    WritableContent writableContent =
+        requestBody != null ? requestBody.build(alloc, zeroCopy) : null;
 
     if (writableContent == null) {
       return buildRequestWithoutBody(method, url, headers);
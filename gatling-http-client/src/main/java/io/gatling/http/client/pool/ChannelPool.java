@@ -18,7 +18,6 @@ package io.gatling.http.client.pool;
 
 import static io.gatling.http.client.util.Assertions.assertNotNull;
 
-import io.gatling.http.client.impl.DefaultHttpClient;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.util.AttributeKey;
@@ -31,92 +30,93 @@ public final class ChannelPool {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
-  private static final AttributeKey<ChannelPoolKey> CHANNEL_POOL_KEY =
-      AttributeKey.valueOf("poolKey");
-  private static final AttributeKey<Long> CHANNEL_TOUCH_TIMESTAMP =
-      AttributeKey.valueOf("idleTimestamp");
-  private static final AttributeKey<Http2Connection> CHANNEL_HTTP2_CONNEXION =
-      AttributeKey.valueOf("http2Connection");
-  private static final AttributeKey<Boolean> HTTP2_POOLED = AttributeKey.valueOf("http2Pooled");
-  private static final AttributeKey<Boolean> CHANNEL_GOAWAY = AttributeKey.valueOf("goAway");
+  private static final AttributeKey<PooledChannel> CHANNEL_POOL_ENTRY =
+      AttributeKey.valueOf("poolEntry");
 
   static final int INITIAL_CLIENT_MAP_SIZE = 1000;
   static final int INITIAL_KEY_PER_CLIENT_MAP_SIZE = 2;
-  static final int INITIAL_CHANNEL_QUEUE_SIZE = 2;
 
-  private final Map<Long, Map<RemoteKey, Queue<Channel>>> channels =
+  // all accesses happen on the event loop owning this pool, hence no locking
+  private final Map<Long, Map<RemoteKey, RemoteChannels>> channels =
       new HashMap<>(INITIAL_CLIENT_MAP_SIZE);
+  private final IdleChannels idleChannels = new IdleChannels();
   private final CoalescingChannelPool coalescingChannelPool = new CoalescingChannelPool();
 
-  private Queue<Channel> remoteChannels(ChannelPoolKey key) {
+  private RemoteChannels remoteChannels(ChannelPoolKey key) {
     return channels
         .computeIfAbsent(key.clientId, k -> new HashMap<>(INITIAL_KEY_PER_CLIENT_MAP_SIZE))
-        .computeIfAbsent(key.remoteKey, k -> new ArrayDeque<>(INITIAL_CHANNEL_QUEUE_SIZE));
+        .computeIfAbsent(key.remoteKey, k -> new RemoteChannels());
   }
 
-  private static boolean isHttp1(Channel channel) {
-    return channel.pipeline().get(DefaultHttpClient.APP_HTTP_HANDLER) != null;
+  private static PooledChannel entry(Channel channel) {
+    return channel.attr(CHANNEL_POOL_ENTRY).get();
   }
 
   public static boolean isHttp2(Channel channel) {
-    return !isHttp1(channel);
+    PooledChannel entry = entry(channel);
+    return entry != null && entry.isHttp2();
   }
 
-  ////////////////////////////// CHANNEL_POOL_KEY
+  ////////////////////////////// CHANNEL_POOL_ENTRY
   public static void registerPoolKey(Channel channel, ChannelPoolKey key) {
-    channel.attr(CHANNEL_POOL_KEY).set(key);
+    channel.attr(CHANNEL_POOL_ENTRY).set(new PooledChannel(channel, key));
   }
 
-  ////////////////////////////// CHANNEL_IDLE_TIMESTAMP
-  private static void touch(Channel channel) {
-    channel.attr(CHANNEL_TOUCH_TIMESTAMP).set(System.nanoTime());
-  }
-
-  private static boolean isLastTouchTooOld(Channel channel, long now, long idleTimeoutNanos) {
-    return now - channel.attr(CHANNEL_TOUCH_TIMESTAMP).get() > idleTimeoutNanos;
-  }
-
-  ////////////////////////////// CHANNEL_HTTP2_CONNEXION
   public static void registerHttp2Connection(Channel channel, Http2Connection http2Connection) {
-    channel.attr(CHANNEL_HTTP2_CONNEXION).set(http2Connection);
+    PooledChannel entry = entry(channel);
+    assertNotNull(entry, "Channel doesn't have a key");
+    entry.http2Connection = http2Connection;
   }
 
-  private static Http2Connection getHttp2Connection(Channel channel) {
-    return channel.attr(CHANNEL_HTTP2_CONNEXION).get();
+  public static void markAsGoAway(Channel channel) {
+    PooledChannel entry = entry(channel);
+    if (entry != null) {
+      entry.goAway = true;
+    }
   }
 
   private static boolean canOpenStream(Channel channel) {
-    return getHttp2Connection(channel).local().canOpenStream();
+    PooledChannel entry = entry(channel);
+    return entry != null && entry.canOpenStream();
   }
 
-  ////////////////////////////// CHANNEL_GOAWAY
-  public static void markAsGoAway(Channel channel) {
-    channel.attr(CHANNEL_GOAWAY).set(Boolean.TRUE);
+  private void unlink(PooledChannel entry) {
+    if (entry.remote != null) {
+      entry.remote.remove(entry);
+    }
+    idleChannels.remove(entry);
   }
 
-  private static boolean isNotGoAway(Channel channel) {
-    return !channel.hasAttr(CHANNEL_GOAWAY);
+  private void onClose(PooledChannel entry) {
+    unlink(entry);
+    if (entry.isHttp2()) {
+      coalescingChannelPool.deleteIdleEntry(entry.key.clientId, entry.channel);
+    }
   }
 
   public Channel poll(ChannelPoolKey key) {
-    Queue<Channel> channels = remoteChannels(key);
-
-    Iterator<Channel> it = channels.iterator();
-
-    while (it.hasNext()) {
-      Channel channel = it.next();
-
-      if (!channel.isActive()) {
-        it.remove();
-        break;
-      } else if (isHttp1(channel)) {
-        it.remove();
-        LOGGER.debug("Retrieved HTTP/1 channel from pool for key {}", key);
-        return channel;
-      } else if (isNotGoAway(channel) && canOpenStream(channel)) {
-        LOGGER.debug("Retrieved HTTP/2 channel from pool for key {}", key);
-        touch(channel);
-        return channel;
+    Map<RemoteKey, RemoteChannels> clientChannels = channels.get(key.clientId);
+    RemoteChannels remoteChannels =
+        clientChannels != null ? clientChannels.get(key.remoteKey) : null;
+
+    if (remoteChannels != null) {
+      PooledChannel entry = remoteChannels.head();
+      while (entry != null) {
+        PooledChannel next = entry.stackNext;
+        Channel channel = entry.channel;
+
+        if (!channel.isActive()) {
+          unlink(entry);
+        } else if (!entry.isHttp2()) {
+          unlink(entry);
+          LOGGER.debug("Retrieved HTTP/1 channel from pool for key {}", key);
+          return channel;
+        } else if (entry.canOpenStream()) {
+          LOGGER.debug("Retrieved HTTP/2 channel from pool for key {}", key);
+          idleChannels.touch(entry, System.nanoTime());
+          return channel;
+        }
+        entry = next;
       }
     }
 
@@ -128,10 +128,7 @@ public final class ChannelPool {
       long clientId, String domain, List<InetSocketAddress> addresses) {
     Channel channel =
         coalescingChannelPool.getCoalescedChannel(
-            clientId,
-            domain,
-            addresses,
-            chan -> ChannelPool.isNotGoAway(chan) && ChannelPool.canOpenStream(chan));
+            clientId, domain, addresses, ChannelPool::canOpenStream);
     if (channel != null) {
       LOGGER.debug("Retrieved channel from coalescing pool for domain {}", domain);
     }
@@ -152,46 +149,61 @@ public final class ChannelPool {
   }
 
   public void offer(Channel channel) {
-    ChannelPoolKey key = channel.attr(CHANNEL_POOL_KEY).get();
-    assertNotNull(key, "Channel doesn't have a key");
-    touch(channel);
-
-    LOGGER.debug("Offering channel entry {} to pool", key);
-
-    if (isHttp1(channel)) {
-      remoteChannels(key).offer(channel);
-    } else if (!channel.hasAttr(HTTP2_POOLED)) {
-      channel.attr(HTTP2_POOLED).set(Boolean.TRUE);
-      // we never remove from the queue, so we only offer the first time
-      remoteChannels(key).offer(channel);
+    PooledChannel entry = entry(channel);
+    assertNotNull(entry, "Channel doesn't have a key");
+    if (!channel.isActive()) {
+      return;
+    }
+
+    LOGGER.debug("Offering channel entry {} to pool", entry.key);
+
+    if (!entry.closeListenerRegistered) {
+      entry.closeListenerRegistered = true;
+      channel.closeFuture().addListener(f -> onClose(entry));
+    }
+
+    idleChannels.touch(entry, System.nanoTime());
+
+    if (!entry.isHttp2()) {
+      if (entry.remote == null) {
+        remoteChannels(entry.key).push(entry);
+      }
+    } else if (!entry.http2Pooled) {
+      entry.http2Pooled = true;
+      // we never remove from the stack, so we only offer the first time
+      remoteChannels(entry.key).push(entry);
     }
   }
 
   public void closeIdleChannels(long idleTimeoutNanos) {
     long now = System.nanoTime();
-    for (Map.Entry<Long, Map<RemoteKey, Queue<Channel>>> clientEntry : channels.entrySet()) {
-      for (Map.Entry<RemoteKey, Queue<Channel>> entry : clientEntry.getValue().entrySet()) {
-        Queue<Channel> deque = entry.getValue();
-        for (Channel channel : deque) {
-          boolean http2 = isHttp2(channel);
-          if (isLastTouchTooOld(channel, now, idleTimeoutNanos)
-              && (!http2 || getHttp2Connection(channel).numActiveStreams() == 0)) {
-            channel.close();
-            deque.remove(channel);
-            if (http2) {
-              coalescingChannelPool.deleteIdleEntry(clientEntry.getKey(), channel);
-            }
-          }
-        }
+    PooledChannel entry = idleChannels.head();
+    // idle list is ordered by last touch, so we can stop on the first non expired entry
+    while (entry != null && now - entry.lastTouch > idleTimeoutNanos) {
+      PooledChannel next = entry.idleNext;
+      if (entry.isHttp2() && entry.http2Connection.numActiveStreams() > 0) {
+        // streams still in flight: not idle, move to the tail
+        idleChannels.touch(entry, now);
+      } else {
+        onClose(entry);
+        entry.channel.close();
       }
+      entry = next;
     }
   }
 
   public void flushClientIdChannelPoolPartitions(long clientId) {
-    Map<RemoteKey, Queue<Channel>> clientChannel = channels.get(clientId);
-    if (clientChannel != null) {
-      clientChannel.entrySet().stream().flatMap(e -> e.getValue().stream()).forEach(Channel::close);
-      channels.remove(clientId);
+    Map<RemoteKey, RemoteChannels> clientChannels = channels.remove(clientId);
+    if (clientChannels != null) {
+      for (RemoteChannels remoteChannels : clientChannels.values()) {
+        PooledChannel entry = remoteChannels.head();
+        while (entry != null) {
+          PooledChannel next = entry.stackNext;
+          unlink(entry);
+          entry.channel.close();
+          entry = next;
+        }
+      }
       coalescingChannelPool.deleteClientEntries(clientId);
     }
   }
@@ -203,6 +215,8 @@ public final class ChannelPool {
         + channels
         + ", coalescingChannelPool="
         + coalescingChannelPool
+        + ", idleChannels="
+        + idleChannels.size()
         + '}';
   }
 }
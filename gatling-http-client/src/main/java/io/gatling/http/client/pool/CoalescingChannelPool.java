@@ -27,6 +27,8 @@ import org.slf4j.LoggerFactory;
 final class CoalescingChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingChannelPool.class);
 
+  private static final int INITIAL_CHANNEL_QUEUE_SIZE = 2;
+
   // FIXME Queue or Set?
   private final Map<Long, Map<IpAndPort, Map.Entry<Set<String>, Queue<Channel>>>> channels =
       new HashMap<>(ChannelPool.INITIAL_CLIENT_MAP_SIZE);
@@ -51,7 +53,7 @@ final class CoalescingChannelPool {
     Map.Entry<Set<String>, Queue<Channel>> entry = clientChannels.get(ipAndPort);
     Queue<Channel> channels;
     if (entry == null) {
-      channels = new ArrayDeque<>(ChannelPool.INITIAL_CHANNEL_QUEUE_SIZE);
+      channels = new ArrayDeque<>(INITIAL_CHANNEL_QUEUE_SIZE);
       channels.add(channel);
       clientChannels.put(
           ipAndPort, new AbstractMap.SimpleEntry<>(subjectAlternativeNames, channels));
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+/**
+ * Doubly linked list of pooled channels ordered by last touch: head is the least recently touched
+ * one, tail the most recently touched one. As touch timestamps are monotonic, touching a channel
+ * simply moves it to the tail.
+ */
+final class IdleChannels {
+
+  private PooledChannel head;
+  private PooledChannel tail;
+  private int size;
+
+  PooledChannel head() {
+    return head;
+  }
+
+  int size() {
+    return size;
+  }
+
+  void touch(PooledChannel entry, long now) {
+    remove(entry);
+    entry.lastTouch = now;
+    entry.idle = true;
+    entry.idlePrev = tail;
+    entry.idleNext = null;
+    if (tail == null) {
+      head = entry;
+    } else {
+      tail.idleNext = entry;
+    }
+    tail = entry;
+    size++;
+  }
+
+  void remove(PooledChannel entry) {
+    if (!entry.idle) {
+      return;
+    }
+    if (entry.idlePrev == null) {
+      head = entry.idleNext;
+    } else {
+      entry.idlePrev.idleNext = entry.idleNext;
+    }
+    if (entry.idleNext == null) {
+      tail = entry.idlePrev;
+    } else {
+      entry.idleNext.idlePrev = entry.idlePrev;
+    }
+    entry.idle = false;
+    entry.idlePrev = null;
+    entry.idleNext = null;
+    size--;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2Connection;
+
+/**
+ * Per channel pool state, stored once in a channel attribute.
+ *
+ * <p>Instances are intrusive nodes: they are linked both in the LIFO stack of their remote and in
+ * the pool-wide idle list ordered by last touch, so that every pool operation is O(1) and idle
+ * reaping only visits expired entries. Only ever accessed from the channel's event loop.
+ */
+final class PooledChannel {
+
+  final Channel channel;
+  final ChannelPoolKey key;
+  Http2Connection http2Connection;
+  boolean goAway;
+  boolean closeListenerRegistered;
+  boolean http2Pooled;
+  long lastTouch;
+
+  // remote stack links
+  RemoteChannels remote;
+  PooledChannel stackPrev;
+  PooledChannel stackNext;
+
+  // idle list links
+  boolean idle;
+  PooledChannel idlePrev;
+  PooledChannel idleNext;
+
+  PooledChannel(Channel channel, ChannelPoolKey key) {
+    this.channel = channel;
+    this.key = key;
+  }
+
+  boolean isHttp2() {
+    return http2Connection != null;
+  }
+
+  boolean canOpenStream() {
+    return !goAway && http2Connection.local().canOpenStream();
+  }
+
+  @Override
+  public String toString() {
+    return "PooledChannel{"
+        + "channel="
+        + channel
+        + ", key="
+        + key
+        + ", http2="
+        + isHttp2()
+        + ", goAway="
+        + goAway
+        + '}';
+  }
+}
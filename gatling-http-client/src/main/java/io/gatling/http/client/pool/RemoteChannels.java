@@ -0,0 +1,69 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+/**
+ * LIFO stack of the pooled channels of a given remote, so the most recently used, hence warmest,
+ * connection gets reused first.
+ */
+final class RemoteChannels {
+
+  private PooledChannel head;
+
+  PooledChannel head() {
+    return head;
+  }
+
+  void push(PooledChannel entry) {
+    entry.remote = this;
+    entry.stackPrev = null;
+    entry.stackNext = head;
+    if (head != null) {
+      head.stackPrev = entry;
+    }
+    head = entry;
+  }
+
+  void remove(PooledChannel entry) {
+    if (entry.remote != this) {
+      return;
+    }
+    if (entry.stackPrev == null) {
+      head = entry.stackNext;
+    } else {
+      entry.stackPrev.stackNext = entry.stackNext;
+    }
+    if (entry.stackNext != null) {
+      entry.stackNext.stackPrev = entry.stackPrev;
+    }
+    entry.remote = null;
+    entry.stackPrev = null;
+    entry.stackNext = null;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("RemoteChannels[");
+    for (PooledChannel entry = head; entry != null; entry = entry.stackNext) {
+      sb.append(entry.channel);
+      if (entry.stackNext != null) {
+        sb.append(", ");
+      }
+    }
+    return sb.append(']').toString();
+  }
+}
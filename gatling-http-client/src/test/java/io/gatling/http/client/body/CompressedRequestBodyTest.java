@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.body;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.BrotliInputStream;
+import com.github.luben.zstd.ZstdInputStream;
+import io.gatling.http.client.body.compressed.CompressedRequestBody;
+import io.gatling.http.client.body.compressed.CompressedRequestBodyBuilder;
+import io.gatling.http.client.body.compressed.RequestBodyEncoding;
+import io.gatling.http.client.body.is.InputStreamRequestBodyBuilder;
+import io.gatling.http.client.body.string.StringRequestBodyBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+
+class CompressedRequestBodyTest {
+
+  private static final String CONTENT = "Gatling is a load testing tool. ".repeat(1000);
+
+  private static InputStream decompressing(RequestBodyEncoding encoding, InputStream is)
+      throws IOException {
+    switch (encoding) {
+      case GZIP:
+        return new GZIPInputStream(is);
+      case DEFLATE:
+        return new InflaterInputStream(is);
+      case BROTLI:
+        Brotli4jLoader.ensureAvailability();
+        return new BrotliInputStream(is);
+      case ZSTD:
+        return new ZstdInputStream(is);
+      default:
+        throw new IllegalArgumentException("Unknown encoding " + encoding);
+    }
+  }
+
+  private static String decompress(RequestBodyEncoding encoding, ByteBuf compressed)
+      throws IOException {
+    try (InputStream is = decompressing(encoding, new ByteBufInputStream(compressed, true))) {
+      return new String(is.readAllBytes(), UTF_8);
+    }
+  }
+
+  private static ByteBuf build(RequestBody body) throws IOException {
+    WritableContent writableContent = body.build(ByteBufAllocator.DEFAULT);
+    ByteBuf content = (ByteBuf) writableContent.getContent();
+    assertEquals(content.readableBytes(), writableContent.getContentLength());
+    return content;
+  }
+
+  @Test
+  void shouldCompressByteBufContent() throws IOException {
+    for (RequestBodyEncoding encoding : RequestBodyEncoding.values()) {
+      RequestBody body =
+          new CompressedRequestBodyBuilder(new StringRequestBodyBuilder(CONTENT), encoding, false)
+              .build(null, null, UTF_8);
+      assertEquals(CONTENT, decompress(encoding, build(body)), encoding.contentEncoding());
+    }
+  }
+
+  @Test
+  void shouldCompressChunkedContent() throws IOException {
+    for (RequestBodyEncoding encoding : RequestBodyEncoding.values()) {
+      RequestBody body =
+          new CompressedRequestBodyBuilder(
+                  new InputStreamRequestBodyBuilder(
+                      new ByteArrayInputStream(CONTENT.getBytes(UTF_8))),
+                  encoding,
+                  false)
+              .build(null, null, UTF_8);
+      assertEquals(CONTENT, decompress(encoding, build(body)), encoding.contentEncoding());
+    }
+  }
+
+  @Test
+  void shouldOnlyCompressCachedBodiesOnce() {
+    CompressedRequestBodyBuilder builder =
+        new CompressedRequestBodyBuilder(
+            new StringRequestBodyBuilder(CONTENT), RequestBodyEncoding.GZIP, true);
+    CompressedRequestBody first = (CompressedRequestBody) builder.build(null, null, UTF_8);
+    CompressedRequestBody second = (CompressedRequestBody) builder.build(null, null, UTF_8);
+    assertSame(first.getBytes(), second.getBytes());
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.body.multipart;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.body.ContentSequence;
+import io.gatling.http.client.body.WritableContent;
+import io.gatling.http.client.body.multipart.impl.MultipartChunkedInput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.http.HttpContent;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MultipartFormDataRequestBodyTest {
+
+  private static byte[] toBytes(List<Object> messages) throws Exception {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    WritableByteChannel target = Channels.newChannel(os);
+    for (Object message : messages) {
+      if (message instanceof ByteBuf) {
+        ByteBuf buf = (ByteBuf) message;
+        buf.readBytes(os, buf.readableBytes());
+        buf.release();
+      } else {
+        FileRegion region = (FileRegion) message;
+        while (region.transferred() < region.count()) {
+          region.transferTo(target, region.transferred());
+        }
+        region.release();
+      }
+    }
+    return os.toByteArray();
+  }
+
+  private static byte[] toBytes(MultipartChunkedInput input) throws Exception {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    while (!input.isEndOfInput()) {
+      HttpContent chunk = input.readChunk(ByteBufAllocator.DEFAULT);
+      if (chunk != null) {
+        chunk.content().readBytes(os, chunk.content().readableBytes());
+        chunk.release();
+      }
+    }
+    input.close();
+    return os.toByteArray();
+  }
+
+  @Test
+  void zeroCopyContentShouldMatchChunkedContent() throws Exception {
+    File file = new File(getClass().getResource("/test.txt").toURI());
+    List<Part<?>> parts =
+        Arrays.asList(
+            new StringPart("foo", "bar", UTF_8, null, null, null, null, null),
+            new FilePart("file", file, UTF_8, null, null, null, null, null, "test.txt"),
+            new StringPart("baz", "qix", UTF_8, null, null, null, null, null));
+    MultipartFormDataRequestBody body =
+        (MultipartFormDataRequestBody)
+            new MultipartFormDataRequestBodyBuilder(parts).build(null, UTF_8, UTF_8);
+
+    WritableContent writableContent = body.build(ByteBufAllocator.DEFAULT, true);
+    assertInstanceOf(ContentSequence.class, writableContent.getContent());
+
+    byte[] zeroCopyBytes = toBytes(((ContentSequence) writableContent.getContent()).drain());
+    assertEquals(writableContent.getContentLength(), zeroCopyBytes.length);
+    assertArrayEquals(
+        toBytes((MultipartChunkedInput) body.build(ByteBufAllocator.DEFAULT).getContent()),
+        zeroCopyBytes);
+  }
+}
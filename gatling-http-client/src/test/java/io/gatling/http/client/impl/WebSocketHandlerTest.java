@@ -0,0 +1,80 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
+import org.junit.jupiter.api.Test;
+
+class WebSocketHandlerTest {
+
+  private static EmbeddedChannel newChannel(int maxFramePayloadLength) {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    channel
+        .pipeline()
+        .addLast(
+            DefaultHttpClient.WS_FRAME_AGGREGATOR, new WebSocketFrameAggregator(Integer.MAX_VALUE));
+    WebSocketHandler.boundFrameAggregator(channel.pipeline(), maxFramePayloadLength);
+    return channel;
+  }
+
+  @Test
+  void fragmentedMessagesWithinBoundShouldBeAggregated() {
+    EmbeddedChannel channel = newChannel(16);
+
+    channel.writeInbound(new TextWebSocketFrame(false, 0, "hello "));
+    assertNull(channel.readInbound());
+    channel.writeInbound(new ContinuationWebSocketFrame(true, 0, "world"));
+
+    TextWebSocketFrame aggregated = channel.readInbound();
+    try {
+      assertEquals("hello world", aggregated.text());
+    } finally {
+      aggregated.release();
+    }
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void fragmentedMessagesExceedingBoundShouldFail() {
+    EmbeddedChannel channel = newChannel(8);
+
+    channel.writeInbound(new TextWebSocketFrame(false, 0, "hello "));
+    assertThrows(
+        TooLongFrameException.class,
+        () -> channel.writeInbound(new ContinuationWebSocketFrame(true, 0, "world")));
+    assertNull(channel.readInbound());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void unboundedAggregatorShouldBeKept() {
+    EmbeddedChannel channel = new EmbeddedChannel();
+    WebSocketFrameAggregator aggregator = new WebSocketFrameAggregator(Integer.MAX_VALUE);
+    channel.pipeline().addLast(DefaultHttpClient.WS_FRAME_AGGREGATOR, aggregator);
+
+    WebSocketHandler.boundFrameAggregator(channel.pipeline(), Integer.MAX_VALUE);
+
+    assertSame(aggregator, channel.pipeline().get(DefaultHttpClient.WS_FRAME_AGGREGATOR));
+    channel.finishAndReleaseAll();
+  }
+}
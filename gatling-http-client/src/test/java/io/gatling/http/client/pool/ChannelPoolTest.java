@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client.pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.uri.Uri;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+class ChannelPoolTest {
+
+  private static final ChannelPoolKey KEY =
+      new ChannelPoolKey(1L, RemoteKey.newKey(Uri.create("http://localhost:8080"), null));
+
+  // reports inactive without closing, so the pool isn't notified through the close future
+  private static final class DeactivableChannel extends EmbeddedChannel {
+    // not initialized to true, as isActive is called from the super constructor
+    private boolean inactive;
+
+    @Override
+    public boolean isActive() {
+      return !inactive && super.isActive();
+    }
+  }
+
+  private static <C extends Channel> C register(C channel) {
+    ChannelPool.registerPoolKey(channel, KEY);
+    return channel;
+  }
+
+  private static Channel newChannel() {
+    return register(new EmbeddedChannel());
+  }
+
+  @Test
+  void pollShouldReturnLastOfferedChannelFirst() {
+    ChannelPool pool = new ChannelPool();
+    Channel channel1 = newChannel();
+    Channel channel2 = newChannel();
+    pool.offer(channel1);
+    pool.offer(channel2);
+
+    assertSame(channel2, pool.poll(KEY));
+    assertSame(channel1, pool.poll(KEY));
+    assertNull(pool.poll(KEY));
+  }
+
+  @Test
+  void pollShouldSkipInactiveChannels() {
+    ChannelPool pool = new ChannelPool();
+    Channel channel1 = newChannel();
+    DeactivableChannel channel2 = register(new DeactivableChannel());
+    DeactivableChannel channel3 = register(new DeactivableChannel());
+    pool.offer(channel1);
+    pool.offer(channel2);
+    pool.offer(channel3);
+    channel3.inactive = true;
+    channel2.inactive = true;
+
+    assertSame(channel1, pool.poll(KEY));
+    assertNull(pool.poll(KEY));
+  }
+
+  @Test
+  void closedChannelsShouldBeRemovedFromThePool() {
+    ChannelPool pool = new ChannelPool();
+    Channel channel1 = newChannel();
+    Channel channel2 = newChannel();
+    pool.offer(channel1);
+    pool.offer(channel2);
+    channel2.close();
+
+    assertSame(channel1, pool.poll(KEY));
+    assertNull(pool.poll(KEY));
+  }
+
+  @Test
+  void closeIdleChannelsShouldOnlyCloseExpiredChannels() {
+    ChannelPool pool = new ChannelPool();
+    Channel channel1 = newChannel();
+    Channel channel2 = newChannel();
+    pool.offer(channel1);
+    pool.offer(channel2);
+
+    pool.closeIdleChannels(Long.MAX_VALUE);
+    assertTrue(channel1.isActive());
+    assertTrue(channel2.isActive());
+
+    pool.closeIdleChannels(-1);
+    assertFalse(channel1.isActive());
+    assertFalse(channel2.isActive());
+    assertNull(pool.poll(KEY));
+  }
+
+  @Test
+  void flushShouldCloseClientChannels() {
+    ChannelPool pool = new ChannelPool();
+    Channel channel = newChannel();
+    pool.offer(channel);
+
+    pool.flushClientIdChannelPoolPartitions(KEY.clientId);
+    assertFalse(channel.isActive());
+    assertNull(pool.poll(KEY));
+  }
+}
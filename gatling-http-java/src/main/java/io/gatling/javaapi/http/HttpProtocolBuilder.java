@@ -1171,6 +1171,17 @@ public final class HttpProtocolBuilder implements ProtocolBuilder {
     return new HttpProtocolBuilder(wrapped.wsUnmatchedInboundMessageBufferSize(max));
   }
 
+  /**
+   * Set the max payload length of inbound WebSocket messages, once aggregated. Unbounded by
+   * default. Larger messages crash the WebSocket instead of being buffered in memory.
+   *
+   * @param max the max length in bytes
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder wsMaxFramePayloadLength(int max) {
+    return new HttpProtocolBuilder(wrapped.wsMaxFramePayloadLength(max));
+  }
+
   /**
    * Set the max size of the buffer for unmatched/unchecked inbound SSE messages. 0 by default,
    * meaning such messages are not buffered.
@@ -1288,4 +1299,15 @@ public final class HttpProtocolBuilder implements ProtocolBuilder {
   public HttpProtocolBuilder perUserNameResolution() {
     return new HttpProtocolBuilder(wrapped.perUserNameResolution());
   }
+
+  /**
+   * Share, for all the virtual users living on a given event loop, a DNS cache that honors TTLs,
+   * caches failures and refreshes the entries that are still in use before they expire. Only
+   * applies to asyncNameResolution and is ignored when perUserNameResolution is enabled.
+   *
+   * @return a new HttpProtocolBuilder instance
+   */
+  public HttpProtocolBuilder eventLoopNameResolution() {
+    return new HttpProtocolBuilder(wrapped.eventLoopNameResolution());
+  }
 }
@@ -26,18 +26,20 @@ public final class HttpCheckBuilder {
   private HttpCheckBuilder() {}
 
   public static final class CurrentLocationRegex
-      extends CheckBuilder.CaptureGroupCheckBuilder.Default<CurrentLocationRegexCheckType, String> {
+      extends CheckBuilder.CaptureGroupCheckBuilder.Default<
+          CurrentLocationRegexCheckType, CharSequence> {
 
     public CurrentLocationRegex(
         io.gatling.core.check.CheckBuilder.MultipleFind<
-                CurrentLocationRegexCheckType, String, String>
+                CurrentLocationRegexCheckType, CharSequence, String>
             wrapped) {
       super(wrapped, HttpCheckType.CurrentLocationRegex);
     }
 
     @Override
     protected <X>
-        io.gatling.core.check.CheckBuilder.MultipleFind<CurrentLocationRegexCheckType, String, X>
+        io.gatling.core.check.CheckBuilder.MultipleFind<
+                CurrentLocationRegexCheckType, CharSequence, X>
             extract(GroupExtractor<X> groupExtractor) {
       io.gatling.http.check.url.CurrentLocationRegexCheckBuilder<String> actual =
           (io.gatling.http.check.url.CurrentLocationRegexCheckBuilder<String>) wrapped;
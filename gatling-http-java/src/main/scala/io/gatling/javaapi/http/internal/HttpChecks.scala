@@ -25,7 +25,7 @@ import io.gatling.core.{ Predef => CorePredef }
 import io.gatling.core.check.CheckBuilder
 import io.gatling.core.check.bytes.BodyBytesCheckType
 import io.gatling.core.check.checksum.{ Md5CheckType, Sha1CheckType }
-import io.gatling.core.check.css.CssCheckType
+import io.gatling.core.check.css.{ CssCheckType, HtmlDocument }
 import io.gatling.core.check.jmespath.{ JmesPathCheckType, JsonpJmesPathCheckType }
 import io.gatling.core.check.jsonpath.{ JsonPathCheckType, JsonpJsonPathCheckType }
 import io.gatling.core.check.regex.RegexCheckType
@@ -33,7 +33,7 @@ import io.gatling.core.check.stream.BodyStreamCheckType
 import io.gatling.core.check.string.BodyStringCheckType
 import io.gatling.core.check.substring.SubstringCheckType
 import io.gatling.core.check.time.ResponseTimeCheckType
-import io.gatling.core.check.xpath.XPathCheckType
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.core.stats.message.ResponseTimings
 import io.gatling.http.{ Predef => HttpPredef }
 import io.gatling.http.check.HttpCheck
@@ -44,8 +44,6 @@ import io.gatling.http.response.Response
 import io.gatling.javaapi.core.internal.CoreCheckType
 
 import com.fasterxml.jackson.databind.JsonNode
-import jodd.lagarto.dom.NodeSelector
-import net.sf.saxon.s9api.XdmNode
 
 object HttpChecks {
   private def toScalaCheck(javaCheck: io.gatling.javaapi.core.CheckBuilder): HttpCheck = {
@@ -56,11 +54,12 @@ object HttpChecks {
       case CoreCheckType.BodyString => scalaCheck.asInstanceOf[CheckBuilder[BodyStringCheckType, String]].build(HttpPredef.httpBodyStringCheckMaterializer)
       case CoreCheckType.BodyStream =>
         scalaCheck.asInstanceOf[CheckBuilder[BodyStreamCheckType, () => InputStream]].build(HttpPredef.httpBodyStreamCheckMaterializer)
-      case CoreCheckType.Regex     => scalaCheck.asInstanceOf[CheckBuilder[RegexCheckType, String]].build(HttpPredef.httpBodyRegexCheckMaterializer)
-      case CoreCheckType.Substring => scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, String]].build(HttpPredef.httpBodySubstringCheckMaterializer)
-      case CoreCheckType.XPath     => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XdmNode]].build(HttpPredef.httpBodyXPathCheckMaterializer)
+      case CoreCheckType.Regex => scalaCheck.asInstanceOf[CheckBuilder[RegexCheckType, CharSequence]].build(HttpPredef.httpBodyRegexCheckMaterializer)
+      case CoreCheckType.Substring =>
+        scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, CharSequence]].build(HttpPredef.httpBodySubstringCheckMaterializer)
+      case CoreCheckType.XPath => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XmlDocument]].build(HttpPredef.httpBodyXPathCheckMaterializer)
       case CoreCheckType.Css =>
-        scalaCheck.asInstanceOf[CheckBuilder[CssCheckType, NodeSelector]].build(HttpPredef.httpBodyCssCheckMaterializer(CorePredef.defaultCssSelectors))
+        scalaCheck.asInstanceOf[CheckBuilder[CssCheckType, HtmlDocument]].build(HttpPredef.httpBodyCssCheckMaterializer(CorePredef.defaultCssSelectors))
       case CoreCheckType.JsonPath =>
         scalaCheck.asInstanceOf[CheckBuilder[JsonPathCheckType, JsonNode]].build(HttpPredef.httpBodyJsonPathCheckMaterializer(CorePredef.defaultJsonParsers))
       case CoreCheckType.JsonpJsonPath =>
@@ -80,7 +79,7 @@ object HttpChecks {
       case HttpCheckType.CurrentLocation =>
         scalaCheck.asInstanceOf[CheckBuilder[CurrentLocationCheckType, String]].build(HttpPredef.currentLocationCheckMaterializer)
       case HttpCheckType.CurrentLocationRegex =>
-        scalaCheck.asInstanceOf[CheckBuilder[CurrentLocationRegexCheckType, String]].build(HttpPredef.currentLocationRegexCheckMaterializer)
+        scalaCheck.asInstanceOf[CheckBuilder[CurrentLocationRegexCheckType, CharSequence]].build(HttpPredef.currentLocationRegexCheckMaterializer)
       case HttpCheckType.Status => scalaCheck.asInstanceOf[CheckBuilder[HttpStatusCheckType, Response]].build(HttpPredef.httpStatusCheckMaterializer)
       case HttpCheckType.Header => scalaCheck.asInstanceOf[CheckBuilder[HttpHeaderCheckType, Response]].build(HttpPredef.httpHeaderCheckMaterializer)
       case HttpCheckType.HeaderRegex =>
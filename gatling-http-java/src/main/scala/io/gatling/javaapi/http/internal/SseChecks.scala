@@ -37,8 +37,8 @@ object SseChecks {
     val scalaCheck = javaCheck.asScala
     javaCheck.`type` match {
       case CoreCheckType.BodyString => scalaCheck.asInstanceOf[CheckBuilder[BodyStringCheckType, String]].build(SseCheckMaterializer.BodyString)
-      case CoreCheckType.Regex      => scalaCheck.asInstanceOf[CheckBuilder[RegexCheckType, String]].build(SseCheckMaterializer.Regex)
-      case CoreCheckType.Substring  => scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, String]].build(SseCheckMaterializer.Substring)
+      case CoreCheckType.Regex      => scalaCheck.asInstanceOf[CheckBuilder[RegexCheckType, CharSequence]].build(SseCheckMaterializer.Regex)
+      case CoreCheckType.Substring  => scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, CharSequence]].build(SseCheckMaterializer.Substring)
       case CoreCheckType.JsonPath =>
         scalaCheck.asInstanceOf[CheckBuilder[JsonPathCheckType, JsonNode]].build(SseCheckMaterializer.jsonPath(CorePredef.defaultJsonParsers))
       case CoreCheckType.JmesPath =>
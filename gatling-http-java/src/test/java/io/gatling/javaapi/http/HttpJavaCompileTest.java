@@ -133,6 +133,7 @@ public class HttpJavaCompileTest extends Simulation {
           .asyncNameResolution("dnsServer1", "dnsServer2")
           .asyncNameResolution(new InetSocketAddress[] {null})
           .perUserNameResolution()
+          .eventLoopNameResolution()
           .check(
               bodyBytes(),
               bodyBytes().is("foo".getBytes(UTF_8)),
@@ -347,6 +348,21 @@ public class HttpJavaCompileTest extends Simulation {
                   .post("/things")
                   .body(ByteArrayBody("#{bytes}"))
                   .processRequestBody(gzipBody))
+          .exec(
+              http("Request")
+                  .post("/things")
+                  .body(RawFileBody("create_thing.txt"))
+                  .processRequestBody(deflateBody))
+          .exec(
+              http("Request")
+                  .post("/things")
+                  .body(ElFileBody("create_thing.txt"))
+                  .processRequestBody(brotliBody))
+          .exec(
+              http("Request")
+                  .post("/things")
+                  .body(StringBody("FOO#{BAR}BAZ"))
+                  .processRequestBody(zstdBody))
           // proxy
           .exec(http("Request").head("/").proxy(Proxy("172.31.76.106", 8080).https()))
           .exec(http("Request").head("/").proxy(Proxy("172.31.76.106", 8080).socks4()))
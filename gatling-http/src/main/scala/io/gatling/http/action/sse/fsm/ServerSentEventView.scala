@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.sse.fsm
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.netty.buffer.ByteBuf
+
+private[fsm] final class SseFieldBuffer {
+  private var bytes: Array[Byte] = Array.emptyByteArray
+  private var length = 0
+  private var defined = false
+
+  def isDefined: Boolean = defined
+
+  def set(buf: ByteBuf, start: Int, end: Int): Unit = {
+    length = end - start
+    if (bytes.length < length) {
+      bytes = new Array[Byte](math.max(length, bytes.length * 2))
+    }
+    buf.getBytes(start, bytes, 0, length)
+    defined = true
+  }
+
+  def reset(): Unit = {
+    length = 0
+    defined = false
+  }
+
+  def toOption: Option[String] =
+    if (defined) Some(new String(bytes, 0, length, UTF_8)) else None
+}
+
+/**
+ * The event currently being decoded by a [[SseStreamDecoder]], reused for the whole stream: it must not be retained, but turned into a String or a
+ * [[ServerSentEvent]], which only happens if a check or the unmatched messages buffer needs it.
+ */
+final class ServerSentEventView private[fsm] () {
+  private[fsm] val nameField = new SseFieldBuffer
+  private[fsm] val dataField = new SseFieldBuffer
+  private[fsm] val idField = new SseFieldBuffer
+  private[fsm] var retryValue: Int = -1
+
+  private[fsm] def nonEmpty: Boolean =
+    nameField.isDefined || dataField.isDefined || idField.isDefined || retryValue >= 0
+
+  private[fsm] def reset(): Unit = {
+    nameField.reset()
+    dataField.reset()
+    idField.reset()
+    retryValue = -1
+  }
+
+  def retry: Option[Int] = if (retryValue >= 0) Some(retryValue) else None
+
+  def toServerSentEvent: ServerSentEvent =
+    ServerSentEvent(
+      name = nameField.toOption,
+      data = dataField.toOption,
+      id = idField.toOption,
+      retry = retry
+    )
+
+  def asJsonString: String = toServerSentEvent.asJsonString
+
+  override def toString: String = toServerSentEvent.toString
+}
@@ -87,6 +87,7 @@ final class SseFsm(
   private var currentState: SseState = _
   private var currentTimeout: ScheduledFuture[Unit] = _
   private[fsm] val unmatchedInboundMessageBuffer = new BoundedMutableDequeue[SseInboundMessage](httpProtocol.ssePart.unmatchedInboundMessageBufferSize)
+  private[fsm] val bufferingUnmatchedInboundMessages = httpProtocol.ssePart.unmatchedInboundMessageBufferSize > 0
 
   private[fsm] def scheduleTimeout(dur: FiniteDuration): Unit = {
     currentTimeout = eventLoop.schedule(
@@ -130,8 +131,8 @@ final class SseFsm(
     execute(currentState.onSetCheck(actionName, checkSequences, session: Session, next))
   }
 
-  def onSseReceived(message: String): Unit =
-    execute(currentState.onSseReceived(message, clock.nowMillis))
+  def onSseReceived(event: ServerSentEventView): Unit =
+    execute(currentState.onSseReceived(event, clock.nowMillis))
 
   def onSseEndOfStream(): Unit =
     execute(currentState.onSseStreamClosed(clock.nowMillis))
@@ -54,8 +54,8 @@ final case class SsePerformingCheckState(
     NextSseState(this)
   }
 
-  override def onSseReceived(message: String, timestamp: Long): NextSseState =
-    tryApplyingChecks(message, timestamp, currentCheck.matchConditions, currentCheck.checks)
+  override def onSseReceived(event: ServerSentEventView, timestamp: Long): NextSseState =
+    tryApplyingChecks(event.asJsonString, timestamp, currentCheck.matchConditions, currentCheck.checks)
 
   override def onSseEndOfStream(timestamp: Long): NextSseState = {
     // unexpected end of stream, fail check
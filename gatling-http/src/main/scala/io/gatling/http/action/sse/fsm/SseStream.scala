@@ -155,12 +155,14 @@ final class SseStream(
     }
   }
 
-  def eventReceived(event: ServerSentEvent): Unit =
+  def eventReceived(event: ServerSentEventView): Unit =
     state match {
       case Open(_) =>
         logger.debug(s"Received SSE event $event while in Open state. Propagating.")
-        event.retry.foreach(retryDelayInSeconds = _)
-        fsm.onSseReceived(event.asJsonString)
+        if (event.retryValue >= 0) {
+          retryDelayInSeconds = event.retryValue
+        }
+        fsm.onSseReceived(event)
       case Connecting(listener) =>
         illegalState(listener, s"Invalid state: received SSE $event while state was Connecting. Please report.")
       case ProcessingClientCloseRequest(_) =>
@@ -16,182 +16,157 @@
 
 package io.gatling.http.action.sse.fsm
 
-import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets.US_ASCII
 
-import io.gatling.netty.util.Utf8ByteBufCharsetDecoder
-
-import io.netty.buffer.ByteBuf
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.util.ByteProcessor
 
 object SseStreamDecoder {
-  private val BOM = '\uFEFF'
-  private val LF = 0x0a
-  private val CR = 0x0d
-
-  private val EventHeader = "event:".toCharArray
-  private val DataHeader = "data:".toCharArray
-  private val IdHeader = "id:".toCharArray
-  private val RetryHeader = "retry:".toCharArray
+  private val Bom = Array(0xef.toByte, 0xbb.toByte, 0xbf.toByte)
+  private val LF: Byte = 0x0a
+  private val CR: Byte = 0x0d
+  private val Colon: Byte = ':'
+  private val Space: Byte = ' '
+
+  private val EventHeader = "event:".getBytes(US_ASCII)
+  private val DataHeader = "data:".getBytes(US_ASCII)
+  private val IdHeader = "id:".getBytes(US_ASCII)
+  private val RetryHeader = "retry:".getBytes(US_ASCII)
+
+  private def startsWith(buf: ByteBuf, start: Int, end: Int, prefix: Array[Byte]): Boolean =
+    end - start >= prefix.length && {
+      var i = 0
+      while (i < prefix.length && buf.getByte(start + i) == prefix(i)) {
+        i += 1
+      }
+      i == prefix.length
+    }
 }
 
-final class SseStreamDecoder extends Utf8ByteBufCharsetDecoder {
+/**
+ * Scans the raw bytes for line breaks and field names, so nothing is decoded while parsing: field values are copied into the reused event, whose strings are
+ * only built if someone reads them. Line breaks and field names being ASCII, they can't be mistaken for the bytes of a multi-byte char.
+ *
+ * @param onEvent
+ *   called with every complete event, which is only valid during the call as it's reset right after
+ */
+final class SseStreamDecoder(onEvent: ServerSentEventView => Unit) {
   import SseStreamDecoder._
 
-  private[this] var pendingName: Option[String] = None
-  private[this] var pendingData: Option[String] = None
-  private[this] var pendingId: Option[String] = None
-  private[this] var pendingRetry: Option[Int] = None
-
-  private[this] val pendingEvents = collection.mutable.ArrayBuffer.empty[ServerSentEvent]
-  private[this] var firstEvent = true
-  private[this] var previousBufferLastCharWasCr = false
-  private[this] var position = 0
-
-  private var charArray: Array[Char] = _
+  private[this] val event = new ServerSentEventView
+  // beginning of a line split over several chunks
+  private[this] val pendingLine = Unpooled.buffer(0)
+  private[this] var firstLine = true
+  private[this] var previousChunkLastByteWasCr = false
+
+  private def parseField(buf: ByteBuf, start: Int, end: Int): Unit = {
+    def valueStart(header: Array[Byte]): Int = {
+      val nextPos = start + header.length
+      if (nextPos < end && buf.getByte(nextPos) == Space) {
+        // white space after colon, trim it
+        nextPos + 1
+      } else {
+        nextPos
+      }
+    }
 
-  override protected def allocateCharBuffer(l: Int): CharBuffer = {
-    charArray = new Array[Char](l)
-    CharBuffer.wrap(charArray)
+    if (startsWith(buf, start, end, EventHeader)) {
+      event.nameField.set(buf, valueStart(EventHeader), end)
+    } else if (startsWith(buf, start, end, DataHeader)) {
+      event.dataField.set(buf, valueStart(DataHeader), end)
+    } else if (startsWith(buf, start, end, IdHeader)) {
+      event.idField.set(buf, valueStart(IdHeader), end)
+    } else if (startsWith(buf, start, end, RetryHeader)) {
+      parseRetry(buf, valueStart(RetryHeader), end)
+    }
   }
 
-  private def parseLine(lineStart: Int, lineEnd: Int): Unit = {
-    val lineLength = lineEnd - lineStart
-
-    def onFieldHeaderMatch(fieldHeader: Array[Char]): Option[String] = {
-      val fieldHeaderLength = fieldHeader.length
-
-      if (lineLength < fieldHeaderLength) {
-        None
-      } else if (
-        (0 until fieldHeaderLength).forall { i =>
-          charArray(lineStart + i) == fieldHeader(i)
-        }
-      ) {
-        val nextPos = lineStart + fieldHeaderLength
-        val valueStart =
-          if (charArray(nextPos) == ' ') {
-            // white space after colon, trim it
-            nextPos + 1
-          } else {
-            nextPos
-          }
-
-        Some(new String(charArray, valueStart, lineEnd - valueStart))
+  private def parseRetry(buf: ByteBuf, start: Int, end: Int): Unit = {
+    var retry = 0L
+    var i = start
+    var valid = start < end
+    while (valid && i < end) {
+      val b = buf.getByte(i)
+      if (b >= '0' && b <= '9') {
+        retry = retry * 10 + b - '0'
+        i += 1
+        // too large values would overflow
+        valid = retry <= Int.MaxValue
       } else {
-        None
+        valid = false
       }
     }
+    // ignore invalid values instead of crashing the stream
+    if (valid) {
+      event.retryValue = retry.toInt
+    }
+  }
 
-    if (lineLength == 0) {
+  private def parseLine(buf: ByteBuf, lineStart: Int, lineEnd: Int): Unit = {
+    val start =
+      if (firstLine) {
+        firstLine = false
+        if (startsWith(buf, lineStart, lineEnd, Bom)) lineStart + Bom.length else lineStart
+      } else {
+        lineStart
+      }
+
+    if (start == lineEnd) {
       // empty line, flushing event
-      if (pendingName.isDefined || pendingData.isDefined || pendingId.isDefined || pendingRetry.isDefined) {
+      if (event.nonEmpty) {
         // non empty event (eg just a comment)
-        pendingEvents += ServerSentEvent(
-          name = pendingName,
-          data = pendingData,
-          id = pendingId,
-          retry = pendingRetry
-        )
-
-        pendingName = None
-        pendingData = None
-        pendingId = None
-        pendingRetry = None
-      }
-    } else if (charArray(lineStart) == ':') {
-      // comment, skipping
-    } else {
-      // parse real line
-      onFieldHeaderMatch(EventHeader) match {
-        case None =>
-          onFieldHeaderMatch(DataHeader) match {
-            case None =>
-              onFieldHeaderMatch(IdHeader) match {
-                case None =>
-                  onFieldHeaderMatch(RetryHeader) match {
-                    case None =>
-                    case res  => pendingRetry = res.map(_.toInt)
-                  }
-                case res => pendingId = res
-              }
-            case res => pendingData = res
-          }
-        case res => pendingName = res
+        try {
+          onEvent(event)
+        } finally {
+          event.reset()
+        }
       }
+    } else if (buf.getByte(start) != Colon) {
+      // not a comment, parse real line
+      parseField(buf, start, lineEnd)
     }
   }
 
-  private def parseChars(): Unit = {
-    if (firstEvent) {
-      if (charArray(position) == BOM) {
+  private def nextLineEnd(buf: ByteBuf, position: Int, end: Int): Int =
+    if (position < end) {
+      buf.forEachByte(position, end - position, ByteProcessor.FIND_CRLF)
+    } else {
+      -1
+    }
+
+  def decodeStream(buf: ByteBuf): Unit =
+    if (buf.isReadable) {
+      val end = buf.writerIndex
+      var position = buf.readerIndex
+      if (previousChunkLastByteWasCr && buf.getByte(position) == LF) {
+        // last chunk ended with a terminated line
+        // but we were actually in the middle of a CRLF pair
         position += 1
       }
-      firstEvent = false
-    } else if (previousBufferLastCharWasCr && charArray(position) == LF) {
-      // last buffer ended with a terminated line
-      // but we were actually in the middle of a CRLF pair
-      position += 1
-    }
 
-    // scanning actual content
-    var i = position
-    val sbLength = charBuffer.position()
+      var lineEnd = nextLineEnd(buf, position, end)
+      while (lineEnd != -1) {
+        if (pendingLine.isReadable) {
+          pendingLine.writeBytes(buf, position, lineEnd - position)
+          parseLine(pendingLine, pendingLine.readerIndex, pendingLine.writerIndex)
+          pendingLine.clear()
+        } else {
+          parseLine(buf, position, lineEnd)
+        }
 
-    while (i < sbLength) {
-      charArray(i) match {
-        case CR =>
-          parseLine(position, i)
-          if (i < sbLength - 1 && charArray(i + 1) == LF) {
+        position =
+          if (buf.getByte(lineEnd) == CR && lineEnd + 1 < end && buf.getByte(lineEnd + 1) == LF) {
             // skip next LF
-            i += 2
+            lineEnd + 2
           } else {
-            i += 1
+            lineEnd + 1
           }
-          position = i
-
-        case LF =>
-          parseLine(position, i)
-          i += 1
-          position = i
-
-        case _ =>
-          i += 1
+        lineEnd = nextLineEnd(buf, position, end)
       }
-    }
-  }
-
-  private def translateCharBuffer(): Unit = {
-    val sbLength = charBuffer.position()
-    previousBufferLastCharWasCr = charArray(sbLength - 1) == CR
-    if (position >= sbLength) {
-      // all read, clear
-      charBuffer.position(0)
-    } else if (position > 0) {
-      // partially read, translate
-      System.arraycopy(charArray, position, charArray, 0, sbLength - position)
-      charBuffer.position(sbLength - position)
-    }
-    position = 0
-  }
 
-  private def flushEvents(): Seq[ServerSentEvent] = {
-    val events = pendingEvents.toVector
-    pendingEvents.clear()
-    events
-  }
-
-  def decodeStream(buf: ByteBuf): Seq[ServerSentEvent] =
-    if (buf.isReadable) {
-      ensureCapacity(buf.readableBytes)
-      if (buf.nioBufferCount == 1) {
-        decodePartial(buf.internalNioBuffer(buf.readerIndex, buf.readableBytes), false)
-      } else {
-        buf.nioBuffers.foreach(decodePartial(_, false))
+      if (position < end) {
+        pendingLine.writeBytes(buf, position, end - position)
       }
-
-      parseChars()
-      translateCharBuffer()
-      flushEvents()
-    } else {
-      Nil
+      previousChunkLastByteWasCr = buf.getByte(end - 1) == CR
     }
 }
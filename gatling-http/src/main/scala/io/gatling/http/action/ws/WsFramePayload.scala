@@ -0,0 +1,57 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws
+
+import io.gatling.netty.util.{ ByteBufUtils, Utf8ByteBufCharsetDecoder }
+
+import io.netty.buffer.ByteBuf
+
+/**
+ * Payload of an inbound frame, backed by the frame's content, so only valid while the frame is being processed. Text is only decoded and bytes only copied on
+ * demand, so frames nobody looks at are never materialized.
+ */
+private[ws] final class WsFramePayload(content: ByteBuf) {
+  private var decoded: String = _
+  private var copied: Array[Byte] = _
+
+  def length: Int = content.readableBytes
+
+  def text: String = {
+    if (decoded == null) {
+      decoded = Utf8ByteBufCharsetDecoder.decodeUtf8(content)
+    }
+    decoded
+  }
+
+  def bytes: Array[Byte] = {
+    if (copied == null) {
+      copied = ByteBufUtils.byteBuf2Bytes(content)
+    }
+    copied
+  }
+
+  // keeps the raw bytes when the text hasn't been decoded yet, as the content doesn't outlive the frame
+  def toTextMessage(timestamp: Long): WsInboundMessage.Text =
+    if (decoded == null) {
+      WsInboundMessage.Text.undecoded(timestamp, bytes)
+    } else {
+      WsInboundMessage.Text(timestamp, decoded)
+    }
+
+  def toBinaryMessage(timestamp: Long): WsInboundMessage.Binary =
+    WsInboundMessage.Binary(timestamp, bytes)
+}
@@ -17,13 +17,44 @@
 package io.gatling.http.action.ws
 
 import java.{ lang => jl, util => ju }
+import java.nio.charset.StandardCharsets.UTF_8
 
 sealed trait WsInboundMessage {
   def timestamp: Long
 }
 
 object WsInboundMessage {
-  final case class Text(timestamp: Long, message: String) extends WsInboundMessage
+  object Text {
+    def apply(timestamp: Long, message: String): Text = new Text(timestamp, message, null)
+
+    // buffered frames are only decoded if the message is actually read
+    private[ws] def undecoded(timestamp: Long, bytes: Array[Byte]): Text = new Text(timestamp, null, bytes)
+
+    def unapply(text: Text): Some[(Long, String)] = Some((text.timestamp, text.message))
+  }
+
+  final class Text private (val timestamp: Long, private[this] var decoded: String, bytes: Array[Byte]) extends WsInboundMessage {
+    // racy single check, decoding twice is harmless
+    def message: String = {
+      if (decoded == null) {
+        decoded = new String(bytes, UTF_8)
+      }
+      decoded
+    }
+
+    private[ws] def isDecoded: Boolean = decoded != null
+
+    override def hashCode(): Int = 31 * jl.Long.hashCode(timestamp) + message.hashCode
+
+    override def equals(obj: Any): Boolean =
+      obj match {
+        case other: Text => timestamp == other.timestamp && message == other.message
+        case _           => false
+      }
+
+    override def toString: String = s"Text($timestamp,$message)"
+  }
+
   final case class Binary(timestamp: Long, message: Array[Byte]) extends WsInboundMessage {
     override def hashCode(): Int = 31 * jl.Long.hashCode(timestamp) + ju.Arrays.hashCode(message)
 
@@ -19,6 +19,7 @@ package io.gatling.http.action.ws.fsm
 import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
+import io.gatling.http.action.ws.WsFramePayload
 
 import com.typesafe.scalalogging.StrictLogging
 
@@ -31,14 +32,14 @@ final class WsClosingState(fsm: WsFsm, actionName: String, session: Session, nex
     NextWsState(new WsClosedState(fsm), () => next ! newSession)
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    fsm.wsLogger.registerInboundMessage(message, timestamp)
+  override def onTextFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState = {
+    fsm.wsLogger.registerInboundTextMessage(payload, timestamp)
     logUnmatchedServerMessage(session)
     NextWsState(this)
   }
 
-  override def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState = {
-    fsm.wsLogger.registerInboundMessage(message, timestamp)
+  override def onBinaryFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState = {
+    fsm.wsLogger.registerInboundBinaryMessage(payload.length, timestamp)
     logUnmatchedServerMessage(session)
     NextWsState(this)
   }
@@ -25,7 +25,7 @@ import io.gatling.core.action.Action
 import io.gatling.core.session.Session
 import io.gatling.core.stats.StatsEngine
 import io.gatling.core.util.BoundedMutableDequeue
-import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.action.ws.{ WsFramePayload, WsInboundMessage }
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.{ Request, WebSocket }
 import io.gatling.http.engine.HttpEngine
@@ -51,6 +51,13 @@ final class WsFsm(
   private var currentState: WsState = new WsInitState(this)
   private var currentTimeout: ScheduledFuture[Unit] = _
   private[fsm] val unmatchedInboundMessageBuffer = new BoundedMutableDequeue[WsInboundMessage](httpProtocol.wsPart.unmatchedInboundMessageBufferSize)
+  private val bufferingUnmatchedInboundMessages = httpProtocol.wsPart.unmatchedInboundMessageBufferSize > 0
+
+  // only copy the frame content if it's going to be kept
+  private[fsm] def bufferUnmatchedInboundMessage(message: => WsInboundMessage): Unit =
+    if (bufferingUnmatchedInboundMessages) {
+      unmatchedInboundMessageBuffer.addOne(message)
+    }
 
   private[fsm] def scheduleTimeout(dur: FiniteDuration): Unit = {
     currentTimeout = eventLoop.schedule(
@@ -111,11 +118,11 @@ final class WsFsm(
     execute(currentState.onSendBinaryFrame(actionName, message, checkSequences, session, next))
   }
 
-  def onTextFrameReceived(message: String, timestamp: Long): Unit =
-    execute(currentState.onTextFrameReceived(message, timestamp))
+  private[ws] def onTextFrameReceived(payload: WsFramePayload, timestamp: Long): Unit =
+    execute(currentState.onTextFrameReceived(payload, timestamp))
 
-  def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): Unit =
-    execute(currentState.onBinaryFrameReceived(message, timestamp))
+  private[ws] def onBinaryFrameReceived(payload: WsFramePayload, timestamp: Long): Unit =
+    execute(currentState.onBinaryFrameReceived(payload, timestamp))
 
   def onWebSocketClosed(code: Int, reason: String, timestamp: Long): Unit =
     execute(currentState.onWebSocketClosed(code, reason, timestamp))
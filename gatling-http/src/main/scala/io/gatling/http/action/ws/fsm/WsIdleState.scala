@@ -21,7 +21,7 @@ import scala.concurrent.duration.DurationLong
 import io.gatling.commons.stats.OK
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
-import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.action.ws.WsFramePayload
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.WebSocket
 import io.gatling.http.engine.response.HttpTracing
@@ -120,19 +120,20 @@ final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, prot
     }
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
-    wsLogger.registerInboundMessage(message, timestamp)
+  override def onTextFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState = {
+    wsLogger.registerInboundTextMessage(payload, timestamp)
     // try to auto reply or log the message
-    if (!autoReplyTextFrames(message, webSocket)) {
+    val autoReplied = autoReplyTextFrames(payload, webSocket)
+    bufferUnmatchedInboundMessage(payload.toTextMessage(timestamp))
+    if (!autoReplied) {
       logUnmatchedServerMessage(session)
     }
     NextWsState(this)
   }
 
-  override def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState = {
-    unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Binary(timestamp, message))
-    wsLogger.registerInboundMessage(message, timestamp)
+  override def onBinaryFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState = {
+    bufferUnmatchedInboundMessage(payload.toBinaryMessage(timestamp))
+    wsLogger.registerInboundBinaryMessage(payload.length, timestamp)
     // server push message, just log
     logUnmatchedServerMessage(session)
     NextWsState(this)
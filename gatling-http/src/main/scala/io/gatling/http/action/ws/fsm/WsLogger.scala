@@ -19,6 +19,7 @@ package io.gatling.http.action.ws.fsm
 import io.gatling.commons.stats.{ KO, Status }
 import io.gatling.commons.util.StringHelper.Eol
 import io.gatling.core.session.Session
+import io.gatling.http.action.ws.WsFramePayload
 import io.gatling.http.engine.response.HttpTracing
 import io.gatling.http.util._
 import io.gatling.shared.util.StringBuilderPool
@@ -103,14 +104,14 @@ final class WsLogger {
 
   private var inboundMessages: List[(Long, String)] = Nil
 
-  def registerInboundMessage(message: String, timestamp: Long): Unit =
+  def registerInboundTextMessage(payload: WsFramePayload, timestamp: Long): Unit =
     if (HttpTracing.IS_HTTP_DEBUG_ENABLED) {
-      inboundMessages = (timestamp, message) :: inboundMessages
+      inboundMessages = (timestamp, payload.text) :: inboundMessages
     }
 
-  def registerInboundMessage(message: Array[Byte], timestamp: Long): Unit =
+  def registerInboundBinaryMessage(length: Int, timestamp: Long): Unit =
     if (HttpTracing.IS_HTTP_DEBUG_ENABLED) {
-      inboundMessages = (timestamp, s"<<<BINARY CONTENT length=${message.length}>>>") :: inboundMessages
+      inboundMessages = (timestamp, s"<<<BINARY CONTENT length=$length>>>") :: inboundMessages
     }
 
   def logCheck(
@@ -22,7 +22,7 @@ import io.gatling.commons.validation.{ Failure, Success }
 import io.gatling.core.action.Action
 import io.gatling.core.check.Check
 import io.gatling.core.session.Session
-import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.action.ws.WsFramePayload
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.WebSocket
 
@@ -88,18 +88,18 @@ final case class WsPerformingCheckState(
     )
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    wsLogger.registerInboundMessage(message, timestamp)
-    if (autoReplyTextFrames(message, webSocket)) {
+  override def onTextFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState = {
+    wsLogger.registerInboundTextMessage(payload, timestamp)
+    if (autoReplyTextFrames(payload, webSocket)) {
       NextWsState(this)
     } else {
       currentCheck match {
         case WsFrameCheck.Text(_, matchConditions, checks, _, _) =>
-          tryApplyingChecks(message, timestamp, matchConditions, checks)
+          tryApplyingChecks(payload.text, timestamp, matchConditions, checks)
 
         case _ =>
-          logger.debug(s"Received unmatched text frame $message")
-          unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
+          logger.debug(s"Received unmatched text frame of length ${payload.length}")
+          bufferUnmatchedInboundMessage(payload.toTextMessage(timestamp))
           // server unmatched message, just log
           logUnmatchedServerMessage(session)
           NextWsState(this)
@@ -107,15 +107,15 @@ final case class WsPerformingCheckState(
     }
   }
 
-  override def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState = {
-    wsLogger.registerInboundMessage(message, timestamp)
+  override def onBinaryFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState = {
+    wsLogger.registerInboundBinaryMessage(payload.length, timestamp)
     currentCheck match {
       case WsFrameCheck.Binary(_, matchConditions, checks, _, _) =>
-        tryApplyingChecks(message, timestamp, matchConditions, checks)
+        tryApplyingChecks(payload.bytes, timestamp, matchConditions, checks)
 
       case _ =>
         logger.debug("Received unmatched binary frame")
-        unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Binary(timestamp, message))
+        bufferUnmatchedInboundMessage(payload.toBinaryMessage(timestamp))
         // server unmatched message, just log
         logUnmatchedServerMessage(session)
         NextWsState(this)
@@ -20,8 +20,10 @@ import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.commons.util.Throwables._
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
+import io.gatling.http.action.ws.WsFramePayload
 import io.gatling.http.check.ws._
 import io.gatling.http.client.WebSocket
+import io.gatling.http.protocol.HttpProtocolWsPart
 
 import com.typesafe.scalalogging.StrictLogging
 import io.netty.handler.codec.http.cookie.Cookie
@@ -63,10 +65,10 @@ abstract class WsState(fsm: WsFsm) extends StrictLogging {
   ): NextWsState =
     onIllegalState(s"Unexpected onSendBinaryFrame in $stateName state", fsm.clock.nowMillis)
 
-  def onTextFrameReceived(message: String, timestamp: Long): NextWsState =
+  def onTextFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState =
     onIllegalState(s"Unexpected onTextFrameReceived in $stateName state", timestamp)
 
-  def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState =
+  def onBinaryFrameReceived(payload: WsFramePayload, timestamp: Long): NextWsState =
     onIllegalState(s"Unexpected onBinaryFrameReceived in $stateName state", timestamp)
 
   def onWebSocketClosed(code: Int, reason: String, timestamp: Long): NextWsState =
@@ -122,13 +124,16 @@ abstract class WsState(fsm: WsFsm) extends StrictLogging {
         fsm.onSendBinaryFrame(actionName, message, checkSequences, session, next)
     }
 
-  protected def autoReplyTextFrames(message: String, webSocket: WebSocket): Boolean =
-    fsm.httpProtocol.wsPart.autoReplyTextFrames(message) match {
+  protected def autoReplyTextFrames(payload: WsFramePayload, webSocket: WebSocket): Boolean = {
+    val autoReply = fsm.httpProtocol.wsPart.autoReplyTextFrames
+    // don't decode the frame just to find out there's nothing to reply
+    (autoReply ne HttpProtocolWsPart.NoAutoReplyTextFrames) && (autoReply(payload.text) match {
       case Some(reply) =>
-        logger.debug(s"Auto Reply to message '$message' with '$reply'")
+        logger.debug(s"Auto Reply to message '${payload.text}' with '$reply'")
         webSocket.sendFrame(new TextWebSocketFrame(reply))
         true
       case _ =>
         false
-    }
+    })
+  }
 }
@@ -56,6 +56,10 @@ private[http] trait DnsCacheSupport {
         if (perUserNameResolution) { session =>
           val actualResolver = httpEngine.newAsyncDnsNameResolver(session.eventLoop, dnsServers, new DefaultDnsCache)
           setDecoratedResolver(session, actualResolver, hostNameAliases)
+        } else if (eventLoopNameResolution) {
+          // decorators are shared as well, sessions only hold a reference
+          val factory = httpEngine.newEventLoopNameResolverFactory(dnsServers, hostNameAliases)
+          session => session.set(DnsNameResolverAttributeName, factory(session.eventLoop))
         } else {
           val factory = httpEngine.newSharedAsyncDnsNameResolverFactory(dnsServers)
           session => {
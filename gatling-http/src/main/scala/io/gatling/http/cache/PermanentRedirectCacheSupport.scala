@@ -92,6 +92,7 @@ private[cache] trait PermanentRedirectCacheSupport {
       .setHttp2Enabled(request.isHttp2Enabled)
       .setHttp2PriorKnowledge(request.getHttp2PriorKnowledge)
       .setWsSubprotocol(request.getWsSubprotocol)
+      .setWsMaxFramePayloadLength(request.getWsMaxFramePayloadLength)
       .setDefaultCharset(configuration.core.charset)
       .build
 
@@ -23,7 +23,7 @@ import scala.jdk.FunctionConverters._
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.util.cache.Cache
 import io.gatling.http.client.uri.Uri
-import io.gatling.http.fetch.ConcurrentResource
+import io.gatling.http.fetch.{ ConcurrentResource, HtmlResources }
 import io.gatling.http.protocol.HttpProtocol
 import io.gatling.http.request.HttpRequest
 
@@ -38,6 +38,9 @@ private[cache] trait ResourceCacheSupport {
     Cache.newConcurrentCache[Uri, List[ConcurrentResource]](configuration.http.fetchedCssCacheMaxCapacity)
   private val inferredResourcesCache: ConcurrentMap[InferredResourcesCacheKey, InferredPageResources] =
     Cache.newConcurrentCache[InferredResourcesCacheKey, InferredPageResources](configuration.http.fetchedHtmlCacheMaxCapacity)
+  // keyed by content hash, shared by all the urls serving the same content
+  private val scannedResourcesCache: ConcurrentMap[String, HtmlResources] =
+    Cache.newConcurrentCache[String, HtmlResources](configuration.http.fetchedHtmlCacheMaxCapacity)
 
   def isCssCached(uri: Uri): Boolean = cssContentCache.get(uri) != null
 
@@ -47,6 +50,15 @@ private[cache] trait ResourceCacheSupport {
   def removeCssResources(uri: Uri): Unit =
     cssContentCache.remove(uri)
 
+  def computeScannedResourcesIfAbsent(contentKey: String, scan: () => HtmlResources): HtmlResources =
+    scannedResourcesCache.computeIfAbsent(contentKey, _ => scan())
+
+  def cacheScannedResources(contentKey: String, resources: HtmlResources): HtmlResources =
+    scannedResourcesCache.putIfAbsent(contentKey, resources) match {
+      case null   => resources
+      case cached => cached
+    }
+
   def getCachedInferredResources(httpProtocol: HttpProtocol, htmlDocumentUri: Uri): InferredPageResources =
     inferredResourcesCache.get(InferredResourcesCacheKey(httpProtocol, htmlDocumentUri))
 
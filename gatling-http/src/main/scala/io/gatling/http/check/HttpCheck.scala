@@ -17,9 +17,9 @@
 package io.gatling.http.check
 
 import io.gatling.commons.validation.Validation
-import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult, Preparer }
+import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult, Preparer, StreamingCheck, StreamingPreparer }
 import io.gatling.core.check.Check.PreparedCache
-import io.gatling.core.session.{ Expression, Session }
+import io.gatling.core.session._
 import io.gatling.http.response.Response
 
 final case class HttpCheck(wrapped: Check[Response], scope: HttpCheckScope) extends Check[Response] {
@@ -33,3 +33,11 @@ final case class HttpCheck(wrapped: Check[Response], scope: HttpCheckScope) exte
 
 final class HttpCheckMaterializer[T, P](scope: HttpCheckScope, override val preparer: Preparer[Response, P])
     extends CheckMaterializer[T, HttpCheck, Response, P](HttpCheck(_, scope))
+
+final class HttpStreamingCheckMaterializer[T, P](
+    streamingPreparer: Check[Response] => Expression[StreamingPreparer[_]],
+    override val preparer: Preparer[Response, P]
+) extends CheckMaterializer[T, HttpCheck, Response, P](check => HttpCheck(new StreamingCheck(check, streamingPreparer(check)), HttpCheckScope.Chunks)) {
+  def this(streamingPreparer: StreamingPreparer[P]) =
+    this(_ => streamingPreparer.expressionSuccess, _.streamingPrepared(streamingPreparer))
+}
@@ -22,6 +22,7 @@ import io.gatling.http.response._
 
 object HttpCheckBuilders {
   val ResponseBodyStringPreparer: Preparer[Response, String] = _.body.string.success
+  val ResponseBodyCharSequencePreparer: Preparer[Response, CharSequence] = _.body.charSequence.success
   val ResponseBodyBytesPreparer: Preparer[Response, Array[Byte]] = _.body.bytes.success
   val ResponseBodyLengthPreparer: Preparer[Response, Int] = _.body.length.success
   val UrlStringPreparer: Preparer[Response, String] = _.request.getUri.toFullUrl.success
@@ -18,18 +18,17 @@ package io.gatling.http.check.body
 
 import io.gatling.commons.validation._
 import io.gatling.core.check.{ CheckMaterializer, Preparer }
-import io.gatling.core.check.css.{ CssCheckType, CssSelectors }
+import io.gatling.core.check.css.{ CssCheckType, CssSelectors, HtmlDocument }
 import io.gatling.http.check.{ HttpCheck, HttpCheckMaterializer }
 import io.gatling.http.check.HttpCheckScope.Body
 import io.gatling.http.response.Response
 
-import jodd.lagarto.dom.NodeSelector
-
 object HttpBodyCssCheckMaterializer {
-  private val ErrorMapper: String => String = "Could not parse response into a Jodd NodeSelector: " + _
+  private val ErrorMapper: String => String = "Could not decode response for css selection: " + _
 
-  def instance(selectors: CssSelectors): CheckMaterializer[CssCheckType, HttpCheck, Response, NodeSelector] = {
-    val preparer: Preparer[Response, NodeSelector] = response => safely(ErrorMapper)(selectors.parse(response.body.chars).success)
-    new HttpCheckMaterializer[CssCheckType, NodeSelector](Body, preparer)
+  def instance(selectors: CssSelectors): CheckMaterializer[CssCheckType, HttpCheck, Response, HtmlDocument] = {
+    // cheap, parsing happens when extracting, depending on the selectors
+    val preparer: Preparer[Response, HtmlDocument] = response => safely(ErrorMapper)(selectors.parse(response.body.chars).success)
+    new HttpCheckMaterializer[CssCheckType, HtmlDocument](Body, preparer)
   }
 }
@@ -20,10 +20,11 @@ import io.gatling.core.check.CheckMaterializer
 import io.gatling.core.check.bytes.BodyBytesCheckType
 import io.gatling.http.check.{ HttpCheck, HttpCheckMaterializer }
 import io.gatling.http.check.HttpCheckBuilders.ResponseBodyLengthPreparer
-import io.gatling.http.check.HttpCheckScope.Body
+import io.gatling.http.check.HttpCheckScope.Chunks
 import io.gatling.http.response.Response
 
 object HttpBodyLengthCheckMaterializer {
   val Instance: CheckMaterializer[BodyBytesCheckType, HttpCheck, Response, Int] =
-    new HttpCheckMaterializer[BodyBytesCheckType, Int](Body, ResponseBodyLengthPreparer)
+    // the length is counted as chunks are received, whether they're retained or not
+    new HttpCheckMaterializer[BodyBytesCheckType, Int](Chunks, ResponseBodyLengthPreparer)
 }
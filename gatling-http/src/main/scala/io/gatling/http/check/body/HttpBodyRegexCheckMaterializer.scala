@@ -19,11 +19,11 @@ package io.gatling.http.check.body
 import io.gatling.core.check.CheckMaterializer
 import io.gatling.core.check.regex.RegexCheckType
 import io.gatling.http.check.{ HttpCheck, HttpCheckMaterializer }
-import io.gatling.http.check.HttpCheckBuilders.ResponseBodyStringPreparer
+import io.gatling.http.check.HttpCheckBuilders.ResponseBodyCharSequencePreparer
 import io.gatling.http.check.HttpCheckScope.Body
 import io.gatling.http.response.Response
 
 object HttpBodyRegexCheckMaterializer {
-  val Instance: CheckMaterializer[RegexCheckType, HttpCheck, Response, String] =
-    new HttpCheckMaterializer[RegexCheckType, String](Body, ResponseBodyStringPreparer)
+  val Instance: CheckMaterializer[RegexCheckType, HttpCheck, Response, CharSequence] =
+    new HttpCheckMaterializer[RegexCheckType, CharSequence](Body, ResponseBodyCharSequencePreparer)
 }
@@ -16,14 +16,20 @@
 
 package io.gatling.http.check.body
 
-import io.gatling.core.check.CheckMaterializer
-import io.gatling.core.check.substring.SubstringCheckType
-import io.gatling.http.check.{ HttpCheck, HttpCheckMaterializer }
-import io.gatling.http.check.HttpCheckBuilders._
-import io.gatling.http.check.HttpCheckScope.Body
-import io.gatling.http.response.Response
+import io.gatling.commons.validation._
+import io.gatling.core.check.{ CheckMaterializer, Preparer, StreamingCheck }
+import io.gatling.core.check.substring.{ StreamedSubstrings, SubstringCheckType }
+import io.gatling.http.check.{ HttpCheck, HttpStreamingCheckMaterializer }
+import io.gatling.http.response.{ NoResponseBody, Response }
 
 object HttpBodySubstringCheckMaterializer {
-  val Instance: CheckMaterializer[SubstringCheckType, HttpCheck, Response, String] =
-    new HttpCheckMaterializer[SubstringCheckType, String](Body, ResponseBodyStringPreparer)
+  // the body is only searched when it's retained anyway, e.g. for other checks or because it was transformed
+  private val StreamedSubstringsPreparer: Preparer[Response, CharSequence] = response =>
+    response.body match {
+      case _: NoResponseBody => new StreamedSubstrings(response.streamingPrepared(_)).success
+      case body              => body.charSequence.success
+    }
+
+  val Instance: CheckMaterializer[SubstringCheckType, HttpCheck, Response, CharSequence] =
+    new HttpStreamingCheckMaterializer[SubstringCheckType, CharSequence](StreamingCheck.extractorStreamingPreparer, StreamedSubstringsPreparer)
 }
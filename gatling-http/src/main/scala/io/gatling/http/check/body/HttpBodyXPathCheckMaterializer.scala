@@ -18,22 +18,16 @@ package io.gatling.http.check.body
 
 import io.gatling.commons.validation._
 import io.gatling.core.check.{ CheckMaterializer, Preparer }
-import io.gatling.core.check.xpath.{ XPathCheckType, XmlParsers }
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.http.check.{ HttpCheck, HttpCheckMaterializer }
 import io.gatling.http.check.HttpCheckScope.Body
 import io.gatling.http.response.Response
 
-import net.sf.saxon.s9api.XdmNode
-
 object HttpBodyXPathCheckMaterializer {
-  private val ErrorMapper: String => String = "Could not parse response into a DOM Document: " + _
-
-  val Instance: CheckMaterializer[XPathCheckType, HttpCheck, Response, XdmNode] = {
-    val preparer: Preparer[Response, XdmNode] = response =>
-      safely(ErrorMapper) {
-        XmlParsers.parse(response.body.stream, response.body.charset).success
-      }
+  val Instance: CheckMaterializer[XPathCheckType, HttpCheck, Response, XmlDocument] = {
+    // parsing is deferred to the extractors, that stream the body or build the Saxon tree depending on the expression
+    val preparer: Preparer[Response, XmlDocument] = response => XmlDocument(() => response.body.stream, response.body.charset).success
 
-    new HttpCheckMaterializer[XPathCheckType, XdmNode](Body, preparer)
+    new HttpCheckMaterializer[XPathCheckType, XmlDocument](Body, preparer)
   }
 }
@@ -16,22 +16,12 @@
 
 package io.gatling.http.check.checksum
 
-import io.gatling.commons.validation._
 import io.gatling.core.check._
 import io.gatling.core.check.checksum.{ Md5CheckType, Sha1CheckType }
-import io.gatling.http.check.HttpCheck
-import io.gatling.http.check.HttpCheckScope.Chunks
+import io.gatling.http.check.{ HttpCheck, HttpStreamingCheckMaterializer }
 import io.gatling.http.response.Response
 
 object HttpChecksumCheckMaterializer {
-  val Md5: CheckMaterializer[Md5CheckType, HttpCheck, Response, String] = new HttpChecksumCheckMaterializer[Md5CheckType](ChecksumAlgorithm.Md5)
-  val Sha1: CheckMaterializer[Sha1CheckType, HttpCheck, Response, String] = new HttpChecksumCheckMaterializer[Sha1CheckType](ChecksumAlgorithm.Sha1)
-}
-
-final class HttpChecksumCheckMaterializer[T](algorithm: ChecksumAlgorithm)
-    extends CheckMaterializer[T, HttpCheck, Response, String](check => HttpCheck(new ChecksumCheck(check, algorithm), Chunks)) {
-  override val preparer: Preparer[Response, String] = _.checksum(algorithm) match {
-    case Some(chk) => chk.success
-    case _         => s"$algorithm checksum wasn't computed".failure
-  }
+  val Md5: CheckMaterializer[Md5CheckType, HttpCheck, Response, String] = new HttpStreamingCheckMaterializer[Md5CheckType, String](ChecksumAlgorithm.Md5)
+  val Sha1: CheckMaterializer[Sha1CheckType, HttpCheck, Response, String] = new HttpStreamingCheckMaterializer[Sha1CheckType, String](ChecksumAlgorithm.Sha1)
 }
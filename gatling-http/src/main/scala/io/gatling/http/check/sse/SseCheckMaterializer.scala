@@ -38,9 +38,9 @@ object SseCheckMaterializer {
   def jsonPath(jsonParsers: JsonParsers): CheckMaterializer[JsonPathCheckType, SseCheck, String, JsonNode] =
     new SseCheckMaterializer[JsonPathCheckType, JsonNode](jsonParsers.safeParse)
 
-  val Regex: CheckMaterializer[RegexCheckType, SseCheck, String, String] =
-    new SseCheckMaterializer[RegexCheckType, String](identityPreparer)
+  val Regex: CheckMaterializer[RegexCheckType, SseCheck, String, CharSequence] =
+    new SseCheckMaterializer[RegexCheckType, CharSequence](identityPreparer[String])
 
-  val Substring: CheckMaterializer[SubstringCheckType, SseCheck, String, String] =
-    new SseCheckMaterializer[SubstringCheckType, String](identityPreparer)
+  val Substring: CheckMaterializer[SubstringCheckType, SseCheck, String, CharSequence] =
+    new SseCheckMaterializer[SubstringCheckType, CharSequence](identityPreparer[String])
 }
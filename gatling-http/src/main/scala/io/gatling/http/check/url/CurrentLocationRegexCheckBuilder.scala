@@ -29,7 +29,7 @@ trait CurrentLocationRegexCheckType
 trait CurrentLocationRegexOfType {
   self: CurrentLocationRegexCheckBuilder[String] =>
 
-  def ofType[X: GroupExtractor]: CheckBuilder.MultipleFind[CurrentLocationRegexCheckType, String, X] =
+  def ofType[X: GroupExtractor]: CheckBuilder.MultipleFind[CurrentLocationRegexCheckType, CharSequence, X] =
     new CurrentLocationRegexCheckBuilder[X](pattern, patterns)
 }
 
@@ -41,14 +41,15 @@ object CurrentLocationRegexCheckBuilder {
 class CurrentLocationRegexCheckBuilder[X: GroupExtractor] private[url] (
     private[url] val pattern: Expression[String],
     private[url] val patterns: Patterns
-) extends CheckBuilder.MultipleFind.Default[CurrentLocationRegexCheckType, String, X](displayActualValue = true) {
-  override protected def findExtractor(occurrence: Int): Expression[Extractor[String, X]] =
+) extends CheckBuilder.MultipleFind.Default[CurrentLocationRegexCheckType, CharSequence, X](displayActualValue = true) {
+  override protected def findExtractor(occurrence: Int): Expression[Extractor[CharSequence, X]] =
     pattern.map(RegexExtractors.find[X]("currentLocationRegex", _, occurrence, patterns))
-  override protected def findAllExtractor: Expression[Extractor[String, Seq[X]]] = pattern.map(RegexExtractors.findAll[X]("currentLocationRegex", _, patterns))
-  override protected def countExtractor: Expression[Extractor[String, Int]] = pattern.map(RegexExtractors.count("currentLocationRegex", _, patterns))
+  override protected def findAllExtractor: Expression[Extractor[CharSequence, Seq[X]]] =
+    pattern.map(RegexExtractors.findAll[X]("currentLocationRegex", _, patterns))
+  override protected def countExtractor: Expression[Extractor[CharSequence, Int]] = pattern.map(RegexExtractors.count("currentLocationRegex", _, patterns))
 }
 
 object CurrentLocationRegexCheckMaterializer {
-  val Instance: CheckMaterializer[CurrentLocationRegexCheckType, HttpCheck, Response, String] =
-    new HttpCheckMaterializer[CurrentLocationRegexCheckType, String](Url, UrlStringPreparer)
+  val Instance: CheckMaterializer[CurrentLocationRegexCheckType, HttpCheck, Response, CharSequence] =
+    new HttpCheckMaterializer[CurrentLocationRegexCheckType, CharSequence](Url, UrlStringPreparer)
 }
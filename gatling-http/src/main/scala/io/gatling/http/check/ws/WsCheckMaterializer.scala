@@ -51,10 +51,10 @@ object WsCheckMaterializer {
     def jsonPath(jsonParsers: JsonParsers): CheckMaterializer[JsonPathCheckType, WsCheck.Text, String, JsonNode] =
       new Text[JsonPathCheckType, JsonNode](jsonParsers.safeParse)
 
-    val Regex: CheckMaterializer[RegexCheckType, WsCheck.Text, String, String] =
-      new Text[RegexCheckType, String](identityPreparer)
+    val Regex: CheckMaterializer[RegexCheckType, WsCheck.Text, String, CharSequence] =
+      new Text[RegexCheckType, CharSequence](identityPreparer[String])
 
-    val Substring: CheckMaterializer[SubstringCheckType, WsCheck.Text, String, String] =
-      new Text[SubstringCheckType, String](identityPreparer)
+    val Substring: CheckMaterializer[SubstringCheckType, WsCheck.Text, String, CharSequence] =
+      new Text[SubstringCheckType, CharSequence](identityPreparer[String])
   }
 }
@@ -64,12 +64,12 @@ trait WsCheckSupport {
   implicit def wsJmesPathCheckMaterializer(implicit jsonParsers: JsonParsers): CheckMaterializer[JmesPathCheckType, WsCheck.Text, String, JsonNode] =
     WsCheckMaterializer.Text.jmesPath(jsonParsers)
 
-  implicit val wsRegexCheckMaterializer: CheckMaterializer[RegexCheckType, WsCheck.Text, String, String] = WsCheckMaterializer.Text.Regex
+  implicit val wsRegexCheckMaterializer: CheckMaterializer[RegexCheckType, WsCheck.Text, String, CharSequence] = WsCheckMaterializer.Text.Regex
 
   implicit val wsBodyStringCheckMaterializer: CheckMaterializer[BodyStringCheckType, WsCheck.Text, String, String] =
     WsCheckMaterializer.Text.BodyString
 
-  implicit val wsSubstringCheckMaterializer: CheckMaterializer[SubstringCheckType, WsCheck.Text, String, String] =
+  implicit val wsSubstringCheckMaterializer: CheckMaterializer[SubstringCheckType, WsCheck.Text, String, CharSequence] =
     WsCheckMaterializer.Text.Substring
 
   implicit val wsBodyBytesCheckMaterializer: CheckMaterializer[BodyBytesCheckType, WsCheck.Binary, Array[Byte], Array[Byte]] =
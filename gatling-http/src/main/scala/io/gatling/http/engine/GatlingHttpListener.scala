@@ -17,15 +17,20 @@
 package io.gatling.http.engine
 
 import java.nio.charset.Charset
+import java.security.MessageDigest
 
 import scala.math.max
 import scala.util.control.NonFatal
 
 import io.gatling.commons.util.{ Clock, Hex }
 import io.gatling.commons.util.Throwables._
+import io.gatling.commons.validation.{ safely, Success, Validation }
+import io.gatling.core.check.{ ChecksumAlgorithm, ChunksConsumer, StreamingPreparer }
+import io.gatling.core.session._
 import io.gatling.http.client.{ HttpListener, Request }
 import io.gatling.http.engine.response.ResponseProcessor
 import io.gatling.http.engine.tx.HttpTx
+import io.gatling.http.fetch.{ ResourceScan, ResourceScanner }
 import io.gatling.http.response.{ HttpFailure, HttpResult, Response, ResponseBody }
 import io.gatling.http.util.HttpHelper.{ extractCharsetFromContentType, isCss, isHtml }
 
@@ -58,7 +63,12 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
   private var finalClientRequest = tx.request.clientRequest
   private var init = false
   private var done = false
-  private var storeHtmlOrCss: Boolean = _
+  private var charset: Charset = _
+  // only set when inferring resources from an HTML or CSS response
+  private var contentDigest: MessageDigest = _
+  private var contentKeyPrefix: String = _
+  // only set when the body doesn't have to be retained, so resources are scanned on the fly
+  private var resourceScanner: ResourceScanner = _
   private var requestStartTimestamp: Long = _
   private var requestEndTimestamp: Long = _
   private var isHttp2: Boolean = _
@@ -66,7 +76,9 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
   private var headers: HttpHeaders = EmptyHttpHeaders.INSTANCE
   private var bodyLength = 0
   private var chunks: List[ByteBuf] = Nil
-  private val digests = checksumAlgorithms.map(algorithm => algorithm -> algorithm.digest).toMap
+  // created once the charset is known, and dropped when they crash so they don't break the listener, their failure is reported by their checks
+  private var chunksConsumers: List[(StreamingPreparer[_], ChunksConsumer[_])] = Nil
+  private var chunksConsumersFailures: Map[StreamingPreparer[_], Validation[Any]] = Map.empty
 
   override def onSend(): Unit =
     if (!init) {
@@ -139,7 +151,23 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       requestEndTimestamp = clock.nowMillis
       this.status = status
       this.headers = headers
-      storeHtmlOrCss = httpProtocol.responsePart.inferHtmlResources && (isHtml(headers) || isCss(headers))
+      charset = resolveCharset(headers, defaultCharset)
+      // preparers that can't be resolved are skipped, their checks will fail resolving their criterion
+      chunksConsumers = streamingPreparers
+        .flatMap(_.safe(tx.session).toOption)
+        .distinct
+        .map(preparer => preparer -> preparer.newConsumer(charset))
+      if (httpProtocol.responsePart.inferHtmlResources) {
+        val html = isHtml(headers)
+        val css = !html && isCss(headers)
+        if (html || css) {
+          contentDigest = ChecksumAlgorithm.Md5.digest
+          contentKeyPrefix = s"${if (css) "css" else "html"}:${charset.name}:"
+          if (!storeBodyParts) {
+            resourceScanner = ResourceScanner(css, charset)
+          }
+        }
+      }
     }
 
   override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
@@ -149,16 +177,32 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       val chunkLength = chunk.readableBytes
       if (chunkLength > 0) {
         bodyLength += chunkLength
-        if (storeBodyParts || storeHtmlOrCss) {
+        if (storeBodyParts) {
           // beware, we have to retain!
           chunks = chunk.retain() :: chunks
         }
 
-        if (digests.nonEmpty)
-          for {
-            nioBuffer <- chunk.nioBuffers
-            digest <- digests.values
-          } digest.update(nioBuffer.duplicate)
+        if (chunksConsumers.nonEmpty) {
+          val nioBuffers = chunk.nioBuffers
+          chunksConsumers = chunksConsumers.filter { case (preparer, consumer) =>
+            safely() {
+              nioBuffers.foreach(nioBuffer => consumer.onChunk(nioBuffer.duplicate))
+              Validation.unit
+            } match {
+              case Success(_) => true
+              case failure =>
+                chunksConsumersFailures += preparer -> failure
+                false
+            }
+          }
+        }
+
+        if (contentDigest != null) {
+          chunk.nioBuffers.foreach(nioBuffer => contentDigest.update(nioBuffer.duplicate))
+          if (resourceScanner != null) {
+            resourceScanner.onChunk(chunk)
+          }
+        }
       }
 
       if (last) {
@@ -180,10 +224,19 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
         // ensure response doesn't end before starting
         requestEndTimestamp = max(requestEndTimestamp, requestStartTimestamp)
 
-        val checksums = digests.view.mapValues(md => Hex.toHexString(md.digest)).to(Map)
+        val streamingPreparations: Map[StreamingPreparer[_], Validation[Any]] =
+          chunksConsumersFailures ++ chunksConsumers.map { case (preparer, consumer) => preparer -> safely()(consumer.prepared) }
 
         val chunksOrderedByArrival = chunks.reverse
-        val body = ResponseBody(bodyLength, chunksOrderedByArrival, resolveCharset(headers, defaultCharset))
+        val body = ResponseBody(bodyLength, chunksOrderedByArrival, charset)
+
+        val resourceScan =
+          if (contentDigest != null) {
+            val contentKey = contentKeyPrefix + Hex.toHexString(contentDigest.digest)
+            Some(new ResourceScan(contentKey, Option(resourceScanner).map(_.result())))
+          } else {
+            None
+          }
 
         Response(
           finalClientRequest,
@@ -192,8 +245,9 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
           status,
           headers,
           body,
-          checksums,
-          isHttp2
+          streamingPreparations,
+          isHttp2,
+          resourceScan
         )
       } catch {
         case NonFatal(t) => buildFailure(t)
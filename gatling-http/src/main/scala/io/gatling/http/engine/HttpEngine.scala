@@ -214,6 +214,33 @@ final class HttpEngine(
     eventLoop => sharedResolverCache.computeIfAbsent(eventLoop, computer)
   }
 
+  // closed on shutdown as shared by all the virtual users
+  private val eventLoopResolvers = new ju.concurrent.ConcurrentLinkedQueue[EventLoopNameResolver]
+
+  // create one resolver, decorators included, per event loop for all the users with this protocol
+  def newEventLoopNameResolverFactory(
+      dnsServers: Array[InetSocketAddress],
+      hostNameAliases: Map[String, ju.List[InetAddress]]
+  ): EventLoop => InetAddressNameResolver = {
+    val resolvers = new ju.concurrent.ConcurrentHashMap[EventLoop, InetAddressNameResolver]
+
+    val computer: ju.function.Function[EventLoop, InetAddressNameResolver] =
+      el => {
+        val ttlRecorder = new TtlRecordingDnsCache(clock)
+        val resolver = new EventLoopNameResolver(
+          newAsyncDnsNameResolver(el, dnsServers, ttlRecorder),
+          ttlRecorder,
+          el,
+          configuration.http.dns.negativeTtl.toMillis,
+          clock
+        )
+        eventLoopResolvers.add(resolver)
+        AliasesAwareNameResolver(hostNameAliases, resolver)
+      }
+
+    eventLoop => resolvers.computeIfAbsent(eventLoop, computer)
+  }
+
   def newSslContexts(http2Enabled: Boolean, perUserKeyManagerFactory: Option[KeyManagerFactory]): SslContexts =
     sslContextsFactory.newSslContexts(http2Enabled, perUserKeyManagerFactory)
 
@@ -226,5 +253,6 @@ final class HttpEngine(
     httpClient.close()
     // perform close on system shutdown instead of virtual user termination as it's shared
     sharedResolverCache.values().forEach(_.close())
+    eventLoopResolvers.forEach(_.shutdown())
   }
 }
@@ -62,7 +62,7 @@ final class ResourceNextExecutor(
         tx.silent,
         response.status,
         response.lastModifiedOrEtag(tx.request.requestConfig.httpProtocol),
-        response.body.string
+        Some(response)
       )
     } else {
       resourceTx.aggregator.onRegularResourceFetched(resourceTx, status, session, tx.silent)
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import scala.collection.mutable
+
+private[fetch] object CssScanner {
+  private val AtImport = "@import"
+  private val UrlStart = "url("
+  // give up on urls that never get closed
+  private val MaxUrlLength = 8 * 1024
+}
+
+/**
+ * Incremental counterpart of [[CssParser.extractResources]]: collects the urls of the `@import url(...)` rules, skipping comments.
+ */
+private[fetch] final class CssScanner extends CharScanner {
+  import CssScanner._
+
+  private[fetch] val rawUrls = mutable.ArrayBuffer.empty[String]
+  private val url = new java.lang.StringBuilder
+  private var previous: Char = 0
+  private var withinComment = false
+  private var withinImport = false
+  private var withinUrl = false
+  private var matched = 0
+
+  override def onChar(c: Char): Unit =
+    if (withinComment) {
+      if (c == '/' && previous == '*') {
+        withinComment = false
+        previous = 0
+      } else {
+        previous = c
+      }
+    } else if (c == '*' && previous == '/' && !withinUrl) {
+      withinComment = true
+      matched = 0
+      previous = 0
+    } else {
+      if (withinUrl) {
+        onUrlChar(c)
+      } else {
+        matchKeyword(c)
+      }
+      previous = c
+    }
+
+  private def onUrlChar(c: Char): Unit =
+    if (c == ')') {
+      val rawUrl = url.toString
+      CssParser.extractUrl(rawUrl, 0, rawUrl.length).foreach(rawUrls += _)
+      withinUrl = false
+      withinImport = false
+    } else if (url.length == MaxUrlLength) {
+      withinUrl = false
+      withinImport = false
+    } else {
+      url.append(c)
+    }
+
+  private def matchKeyword(c: Char): Unit = {
+    val expected = if (withinImport) UrlStart else AtImport
+    if (c == expected.charAt(matched)) {
+      matched += 1
+      if (matched == expected.length) {
+        matched = 0
+        if (withinImport) {
+          withinUrl = true
+          url.setLength(0)
+        } else {
+          withinImport = true
+        }
+      }
+    } else {
+      matched = if (c == expected.charAt(0)) 1 else 0
+    }
+  }
+
+  override def result(): HtmlResources = HtmlResources(rawUrls.view.map(CssRawResource).to(Seq), None)
+}
@@ -30,21 +30,34 @@ import com.typesafe.scalalogging.StrictLogging
 import jodd.lagarto.{ EmptyTagVisitor, Tag, TagType }
 import jodd.util.CharSequenceUtil
 
-private[fetch] sealed abstract class RawResource {
+private[http] sealed abstract class RawResource {
   def rawUrl: String
   def uri(rootURI: Uri): Option[Uri] = HttpHelper.resolveFromUriSilently(rootURI, rawUrl)
   def toEmbeddedResource(rootURI: Uri): Option[ConcurrentResource]
 }
-private[fetch] final case class CssRawResource(rawUrl: String) extends RawResource {
+private[http] final case class CssRawResource(rawUrl: String) extends RawResource {
   def toEmbeddedResource(rootURI: Uri): Option[ConcurrentResource] = uri(rootURI).map(CssResource)
 }
-private[fetch] final case class RegularRawResource(rawUrl: String) extends RawResource {
+private[http] final case class RegularRawResource(rawUrl: String) extends RawResource {
   def toEmbeddedResource(rootURI: Uri): Option[ConcurrentResource] = uri(rootURI).map(BasicResource)
 }
 
-private[fetch] final case class HtmlResources(rawResources: Seq[RawResource], base: Option[String])
+/**
+ * The raw, not yet resolved, urls found in a page or a stylesheet. They don't depend on the document uri, so they can be shared between identical contents
+ * served under different urls.
+ */
+private[http] final case class HtmlResources(rawResources: Seq[RawResource], base: Option[String]) {
+  def embeddedResources(documentURI: Uri): List[ConcurrentResource] = {
+    val rootURI = base.map(Uri.create(documentURI, _)).getOrElse(documentURI)
 
-private[gatling] object HtmlParser extends StrictLogging {
+    rawResources.view.distinct
+      .filterNot(res => res.rawUrl.isEmpty || res.rawUrl.charAt(0) == '#' || res.rawUrl.startsWith("data:"))
+      .flatMap(_.toEmbeddedResource(rootURI).toList)
+      .to(List)
+  }
+}
+
+private[fetch] object HtmlResourcesBuilder {
   private val AppletTagName = "applet"
   private val BaseTagName = "base"
   private val BgsoundTagName = "bgsound"
@@ -54,7 +67,7 @@ private[gatling] object HtmlParser extends StrictLogging {
   private val InputTagName = "input"
   private val LinkTagName = "link"
   private val ObjectTagName = "object"
-  private val StyleTagName = "style"
+  private val ScriptTagName = "script"
 
   private val ArchiveAttribute = "archive"
   private val BackgroundAttribute = "background"
@@ -64,12 +77,94 @@ private[gatling] object HtmlParser extends StrictLogging {
   private val HrefAttribute = "href"
   private val RelAttribute = "rel"
   private val SrcAttribute = "src"
-  private val StyleAttribute = StyleTagName
+  private val StyleAttribute = "style"
   private val StylesheetRelValue = "stylesheet"
   private val PrefetchRelValue = "prefetch"
   private val IconRelValue = "icon"
   private val ShortcutIconRelValue = "shortcut icon"
 
+  private def prependCodeBase(codeBase: String, url: String): String =
+    if (url.startsWith("http")) {
+      url
+    } else if (codeBase.charAt(codeBase.length - 1) != '/') {
+      s"$codeBase/$url"
+    } else {
+      s"$codeBase$url"
+    }
+}
+
+/**
+ * Collects the resources of a page, tag after tag, whatever the parser that produces the tags.
+ */
+private[fetch] final class HtmlResourcesBuilder {
+  import HtmlResourcesBuilder._
+
+  private var base: Option[String] = None
+  private val rawResources = mutable.ArrayBuffer.empty[RawResource]
+
+  def addStyleImportsUrls(urls: Iterator[String]): Unit =
+    rawResources ++= urls.map(CssRawResource)
+
+  /**
+   * @param tagName
+   *   the lower case name of a start or self-closing tag, except style ones
+   * @param attributeValue
+   *   the value of an attribute by lower case name, if present
+   */
+  def addTag(tagName: String, attributeValue: String => Option[String]): Unit = {
+    def addResource(attributeName: String, factory: String => RawResource): Unit =
+      attributeValue(attributeName).foreach { url =>
+        rawResources += factory(url)
+      }
+
+    tagName match {
+      case ScriptTagName =>
+        addResource(SrcAttribute, RegularRawResource)
+      case BaseTagName =>
+        base = attributeValue(HrefAttribute)
+      case LinkTagName =>
+        attributeValue(RelAttribute).map(_.toLowerCase(Locale.ROOT)) match {
+          case Some(StylesheetRelValue) =>
+            addResource(HrefAttribute, CssRawResource)
+          case Some(PrefetchRelValue) if attributeValue(HrefAttribute).exists(_.contains(".css")) =>
+            addResource(HrefAttribute, CssRawResource)
+          case Some(IconRelValue) | Some(ShortcutIconRelValue) | Some(PrefetchRelValue) =>
+            addResource(HrefAttribute, RegularRawResource)
+          case _ =>
+        }
+      case ImgTagName | BgsoundTagName | EmbedTagName | InputTagName =>
+        addResource(SrcAttribute, RegularRawResource)
+      case BodyTagName =>
+        addResource(BackgroundAttribute, RegularRawResource)
+      case AppletTagName =>
+        val archives = attributeValue(ArchiveAttribute).map(_.split(",").view.map(_.trim).to(Seq))
+        val appletResources = archives.orElse(attributeValue(CodeAttribute).map(_ :: Nil)).getOrElse(Nil)
+        val appletResourcesUrls = attributeValue(CodeBaseAttribute) match {
+          case Some(cb) => appletResources.map(prependCodeBase(cb, _))
+          case _        => appletResources
+        }
+        rawResources ++= appletResourcesUrls.map(RegularRawResource)
+      case ObjectTagName =>
+        attributeValue(DataAttribute).foreach { data =>
+          val objectResourceUrl = attributeValue(CodeBaseAttribute) match {
+            case Some(cb) => prependCodeBase(cb, data)
+            case _        => data
+          }
+          rawResources += RegularRawResource(objectResourceUrl)
+        }
+      case _ =>
+        attributeValue(StyleAttribute).foreach { style =>
+          rawResources ++= CssParser.extractInlineStyleImageUrls(style).map(RegularRawResource)
+        }
+    }
+  }
+
+  def build(): HtmlResources = HtmlResources(rawResources.toSeq, base)
+}
+
+private[gatling] object HtmlParser extends StrictLogging {
+  private val StyleTagName = "style"
+
   def logException(htmlContent: Array[Char], e: Throwable): Unit =
     if (logger.underlying.isDebugEnabled)
       logger.debug(
@@ -92,110 +187,42 @@ class HtmlParser extends StrictLogging {
   var inStyle = false
 
   private def parseHtml(htmlContent: Array[Char]): HtmlResources = {
-    var base: Option[String] = None
-    val rawResources = mutable.ArrayBuffer.empty[RawResource]
+    val builder = new HtmlResourcesBuilder
 
-    val visitor: EmptyTagVisitor = new EmptyTagVisitor {
-      def addResource(tag: Tag, attributeName: String, factory: String => RawResource): Unit =
-        Option(tag.getAttributeValue(attributeName)).foreach { url =>
-          rawResources += factory(url.toString)
-        }
+    def attributeValue(tag: Tag)(attributeName: String): Option[String] =
+      Option(tag.getAttributeValue(attributeName)).map(_.toString)
 
+    val visitor: EmptyTagVisitor = new EmptyTagVisitor {
       override def script(tag: Tag, body: CharSequence): Unit =
-        addResource(tag, SrcAttribute, RegularRawResource)
+        builder.addTag(tag.getName.toString.toLowerCase(Locale.ROOT), attributeValue(tag))
 
       override def text(text: CharSequence): Unit =
         if (inStyle)
-          rawResources ++= CssParser.extractStyleImportsUrls(text).map(CssRawResource)
-
-      override def tag(tag: Tag): Unit = {
-        def codeBase(): Option[CharSequence] = Option(tag.getAttributeValue(CodeBaseAttribute))
-
-        def prependCodeBase(codeBase: CharSequence, url: String): String =
-          if (url.startsWith("http")) {
-            url
-          } else if (codeBase.charAt(codeBase.length()) != '/') {
-            s"$codeBase/$url"
-          } else {
-            s"$codeBase$url"
-          }
-
-        def processTag(): Unit =
-          tag.getType match {
-            case TagType.START | TagType.SELF_CLOSING =>
-              if (tag.isRawTag && tag.nameEquals(StyleTagName)) {
-                inStyle = true
-              } else if (tag.nameEquals(BaseTagName)) {
-                base = Option(tag.getAttributeValue(HrefAttribute)).map(_.toString)
-              } else if (tag.nameEquals(LinkTagName)) {
-                Option(tag.getAttributeValue(RelAttribute)).map(_.toString.toLowerCase(Locale.ROOT)) match {
-                  case Some(StylesheetRelValue) =>
-                    addResource(tag, HrefAttribute, CssRawResource)
-                  case Some(PrefetchRelValue) if tag.getAttributeValue(HrefAttribute).toString.contains(".css") =>
-                    addResource(tag, HrefAttribute, CssRawResource)
-                  case Some(IconRelValue) | Some(ShortcutIconRelValue) | Some(PrefetchRelValue) =>
-                    addResource(tag, HrefAttribute, RegularRawResource)
-                  case _ =>
-                }
-              } else if (
-                tag.nameEquals(ImgTagName) ||
-                tag.nameEquals(BgsoundTagName) ||
-                tag.nameEquals(EmbedTagName) ||
-                tag.nameEquals(InputTagName)
-              ) {
-                addResource(tag, SrcAttribute, RegularRawResource)
-              } else if (tag.nameEquals(BodyTagName)) {
-                addResource(tag, BackgroundAttribute, RegularRawResource)
-              } else if (tag.nameEquals(AppletTagName)) {
-                val code = tag.getAttributeValue(CodeAttribute).toString
-                val archives = Option(tag.getAttributeValue(ArchiveAttribute)).map(_.toString.split(",").view.map(_.trim).to(Seq))
-
-                val appletResources = archives.getOrElse(code :: Nil).iterator
-                val appletResourcesUrls = codeBase() match {
-                  case Some(cb) => appletResources.map(prependCodeBase(cb, _))
-                  case _        => appletResources
-                }
-                rawResources ++= appletResourcesUrls.map(RegularRawResource)
-              } else if (tag.nameEquals(ObjectTagName)) {
-                Option(tag.getAttributeValue(DataAttribute)).foreach { data =>
-                  val objectResourceUrl = codeBase() match {
-                    case Some(cb) => prependCodeBase(cb, data.toString)
-                    case _        => data.toString
-                  }
-                  rawResources += RegularRawResource(objectResourceUrl)
-                }
-              } else {
-                Option(tag.getAttributeValue(StyleAttribute)).foreach { style =>
-                  val styleUrls = CssParser.extractInlineStyleImageUrls(style).map(RegularRawResource)
-                  rawResources ++= styleUrls
-                }
-              }
-
-            case TagType.END =>
-              if (inStyle && tag.nameEquals(StyleTagName))
-                inStyle = false
-
-            case _ =>
-          }
-
-        processTag()
-      }
+          builder.addStyleImportsUrls(CssParser.extractStyleImportsUrls(text))
+
+      override def tag(tag: Tag): Unit =
+        tag.getType match {
+          case TagType.START | TagType.SELF_CLOSING =>
+            if (tag.isRawTag && tag.nameEquals(StyleTagName)) {
+              inStyle = true
+            } else {
+              builder.addTag(tag.getName.toString.toLowerCase(Locale.ROOT), attributeValue(tag))
+            }
+
+          case TagType.END =>
+            if (inStyle && tag.nameEquals(StyleTagName))
+              inStyle = false
+
+          case _ =>
+        }
     }
 
     try {
       Lagarto.newLagartoParser(htmlContent).parse(visitor)
     } catch { case NonFatal(e) => logException(htmlContent, e) }
-    HtmlResources(rawResources.toSeq, base)
+    builder.build()
   }
 
-  def getEmbeddedResources(documentURI: Uri, htmlContent: Array[Char]): List[ConcurrentResource] = {
-    val htmlResources = parseHtml(htmlContent)
-
-    val rootURI = htmlResources.base.map(Uri.create(documentURI, _)).getOrElse(documentURI)
-
-    htmlResources.rawResources.view.distinct
-      .filterNot(res => res.rawUrl.isEmpty || res.rawUrl.charAt(0) == '#' || res.rawUrl.startsWith("data:"))
-      .flatMap(_.toEmbeddedResource(rootURI).toList)
-      .to(List)
-  }
+  def getEmbeddedResources(documentURI: Uri, htmlContent: Array[Char]): List[ConcurrentResource] =
+    parseHtml(htmlContent).embeddedResources(documentURI)
 }
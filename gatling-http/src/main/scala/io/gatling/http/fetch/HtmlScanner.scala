@@ -0,0 +1,312 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import java.util.Locale
+
+import scala.annotation.switch
+
+// state constants must be final vals so that they are inlined and the state machine compiles to a tableswitch
+@SuppressWarnings(Array("org.wartremover.warts.FinalVal"))
+private[fetch] object HtmlScanner {
+  private final val Text = 0
+  private final val TagOpen = 1
+  private final val InTag = 2
+  private final val MarkupDeclaration = 3
+  private final val Comment = 4
+  private final val Bogus = 5
+  private final val RawText = 6
+
+  private val ScriptTagName = "script"
+  private val StyleTagName = "style"
+  private val ScriptEnd = "</script"
+  private val StyleEnd = "</style"
+
+  private def isWhitespace(c: Char): Boolean = c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f'
+
+  private val NamedEntities = Map("amp" -> '&', "quot" -> '"', "apos" -> '\'', "lt" -> '<', "gt" -> '>')
+
+  private[fetch] def decodeEntities(chars: CharSequence, start: Int, end: Int): String = {
+    var ampersand = start
+    while (ampersand < end && chars.charAt(ampersand) != '&') {
+      ampersand += 1
+    }
+
+    if (ampersand == end) {
+      chars.subSequence(start, end).toString
+    } else {
+      val sb = new java.lang.StringBuilder(end - start).append(chars, start, ampersand)
+      var i = ampersand
+      while (i < end) {
+        val c = chars.charAt(i)
+        val semicolon = if (c == '&') indexOf(chars, ';', i + 1, end) else -1
+        val decoded =
+          if (semicolon > i + 1) {
+            val entity = chars.subSequence(i + 1, semicolon).toString
+            if (entity.charAt(0) == '#') {
+              decodeNumericEntity(entity)
+            } else {
+              NamedEntities.get(entity).map(_.toInt).getOrElse(-1)
+            }
+          } else {
+            -1
+          }
+
+        if (decoded >= 0) {
+          sb.appendCodePoint(decoded)
+          i = semicolon + 1
+        } else {
+          sb.append(c)
+          i += 1
+        }
+      }
+      sb.toString
+    }
+  }
+
+  private def indexOf(chars: CharSequence, c: Char, start: Int, end: Int): Int = {
+    var i = start
+    while (i < end && chars.charAt(i) != c) {
+      i += 1
+    }
+    if (i == end) -1 else i
+  }
+
+  private def decodeNumericEntity(entity: String): Int =
+    try {
+      val codePoint =
+        if (entity.length > 1 && (entity.charAt(1) == 'x' || entity.charAt(1) == 'X')) {
+          Integer.parseInt(entity.substring(2), 16)
+        } else {
+          Integer.parseInt(entity.substring(1))
+        }
+      if (Character.isValidCodePoint(codePoint)) codePoint else -1
+    } catch {
+      case _: NumberFormatException => -1
+    }
+}
+
+/**
+ * A forgiving incremental scanner that only looks at what resource inference cares about: start tags and their attributes, comments, and the raw text of
+ * script and style elements. Only the tag being scanned is buffered, never the page.
+ */
+private[fetch] final class HtmlScanner extends CharScanner {
+  import HtmlScanner._
+
+  private val builder = new HtmlResourcesBuilder
+  private val tag = new java.lang.StringBuilder(128)
+  private var state = Text
+  private var quote: Char = 0
+  private var matched = 0
+  private var rawTextEnd: String = _
+  // only set while within a style element
+  private var styleScanner: CssScanner = _
+
+  override def onChar(c: Char): Unit =
+    (state: @switch) match {
+      case Text =>
+        if (c == '<') {
+          state = TagOpen
+        }
+
+      case TagOpen =>
+        if (c == '!') {
+          state = MarkupDeclaration
+          matched = 0
+        } else if (c == '/' || Character.isLetter(c)) {
+          tag.setLength(0)
+          tag.append(c)
+          quote = 0
+          state = InTag
+        } else if (c != '<') {
+          state = Text
+        }
+
+      case MarkupDeclaration =>
+        if (c == '-') {
+          matched += 1
+          if (matched == 2) {
+            state = Comment
+            matched = 0
+          }
+        } else if (c == '>') {
+          state = Text
+        } else {
+          // doctype, cdata...
+          state = Bogus
+        }
+
+      case Comment =>
+        if (c == '-') {
+          if (matched < 2) {
+            matched += 1
+          }
+        } else if (c == '>' && matched == 2) {
+          state = Text
+        } else {
+          matched = 0
+        }
+
+      case Bogus =>
+        if (c == '>') {
+          state = Text
+        }
+
+      case InTag =>
+        if (quote != 0) {
+          if (c == quote) {
+            quote = 0
+          }
+          tag.append(c)
+        } else if (c == '>') {
+          onTag()
+        } else {
+          if ((c == '"' || c == '\'') && lastNonWhitespaceIsEquals()) {
+            quote = c
+          }
+          tag.append(c)
+        }
+
+      case RawText =>
+        onRawTextChar(c)
+    }
+
+  private def lastNonWhitespaceIsEquals(): Boolean = {
+    var i = tag.length - 1
+    while (i >= 0 && isWhitespace(tag.charAt(i))) {
+      i -= 1
+    }
+    i >= 0 && tag.charAt(i) == '='
+  }
+
+  private def onTag(): Unit = {
+    state = Text
+    if (tag.charAt(0) != '/') {
+      var nameEnd = 1
+      while (nameEnd < tag.length && !isWhitespace(tag.charAt(nameEnd)) && tag.charAt(nameEnd) != '/') {
+        nameEnd += 1
+      }
+      val tagName = tag.substring(0, nameEnd).toLowerCase(Locale.ROOT)
+      val selfClosing = tag.charAt(tag.length - 1) == '/'
+
+      if (tagName == StyleTagName) {
+        if (!selfClosing) {
+          styleScanner = new CssScanner
+          startRawText(StyleEnd)
+        }
+      } else {
+        builder.addTag(tagName, attributeValue(nameEnd))
+        if (tagName == ScriptTagName && !selfClosing) {
+          startRawText(ScriptEnd)
+        }
+      }
+    }
+  }
+
+  private def startRawText(end: String): Unit = {
+    state = RawText
+    rawTextEnd = end
+    matched = 0
+  }
+
+  private def onRawTextChar(c: Char): Unit =
+    if (Character.toLowerCase(c) == rawTextEnd.charAt(matched)) {
+      matched += 1
+      if (matched == rawTextEnd.length) {
+        if (styleScanner != null) {
+          builder.addStyleImportsUrls(styleScanner.rawUrls.iterator)
+          styleScanner = null
+        }
+        // skip until the end tag is closed
+        state = Bogus
+        matched = 0
+      }
+    } else {
+      if (styleScanner != null) {
+        var i = 0
+        while (i < matched) {
+          styleScanner.onChar(rawTextEnd.charAt(i))
+          i += 1
+        }
+        if (c != '<') {
+          styleScanner.onChar(c)
+        }
+      }
+      matched = if (c == '<') 1 else 0
+    }
+
+  private def attributeValue(tagNameEnd: Int)(attributeName: String): Option[String] = {
+    val length = tag.length
+    var value: Option[String] = None
+    var i = tagNameEnd
+    while (value.isEmpty && i < length) {
+      while (i < length && (isWhitespace(tag.charAt(i)) || tag.charAt(i) == '/')) {
+        i += 1
+      }
+      val nameStart = i
+      while (i < length && !isWhitespace(tag.charAt(i)) && tag.charAt(i) != '=' && tag.charAt(i) != '/') {
+        i += 1
+      }
+      val nameEnd = i
+      while (i < length && isWhitespace(tag.charAt(i))) {
+        i += 1
+      }
+
+      var valueStart = -1
+      var valueEnd = -1
+      if (i < length && tag.charAt(i) == '=') {
+        i += 1
+        while (i < length && isWhitespace(tag.charAt(i))) {
+          i += 1
+        }
+        if (i < length && (tag.charAt(i) == '"' || tag.charAt(i) == '\'')) {
+          val quoteChar = tag.charAt(i)
+          i += 1
+          valueStart = i
+          while (i < length && tag.charAt(i) != quoteChar) {
+            i += 1
+          }
+          valueEnd = i
+          i += 1
+        } else {
+          valueStart = i
+          while (i < length && !isWhitespace(tag.charAt(i))) {
+            i += 1
+          }
+          valueEnd = i
+        }
+      }
+
+      if (valueStart >= 0 && nameEquals(nameStart, nameEnd, attributeName)) {
+        value = Some(decodeEntities(tag, valueStart, valueEnd))
+      }
+    }
+    value
+  }
+
+  // attribute names are expected in lower case
+  private def nameEquals(start: Int, end: Int, name: String): Boolean =
+    end - start == name.length && {
+      var i = 0
+      while (i < name.length && Character.toLowerCase(tag.charAt(start + i)) == name.charAt(i)) {
+        i += 1
+      }
+      i == name.length
+    }
+
+  override def result(): HtmlResources = builder.build()
+}
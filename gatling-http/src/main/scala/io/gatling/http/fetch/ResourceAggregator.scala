@@ -27,6 +27,7 @@ import io.gatling.http.client.uri.Uri
 import io.gatling.http.engine.tx.{ HttpTx, HttpTxExecutor, ResourceTx }
 import io.gatling.http.protocol.Remote
 import io.gatling.http.request.HttpRequest
+import io.gatling.http.response.Response
 
 import com.typesafe.scalalogging.StrictLogging
 import io.netty.handler.codec.http.HttpResponseStatus
@@ -45,7 +46,7 @@ private[http] trait ResourceAggregator {
       silent: Boolean,
       responseStatus: HttpResponseStatus,
       lastModifiedOrEtag: Option[String],
-      content: String
+      response: Option[Response]
   ): Unit
 
   def onFollowUp(originalTx: HttpTx, followUpTx: HttpTx): Unit
@@ -117,7 +118,7 @@ private[fetch] final class DefaultResourceAggregator(
     // FIXME check if it's a css this way or use the Content-Type?
     val resourceTx = ResourceTx(this, resource.requestName, uri)
     if (httpCaches.isCssCached(uri)) {
-      onCssResourceFetched(resourceTx, OK, this.session, silent, HttpResponseStatus.NOT_MODIFIED, None, "")
+      onCssResourceFetched(resourceTx, OK, this.session, silent, HttpResponseStatus.NOT_MODIFIED, None, None)
     } else {
       onRegularResourceFetched(resourceTx, OK, this.session, silent)
     }
@@ -234,9 +235,9 @@ private[fetch] final class DefaultResourceAggregator(
     }
   }
 
-  private def cssFetched(uri: Uri, status: Status, responseStatus: HttpResponseStatus, lastModifiedOrEtag: Option[String], content: String): Unit =
+  private def cssFetched(uri: Uri, status: Status, responseStatus: HttpResponseStatus, lastModifiedOrEtag: Option[String], response: Option[Response]): Unit =
     if (status == OK) {
-      val cssResources = resourceFetcher.cssFetched(uri, responseStatus, lastModifiedOrEtag, content, session, throttled)
+      val cssResources = resourceFetcher.cssFetched(uri, responseStatus, lastModifiedOrEtag, response, session, throttled)
       if (cssResources.nonEmpty) {
         val filtered = cssResources.filterNot(resource => alreadySeen.contains(resource.clientRequest.getUri))
         fetchOrBufferResources(filtered)
@@ -256,11 +257,11 @@ private[fetch] final class DefaultResourceAggregator(
       silent: Boolean,
       responseStatus: HttpResponseStatus,
       lastModifiedOrEtag: Option[String],
-      content: String
+      response: Option[Response]
   ): Unit = {
     logger.debug(s"Css resource ${resourceTx.requestName} ${resourceTx.uri} was fetched")
     this.session = session
-    cssFetched(resourceTx.uri, status, responseStatus, lastModifiedOrEtag, content)
+    cssFetched(resourceTx.uri, status, responseStatus, lastModifiedOrEtag, response)
     resourceFetched(session, Remote(resourceTx.uri), status, silent)
   }
 
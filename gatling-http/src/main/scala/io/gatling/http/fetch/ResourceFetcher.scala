@@ -68,11 +68,23 @@ private[http] final class ResourceFetcher(
 ) extends StrictLogging {
   import ResourceFetcher._
 
+  private def scannedResources(response: Response, css: Boolean): HtmlResources =
+    response.resourceScan match {
+      case Some(scan) =>
+        scan.resources match {
+          case Some(resources) => httpCaches.cacheScannedResources(scan.contentKey, resources)
+          case _               =>
+            // body was retained for other purposes, only parse it if this content was never seen before
+            httpCaches.computeScannedResourcesIfAbsent(scan.contentKey, () => ResourceScanner.scan(css, response.body.chars))
+        }
+      case _ => ResourceScanner.scan(css, response.body.chars)
+    }
+
   private def inferPageResources(request: Request, response: Response, session: Session, throttled: Boolean): List[HttpRequest] = {
     val htmlDocumentUri = request.getUri
 
     def inferredResourcesRequests(): List[HttpRequest] = {
-      val inferred = new HtmlParser().getEmbeddedResources(htmlDocumentUri, response.body.chars)
+      val inferred = scannedResources(response, css = false).embeddedResources(htmlDocumentUri)
       val filtered = applyResourceFilters(inferred, httpProtocol.responsePart.htmlResourcesInferringFilters)
       resourcesToRequests(filtered, session, httpCaches, httpProtocol, throttled, coreComponents.configuration)
     }
@@ -104,12 +116,12 @@ private[http] final class ResourceFetcher(
       uri: Uri,
       responseStatus: HttpResponseStatus,
       maybeLastModifiedOrEtag: Option[String],
-      content: String,
+      response: Option[Response],
       session: Session,
       throttled: Boolean
   ): List[HttpRequest] = {
     def parseCssResources(): List[HttpRequest] = {
-      val computer = CssParser.extractResources(_: Uri, content)
+      val computer = (cssUri: Uri) => response.map(scannedResources(_, css = true).embeddedResources(cssUri)).getOrElse(Nil)
       val inferred = httpCaches.computeCssResourcesIfAbsent(uri, computer)
       val filtered = ResourceFetcher.applyResourceFilters(inferred, httpProtocol.responsePart.htmlResourcesInferringFilters)
       ResourceFetcher.resourcesToRequests(filtered, session, httpCaches, httpProtocol, throttled, coreComponents.configuration)
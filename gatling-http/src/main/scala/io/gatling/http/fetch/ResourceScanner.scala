@@ -0,0 +1,114 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import java.nio.{ ByteBuffer, CharBuffer }
+import java.nio.charset.{ Charset, CharsetDecoder, CodingErrorAction }
+
+import io.netty.buffer.ByteBuf
+
+/**
+ * What was learnt about an HTML or CSS response body while it was being received.
+ *
+ * @param contentKey
+ *   identifies the content regardless of the url it was served under
+ * @param resources
+ *   the resources scanned on the fly, None if the body was retained and has to be parsed later on
+ */
+final class ResourceScan private[http] (private[http] val contentKey: String, private[http] val resources: Option[HtmlResources])
+
+private[fetch] abstract class CharScanner {
+  def onChar(c: Char): Unit
+
+  def onChars(chars: CharBuffer): Unit =
+    while (chars.hasRemaining) {
+      onChar(chars.get())
+    }
+
+  def result(): HtmlResources
+}
+
+private[http] object ResourceScanner {
+  private val CharBufferCapacity = 2048
+  private val EmptyByteBuffer = ByteBuffer.allocate(0)
+
+  def apply(css: Boolean, charset: Charset): ResourceScanner =
+    new ResourceScanner(charset, newCharScanner(css))
+
+  def scan(css: Boolean, chars: Array[Char]): HtmlResources = {
+    val charScanner = newCharScanner(css)
+    charScanner.onChars(CharBuffer.wrap(chars))
+    charScanner.result()
+  }
+
+  private def newCharScanner(css: Boolean): CharScanner =
+    if (css) new CssScanner else new HtmlScanner
+}
+
+/**
+ * Decodes chunks as they arrive and feeds them to a [[CharScanner]], so neither the bytes nor the chars of the whole body have to be retained.
+ */
+private[http] final class ResourceScanner(charset: Charset, charScanner: CharScanner) {
+  import ResourceScanner._
+
+  private val decoder: CharsetDecoder =
+    charset.newDecoder.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE)
+  private val chars = CharBuffer.allocate(CharBufferCapacity)
+  // bytes of a multi-byte char split over 2 chunks
+  private var undecoded: ByteBuffer = _
+
+  def onChunk(chunk: ByteBuf): Unit =
+    chunk.nioBuffers.foreach { nioBuffer =>
+      val in =
+        if (undecoded == null) {
+          nioBuffer.duplicate
+        } else {
+          val merged = ByteBuffer.allocate(undecoded.remaining + nioBuffer.remaining)
+          merged.put(undecoded).put(nioBuffer.duplicate).flip()
+          undecoded = null
+          merged
+        }
+
+      decode(in, endOfInput = false)
+
+      if (in.hasRemaining) {
+        undecoded = ByteBuffer.allocate(in.remaining)
+        undecoded.put(in).flip()
+      }
+    }
+
+  private def decode(in: ByteBuffer, endOfInput: Boolean): Unit =
+    while (decoder.decode(in, chars, endOfInput).isOverflow) {
+      drainChars()
+    }
+
+  private def drainChars(): Unit = {
+    chars.flip()
+    charScanner.onChars(chars)
+    chars.clear()
+  }
+
+  def result(): HtmlResources = {
+    decode(if (undecoded != null) undecoded else EmptyByteBuffer, endOfInput = true)
+    undecoded = null
+    while (decoder.flush(chars).isOverflow) {
+      drainChars()
+    }
+    drainChars()
+    charScanner.result()
+  }
+}
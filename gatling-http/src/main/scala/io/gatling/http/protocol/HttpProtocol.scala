@@ -104,8 +104,9 @@ object HttpProtocol extends StrictLogging {
       wsPart = HttpProtocolWsPart(
         wsBaseUrls = Nil,
         maxReconnects = 0,
-        autoReplyTextFrames = _ => None,
-        unmatchedInboundMessageBufferSize = 0
+        autoReplyTextFrames = HttpProtocolWsPart.NoAutoReplyTextFrames,
+        unmatchedInboundMessageBufferSize = 0,
+        maxFramePayloadLength = Int.MaxValue
       ),
       ssePart = HttpProtocolSsePart(
         unmatchedInboundMessageBufferSize = 0
@@ -119,7 +120,8 @@ object HttpProtocol extends StrictLogging {
       dnsPart = HttpProtocolDnsPart(
         dnsNameResolution = JavaDnsNameResolution,
         hostNameAliases = Map.empty,
-        perUserNameResolution = false
+        perUserNameResolution = false,
+        eventLoopNameResolution = false
       )
     )
 }
@@ -195,9 +197,15 @@ final case class HttpProtocolWsPart(
     wsBaseUrls: List[String],
     maxReconnects: Int,
     autoReplyTextFrames: String => Option[String],
-    unmatchedInboundMessageBufferSize: Int
+    unmatchedInboundMessageBufferSize: Int,
+    maxFramePayloadLength: Int
 )
 
+object HttpProtocolWsPart {
+  // identified so inbound text frames don't have to be decoded just to try auto replying
+  val NoAutoReplyTextFrames: String => Option[String] = _ => None
+}
+
 final case class HttpProtocolSsePart(
     unmatchedInboundMessageBufferSize: Int
 )
@@ -212,5 +220,6 @@ final case class HttpProtocolProxyPart(
 final case class HttpProtocolDnsPart(
     dnsNameResolution: DnsNameResolution,
     hostNameAliases: Map[String, ju.List[InetAddress]],
-    perUserNameResolution: Boolean
+    perUserNameResolution: Boolean,
+    eventLoopNameResolution: Boolean
 )
@@ -199,6 +199,10 @@ final case class HttpProtocolBuilder(protocol: HttpProtocol, useOpenSsl: Boolean
   def wsAutoReplySocketIo4: HttpProtocolBuilder = wsAutoReplyTextFrame { case "2" => "3" }
   def wsUnmatchedInboundMessageBufferSize(max: Int): HttpProtocolBuilder =
     this.modify(_.protocol.wsPart.unmatchedInboundMessageBufferSize).setTo(max)
+  def wsMaxFramePayloadLength(max: Int): HttpProtocolBuilder = {
+    require(max > 0, "wsMaxFramePayloadLength must be strictly positive")
+    this.modify(_.protocol.wsPart.maxFramePayloadLength).setTo(max)
+  }
 
   // ssePart
   def sseUnmatchedInboundMessageBufferSize(max: Int): HttpProtocolBuilder =
@@ -231,6 +235,8 @@ final case class HttpProtocolBuilder(protocol: HttpProtocol, useOpenSsl: Boolean
   }
   def perUserNameResolution: HttpProtocolBuilder =
     this.modify(_.protocol.dnsPart.perUserNameResolution).setTo(true)
+  def eventLoopNameResolution: HttpProtocolBuilder =
+    this.modify(_.protocol.dnsPart.eventLoopNameResolution).setTo(true)
 
   private def preResolve(baseUrl: String, aliasedHostnames: Set[String]): Unit =
     try {
@@ -19,7 +19,7 @@ package io.gatling.http.request
 import java.nio.charset.Charset
 
 import io.gatling.commons.validation.Validation
-import io.gatling.core.check.ChecksumAlgorithm
+import io.gatling.core.check.StreamingPreparer
 import io.gatling.core.session._
 import io.gatling.http.ResponseTransformer
 import io.gatling.http.check.HttpCheck
@@ -32,7 +32,7 @@ final case class HttpRequestConfig(
     throttled: Boolean,
     silent: Option[Boolean],
     followRedirect: Boolean,
-    checksumAlgorithms: List[ChecksumAlgorithm],
+    streamingPreparers: List[Expression[StreamingPreparer[_]]],
     storeBodyParts: Boolean,
     defaultCharset: Charset,
     explicitResources: List[HttpRequestDef],
@@ -20,7 +20,7 @@ import scala.concurrent.duration.FiniteDuration
 
 import io.gatling.commons.validation.Validation
 import io.gatling.core.action.Action
-import io.gatling.core.check.{ ChecksumAlgorithm, ChecksumCheck }
+import io.gatling.core.check.{ StreamingCheck, StreamingPreparer }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session._
 import io.gatling.core.structure.ScenarioContext
@@ -157,10 +157,11 @@ final case class HttpRequestBuilder(commonAttributes: CommonAttributes, bodyAttr
     val resolvedRequestExpression =
       new HttpRequestExpressionBuilder(commonAttributes, bodyAttributes, httpAttributes, httpCaches, httpProtocol, configuration).build
 
-    val checksumAlgorithms: List[ChecksumAlgorithm] =
+    // resolved once the response is received, with the session the request was sent with
+    val streamingPreparers: List[Expression[StreamingPreparer[_]]] =
       sortedChecks
         .map(_.wrapped)
-        .collect { case check: ChecksumCheck[_] => check.algorithm }
+        .collect { case check: StreamingCheck[_] => check.preparer }
 
     val storeBodyParts = HttpTracing.IS_HTTP_DEBUG_ENABLED ||
       // we can't assume anything about if and how the response body will be used,
@@ -177,7 +178,7 @@ final case class HttpRequestBuilder(commonAttributes: CommonAttributes, bodyAttr
         throttled = throttled,
         silent = httpAttributes.silent,
         followRedirect = resolvedFollowRedirect,
-        checksumAlgorithms = checksumAlgorithms,
+        streamingPreparers = streamingPreparers,
         storeBodyParts = storeBodyParts,
         defaultCharset = configuration.core.charset,
         explicitResources = resolvedResources,
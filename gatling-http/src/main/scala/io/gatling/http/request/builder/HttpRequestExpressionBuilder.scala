@@ -24,10 +24,12 @@ import io.gatling.commons.validation._
 import io.gatling.core.body._
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session._
+import io.gatling.core.util.cache.Cache
 import io.gatling.http.cache.{ ContentCacheEntry, Http2PriorKnowledgeSupport, HttpCaches }
 import io.gatling.http.client.{ Param, Request, RequestBuilder => ClientRequestBuilder }
 import io.gatling.http.client.body.RequestBodyBuilder
 import io.gatling.http.client.body.bytearray.ByteArrayRequestBodyBuilder
+import io.gatling.http.client.body.compressed.{ CompressedRequestBodyBuilder, RequestBodyEncoding }
 import io.gatling.http.client.body.file.FileRequestBodyBuilder
 import io.gatling.http.client.body.form.FormUrlEncodedRequestBodyBuilder
 import io.gatling.http.client.body.is.InputStreamRequestBodyBuilder
@@ -41,6 +43,24 @@ import io.gatling.http.util.HttpHelper
 import io.netty.handler.codec.http.HttpHeaderNames
 
 object HttpRequestExpressionBuilder {
+  private def requestBodyEncoding(compression: BodyCompression): RequestBodyEncoding =
+    compression match {
+      case BodyCompression.Gzip    => RequestBodyEncoding.GZIP
+      case BodyCompression.Deflate => RequestBodyEncoding.DEFLATE
+      case BodyCompression.Brotli  => RequestBodyEncoding.BROTLI
+      case BodyCompression.Zstd    => RequestBodyEncoding.ZSTD
+    }
+
+  private def staticRequestBodyBuilder(body: Body): Option[RequestBodyBuilder] =
+    body match {
+      case StringBody(StaticValueExpression(string), _) => Some(new StringRequestBodyBuilder(string))
+      case ByteArrayBody(StaticValueExpression(bytes))  => Some(new ByteArrayRequestBodyBuilder(bytes, null))
+      case ElBody(StaticValueExpression(parts)) =>
+        val staticParts = parts.collect { case ElBody.StaticElBodyPart(stringWithCachedBytes) => stringWithCachedBytes }
+        if (staticParts.sizeIs == parts.size) Some(new StringChunksRequestBodyBuilder(staticParts.asJava)) else None
+      case _ => None
+    }
+
   private val bodyPartsToMultipartsZero: Validation[List[Part[_]]] = Nil.success
 
   @SuppressWarnings(Array("org.wartremover.warts.ListAppend"))
@@ -113,8 +133,8 @@ final class HttpRequestExpressionBuilder(
       params <- mergeFormParamsAndFormIntoParamJList(bodyAttributes.formParams, bodyAttributes.form, session)
     } yield requestBuilder.setBodyBuilder(new FormUrlEncodedRequestBodyBuilder(params))
 
-  private val maybeRequestBodyBuilderExpression: Option[Expression[RequestBodyBuilder]] =
-    bodyAttributes.body.map {
+  private def requestBodyBuilderExpression(body: Body): Expression[RequestBodyBuilder] =
+    body match {
       case StringBody(string, _) => string(_).map(new StringRequestBodyBuilder(_))
       case RawFileBody(resourceWithCachedBytes) =>
         resourceWithCachedBytes(_).map { case ResourceAndCachedBytes(resource, cachedBytes) =>
@@ -126,8 +146,38 @@ final class HttpRequestExpressionBuilder(
       case ByteArrayBody(bytes) => bytes(_).map(new ByteArrayRequestBodyBuilder(_, null))
       case body: ElBody         => body.asStringWithCachedBytes(_).map(chunks => new StringChunksRequestBodyBuilder(chunks.asJava))
       case InputStreamBody(is)  => is(_).map(new InputStreamRequestBodyBuilder(_))
+      case CompressedBody(compressedBody, compression) =>
+        val encoding = HttpRequestExpressionBuilder.requestBodyEncoding(compression)
+        (HttpRequestExpressionBuilder.staticRequestBodyBuilder(compressedBody), compressedBody) match {
+          case (Some(staticBuilder), _) =>
+            // compressed once for all the virtual users
+            val builder = new CompressedRequestBodyBuilder(staticBuilder, encoding, true).success
+            _ => builder
+
+          case (_, RawFileBody(resourceWithCachedBytes)) =>
+            // files cached in memory are compressed once, as long as they stay in the cache
+            val compressedFiles = Cache.newWeakKeysConcurrentCache[Array[Byte], RequestBodyBuilder]
+            resourceWithCachedBytes(_).map { case ResourceAndCachedBytes(resource, cachedBytes) =>
+              cachedBytes match {
+                case Some(bytes) =>
+                  compressedFiles.computeIfAbsent(
+                    bytes,
+                    _ => new CompressedRequestBodyBuilder(new ByteArrayRequestBodyBuilder(bytes, resource.name), encoding, true)
+                  )
+                case _ => new CompressedRequestBodyBuilder(new FileRequestBodyBuilder(resource.file), encoding, false)
+              }
+            }
+
+          case _ =>
+            // compressed while being written
+            val expression = requestBodyBuilderExpression(compressedBody)
+            expression(_).map(new CompressedRequestBodyBuilder(_, encoding, false))
+        }
     }
 
+  private val maybeRequestBodyBuilderExpression: Option[Expression[RequestBodyBuilder]] =
+    bodyAttributes.body.map(requestBodyBuilderExpression)
+
   private val hasParts = bodyAttributes.bodyParts.nonEmpty
   private val hasForm = bodyAttributes.formParams.nonEmpty || bodyAttributes.form.nonEmpty
   private def configureBody(session: Session, requestBuilder: ClientRequestBuilder): Validation[_] =
@@ -30,6 +30,7 @@ import io.gatling.http.auth.DigestAuthSupport
 import io.gatling.http.cache.{ BaseUrlSupport, HttpCaches, LocalAddressSupport }
 import io.gatling.http.client.{ Request, RequestBuilder => ClientRequestBuilder }
 import io.gatling.http.client.realm.DigestRealm
+import io.gatling.http.client.resolver.InetAddressNameResolver
 import io.gatling.http.client.uri.{ Uri, UriEncoder }
 import io.gatling.http.cookie.CookieSupport
 import io.gatling.http.protocol.HttpProtocol
@@ -37,7 +38,7 @@ import io.gatling.http.referer.RefererHandling
 import io.gatling.http.util.HttpHelper
 
 import com.typesafe.scalalogging.LazyLogging
-import io.netty.handler.codec.http.HttpHeaderNames
+import io.netty.handler.codec.http.{ DefaultHttpHeaders, HttpHeaderNames, HttpHeaders }
 import io.netty.util.AsciiString
 
 object RequestExpressionBuilder {
@@ -115,9 +116,11 @@ abstract class RequestExpressionBuilder(
         if (isAbsoluteUrl(staticUrl)) {
           UriEncoder.uriEncoder(fixUrlEncoding).encode(Uri.create(staticUrl), ju.Collections.emptyList()).expressionSuccess
         } else {
-          val uriV = resolveRelativeAgainstBaseUrl(staticUrl, protocolBaseUrls.headOption)
-            .map(uri => UriEncoder.uriEncoder(fixUrlEncoding).encode(uri, ju.Collections.emptyList()))
-          _ => uriV
+          resolveRelativeAgainstBaseUrl(staticUrl, protocolBaseUrls.headOption)
+            .map(uri => UriEncoder.uriEncoder(fixUrlEncoding).encode(uri, ju.Collections.emptyList())) match {
+            case Success(uri) => uri.expressionSuccess
+            case failure      => _ => failure
+          }
         }
 
       case Left(url) =>
@@ -173,11 +176,23 @@ abstract class RequestExpressionBuilder(
     case (key, StaticValueExpression(value)) => Left(key -> value)
     case other                               => Right(other)
   }
-  private def configureHeaders(session: Session, requestBuilder: ClientRequestBuilder): Validation[_] = {
-    staticHeaders.foreach { case (key, value) => requestBuilder.addHeader(key, value) }
+  private val staticUri: Option[Uri] = buildURI match {
+    case StaticValueExpression(uri) => Some(uri)
+    case _                          => None
+  }
+  // static header block is built once and copied for every request,
+  // default headers such as Accept and Host are still added last by the client so header order doesn't depend on the path taken
+  private val staticHeadersBlock: HttpHeaders = {
+    val block = new DefaultHttpHeaders(false)
+    staticHeaders.foreach { case (key, value) => block.add(key, value) }
+    block
+  }
+  private def configureReferer(session: Session, requestBuilder: ClientRequestBuilder): Unit =
     if (addRefererHeader) {
       RefererHandling.getStoredReferer(session).foreach(requestBuilder.addHeader(HttpHeaderNames.REFERER, _))
     }
+  private def configureHeaders(session: Session, requestBuilder: ClientRequestBuilder): Validation[_] = {
+    configureReferer(session, requestBuilder)
     if (dynamicHeaders.isEmpty) {
       Validation.unit
     } else {
@@ -226,7 +241,40 @@ abstract class RequestExpressionBuilder(
 
   protected def configureProtocolSpecific(session: Session, requestBuilder: ClientRequestBuilder): Validation[_]
 
-  def build: Expression[Request] =
+  private def newClientRequestBuilder(requestName: String, uri: Uri, nameResolver: InetAddressNameResolver): ClientRequestBuilder =
+    new ClientRequestBuilder(requestName, commonAttributes.method, uri, nameResolver)
+      .setDefaultCharset(charset)
+      .setAutoOrigin(httpProtocol.requestPart.autoOrigin)
+      .setHeaders(staticHeadersBlock.copy())
+
+  // when name, url and headers are static and nothing depends on the session besides cookies and referer,
+  // skip the step by step resolution and only re-apply per user parts
+  private val sessionIndependentSettings =
+    dynamicHeaders.isEmpty && maybeRealm.isEmpty && !proxyProtocolEnabled && !hasLocalAddresses && maybeSignatureCalculator.isEmpty
+  private val staticRequest: Option[(String, Uri)] =
+    (commonAttributes.requestName, staticUri) match {
+      case (StaticValueExpression(requestName), Some(uri)) if sessionIndependentSettings => Some(requestName -> uri)
+      case _                                                                             => None
+    }
+
+  private def buildStatic(requestName: String, uri: Uri): Expression[Request] =
+    session =>
+      safely(BuildRequestErrorMapper) {
+        httpCaches.nameResolver(session).flatMap { nameResolver =>
+          val requestBuilder = newClientRequestBuilder(requestName, uri, nameResolver)
+          configureRequestTimeout(requestBuilder)
+          configureCookies(session, requestBuilder)
+          configureReferer(session, requestBuilder)
+          for {
+            _ <- configureProxy(session, requestBuilder)
+            _ <- configureProtocolSpecific(session, requestBuilder)
+          } yield requestBuilder.build
+        }
+      }
+
+  private[builder] def isStatic: Boolean = staticRequest.isDefined
+
+  private[builder] def buildDynamic: Expression[Request] =
     session =>
       safely(BuildRequestErrorMapper) {
         for {
@@ -235,9 +283,7 @@ abstract class RequestExpressionBuilder(
           nameResolver <- httpCaches.nameResolver(session) // note: DNS cache is supposed to be set early
 
           requestBuilder = {
-            val rb = new ClientRequestBuilder(requestName, commonAttributes.method, uri, nameResolver)
-              .setDefaultCharset(charset)
-              .setAutoOrigin(httpProtocol.requestPart.autoOrigin)
+            val rb = newClientRequestBuilder(requestName, uri, nameResolver)
 
             configureRequestTimeout(rb)
             configureCookies(session, rb)
@@ -252,4 +298,10 @@ abstract class RequestExpressionBuilder(
           _ <- configureProtocolSpecific(session, requestBuilder)
         } yield requestBuilder.build
       }
+
+  def build: Expression[Request] =
+    staticRequest match {
+      case Some((requestName, uri)) => buildStatic(requestName, uri)
+      case _                        => buildDynamic
+    }
 }
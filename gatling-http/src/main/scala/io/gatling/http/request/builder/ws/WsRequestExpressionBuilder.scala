@@ -46,9 +46,11 @@ final class WsRequestExpressionBuilder(
   override protected def configureRequestTimeout(requestBuilder: RequestBuilder): Unit =
     requestBuilder.setRequestTimeout(requestTimeout)
 
-  override protected def configureProtocolSpecific(session: Session, requestBuilder: ClientRequestBuilder): Validation[_] =
+  override protected def configureProtocolSpecific(session: Session, requestBuilder: ClientRequestBuilder): Validation[_] = {
+    requestBuilder.setWsMaxFramePayloadLength(httpProtocol.wsPart.maxFramePayloadLength)
     subprotocol match {
       case Some(sub) => sub(session).map(requestBuilder.setWsSubprotocol)
       case _         => Validation.unit
     }
+  }
 }
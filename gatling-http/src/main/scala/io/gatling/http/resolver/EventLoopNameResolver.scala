@@ -0,0 +1,157 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.InetAddress
+import java.util.concurrent.TimeUnit
+
+import io.gatling.commons.util.Clock
+import io.gatling.http.client.HttpListener
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.util.InetAddresses
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.channel.EventLoop
+import io.netty.util.NetUtil
+import io.netty.util.concurrent.{ Future, Promise }
+
+private[http] object EventLoopNameResolver {
+  // entries still in use are refreshed once this share of their TTL has elapsed
+  private val PrefetchRatio = 0.8
+  private val MinTtlMillis = TimeUnit.SECONDS.toMillis(1)
+  // when the TTL couldn't be recorded, eg the hostname was expanded with a search domain
+  private val DefaultTtlMillis = TimeUnit.SECONDS.toMillis(30)
+
+  private final class Entry {
+    var addresses: ju.List[InetAddress] = _
+    var failure: Throwable = _
+    var expiresAt: Long = _
+    var prefetchAt: Long = _
+    // resolution in progress, either the initial one or a prefetch
+    var pending: Promise[ju.List[InetAddress]] = _
+
+    def isResolved: Boolean = addresses != null || failure != null
+
+    def isExpired(now: Long): Boolean = pending == null && isResolved && now >= expiresAt
+  }
+
+  private def transferResult(src: Future[ju.List[InetAddress]], dst: Promise[ju.List[InetAddress]]): Unit =
+    if (src.isSuccess) {
+      dst.trySuccess(shuffle(src.getNow))
+    } else {
+      dst.tryFailure(src.cause)
+    }
+
+  private def shuffle(addresses: ju.List[InetAddress]): ju.List[InetAddress] =
+    InetAddresses.shuffleInetAddresses(addresses, NetUtil.isIpV4StackPreferred, NetUtil.isIpV6AddressesPreferred)
+}
+
+/**
+ * A name resolver bound to a single event loop, hence lock-free, meant to be shared by all the virtual users of a given protocol living on this event
+ * loop.
+ *
+ * Resolutions are cached according to their TTL, failures for the configured negative TTL, and entries that are still in use are refreshed in the
+ * background before they expire, so that, under steady load, name resolution stays out of the request path. Concurrent resolutions of the same hostname
+ * are merged.
+ *
+ * As it's shared, [[close]] is a noop, the actual resolver is closed with [[shutdown]].
+ */
+private[http] final class EventLoopNameResolver(
+    wrapped: InetAddressNameResolver,
+    ttlRecorder: TtlRecordingDnsCache,
+    eventLoop: EventLoop,
+    negativeTtlMillis: Long,
+    clock: Clock
+) extends InetAddressNameResolver
+    with StrictLogging {
+  import EventLoopNameResolver._
+
+  private val entries = new ju.HashMap[String, Entry]
+
+  override def resolveAll(inetHost: String, promise: Promise[ju.List[InetAddress]], listener: HttpListener): Future[ju.List[InetAddress]] = {
+    if (eventLoop.inEventLoop) {
+      resolveAll0(inetHost, promise, listener)
+    } else {
+      eventLoop.execute(() => resolveAll0(inetHost, promise, listener))
+    }
+    promise
+  }
+
+  private def resolveAll0(inetHost: String, promise: Promise[ju.List[InetAddress]], listener: HttpListener): Unit = {
+    val now = clock.nowMillis
+    val entry = entries.computeIfAbsent(inetHost, _ => new Entry)
+
+    if (entry.isResolved && now < entry.expiresAt) {
+      if (entry.failure != null) {
+        promise.tryFailure(entry.failure)
+      } else {
+        promise.trySuccess(shuffle(entry.addresses))
+        if (now >= entry.prefetchAt && entry.pending == null) {
+          logger.debug(s"Prefetching $inetHost before its TTL expires")
+          resolve(inetHost, entry, listener)
+        }
+      }
+    } else {
+      val pending = if (entry.pending != null) entry.pending else resolve(inetHost, entry, listener)
+      if (pending.isDone) {
+        transferResult(pending, promise)
+      } else {
+        pending.addListener((future: Future[ju.List[InetAddress]]) => transferResult(future, promise))
+      }
+    }
+  }
+
+  private def resolve(inetHost: String, entry: Entry, listener: HttpListener): Promise[ju.List[InetAddress]] = {
+    val pending = eventLoop.newPromise[ju.List[InetAddress]]
+    entry.pending = pending
+    // registered first so the entry is updated before the waiters get notified
+    pending.addListener((future: Future[ju.List[InetAddress]]) => onResolved(inetHost, entry, future))
+    wrapped.resolveAll(inetHost, pending, listener)
+    pending
+  }
+
+  private[resolver] def size: Int = entries.size
+
+  private def onResolved(inetHost: String, entry: Entry, future: Future[ju.List[InetAddress]]): Unit = {
+    entry.pending = null
+    val now = clock.nowMillis
+    val recordedTtl = ttlRecorder.takeTtl(inetHost)
+    if (future.isSuccess) {
+      val ttlMillis = if (recordedTtl >= 0) math.max(TimeUnit.SECONDS.toMillis(recordedTtl), MinTtlMillis) else DefaultTtlMillis
+      entry.addresses = future.getNow
+      entry.failure = null
+      entry.expiresAt = now + ttlMillis
+      entry.prefetchAt = now + (ttlMillis * PrefetchRatio).toLong
+    } else if (entry.addresses != null && now < entry.expiresAt) {
+      // a prefetch failed, keep on serving the current addresses until they expire
+      logger.debug(s"Failed to prefetch $inetHost", future.cause)
+    } else {
+      entry.addresses = null
+      entry.failure = future.cause
+      entry.expiresAt = now + negativeTtlMillis
+      entry.prefetchAt = Long.MaxValue
+    }
+    // hostnames that are no longer resolved would otherwise stay in the cache forever
+    entries.values.removeIf(_.isExpired(now))
+  }
+
+  // noop as shared
+  override def close(): Unit = {}
+
+  def shutdown(): Unit = wrapped.close()
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.InetAddress
+import java.util.concurrent.TimeUnit
+
+import io.gatling.commons.util.Clock
+
+import io.netty.channel.EventLoop
+import io.netty.handler.codec.dns.DnsRecord
+import io.netty.resolver.dns.{ DnsCache, DnsCacheEntry }
+
+private object TtlRecordingDnsCache {
+  private final class RecordedTtl(val ttl: Long, val expiresAt: Long)
+}
+
+/**
+ * A DnsCache that doesn't cache anything but records the lowest TTL of the records of each resolution, so that [[EventLoopNameResolver]] can do the
+ * caching. Only used by a DnsNameResolver bound to a single event loop, hence not thread-safe.
+ *
+ * TTLs that are never taken, eg for the intermediate names of a CNAME chain, are dropped once they expire.
+ */
+private[http] final class TtlRecordingDnsCache(clock: Clock) extends DnsCache {
+  import TtlRecordingDnsCache._
+
+  private val ttls = new ju.HashMap[String, RecordedTtl]
+
+  /**
+   * @return
+   *   the lowest TTL in seconds recorded for this hostname since the last call, -1 if none
+   */
+  def takeTtl(hostname: String): Long =
+    ttls.remove(hostname) match {
+      case null     => -1
+      case recorded => recorded.ttl
+    }
+
+  private[resolver] def size: Int = ttls.size
+
+  private def evictExpired(now: Long): Unit =
+    if (!ttls.isEmpty) {
+      ttls.values.removeIf(_.expiresAt < now)
+    }
+
+  override def clear(): Unit = ttls.clear()
+
+  override def clear(hostname: String): Boolean = ttls.remove(hostname) != null
+
+  override def get(hostname: String, additionals: Array[DnsRecord]): ju.List[_ <: DnsCacheEntry] = ju.Collections.emptyList()
+
+  override def cache(hostname: String, additionals: Array[DnsRecord], address: InetAddress, originalTtl: Long, loop: EventLoop): DnsCacheEntry = {
+    val now = clock.nowMillis
+    evictExpired(now)
+    val previous = ttls.get(hostname)
+    if (previous == null || previous.ttl > originalTtl) {
+      ttls.put(hostname, new RecordedTtl(originalTtl, now + TimeUnit.SECONDS.toMillis(originalTtl)))
+    }
+    null
+  }
+
+  override def cache(hostname: String, additionals: Array[DnsRecord], cause: Throwable, loop: EventLoop): DnsCacheEntry = null
+}
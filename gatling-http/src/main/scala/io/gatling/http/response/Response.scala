@@ -18,8 +18,10 @@ package io.gatling.http.response
 
 import scala.jdk.CollectionConverters._
 
-import io.gatling.core.check.ChecksumAlgorithm
+import io.gatling.commons.validation._
+import io.gatling.core.check.{ ChecksumAlgorithm, StreamingPreparer }
 import io.gatling.http.client.Request
+import io.gatling.http.fetch.ResourceScan
 import io.gatling.http.protocol.HttpProtocol
 import io.gatling.http.util.HttpHelper
 
@@ -46,8 +48,9 @@ final case class Response(
     status: HttpResponseStatus,
     headers: HttpHeaders,
     body: ResponseBody,
-    checksums: Map[ChecksumAlgorithm, String],
-    isHttp2: Boolean
+    streamingPreparations: Map[StreamingPreparer[_], Validation[Any]],
+    isHttp2: Boolean,
+    resourceScan: Option[ResourceScan]
 ) extends HttpResult {
   val isRedirect: Boolean = HttpHelper.isRedirect(status)
 
@@ -55,7 +58,13 @@ final case class Response(
   def headers(name: CharSequence): Seq[String] = headers.getAll(name).asScala.toSeq
   val cookies: List[Cookie] = HttpHelper.responseCookies(headers)
 
-  def checksum(algorithm: ChecksumAlgorithm): Option[String] = checksums.get(algorithm)
+  def streamingPrepared[P](preparer: StreamingPreparer[P]): Validation[P] =
+    streamingPreparations.get(preparer) match {
+      case Some(prepared) => prepared.asInstanceOf[Validation[P]]
+      case _              => s"$preparer wasn't computed while the body was received, its criterion must resolve the same way for a given session".failure
+    }
+
+  def checksum(algorithm: ChecksumAlgorithm): Option[String] = streamingPrepared(algorithm).toOption
 
   def lastModifiedOrEtag(protocol: HttpProtocol): Option[String] =
     if (protocol.requestPart.cache) header(HttpHeaderNames.LAST_MODIFIED).orElse(header(HttpHeaderNames.ETAG)) else None
@@ -24,6 +24,7 @@ import scala.jdk.CollectionConverters._
 import scala.util.control.NonFatal
 
 import io.gatling.commons.util.FastByteArrayInputStream
+import io.gatling.netty.util.ByteBufsCharSequence
 import io.gatling.netty.util.ByteBufUtils._
 
 import com.typesafe.scalalogging.LazyLogging
@@ -42,6 +43,8 @@ sealed trait ResponseBody {
   def length: Int
   def charset: Charset
   def string: String
+  // a view only decoded if chars are actually needed, bytes based searches can use the undecoded body
+  def charSequence: CharSequence
   def chars: Array[Char]
   def bytes: Array[Byte]
   def stream: InputStream
@@ -50,9 +53,11 @@ sealed trait ResponseBody {
 private[gatling] final class ByteBufResponseBody(override val length: Int, chunk: ByteBuf, override val charset: Charset)
     extends ResponseBody
     with LazyLogging {
+  override lazy val charSequence: ByteBufsCharSequence = new ByteBufsCharSequence(charset, chunk)
+
   override lazy val string: String =
     try {
-      byteBuf2String(charset, chunk.duplicate)
+      charSequence.toString
     } catch {
       case NonFatal(e) =>
         logger.error(s"Response body is not valid ${charset.name} bytes", e)
@@ -72,9 +77,11 @@ private[gatling] final class ByteBufResponseBody(override val length: Int, chunk
 private[gatling] final class ByteBufsResponseBody(override val length: Int, chunks: Seq[ByteBuf], override val charset: Charset)
     extends ResponseBody
     with LazyLogging {
+  override lazy val charSequence: ByteBufsCharSequence = new ByteBufsCharSequence(charset, chunks: _*)
+
   override lazy val string: String =
     try {
-      byteBuf2String(charset, chunks.map(_.duplicate): _*)
+      charSequence.toString
     } catch {
       case NonFatal(e) =>
         logger.error(s"Response body is not valid ${charset.name} bytes", e)
@@ -101,6 +108,7 @@ object NoResponseBody {
 final class NoResponseBody(val length: Int) extends ResponseBody {
   override val charset: Charset = UTF_8
   override val string: String = ""
+  override val charSequence: CharSequence = string
   override val chars: Array[Char] = Array.emptyCharArray
   override val bytes: Array[Byte] = Array.emptyByteArray
   override def stream: FastByteArrayInputStream = new FastByteArrayInputStream(bytes)
@@ -108,6 +116,8 @@ final class NoResponseBody(val length: Int) extends ResponseBody {
 
 // for ResponseTransformer
 final class StringResponseBody(val string: String, override val charset: Charset) extends ResponseBody {
+  override def charSequence: CharSequence = string
+
   override def length: Int = bytes.length
 
   override lazy val chars: Array[Char] = string.toCharArray
@@ -123,6 +133,8 @@ final class ByteArrayResponseBody(val bytes: Array[Byte], override val charset:
 
   override lazy val string: String = new String(bytes, charset)
 
+  override def charSequence: CharSequence = string
+
   override lazy val chars: Array[Char] = string.toCharArray
 
   override def stream: InputStream = new FastByteArrayInputStream(bytes)
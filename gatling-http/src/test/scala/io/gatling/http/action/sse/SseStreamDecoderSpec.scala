@@ -18,6 +18,8 @@ package io.gatling.http.action.sse
 
 import java.nio.charset.StandardCharsets.UTF_8
 
+import scala.collection.mutable
+
 import io.gatling.http.action.sse.fsm.{ ServerSentEvent, SseStreamDecoder }
 
 import io.netty.buffer.Unpooled
@@ -64,12 +66,14 @@ class SseStreamDecoderSpec extends AnyFlatSpecLike with Matchers {
     )
   )
 
-  private def decodeChunks(splitPos: Int) = {
+  private def decodeChunks(bytes: Array[Byte], splitPos: Int): Seq[ServerSentEvent] = {
     val (chunk1, chunk2) = bytes.splitAt(splitPos)
     val chunks = Seq(Unpooled.wrappedBuffer(chunk1), Unpooled.wrappedBuffer(chunk2))
+    val events = mutable.ArrayBuffer.empty[ServerSentEvent]
     try {
-      val decoder = new SseStreamDecoder
-      chunks.flatMap(decoder.decodeStream)
+      val decoder = new SseStreamDecoder(events += _.toServerSentEvent)
+      chunks.foreach(decoder.decodeStream)
+      events.toSeq
     } finally {
       chunks.foreach(_.release())
     }
@@ -77,7 +81,42 @@ class SseStreamDecoderSpec extends AnyFlatSpecLike with Matchers {
 
   "SseStreamDecoder" should "be able to decode split UTF-8 chars" in {
     (0 until bytes.length).foreach { splitPos =>
-      (splitPos, decodeChunks(splitPos)) shouldBe (splitPos, expected)
+      (splitPos, decodeChunks(bytes, splitPos)) shouldBe (splitPos, expected)
+    }
+  }
+
+  it should "support a BOM, CRLF line breaks and retry fields wherever the stream is split" in {
+    val crlfBytes = ("\uFEFFevent: update\r\nretry: 5\r\ndata: payload\r\n\r\nretry: foo\r\nid: 2\r\n\r\n").getBytes(UTF_8)
+    val crlfExpected = Seq(
+      ServerSentEvent(
+        name = Some("update"),
+        data = Some("payload"),
+        id = None,
+        retry = Some(5)
+      ),
+      ServerSentEvent(
+        name = None,
+        data = None,
+        id = Some("2"),
+        retry = None
+      )
+    )
+
+    (0 until crlfBytes.length).foreach { splitPos =>
+      (splitPos, decodeChunks(crlfBytes, splitPos)) shouldBe (splitPos, crlfExpected)
     }
   }
+
+  it should "ignore retry values that don't fit an Int" in {
+    val overflowBytes = "retry: 99999999999999999999\ndata: payload\n\n".getBytes(UTF_8)
+
+    decodeChunks(overflowBytes, 0) shouldBe Seq(
+      ServerSentEvent(
+        name = None,
+        data = Some("payload"),
+        id = None,
+        retry = None
+      )
+    )
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.netty.buffer.Unpooled
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class WsInboundMessageSpec extends AnyFlatSpecLike with Matchers {
+  private val Message = "héllo wörld"
+
+  "Text" should "only be decoded when its message is read" in {
+    val text = WsInboundMessage.Text.undecoded(1, Message.getBytes(UTF_8))
+
+    text.isDecoded shouldBe false
+    text.message shouldBe Message
+    text.isDecoded shouldBe true
+  }
+
+  it should "be equal to the decoded form of the same message" in {
+    val decoded = WsInboundMessage.Text(1, Message)
+    val undecoded = WsInboundMessage.Text.undecoded(1, Message.getBytes(UTF_8))
+
+    undecoded shouldBe decoded
+    decoded shouldBe undecoded
+    undecoded.hashCode shouldBe decoded.hashCode
+    undecoded should not be WsInboundMessage.Text(2, Message)
+  }
+
+  it should "be matched by the Text extractor whether decoded or not" in {
+    val messages: Seq[WsInboundMessage] = Seq(WsInboundMessage.Text(1, Message), WsInboundMessage.Text.undecoded(1, Message.getBytes(UTF_8)))
+
+    messages.map {
+      case WsInboundMessage.Text(timestamp, message) => s"$timestamp:$message"
+      case _                                         => "unmatched"
+    } shouldBe Seq(s"1:$Message", s"1:$Message")
+  }
+
+  "WsFramePayload" should "keep the raw bytes of text frames that were not read" in {
+    val content = Unpooled.copiedBuffer(Message, UTF_8)
+    try {
+      val text = new WsFramePayload(content).toTextMessage(1)
+
+      text.isDecoded shouldBe false
+      text.message shouldBe Message
+    } finally {
+      content.release()
+    }
+  }
+
+  it should "not decode text frames twice" in {
+    val content = Unpooled.copiedBuffer(Message, UTF_8)
+    try {
+      val payload = new WsFramePayload(content)
+      payload.text shouldBe Message
+
+      payload.toTextMessage(1).isDecoded shouldBe true
+    } finally {
+      content.release()
+    }
+  }
+}
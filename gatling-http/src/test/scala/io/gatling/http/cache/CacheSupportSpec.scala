@@ -170,7 +170,8 @@ class CacheSupportSpec extends AnyFlatSpecLike with Matchers with EmptySession {
       null,
       false,
       null,
-      null
+      null,
+      Int.MaxValue
     )
 
     HttpTx(
@@ -184,7 +185,7 @@ class CacheSupportSpec extends AnyFlatSpecLike with Matchers with EmptySession {
           throttled = false,
           silent = None,
           followRedirect = true,
-          checksumAlgorithms = Nil,
+          streamingPreparers = Nil,
           storeBodyParts = false,
           defaultCharset = configuration.core.charset,
           httpProtocol = protocol,
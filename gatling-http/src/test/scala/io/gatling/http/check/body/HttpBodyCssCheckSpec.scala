@@ -19,19 +19,18 @@ package io.gatling.http.check.body
 import io.gatling.ValidationValues
 import io.gatling.core.{ CoreDsl, EmptySession }
 import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult }
-import io.gatling.core.check.css.{ CssCheckType, CssSelectors }
+import io.gatling.core.check.css.{ CssCheckType, CssSelectors, HtmlDocument }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.http.HttpDsl
 import io.gatling.http.check.HttpCheck
 import io.gatling.http.response.Response
 
-import jodd.lagarto.dom.NodeSelector
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
 class HttpBodyCssCheckSpec extends AnyFlatSpecLike with Matchers with ValidationValues with CoreDsl with HttpDsl with EmptySession {
   override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
-  private implicit val materializer: CheckMaterializer[CssCheckType, HttpCheck, Response, NodeSelector] =
+  private implicit val materializer: CheckMaterializer[CssCheckType, HttpCheck, Response, HtmlDocument] =
     HttpBodyCssCheckMaterializer.instance(new CssSelectors(1000))
 
   "form.find" should "select the first option when none is selected" in {
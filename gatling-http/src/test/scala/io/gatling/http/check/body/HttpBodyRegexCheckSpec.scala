@@ -16,6 +16,8 @@
 
 package io.gatling.http.check.body
 
+import java.nio.charset.StandardCharsets.UTF_8
+
 import io.gatling.ValidationValues
 import io.gatling.core.{ CoreDsl, EmptySession }
 import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult }
@@ -23,7 +25,9 @@ import io.gatling.core.check.regex.RegexCheckType
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.http.HttpDsl
 import io.gatling.http.check.{ HttpCheck, HttpCheckSupport }
-import io.gatling.http.response.Response
+import io.gatling.http.response.{ ByteBufsResponseBody, Response }
+
+import io.netty.buffer.Unpooled
 
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
@@ -32,7 +36,7 @@ class HttpBodyRegexCheckSpec extends AnyFlatSpecLike with Matchers with Validati
   object RegexSupport extends HttpCheckSupport
 
   override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
-  private implicit val materializer: CheckMaterializer[RegexCheckType, HttpCheck, Response, String] =
+  private implicit val materializer: CheckMaterializer[RegexCheckType, HttpCheck, Response, CharSequence] =
     HttpBodyRegexCheckMaterializer.Instance
 
   private val regexCheck = super[CoreDsl].regex(_)
@@ -83,4 +87,13 @@ class HttpBodyRegexCheckSpec extends AnyFlatSpecLike with Matchers with Validati
     val regexValue = """"foo":"(.+?)""""
     regexCheck(regexValue).count.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(0), None)
   }
+
+  "regex on the raw bytes" should "match over several chunks containing multi bytes chars" in {
+    val bufs = List("""[{"id":"é€""", """😀"},"id":"1072""", """920418"]""").map(chunk => Unpooled.wrappedBuffer(chunk.getBytes(UTF_8)))
+    val response = mockResponse(new ByteBufsResponseBody(bufs.map(_.readableBytes).sum, bufs, UTF_8))
+    regexCheck(""""id":"(.+?)"""").findAll.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(
+      Some(Seq("é€😀", "1072920418")),
+      None
+    )
+  }
 }
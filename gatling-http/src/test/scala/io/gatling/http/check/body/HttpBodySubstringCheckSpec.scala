@@ -16,23 +16,47 @@
 
 package io.gatling.http.check.body
 
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets.UTF_8
+
 import io.gatling.ValidationValues
+import io.gatling.commons.validation.Validation
 import io.gatling.core.{ CoreDsl, EmptySession }
-import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult }
-import io.gatling.core.check.substring.SubstringCheckType
+import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult, StreamingPreparer }
+import io.gatling.core.check.substring.{ SubstringCheckType, SubstringStreamingPreparer }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.http.HttpDsl
-import io.gatling.http.check.HttpCheck
-import io.gatling.http.response.Response
+import io.gatling.http.check.{ HttpCheck, HttpCheckScope }
+import io.gatling.http.response.{ ByteBufsResponseBody, NoResponseBody, Response }
+
+import io.netty.buffer.Unpooled
 
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
 class HttpBodySubstringCheckSpec extends AnyFlatSpecLike with Matchers with ValidationValues with CoreDsl with HttpDsl with EmptySession {
   override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
-  private implicit val materializer: CheckMaterializer[SubstringCheckType, HttpCheck, Response, String] =
+  private implicit val materializer: CheckMaterializer[SubstringCheckType, HttpCheck, Response, CharSequence] =
     HttpBodySubstringCheckMaterializer.Instance
 
+  private def mockChunkedResponse(chunks: String*): Response = {
+    val bufs = chunks.map(chunk => Unpooled.wrappedBuffer(chunk.getBytes(UTF_8))).toList
+    mockResponse(new ByteBufsResponseBody(bufs.map(_.readableBytes).sum, bufs, UTF_8))
+  }
+
+  // like the listener does when the body doesn't have to be retained
+  private def mockStreamedResponse(patterns: Seq[String], chunks: String*): Response = {
+    val streamingPreparations: Map[StreamingPreparer[_], Validation[Any]] =
+      patterns.map { pattern =>
+        val preparer = SubstringStreamingPreparer(pattern)
+        val consumer = preparer.newConsumer(UTF_8)
+        chunks.foreach(chunk => consumer.onChunk(ByteBuffer.wrap(chunk.getBytes(UTF_8))))
+        preparer -> consumer.prepared
+      }.toMap
+
+    mockResponse(NoResponseBody(chunks.map(_.getBytes(UTF_8).length).sum)).copy(streamingPreparations = streamingPreparations)
+  }
+
   "substring.find.exists" should "find single result" in {
     val response = mockResponse("""{"id":"1072920417"}""")
     substring(""""id":"""").find.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(1), None)
@@ -65,4 +89,42 @@ class HttpBodySubstringCheckSpec extends AnyFlatSpecLike with Matchers with Vali
     val response = mockResponse("""[{"id":"1072920417"},"id":"1072920418"]""")
     substring(""""foo":"""").count.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(0), None)
   }
+
+  "substring on the raw bytes" should "find occurrences spanning over several chunks" in {
+    val response = mockChunkedResponse("""[{"i""", """d":"1072920417"},"id""", """":"1072920418"]""")
+    substring(""""id":"""").findAll.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(Seq(2, 21)), None)
+  }
+
+  it should "return char indexes when the body contains multi bytes chars" in {
+    val response = mockChunkedResponse("""[{"é":"€"},""", """{"id":"😀"},"id":""", "1]")
+    substring(""""id":"""").find(1).exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(23), None)
+  }
+
+  it should "count occurrences" in {
+    val response = mockChunkedResponse("""[{"id":"1072920417"},""", """"id":"1072920418"]""")
+    substring(""""id":"""").count.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(2), None)
+  }
+
+  "substring on a body that wasn't retained" should "be a streaming check" in {
+    substring(""""id":"""").find.exists.build(materializer).scope shouldBe HttpCheckScope.Chunks
+  }
+
+  it should "use the occurrences searched while the body was received" in {
+    val response = mockStreamedResponse(Seq(""""id":""""), """[{"é":"€"},{"i""", """d":"😀"},"id":""", "1]")
+    substring(""""id":"""").findAll.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(Seq(12, 23)), None)
+    substring(""""id":"""").find(1).exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(23), None)
+    substring(""""id":"""").count.exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(2), None)
+  }
+
+  it should "use the occurrences searched while the body was received when the extractor is transformed" in {
+    val response = mockStreamedResponse(Seq(""""id":""""), """[{"id":"1072920417"},""", """"id":"1072920418"]""")
+    substring(""""id":"""").count.transform(_ * 2).exists.check(response, emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(Some(4), None)
+    val extractedValue = substring(""""id":"""").findRandom.exists.check(response, emptySession, Check.newPreparedCache).succeeded.extractedValue
+    extractedValue should (equal(Some(2)) or equal(Some(21)))
+  }
+
+  it should "fail when the pattern wasn't searched while the body was received" in {
+    val response = mockStreamedResponse(Seq(""""id":""""), """[{"id":"1072920417"}]""")
+    substring("foo").count.exists.check(response, emptySession, Check.newPreparedCache).failed should include("wasn't computed while the body was received")
+  }
 }
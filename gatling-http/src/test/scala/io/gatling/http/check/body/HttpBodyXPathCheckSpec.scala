@@ -19,19 +19,18 @@ package io.gatling.http.check.body
 import io.gatling.ValidationValues
 import io.gatling.core.{ CoreDsl, EmptySession }
 import io.gatling.core.check.{ Check, CheckMaterializer, CheckResult }
-import io.gatling.core.check.xpath.XPathCheckType
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.http.HttpDsl
 import io.gatling.http.check.HttpCheck
 import io.gatling.http.response.Response
 
-import net.sf.saxon.s9api.XdmNode
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
 class HttpBodyXPathCheckSpec extends AnyFlatSpecLike with Matchers with ValidationValues with CoreDsl with HttpDsl with EmptySession {
   override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
-  private implicit val materializer: CheckMaterializer[XPathCheckType, HttpCheck, Response, XdmNode] =
+  private implicit val materializer: CheckMaterializer[XPathCheckType, HttpCheck, Response, XmlDocument] =
     HttpBodyXPathCheckMaterializer.Instance
 
   "xpath.find.exists" should "find single result" in {
@@ -43,9 +43,10 @@ package object body {
       status = HttpResponseStatus.OK,
       headers = new DefaultHttpHeaders,
       body = body,
-      checksums = null,
+      streamingPreparations = Map.empty,
       startTimestamp = 0,
       endTimestamp = 0,
-      isHttp2 = false
+      isHttp2 = false,
+      resourceScan = None
     )
 }
@@ -96,6 +96,7 @@ class HttpCompileTest extends Simulation {
     .maxConnectionsPerHost(6)
     .shareConnections
     .perUserNameResolution
+    .eventLoopNameResolution
     .localAddress("192.168.1.100")
     .localAddresses(List("192.168.1.100", "192.168.1.101"))
     .useAllLocalAddresses
@@ -271,6 +272,9 @@ class HttpCompileTest extends Simulation {
     // processRequestBody
     .exec(http("Request").post("/things").body(StringBody("FOO#{BAR}BAZ")).processRequestBody(identity))
     .exec(http("Request").post("/things").body(ByteArrayBody("#{bytes}")).processRequestBody(gzipBody))
+    .exec(http("Request").post("/things").body(RawFileBody("create_thing.txt")).processRequestBody(deflateBody))
+    .exec(http("Request").post("/things").body(ElFileBody("create_thing.txt")).processRequestBody(brotliBody))
+    .exec(http("Request").post("/things").body(StringBody("FOO#{BAR}BAZ")).processRequestBody(zstdBody))
     // bodyParts
     .exec(
       http("Request")
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.engine
+
+import java.{ util => ju }
+import java.nio.ByteBuffer
+import java.nio.charset.Charset
+import java.nio.charset.StandardCharsets.UTF_8
+
+import scala.collection.mutable
+
+import io.gatling.ValidationValues
+import io.gatling.commons.util.{ DefaultClock, Hex }
+import io.gatling.commons.validation._
+import io.gatling.core.EmptySession
+import io.gatling.core.check.{ ChecksumAlgorithm, ChunksConsumer, StreamingPreparer }
+import io.gatling.core.check.substring.SubstringStreamingPreparer
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.session._
+import io.gatling.http.client.Request
+import io.gatling.http.client.uri.Uri
+import io.gatling.http.engine.response.ResponseProcessor
+import io.gatling.http.engine.tx.HttpTx
+import io.gatling.http.protocol.HttpProtocol
+import io.gatling.http.request.{ HttpRequest, HttpRequestConfig }
+import io.gatling.http.response.{ HttpResult, NoResponseBody, Response }
+
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.handler.codec.http.{ DefaultHttpHeaders, HttpHeaderNames, HttpResponseStatus }
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class GatlingHttpListenerSpec extends AnyFlatSpecLike with Matchers with ValidationValues with EmptySession {
+  private val configuration = GatlingConfiguration.loadForTest()
+  private val httpProtocol = HttpProtocol(configuration)
+
+  // records the chunks as they're consumed, decoded as they must not be retained
+  private final class RecordingPreparer extends StreamingPreparer[Int] {
+    val consumed: mutable.ArrayBuffer[String] = mutable.ArrayBuffer.empty
+
+    override def newConsumer(charset: Charset): ChunksConsumer[Int] =
+      new ChunksConsumer[Int] {
+        private var count = 0
+
+        override def onChunk(chunk: ByteBuffer): Unit = {
+          consumed += charset.decode(chunk).toString
+          count += 1
+        }
+
+        override def prepared: Validation[Int] = count.success
+      }
+  }
+
+  private object CrashingPreparer extends StreamingPreparer[Int] {
+    override def newConsumer(charset: Charset): ChunksConsumer[Int] =
+      new ChunksConsumer[Int] {
+        override def onChunk(chunk: ByteBuffer): Unit = throw new IllegalStateException("crashed")
+
+        override def prepared: Validation[Int] = 0.success
+      }
+  }
+
+  private final class CapturingResponseProcessor extends ResponseProcessor {
+    var result: Option[HttpResult] = None
+    // chunks are released once the response is processed
+    var bodyString: String = ""
+
+    override def onComplete(result: HttpResult): Unit = {
+      this.result = Some(result)
+      result match {
+        case response: Response => bodyString = response.body.string
+        case _                  =>
+      }
+    }
+  }
+
+  private def newListener(
+      streamingPreparers: List[Expression[StreamingPreparer[_]]],
+      storeBodyParts: Boolean,
+      responseProcessor: ResponseProcessor
+  ): GatlingHttpListener = {
+    val clientRequest = new Request(
+      null,
+      null,
+      Uri.create("http://gatling.io"),
+      new DefaultHttpHeaders,
+      ju.Collections.emptyList(),
+      null,
+      0L,
+      false,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      false,
+      null,
+      null,
+      Int.MaxValue
+    )
+
+    val requestConfig = HttpRequestConfig(
+      checks = Nil,
+      responseTransformer = None,
+      throttled = false,
+      silent = None,
+      followRedirect = false,
+      streamingPreparers = streamingPreparers,
+      storeBodyParts = storeBodyParts,
+      defaultCharset = configuration.core.charset,
+      explicitResources = Nil,
+      httpProtocol = httpProtocol
+    )
+
+    val tx = HttpTx(
+      emptySession.set("pattern", "o"),
+      request = HttpRequest(requestName = "request", clientRequest = clientRequest, requestConfig = requestConfig),
+      next = null,
+      resourceTx = None,
+      redirectCount = 0
+    )
+
+    new GatlingHttpListener(tx, new DefaultClock, responseProcessor)
+  }
+
+  private def receiveHeaders(listener: GatlingHttpListener): Unit = {
+    listener.onSend()
+    listener.onHttpResponse(HttpResponseStatus.OK, new DefaultHttpHeaders().add(HttpHeaderNames.CONTENT_TYPE, "text/plain; charset=UTF-8"))
+  }
+
+  private def md5(content: String): String = Hex.toHexString(ChecksumAlgorithm.Md5.digest.digest(content.getBytes(UTF_8)))
+
+  private def completedResponse(responseProcessor: CapturingResponseProcessor): Response =
+    responseProcessor.result match {
+      case Some(response: Response) => response
+      case other                    => fail(s"Expected a response, got $other")
+    }
+
+  "GatlingHttpListener" should "feed the streaming consumers with the chunks as they arrive and not retain them" in {
+    val preparer = new RecordingPreparer
+    val responseProcessor = new CapturingResponseProcessor
+    val listener = newListener(List(preparer.expressionSuccess, ChecksumAlgorithm.Md5.expressionSuccess), storeBodyParts = false, responseProcessor)
+    val chunk1: ByteBuf = Unpooled.copiedBuffer("hello ", UTF_8)
+    val chunk2: ByteBuf = Unpooled.copiedBuffer("world", UTF_8)
+
+    try {
+      receiveHeaders(listener)
+
+      listener.onHttpResponseBodyChunk(chunk1, last = false)
+      preparer.consumed shouldBe Seq("hello ")
+      responseProcessor.result shouldBe None
+
+      listener.onHttpResponseBodyChunk(chunk2, last = true)
+      preparer.consumed shouldBe Seq("hello ", "world")
+
+      val response = completedResponse(responseProcessor)
+      response.streamingPrepared(preparer).succeeded shouldBe 2
+      response.checksum(ChecksumAlgorithm.Md5) shouldBe Some(md5("hello world"))
+      response.body shouldBe a[NoResponseBody]
+      response.body.length shouldBe 11
+      chunk1.refCnt shouldBe 1
+      chunk2.refCnt shouldBe 1
+    } finally {
+      chunk1.release()
+      chunk2.release()
+    }
+  }
+
+  it should "still feed the streaming consumers when the body is retained for other checks" in {
+    val preparer = new RecordingPreparer
+    val responseProcessor = new CapturingResponseProcessor
+    val listener = newListener(List(preparer.expressionSuccess), storeBodyParts = true, responseProcessor)
+    val chunk1: ByteBuf = Unpooled.copiedBuffer("hello ", UTF_8)
+    val chunk2: ByteBuf = Unpooled.copiedBuffer("world", UTF_8)
+
+    try {
+      receiveHeaders(listener)
+      listener.onHttpResponseBodyChunk(chunk1, last = false)
+      preparer.consumed shouldBe Seq("hello ")
+
+      listener.onHttpResponseBodyChunk(chunk2, last = true)
+
+      preparer.consumed shouldBe Seq("hello ", "world")
+      completedResponse(responseProcessor).streamingPrepared(preparer).succeeded shouldBe 2
+      responseProcessor.bodyString shouldBe "hello world"
+    } finally {
+      chunk1.release()
+      chunk2.release()
+    }
+  }
+
+  it should "create one consumer per streaming preparer resolved with the session the request was sent with" in {
+    val preparer = new RecordingPreparer
+    val responseProcessor = new CapturingResponseProcessor
+    val substringPreparer: Expression[StreamingPreparer[_]] = session => session("pattern").validate[String].map(SubstringStreamingPreparer)
+    val listener = newListener(
+      List(substringPreparer, preparer.expressionSuccess, substringPreparer, preparer.expressionSuccess),
+      storeBodyParts = false,
+      responseProcessor
+    )
+    val chunk1: ByteBuf = Unpooled.copiedBuffer("hello w", UTF_8)
+    val chunk2: ByteBuf = Unpooled.copiedBuffer("orld", UTF_8)
+
+    try {
+      receiveHeaders(listener)
+      listener.onHttpResponseBodyChunk(chunk1, last = false)
+      listener.onHttpResponseBodyChunk(chunk2, last = true)
+
+      preparer.consumed shouldBe Seq("hello w", "orld")
+      val response = completedResponse(responseProcessor)
+      response.streamingPrepared(SubstringStreamingPreparer("o")).succeeded shouldBe Seq(4, 7)
+      response.streamingPrepared(preparer).succeeded shouldBe 2
+    } finally {
+      chunk1.release()
+      chunk2.release()
+    }
+  }
+
+  it should "stop feeding a crashing consumer and still feed the other ones" in {
+    val preparer = new RecordingPreparer
+    val responseProcessor = new CapturingResponseProcessor
+    val listener = newListener(List(CrashingPreparer.expressionSuccess, preparer.expressionSuccess), storeBodyParts = false, responseProcessor)
+    val chunk1: ByteBuf = Unpooled.copiedBuffer("hello ", UTF_8)
+    val chunk2: ByteBuf = Unpooled.copiedBuffer("world", UTF_8)
+
+    try {
+      receiveHeaders(listener)
+      listener.onHttpResponseBodyChunk(chunk1, last = false)
+      listener.onHttpResponseBodyChunk(chunk2, last = true)
+
+      preparer.consumed shouldBe Seq("hello ", "world")
+      val response = completedResponse(responseProcessor)
+      response.streamingPrepared(CrashingPreparer).failed should include("crashed")
+      response.streamingPrepared(preparer).succeeded shouldBe 2
+    } finally {
+      chunk1.release()
+      chunk2.release()
+    }
+  }
+}
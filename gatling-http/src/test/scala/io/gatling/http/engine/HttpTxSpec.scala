@@ -45,7 +45,7 @@ class HttpTxSpec extends AnyFlatSpecLike with Matchers {
       throttled = false,
       silent = None,
       followRedirect = false,
-      checksumAlgorithms = Nil,
+      streamingPreparers = Nil,
       storeBodyParts = false,
       defaultCharset = configuration.core.charset,
       explicitResources = Nil,
@@ -85,7 +85,8 @@ class HttpTxSpec extends AnyFlatSpecLike with Matchers {
       null,
       false,
       null,
-      null
+      null,
+      Int.MaxValue
     )
 
   "HttpTx" should "be silent when using default protocol and containing a request forced to silent" in new Context {
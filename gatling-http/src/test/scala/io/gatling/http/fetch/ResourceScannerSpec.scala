@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.fetch
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import scala.util.Using
+
+import io.gatling.http.client.uri.Uri
+
+import io.netty.buffer.Unpooled
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ResourceScannerSpec extends AnyFlatSpecLike with Matchers {
+  private val akkaIoHtml = Using.resource(getClass.getClassLoader.getResourceAsStream("akka.io.html"))(_.readAllBytes())
+
+  // feed small chunks so tags, entities and multi-byte chars get split
+  @SuppressWarnings(Array("org.wartremover.warts.DefaultArguments"))
+  private def scan(content: Array[Byte], css: Boolean = false, chunkSize: Int = 7): HtmlResources = {
+    val scanner = ResourceScanner(css, UTF_8)
+    content.grouped(chunkSize).foreach { chunk =>
+      val buf = Unpooled.wrappedBuffer(chunk)
+      try {
+        scanner.onChunk(buf)
+      } finally {
+        buf.release()
+      }
+    }
+    scanner.result()
+  }
+
+  @SuppressWarnings(Array("org.wartremover.warts.DefaultArguments"))
+  private def scanHtml(html: String, chunkSize: Int = 7): List[ConcurrentResource] =
+    scan(html.getBytes(UTF_8), chunkSize = chunkSize).embeddedResources(Uri.create("http://example.com/"))
+
+  private implicit def string2Uri(string: String): Uri = Uri.create(string)
+
+  "scanning akka.io page" should "extract the same urls as the parser" in {
+    val documentUri = Uri.create("http://akka.io")
+    scan(akkaIoHtml).embeddedResources(documentUri) shouldBe new HtmlParser().getEmbeddedResources(documentUri, new String(akkaIoHtml, UTF_8).toCharArray)
+  }
+
+  it should "produce the same result whatever the chunk size" in {
+    scan(akkaIoHtml, chunkSize = 1) shouldBe scan(akkaIoHtml, chunkSize = akkaIoHtml.length)
+  }
+
+  "scanning HTML" should "ignore nested conditional comments" in {
+    val html =
+      """<!DOCTYPE html>
+      <html>
+        <body>
+          <!--[if gt IE 5]>
+          <link rel="stylesheet" type="text/css" href="style.css">
+        <![endif]-->
+        </body>
+      </html>
+      """
+
+    scanHtml(html) shouldBe empty
+  }
+
+  it should "ignore tags in script bodies and extract style imports" in {
+    val html =
+      """<html>
+        <head>
+          <script src="/app.js">document.write('<img src="/ignored.png">');</script>
+          <style>
+            /* @import url("ignored.css"); */
+            @import url("/imported.css");
+          </style>
+        </head>
+        <body background="/background.png">
+          <div style="background-image: url('/inline.png')"></div>
+        </body>
+      </html>"""
+
+    scanHtml(html) shouldBe List(
+      BasicResource("http://example.com/app.js"),
+      CssResource("http://example.com/imported.css"),
+      BasicResource("http://example.com/background.png"),
+      BasicResource("http://example.com/inline.png")
+    )
+  }
+
+  it should "honor base, decode entities and multi-byte chars split over chunks" in {
+    val html =
+      """<html>
+        <head><BASE HREF="http://cdn.example.com/static/"></head>
+        <body>
+          <IMG SRC='images/café.png'>
+          <img src=logo.png?v=1&amp;size=2>
+        </body>
+      </html>"""
+
+    scan(html.getBytes(UTF_8), chunkSize = 1) shouldBe HtmlResources(
+      Seq(RegularRawResource("images/café.png"), RegularRawResource("logo.png?v=1&size=2")),
+      Some("http://cdn.example.com/static/")
+    )
+  }
+
+  "scanning CSS" should "extract imports but not commented ones" in {
+    val css = """
+        /*@import url("import1.css");*/
+        body{background-image: url('backgrounds/blizzard.png');}
+        @import url("import2.css");"""
+
+    scan(css.getBytes(UTF_8), css = true).embeddedResources(Uri.create("http://gatling.io/")) shouldBe List(CssResource("http://gatling.io/import2.css"))
+  }
+}
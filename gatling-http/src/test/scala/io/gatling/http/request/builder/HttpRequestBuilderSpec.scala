@@ -28,15 +28,17 @@ import io.gatling.core.session.el._
 import io.gatling.http.Predef._
 import io.gatling.http.cache.{ DnsCacheSupport, HttpCaches }
 import io.gatling.http.check.HttpCheckScope._
+import io.gatling.http.check.body.mockResponse
 import io.gatling.http.client.{ HttpListener, Param }
 import io.gatling.http.client.body.form.FormUrlEncodedRequestBody
 import io.gatling.http.client.impl.request.WritableRequestBuilder
 import io.gatling.http.client.resolver.InetAddressNameResolver
 import io.gatling.http.client.uri.Uri
 import io.gatling.http.protocol.HttpProtocol
+import io.gatling.http.referer.RefererHandling
 
 import io.netty.buffer.ByteBuf
-import io.netty.handler.codec.http.{ HttpHeaders, HttpMethod, HttpResponseStatus }
+import io.netty.handler.codec.http.{ DefaultHttpHeaders, HttpHeaderNames, HttpHeaderValues, HttpHeaders, HttpMethod, HttpResponseStatus }
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
@@ -90,6 +92,57 @@ class HttpRequestBuilderSpec extends AnyFlatSpecLike with Matchers with Validati
       .succeeded shouldBe "foo"
   }
 
+  "static request" should "carry static headers along with default Host and Accept ones" in {
+    val headers = httpRequestDef(_.header("X-Foo", "bar".el))
+      .build(sessionBase)
+      .succeeded
+      .clientRequest
+      .getHeaders
+
+    headers.get("X-Foo") shouldBe "bar"
+    headers.get(HttpHeaderNames.HOST) shouldBe "gatling.io"
+    headers.get(HttpHeaderNames.ACCEPT) shouldBe "*/*"
+  }
+
+  it should "not share headers between requests" in {
+    val requestDef = httpRequestDef(_.header("X-Foo", "bar".el))
+    requestDef.build(sessionBase).succeeded.clientRequest.getHeaders.set("X-Foo", "baz")
+
+    requestDef.build(sessionBase).succeeded.clientRequest.getHeaders.get("X-Foo") shouldBe "bar"
+  }
+
+  it should "be taken with a default protocol and build the same request as the dynamic path" in {
+    val protocol = HttpProtocol(configuration)
+    val requestBuilder = HttpRequestBuilder("requestName".expressionSuccess, HttpMethod.POST, Right(Uri.create("http://gatling.io/foo")))
+      .header("X-Foo", "bar".el)
+      .body(StringBody("baz")(configuration))
+    val expressionBuilder =
+      new HttpRequestExpressionBuilder(
+        requestBuilder.commonAttributes,
+        requestBuilder.bodyAttributes,
+        requestBuilder.httpAttributes,
+        httpCaches,
+        protocol,
+        configuration
+      )
+
+    val previousRequest = expressionBuilder.build(sessionBase).succeeded
+    val htmlResponse = mockResponse("<html/>").copy(headers = new DefaultHttpHeaders().add(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.TEXT_HTML))
+    val session = RefererHandling.storeReferer(previousRequest, htmlResponse, protocol)(sessionBase)
+
+    expressionBuilder.isStatic shouldBe true
+
+    val staticRequest = expressionBuilder.build(session).succeeded
+    val dynamicRequest = expressionBuilder.buildDynamic(session).succeeded
+
+    staticRequest.getName shouldBe dynamicRequest.getName
+    staticRequest.getMethod shouldBe dynamicRequest.getMethod
+    staticRequest.getUri shouldBe dynamicRequest.getUri
+    staticRequest.getHeaders.get(HttpHeaderNames.REFERER) shouldBe "http://gatling.io/foo"
+    staticRequest.getHeaders.asScala.map(entry => entry.getKey -> entry.getValue).toList shouldBe
+      dynamicRequest.getHeaders.asScala.map(entry => entry.getKey -> entry.getValue).toList
+  }
+
   "form" should "work when overriding a value" in {
     val form = Map("foo" -> Seq("FOO"), "bar" -> Seq("BAR"))
     val session = sessionBase.set("form", form).set("formParamToOverride", "bar")
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.{ InetAddress, UnknownHostException }
+import java.util.concurrent.TimeUnit
+
+import io.gatling.commons.util.Clock
+import io.gatling.http.client.HttpListener
+import io.gatling.http.client.resolver.InetAddressNameResolver
+
+import io.netty.channel.DefaultEventLoop
+import io.netty.util.concurrent.{ Future, Promise }
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class EventLoopNameResolverSpec extends AnyFlatSpecLike with Matchers with BeforeAndAfterAll {
+  private val eventLoop = new DefaultEventLoop()
+
+  override def afterAll(): Unit = eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly()
+
+  private val Address = InetAddress.getByAddress("gatling.io", Array[Byte](1, 2, 3, 4))
+
+  private final class FakeClock extends Clock {
+    @volatile var value: Long = 0
+    override def nowMillis: Long = value
+  }
+
+  private final class FakeDnsResolver(ttlRecorder: TtlRecordingDnsCache, ttlSeconds: Long) extends InetAddressNameResolver {
+    @volatile var resolutions: Int = 0
+    @volatile var fail: Boolean = false
+
+    override def resolveAll(inetHost: String, promise: Promise[ju.List[InetAddress]], listener: HttpListener): Future[ju.List[InetAddress]] = {
+      resolutions += 1
+      if (fail) {
+        promise.setFailure(new UnknownHostException(inetHost))
+      } else {
+        ttlRecorder.cache(inetHost, Array.empty, Address, ttlSeconds, eventLoop)
+        promise.setSuccess(ju.List.of(Address))
+      }
+    }
+
+    override def close(): Unit = {}
+  }
+
+  private def newResolver(ttlSeconds: Long): (EventLoopNameResolver, FakeDnsResolver, FakeClock) = {
+    val clock = new FakeClock
+    val ttlRecorder = new TtlRecordingDnsCache(clock)
+    val dnsResolver = new FakeDnsResolver(ttlRecorder, ttlSeconds)
+    (new EventLoopNameResolver(dnsResolver, ttlRecorder, eventLoop, 5000, clock), dnsResolver, clock)
+  }
+
+  private def resolve(resolver: EventLoopNameResolver): Future[ju.List[InetAddress]] =
+    resolve(resolver, "gatling.io")
+
+  private def resolve(resolver: EventLoopNameResolver, hostname: String): Future[ju.List[InetAddress]] =
+    resolver.resolveAll(hostname, eventLoop.newPromise[ju.List[InetAddress]], null).awaitUninterruptibly()
+
+  // let the tasks already scheduled on the event loop, such as listeners, run
+  private def flushEventLoop(): Unit = eventLoop.submit((() => ()): Runnable).syncUninterruptibly()
+
+  "EventLoopNameResolver" should "cache resolutions according to their TTL" in {
+    val (resolver, dnsResolver, clock) = newResolver(ttlSeconds = 10)
+
+    resolve(resolver).getNow shouldBe ju.List.of(Address)
+    clock.value = 5000
+    resolve(resolver).getNow shouldBe ju.List.of(Address)
+    dnsResolver.resolutions shouldBe 1
+
+    clock.value = 20000
+    resolve(resolver).getNow shouldBe ju.List.of(Address)
+    dnsResolver.resolutions shouldBe 2
+  }
+
+  it should "refresh entries in use before they expire" in {
+    val (resolver, dnsResolver, clock) = newResolver(ttlSeconds = 10)
+
+    resolve(resolver)
+    clock.value = 9000
+    // served from the cache while refreshed in the background
+    resolve(resolver).getNow shouldBe ju.List.of(Address)
+    flushEventLoop()
+    dnsResolver.resolutions shouldBe 2
+
+    // entry was refreshed at 9s so it's still valid at 15s
+    clock.value = 15000
+    resolve(resolver)
+    dnsResolver.resolutions shouldBe 2
+  }
+
+  it should "cache failures for the negative TTL" in {
+    val (resolver, dnsResolver, clock) = newResolver(ttlSeconds = 10)
+    dnsResolver.fail = true
+
+    resolve(resolver).cause shouldBe a[UnknownHostException]
+    clock.value = 4000
+    resolve(resolver).cause shouldBe a[UnknownHostException]
+    dnsResolver.resolutions shouldBe 1
+
+    dnsResolver.fail = false
+    clock.value = 6000
+    resolve(resolver).getNow shouldBe ju.List.of(Address)
+    dnsResolver.resolutions shouldBe 2
+  }
+
+  it should "evict the entries of hostnames that are no longer resolved once they expire" in {
+    val (resolver, _, clock) = newResolver(ttlSeconds = 10)
+
+    resolve(resolver, "foo.gatling.io")
+    resolve(resolver, "bar.gatling.io")
+    resolver.size shouldBe 2
+
+    clock.value = 20000
+    resolve(resolver, "bar.gatling.io")
+    resolver.size shouldBe 1
+  }
+
+  "TtlRecordingDnsCache" should "drop the TTLs that are never taken once they expire" in {
+    val clock = new FakeClock
+    val ttlRecorder = new TtlRecordingDnsCache(clock)
+
+    ttlRecorder.cache("cname.gatling.io", Array.empty, Address, 10, eventLoop)
+    ttlRecorder.cache("gatling.io", Array.empty, Address, 10, eventLoop)
+    ttlRecorder.takeTtl("gatling.io") shouldBe 10
+    ttlRecorder.size shouldBe 1
+
+    clock.value = 11000
+    ttlRecorder.cache("gatling.io", Array.empty, Address, 5, eventLoop)
+    ttlRecorder.size shouldBe 1
+    ttlRecorder.takeTtl("gatling.io") shouldBe 5
+    ttlRecorder.takeTtl("cname.gatling.io") shouldBe -1
+  }
+}
@@ -25,7 +25,9 @@ public final class JdbcDsl {
   private JdbcDsl() {}
 
   /**
-   * Boostrap a feeder that read a stock of data from a database
+   * Boostrap a feeder that read a stock of data from a database. Records are loaded in memory
+   * unless {@link FeederBuilder.Batchable#batch()} is used, in which case they're streamed with a
+   * forward-only cursor fetching the configured number of rows at a time.
    *
    * @param url the database url
    * @param username the credentials username
@@ -34,7 +36,7 @@ public final class JdbcDsl {
    * @return a FeederBuilder
    */
   @NonNull
-  public static FeederBuilder<Object> jdbcFeeder(
+  public static FeederBuilder.Batchable<Object> jdbcFeeder(
       @NonNull String url,
       @NonNull String username,
       @NonNull String password,
@@ -24,4 +24,6 @@ import io.gatling.javaapi.core.ChainBuilder;
 public class JdbcJavaCompileTest {
 
   ChainBuilder feed = feed(jdbcFeeder("url", "username", "password", "sql"));
+  ChainBuilder batchedFeed =
+      feed(jdbcFeeder("url", "username", "password", "sql").batch(500).circular());
 }
@@ -17,10 +17,10 @@
 package io.gatling.jdbc
 
 import io.gatling.core.config.GatlingConfiguration
-import io.gatling.core.feeder.{ FeederBuilderBase, InMemoryFeederSource, SourceFeederBuilder }
+import io.gatling.core.feeder.{ BatchableFeederBuilder, SourceFeederBuilder }
 import io.gatling.jdbc.feeder.JdbcFeederSource
 
 object Predef {
-  def jdbcFeeder(url: String, username: String, password: String, sql: String)(implicit configuration: GatlingConfiguration): FeederBuilderBase[Any] =
-    SourceFeederBuilder(InMemoryFeederSource(JdbcFeederSource(url, username, password, sql), s"jdbc($sql)"), configuration)
+  def jdbcFeeder(url: String, username: String, password: String, sql: String)(implicit configuration: GatlingConfiguration): BatchableFeederBuilder[Any] =
+    SourceFeederBuilder(JdbcFeederSource(url, username, password, sql), configuration)
 }
@@ -16,33 +16,134 @@
 
 package io.gatling.jdbc.feeder
 
-import java.sql.DriverManager
+import java.sql.{ Connection, DriverManager }
 import java.sql.ResultSet.{ CONCUR_READ_ONLY, TYPE_FORWARD_ONLY }
+import java.util.concurrent.{ ArrayBlockingQueue, TimeUnit }
 
-import scala.annotation.tailrec
 import scala.util.Using
+import scala.util.control.NonFatal
 
-import io.gatling.core.feeder.Record
+import io.gatling.core.feeder.{ ArrayBasedMap, CloseableFeeder, CursorFeederSource, FeederSource, Record }
 
 object JdbcFeederSource {
-  def apply(url: String, username: String, password: String, sql: String): Vector[Record[Any]] =
-    Using.resource(DriverManager.getConnection(url, username, password)) { connection =>
-      val preparedStatement = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)
-      val resultSet = preparedStatement.executeQuery
-      val metadata = resultSet.getMetaData
-      val columnCount = metadata.getColumnCount
+  def apply(url: String, username: String, password: String, sql: String): FeederSource[Any] =
+    new CursorFeederSource[Any](fetchSize => new JdbcCursor(() => DriverManager.getConnection(url, username, password), sql, fetchSize), s"jdbc($sql)")
+}
+
+private object JdbcCursor {
+  private sealed trait Fetched extends Product with Serializable
+  private final case class Rows(records: Array[Record[Any]]) extends Fetched
+  private case object Exhausted extends Fetched
+  private final case class Failed(cause: Throwable) extends Fetched
+}
+
+/**
+ * Reads the query results with a forward-only, read-only cursor, `fetchSize` rows at a time. A dedicated thread owns the connection and fetches the next rows
+ * while the current ones are being fed, so virtual users don't wait for the database round trips.
+ *
+ * Records are backed by the column labels array shared by all the rows and an array of values, instead of a Map per row.
+ */
+private final class JdbcCursor(connectionFactory: () => Connection, sql: String, fetchSize: Int) extends CloseableFeeder[Any] {
+  import JdbcCursor._
+
+  // the fetcher stays at most one batch ahead of the rows being fed
+  private val fetched = new ArrayBlockingQueue[Fetched](1)
+  @volatile private var closed = false
+  private var rows: Array[Record[Any]] = Array.empty
+  private var index = 0
+  private var exhausted = false
+
+  private val fetcher = new Thread(() => fetch(), "gatling-jdbc-feeder")
+  fetcher.setDaemon(true)
+  fetcher.start()
 
-      val columnLabels = for (i <- 1 to columnCount) yield metadata.getColumnLabel(i)
+  private def fetch(): Unit = {
+    val last: Option[Fetched] =
+      try {
+        Using.resource(connectionFactory()) { connection =>
+          // some drivers, eg PostgreSQL, only stream results with a server side cursor outside of auto-commit
+          connection.setAutoCommit(false)
+          try {
+            Using.resource(connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)) { statement =>
+              statement.setFetchSize(fetchSize)
+              Using.resource(statement.executeQuery()) { resultSet =>
+                val metadata = resultSet.getMetaData
+                val columnCount = metadata.getColumnCount
+                val columnLabels = Array.tabulate(columnCount)(i => metadata.getColumnLabel(i + 1))
 
-      @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
-      def computeRecord: Record[Any] =
-        (1 to columnCount).view.map(i => columnLabels(i - 1) -> resultSet.getObject(i)).to(Map)
+                var hasNext = resultSet.next()
+                while (hasNext && !closed) {
+                  val batch = Array.newBuilder[Record[Any]]
+                  var size = 0
+                  while (hasNext && size < fetchSize) {
+                    batch += ArrayBasedMap(columnLabels, Array.tabulate[Any](columnCount)(i => resultSet.getObject(i + 1)))
+                    size += 1
+                    hasNext = resultSet.next()
+                  }
+                  publish(Rows(batch.result()))
+                }
+              }
+            }
+          } finally {
+            // end the read-only transaction explicitly, closing a connection with a pending one is driver specific
+            rollback(connection)
+          }
+        }
+        Some(Exhausted)
+      } catch {
+        case _: InterruptedException => None
+        case NonFatal(e)             => if (closed) None else Some(Failed(e))
+      }
 
-      @tailrec
-      def loadRec(records: Vector[Record[Any]]): Vector[Record[Any]] =
-        if (!resultSet.next) records
-        else loadRec(records :+ computeRecord)
+    try {
+      last.foreach(publish)
+    } catch {
+      case _: InterruptedException => // closed
+    }
+  }
+
+  private def rollback(connection: Connection): Unit =
+    try {
+      connection.rollback()
+    } catch {
+      case NonFatal(_) => // don't hide the fetch outcome, the connection is closed next anyway
+    }
+
+  // don't rely on the interruption only, some drivers swallow it
+  private def publish(outcome: Fetched): Unit = {
+    var published = false
+    while (!published && !closed) {
+      published = fetched.offer(outcome, 100, TimeUnit.MILLISECONDS)
+    }
+  }
+
+  override def hasNext: Boolean = {
+    if (index == rows.length && !exhausted) {
+      fetched.take() match {
+        case Rows(records) =>
+          rows = records
+          index = 0
+        case Exhausted =>
+          exhausted = true
+        case Failed(cause) =>
+          exhausted = true
+          throw new IllegalStateException(s"Failed to fetch records for JDBC feeder query $sql", cause)
+      }
+    }
+    index < rows.length
+  }
 
-      loadRec(Vector.empty)
+  override def next(): Record[Any] =
+    if (hasNext) {
+      val record = rows(index)
+      index += 1
+      record
+    } else {
+      throw new NoSuchElementException(s"JDBC feeder query $sql is exhausted")
     }
+
+  override def close(): Unit = {
+    closed = true
+    fetcher.interrupt()
+  }
 }
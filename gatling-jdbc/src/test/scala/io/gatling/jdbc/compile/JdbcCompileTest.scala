@@ -32,4 +32,6 @@ and id not in (select usr_id from usr_role where role_id='ROLE_ADMIN')
 and (select count(*) from usr_account where usr_id=id) >=2"""
   )
 
+  private val batchedTestData = jdbcFeeder("jdbc:postgresql:gatling", "gatling", "gatling", "select * from usr").batch(500).shuffle
+
 }
@@ -16,6 +16,8 @@
 
 package io.gatling.jdbc.feeder
 
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.feeder.SourceFeederBuilder
 import io.gatling.jdbc.JdbcSpec
 
 import org.scalatest.flatspec.AnyFlatSpecLike
@@ -23,9 +25,17 @@ import org.scalatest.matchers.should.Matchers
 
 @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
 class JdbcFeederSourceSpec extends AnyFlatSpecLike with Matchers with JdbcSpec {
+  private val configuration = GatlingConfiguration.loadForTest()
+
+  private val expectedRecords = Vector(
+    Map("USER_ID" -> 1, "FIRST_NAME" -> "Foo", "LAST_NAME" -> "Bar"),
+    Map("USER_ID" -> 2, "FIRST_NAME" -> "Toto", "LAST_NAME" -> "Titi")
+  )
+
+  private def feederBuilder(url: String, sql: String) = SourceFeederBuilder(JdbcFeederSource(url, Username, Password, sql), configuration)
 
   "JdbcFeederSource" should "be able to fetch data into a feeder" in withDatabase("customers", "feeder.sql") { url =>
-    val feeder = JdbcFeederSource(url, Username, Password, "SELECT * FROM CUSTOMERS")
+    val feeder = feederBuilder(url, "SELECT * FROM CUSTOMERS").readRecords
     feeder should have size 2
     val firstEntry = feeder(0)
     firstEntry("USER_ID") shouldBe 1
@@ -36,4 +46,25 @@ class JdbcFeederSourceSpec extends AnyFlatSpecLike with Matchers with JdbcSpec {
     secondEntry("FIRST_NAME") shouldBe "Toto"
     secondEntry("LAST_NAME") shouldBe "Titi"
   }
+
+  it should "count the records" in withDatabase("customers", "feeder.sql") { url =>
+    feederBuilder(url, "SELECT * FROM CUSTOMERS").recordsCount shouldBe 2
+  }
+
+  it should "stream the records in batches" in withDatabase("customers", "feeder.sql") { url =>
+    feederBuilder(url, "SELECT * FROM CUSTOMERS").batch(1).apply().toVector shouldBe expectedRecords
+  }
+
+  it should "re-execute the query when circular and batched" in withDatabase("customers", "feeder.sql") { url =>
+    feederBuilder(url, "SELECT * FROM CUSTOMERS").batch(1).circular.apply().take(5).toVector shouldBe
+      expectedRecords ++ expectedRecords :+ expectedRecords(0)
+  }
+
+  it should "feed all the records once when shuffled and batched" in withDatabase("customers", "feeder.sql") { url =>
+    feederBuilder(url, "SELECT * FROM CUSTOMERS").batch(1).shuffle.apply().toVector should contain theSameElementsAs expectedRecords
+  }
+
+  it should "surface the query failure when batched" in withDatabase("customers", "feeder.sql") { url =>
+    an[IllegalStateException] should be thrownBy feederBuilder(url, "SELECT * FROM UNKNOWN").batch(1).apply().hasNext
+  }
 }
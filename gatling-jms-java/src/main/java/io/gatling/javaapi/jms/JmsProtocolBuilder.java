@@ -170,4 +170,42 @@ public final class JmsProtocolBuilder implements ProtocolBuilder {
   public JmsProtocolBuilder listenerThreadCount(int threadCount) {
     return new JmsProtocolBuilder(wrapped.listenerThreadCount(threadCount));
   }
+
+  /**
+   * Send messages synchronously, the default
+   *
+   * @return a new instance
+   */
+  @NonNull
+  public JmsProtocolBuilder syncSend() {
+    return new JmsProtocolBuilder(wrapped.syncSend());
+  }
+
+  /**
+   * Send messages with JMS 2.0 asynchronous send, response time is recorded when the broker
+   * acknowledges the message. Falls back to synchronous send with brokers that don't support it.
+   * Only applies to send actions, requestReply ones always measure up to the reply.
+   *
+   * @return a new instance
+   */
+  @NonNull
+  public JmsProtocolBuilder asyncSend() {
+    return new JmsProtocolBuilder(wrapped.asyncSend());
+  }
+
+  /**
+   * Send messages in transacted sessions, committed every maxSize messages or maxDelay after the
+   * first pending message, whichever comes first. Response time is recorded on commit and virtual
+   * users only resume then, so possibly up to maxDelay after sending their message. Only applies to
+   * send actions, requestReply ones always measure up to the reply.
+   *
+   * @param maxSize the maximum number of messages per transaction
+   * @param maxDelay the maximum time a message can wait for its transaction to be committed
+   * @return a new instance
+   */
+  @NonNull
+  public JmsProtocolBuilder transactedBatchSend(int maxSize, @NonNull Duration maxDelay) {
+    return new JmsProtocolBuilder(
+        wrapped.transactedBatchSend(maxSize, toScalaDuration(maxDelay)));
+  }
 }
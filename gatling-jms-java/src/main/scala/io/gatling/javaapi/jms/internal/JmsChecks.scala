@@ -28,13 +28,12 @@ import io.gatling.core.check.jmespath.JmesPathCheckType
 import io.gatling.core.check.jsonpath.JsonPathCheckType
 import io.gatling.core.check.string.BodyStringCheckType
 import io.gatling.core.check.substring.SubstringCheckType
-import io.gatling.core.check.xpath.XPathCheckType
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.javaapi.core.internal.CoreCheckType
 import io.gatling.jms.{ JmsCheck, Predef => JmsPredef }
 import io.gatling.jms.check.JmsPropertyCheckType
 
 import com.fasterxml.jackson.databind.JsonNode
-import net.sf.saxon.s9api.XdmNode
 
 object JmsChecks {
   private def toScalaCheck(javaCheck: io.gatling.javaapi.core.CheckBuilder): JmsCheck = {
@@ -47,8 +46,8 @@ object JmsChecks {
       case CoreCheckType.BodyString =>
         scalaCheck.asInstanceOf[CheckBuilder[BodyStringCheckType, String]].build(JmsPredef.jmsBodyStringCheckMaterializer(CorePredef.configuration))
       case CoreCheckType.Substring =>
-        scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, String]].build(JmsPredef.jmsSubstringCheckMaterializer(CorePredef.configuration))
-      case CoreCheckType.XPath => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XdmNode]].build(JmsPredef.jmsXPathMaterializer)
+        scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, CharSequence]].build(JmsPredef.jmsSubstringCheckMaterializer(CorePredef.configuration))
+      case CoreCheckType.XPath => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XmlDocument]].build(JmsPredef.jmsXPathMaterializer)
       case CoreCheckType.JsonPath =>
         scalaCheck
           .asInstanceOf[CheckBuilder[JsonPathCheckType, JsonNode]]
@@ -22,6 +22,7 @@ import static io.gatling.javaapi.jms.JmsDsl.*;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.gatling.javaapi.core.ScenarioBuilder;
 import io.gatling.javaapi.core.Simulation;
+import java.time.Duration;
 import java.util.Map;
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -64,7 +65,10 @@ public class JmsJavaCompileTest extends Simulation {
           .replyTimeout(1)
           .messageMatcher(HEADER_MATCHER)
           .matchByCorrelationId()
-          .matchByMessageId();
+          .matchByMessageId()
+          .asyncSend()
+          .transactedBatchSend(100, Duration.ofMillis(10))
+          .syncSend();
 
   private ScenarioBuilder scn =
       scenario("scn")
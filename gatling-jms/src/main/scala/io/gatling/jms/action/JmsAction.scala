@@ -16,7 +16,9 @@
 
 package io.gatling.jms.action
 
-import javax.jms.Message
+import javax.jms.{ CompletionListener, Destination, Message, MessageProducer, Session => JmsSession }
+
+import scala.util.control.NonFatal
 
 import io.gatling.commons.validation._
 import io.gatling.core.action.RequestAction
@@ -25,10 +27,12 @@ import io.gatling.core.controller.throttle.Throttler
 import io.gatling.core.session._
 import io.gatling.core.util.NameGen
 import io.gatling.jms.client.{ JmsConnection, JmsConnectionPool, JmsProducer }
-import io.gatling.jms.protocol.JmsProtocol
+import io.gatling.jms.protocol.{ JmsProtocol, JmsSendMode }
 import io.gatling.jms.request._
 
-final class Around(before: () => Unit, after: () => Unit) {
+final class Around(before: () => Unit, after: () => Unit, val completionListener: CompletionListener) {
+  def this(before: () => Unit, after: () => Unit) = this(before, after, null)
+
   def apply(f: => Any): Unit = {
     before()
     f
@@ -36,6 +40,12 @@ final class Around(before: () => Unit, after: () => Unit) {
   }
 }
 
+private final class Sender(withSession: (JmsSession => Validation[Message]) => Validation[Message], doSend: (Message, Around) => Unit) {
+  def createMessage(f: JmsSession => Validation[Message]): Validation[Message] = withSession(f)
+
+  def send(message: Message, around: Around): Unit = doSend(message, around)
+}
+
 abstract class JmsAction(
     attributes: JmsAttributes,
     protocol: JmsProtocol,
@@ -55,19 +65,79 @@ abstract class JmsAction(
       jmsType <- resolveOptionalExpression(attributes.jmsType, session)
       props <- resolveProperties(attributes.messageProperties, session)
       resolvedJmsDestination <- jmsDestination(session)
-      JmsProducer(jmsSession, producer) = jmsConnection.producer(resolvedJmsDestination, protocol.deliveryMode)
-      message <- attributes.message.jmsMessage(session, jmsSession)
+      sender = newSender(resolvedJmsDestination)
+      message <- sender.createMessage(attributes.message.jmsMessage(session, _))
       around <- aroundSend(reqName, session, message)
     } yield {
       props.foreachEntry((key, value) => message.setObjectProperty(key, value))
       jmsType.foreach(message.setJMSType)
 
       throttler match {
-        case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, () => around(producer.send(message)))
-        case _        => around(producer.send(message))
+        case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, () => sender.send(message, around))
+        case _        => sender.send(message, around)
       }
     }
 
+  private def newSender(destination: Destination): Sender =
+    sendMode match {
+      case JmsSendMode.Sync =>
+        val JmsProducer(jmsSession, producer) = jmsConnection.producer(destination, protocol.deliveryMode)
+        new Sender(f => f(jmsSession), (message, around) => around(producer.send(message)))
+      case JmsSendMode.Async =>
+        val JmsProducer(jmsSession, producer) = jmsConnection.producer(destination, protocol.deliveryMode)
+        new Sender(f => f(jmsSession), (message, around) => around(sendAsync(producer, message, around.completionListener)))
+      case mode: JmsSendMode.TransactedBatch =>
+        // the producer and the batch must be bound to the same session, hence fetched from the same thread
+        val batchPool = jmsConnection.transactedBatchPool(mode)
+        val JmsProducer(_, producer) = batchPool.producer(destination, protocol.deliveryMode)
+        val batch = batchPool.batch()
+        // the batch's session is committed on another thread, messages must be created with its lock held
+        new Sender(f => batch.withSession(f), (message, around) => around(batch.send(producer, message, around.completionListener)))
+    }
+
+  // brokers that don't support JMS 2.0 async send, such as ActiveMQ Classic, throw an UnsupportedOperationException,
+  // messages are then sent synchronously and acknowledged as soon as send returns
+  @volatile private var asyncSendUnsupported = false
+
+  private def sendAsync(producer: MessageProducer, message: Message, listener: CompletionListener): Unit =
+    if (asyncSendUnsupported) {
+      sendBlocking(producer, message, listener)
+    } else {
+      try {
+        producer.send(message, listener)
+      } catch {
+        case e: UnsupportedOperationException =>
+          logger.info(s"Asynchronous send is not supported by the broker (${e.getMessage}), falling back to synchronous send")
+          asyncSendUnsupported = true
+          sendBlocking(producer, message, listener)
+        case NonFatal(e) =>
+          // the listener will never be notified when send fails synchronously
+          listener.onException(message, toException(e))
+      }
+    }
+
+  private def sendBlocking(producer: MessageProducer, message: Message, listener: CompletionListener): Unit = {
+    val failure =
+      try {
+        producer.send(message)
+        null
+      } catch {
+        case NonFatal(e) => toException(e)
+      }
+
+    if (failure == null) {
+      listener.onCompletion(message)
+    } else {
+      listener.onException(message, failure)
+    }
+  }
+
+  private def toException(t: Throwable): Exception =
+    t match {
+      case e: Exception => e
+      case _            => new Exception(t)
+    }
+
   private def resolveProperties(
       properties: Map[Expression[String], Expression[Any]],
       session: Session
@@ -80,5 +150,10 @@ abstract class JmsAction(
       } yield resolvedProperties + (key -> value)
     }
 
+  /**
+   * How messages are handed over to the broker. Non sync modes require `aroundSend` to provide a `CompletionListener`.
+   */
+  protected def sendMode: JmsSendMode
+
   protected def aroundSend(requestName: String, session: Session, message: Message): Validation[Around]
 }
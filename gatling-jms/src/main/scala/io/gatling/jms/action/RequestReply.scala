@@ -26,8 +26,9 @@ import io.gatling.core.actor.ActorRef
 import io.gatling.core.controller.throttle.Throttler
 import io.gatling.core.session._
 import io.gatling.core.stats.StatsEngine
+import io.gatling.jms.check.JmsCheckMaterializer
 import io.gatling.jms.client.{ JmsConnectionPool, JmsTracker }
-import io.gatling.jms.protocol.JmsProtocol
+import io.gatling.jms.protocol.{ JmsProtocol, JmsSendMode }
 import io.gatling.jms.request._
 
 /**
@@ -49,9 +50,13 @@ final class RequestReply(
 ) extends JmsAction(attributes, protocol, jmsConnectionPool, throttler) {
   override val name: String = genName("jmsRequestReply")
 
+  // response time is measured up to the reply, acknowledging the request on its own doesn't bring anything
+  override protected val sendMode: JmsSendMode = JmsSendMode.Sync
+
   private val jmsReplyDestination = jmsConnection.destination(replyDestination)
   private val messageMatcher = protocol.messageMatcher
   private val replyTimeoutInMs = protocol.replyTimeout.fold(0L)(_.toMillis)
+  private val streamableBody = JmsCheckMaterializer.streamableBody(attributes.checks)
   private val jmsTrackerDestination = trackerDestination.map(dest => jmsConnection.destination(dest)).getOrElse(jmsReplyDestination)
 
   override protected def aroundSend(requestName: String, session: Session, message: Message): Validation[Around] =
@@ -81,7 +86,8 @@ final class RequestReply(
           // [e]
 
           if (matchId != null) {
-            tracker ! JmsTracker.Command.MessageSent(matchId, clock.nowMillis, replyTimeoutInMs, attributes.checks, session, next, requestName)
+            tracker.shard(matchId) ! JmsTracker.Command
+              .MessageSent(matchId, clock.nowMillis, replyTimeoutInMs, attributes.checks, streamableBody, session, next, requestName)
           }
         },
         after = () =>
@@ -89,7 +95,8 @@ final class RequestReply(
             val updatedMatchId = messageMatcher.requestMatchId(message)
 
             if (updatedMatchId != null) {
-              tracker ! JmsTracker.Command.MessageSent(updatedMatchId, clock.nowMillis, replyTimeoutInMs, attributes.checks, session, next, requestName)
+              tracker.shard(updatedMatchId) ! JmsTracker.Command
+                .MessageSent(updatedMatchId, clock.nowMillis, replyTimeoutInMs, attributes.checks, streamableBody, session, next, requestName)
             } else {
               val now = clock.nowMillis
               statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, KO, None, Some("Failed to get a matchId to track"))
@@ -16,10 +16,11 @@
 
 package io.gatling.jms.action
 
-import javax.jms.Message
+import javax.jms.{ CompletionListener, Message }
 
-import io.gatling.commons.stats.OK
+import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.commons.util.Clock
+import io.gatling.commons.util.Throwables._
 import io.gatling.commons.validation._
 import io.gatling.core.action._
 import io.gatling.core.actor.ActorRef
@@ -27,7 +28,7 @@ import io.gatling.core.controller.throttle.Throttler
 import io.gatling.core.session._
 import io.gatling.core.stats.StatsEngine
 import io.gatling.jms.client.JmsConnectionPool
-import io.gatling.jms.protocol.JmsProtocol
+import io.gatling.jms.protocol.{ JmsProtocol, JmsSendMode }
 import io.gatling.jms.request._
 
 /**
@@ -46,17 +47,50 @@ final class Send(
 ) extends JmsAction(attributes, protocol, jmsConnectionPool, throttler) {
   override val name: String = genName("jmsSend")
 
+  override protected val sendMode: JmsSendMode = protocol.sendMode
+
   override protected def aroundSend(requestName: String, session: Session, message: Message): Validation[Around] =
-    new Around(
-      before = () => {
-        if (logger.underlying.isDebugEnabled) {
-          logMessage(s"Message sent JMSMessageID=${message.getJMSMessageID}", message)
-        }
-
-        val now = clock.nowMillis
-        statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, OK, None, None)
-        next ! session
-      },
-      after = () => ()
-    ).success
+    sendMode match {
+      case JmsSendMode.Sync =>
+        new Around(
+          before = () => {
+            if (logger.underlying.isDebugEnabled) {
+              logMessage(s"Message sent JMSMessageID=${message.getJMSMessageID}", message)
+            }
+
+            val now = clock.nowMillis
+            statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, OK, None, None)
+            next ! session
+          },
+          after = () => ()
+        ).success
+
+      case _ =>
+        val listener = new AcknowledgementListener(requestName, session)
+        new Around(
+          before = () => listener.startTimestamp = clock.nowMillis,
+          after = () => (),
+          completionListener = listener
+        ).success
+    }
+
+  // response time is measured up to the broker acknowledging the message, the virtual user resumes then
+  private final class AcknowledgementListener(requestName: String, session: Session) extends CompletionListener {
+    @volatile var startTimestamp: Long = 0L
+
+    override def onCompletion(message: Message): Unit = {
+      if (logger.underlying.isDebugEnabled) {
+        logMessage(s"Message acknowledged JMSMessageID=${message.getJMSMessageID}", message)
+      }
+
+      statsEngine.logResponse(session.scenario, session.groups, requestName, startTimestamp, clock.nowMillis, OK, None, None)
+      next ! session
+    }
+
+    override def onException(message: Message, exception: Exception): Unit = {
+      logger.debug(s"Message $requestName failed to be acknowledged", exception)
+      statsEngine.logResponse(session.scenario, session.groups, requestName, startTimestamp, clock.nowMillis, KO, None, Some(exception.rootMessage))
+      next ! session.markAsFailed
+    }
+  }
 }
@@ -16,91 +16,121 @@
 
 package io.gatling.jms.check
 
-import java.io.ByteArrayInputStream
 import java.nio.charset.Charset
 import javax.jms.{ BytesMessage, Message, TextMessage }
 
 import io.gatling.commons.validation._
-import io.gatling.core.check.{ identityPreparer, CheckMaterializer, Preparer }
+import io.gatling.core.check.{ identityPreparer, Check, CheckMaterializer, Preparer }
 import io.gatling.core.check.bytes.BodyBytesCheckType
 import io.gatling.core.check.jmespath.JmesPathCheckType
 import io.gatling.core.check.jsonpath.JsonPathCheckType
 import io.gatling.core.check.string.BodyStringCheckType
 import io.gatling.core.check.substring.SubstringCheckType
-import io.gatling.core.check.xpath.{ XPathCheckType, XmlParsers }
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.core.json.JsonParsers
 import io.gatling.jms.JmsCheck
 import io.gatling.jms.client.CachingMessage
 
 import com.fasterxml.jackson.databind.JsonNode
-import net.sf.saxon.s9api.XdmNode
 
 final class JmsCheckMaterializer[T, P](override val preparer: Preparer[Message, P]) extends CheckMaterializer[T, JmsCheck, Message, P](identity)
 
 object JmsCheckMaterializer {
 
-  private def bodyBytesPreparer(charset: Charset): Preparer[Message, Array[Byte]] = {
-    case tm: TextMessage          => tm.getText.getBytes(charset).success
-    case bm: CachingMessage.Bytes => bm.bytes.success
-    case _                        => "Unsupported message type".failure
+  // preparers are case classes so that checks sharing the same one share the same entry in the PreparedCache
+  private sealed trait BodyPreparer[P] extends Preparer[Message, P]
+
+  // only reads the body once, as a stream, so it can skip materializing it as a byte array
+  private sealed trait StreamingBodyPreparer[P] extends BodyPreparer[P]
+
+  private final case class BodyBytesPreparer(charset: Charset) extends BodyPreparer[Array[Byte]] {
+    override def apply(message: Message): Validation[Array[Byte]] =
+      message match {
+        case tm: TextMessage          => tm.getText.getBytes(charset).success
+        case bm: CachingMessage.Bytes => bm.bytes.success
+        case _                        => "Unsupported message type".failure
+      }
   }
 
-  private def bodyLengthPreparer(charset: Charset): Preparer[Message, Int] = {
-    case tm: TextMessage  => tm.getText.getBytes(charset).length.success
-    case bm: BytesMessage => bm.getBodyLength.toInt.success
-    case _                => "Unsupported message type".failure
+  private final case class BodyLengthPreparer(charset: Charset) extends Preparer[Message, Int] {
+    override def apply(message: Message): Validation[Int] =
+      message match {
+        case tm: TextMessage  => tm.getText.getBytes(charset).length.success
+        case bm: BytesMessage => bm.getBodyLength.toInt.success
+        case _                => "Unsupported message type".failure
+      }
+  }
+
+  private final case class BodyStringPreparer(charset: Charset) extends BodyPreparer[String] {
+    override def apply(message: Message): Validation[String] =
+      message match {
+        case tm: TextMessage          => tm.getText.success
+        case bm: CachingMessage.Bytes => bm.string(charset).success
+        case _                        => "Unsupported message type".failure
+      }
   }
 
   private val JsonPreparerErrorMapper: String => String = "Could not parse response into a JSON: " + _
 
-  private def jsonPreparer(jsonParsers: JsonParsers): Preparer[Message, JsonNode] =
-    replyMessage =>
+  private final case class JsonPreparer(jsonParsers: JsonParsers) extends StreamingBodyPreparer[JsonNode] {
+    override def apply(message: Message): Validation[JsonNode] =
       safely(JsonPreparerErrorMapper) {
-        replyMessage match {
+        message match {
           case tm: TextMessage          => jsonParsers.safeParse(tm.getText)
-          case bm: CachingMessage.Bytes => jsonParsers.safeParse(new ByteArrayInputStream(bm.bytes))
+          case bm: CachingMessage.Bytes => jsonParsers.safeParse(bm.stream())
           case _                        => "Unsupported message type".failure
         }
       }
+  }
+
+  // the document might be read several times, once per expression evaluated while streaming and once more to build the tree, so its body can't be streamed
+  private final case class XPathPreparer(charset: Charset) extends BodyPreparer[XmlDocument] {
+    override def apply(message: Message): Validation[XmlDocument] =
+      message match {
+        case tm: TextMessage          => XmlDocument(tm.getText).success
+        case bm: CachingMessage.Bytes => XmlDocument(() => bm.stream(), charset).success
+        case _                        => "Unsupported message type".failure
+      }
+  }
 
-  private def stringBodyPreparer(charset: Charset): Preparer[Message, String] = {
-    case tm: TextMessage          => tm.getText.success
-    case bm: CachingMessage.Bytes => new String(bm.bytes, charset).success
-    case _                        => "Unsupported message type".failure
+  /**
+   * @return
+   *   if the body of BytesMessages can be streamed instead of being materialized, i.e. if it's only read once, by a single streaming preparer
+   */
+  def streamableBody(checks: List[JmsCheck]): Boolean = {
+    // custom checks and conditions might read the message in any way
+    val preparers = checks.map {
+      case Check.Default(preparer, _, _, _, _, None, _) => Some(preparer)
+      case _                                            => None
+    }
+
+    preparers.forall(_.isDefined) &&
+    (preparers.flatten.collect { case preparer: BodyPreparer[_] => preparer }.distinct match {
+      case (_: StreamingBodyPreparer[_]) :: Nil => true
+      case _                                    => false
+    })
   }
 
   def bodyString(charset: Charset): CheckMaterializer[BodyStringCheckType, JmsCheck, Message, String] =
-    new JmsCheckMaterializer(stringBodyPreparer(charset))
+    new JmsCheckMaterializer(BodyStringPreparer(charset))
 
   def bodyBytes(charset: Charset): CheckMaterializer[BodyBytesCheckType, JmsCheck, Message, Array[Byte]] =
-    new JmsCheckMaterializer(bodyBytesPreparer(charset))
+    new JmsCheckMaterializer(BodyBytesPreparer(charset))
 
   def bodyLength(charset: Charset): CheckMaterializer[BodyBytesCheckType, JmsCheck, Message, Int] =
-    new JmsCheckMaterializer(bodyLengthPreparer(charset))
+    new JmsCheckMaterializer(BodyLengthPreparer(charset))
 
-  def substring(charset: Charset): CheckMaterializer[SubstringCheckType, JmsCheck, Message, String] =
-    new JmsCheckMaterializer(stringBodyPreparer(charset))
+  def substring(charset: Charset): CheckMaterializer[SubstringCheckType, JmsCheck, Message, CharSequence] =
+    new JmsCheckMaterializer[SubstringCheckType, CharSequence](BodyStringPreparer(charset))
 
   def jmesPath(jsonParsers: JsonParsers): CheckMaterializer[JmesPathCheckType, JmsCheck, Message, JsonNode] =
-    new JmsCheckMaterializer(jsonPreparer(jsonParsers))
+    new JmsCheckMaterializer(JsonPreparer(jsonParsers))
 
   def jsonPath(jsonParsers: JsonParsers): CheckMaterializer[JsonPathCheckType, JmsCheck, Message, JsonNode] =
-    new JmsCheckMaterializer(jsonPreparer(jsonParsers))
-
-  val Xpath: CheckMaterializer[XPathCheckType, JmsCheck, Message, XdmNode] = {
-    val errorMapper: String => String = "Could not parse response into a DOM Document: " + _
-
-    val preparer: Preparer[Message, XdmNode] =
-      message =>
-        safely(errorMapper) {
-          message match {
-            case tm: TextMessage => XmlParsers.parse(tm.getText).success
-            case _               => "Unsupported message type".failure
-          }
-        }
+    new JmsCheckMaterializer(JsonPreparer(jsonParsers))
 
-    new JmsCheckMaterializer(preparer)
-  }
+  def xpath(charset: Charset): CheckMaterializer[XPathCheckType, JmsCheck, Message, XmlDocument] =
+    new JmsCheckMaterializer(XPathPreparer(charset))
 
   val JmsProperty: CheckMaterializer[JmsPropertyCheckType, JmsCheck, Message, Message] =
     new JmsCheckMaterializer(identityPreparer)
@@ -35,7 +35,6 @@ import io.gatling.core.session.Session
 import io.gatling.jms.JmsCheck
 
 import com.fasterxml.jackson.databind.JsonNode
-import net.sf.saxon.s9api.XdmNode
 
 trait JmsCheckSupport {
   def simpleCheck(f: Message => Boolean): JmsCheck =
@@ -87,11 +86,13 @@ trait JmsCheckSupport {
 
   implicit def jmsSubstringCheckMaterializer(implicit
       configuration: GatlingConfiguration
-  ): CheckMaterializer[SubstringCheckType, JmsCheck, Message, String] =
+  ): CheckMaterializer[SubstringCheckType, JmsCheck, Message, CharSequence] =
     JmsCheckMaterializer.substring(configuration.core.charset)
 
-  implicit val jmsXPathMaterializer: CheckMaterializer[XPathCheckType, JmsCheck, Message, XdmNode] =
-    JmsCheckMaterializer.Xpath
+  implicit def jmsXPathMaterializer(implicit
+      configuration: GatlingConfiguration
+  ): CheckMaterializer[XPathCheckType, JmsCheck, Message, XmlDocument] =
+    JmsCheckMaterializer.xpath(configuration.core.charset)
 
   implicit def jmsJsonPathCheckMaterializer(implicit
       jsonParsers: JsonParsers
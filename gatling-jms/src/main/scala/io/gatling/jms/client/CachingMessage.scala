@@ -16,14 +16,24 @@
 
 package io.gatling.jms.client
 
+import java.io.{ ByteArrayInputStream, InputStream }
+import java.nio.charset.Charset
 import java.util
 import javax.jms.{ BytesMessage, Destination, Message, TextMessage }
 
 private[jms] object CachingMessage {
 
-  def apply(message: Message): Message = message match {
+  private val StreamChunkSize = 8192
+
+  def apply(message: Message): Message = apply(message, streamableBody = false)
+
+  /**
+   * @param streamableBody
+   *   if the body of BytesMessages is read only once, so it can be streamed from the message instead of being materialized as a byte array
+   */
+  def apply(message: Message, streamableBody: Boolean): Message = message match {
     case tm: TextMessage  => new Text(tm)
-    case bm: BytesMessage => new Bytes(bm)
+    case bm: BytesMessage => new Bytes(bm, streamableBody)
   }
   final class Text(message: TextMessage) extends TextMessage {
     lazy val text: String = message.getText
@@ -131,7 +141,7 @@ private[jms] object CachingMessage {
     override def isBodyAssignableTo(c: Class[_]): Boolean = message.isBodyAssignableTo(c)
   }
 
-  final class Bytes(message: BytesMessage) extends BytesMessage {
+  final class Bytes(message: BytesMessage, streamableBody: Boolean) extends BytesMessage {
     private var streamFullyConsumed = false
     private def tryFullyConsumingStream(): Unit = {
       if (streamPartiallyConsumed) {
@@ -148,13 +158,42 @@ private[jms] object CachingMessage {
       streamPartiallyConsumed = true
     }
 
+    private var streamed = false
+    private def checkNotStreamed(): Unit =
+      if (streamed) {
+        throw new UnsupportedOperationException("BytesMessage has already been streamed, its body can only be read once")
+      }
+
     lazy val bytes: Array[Byte] = {
+      checkNotStreamed()
       tryFullyConsumingStream()
       val buffer = Array.ofDim[Byte](message.getBodyLength.toInt)
       message.readBytes(buffer)
       buffer
     }
 
+    private var decodedCharset: Charset = _
+    private var decoded: String = _
+    def string(charset: Charset): String = {
+      if (decodedCharset != charset) {
+        decoded = new String(bytes, charset)
+        decodedCharset = charset
+      }
+      decoded
+    }
+
+    /**
+     * Streams the body directly from the underlying message when it's only read once, otherwise from the cached bytes.
+     */
+    def stream(): InputStream =
+      if (streamableBody && !streamFullyConsumed) {
+        tryFullyConsumingStream()
+        streamed = true
+        new BytesMessageInputStream(message)
+      } else {
+        new ByteArrayInputStream(bytes)
+      }
+
     override def getBodyLength: Long = message.getBodyLength
 
     override def readBoolean(): Boolean = {
@@ -346,4 +385,39 @@ private[jms] object CachingMessage {
 
     override def isBodyAssignableTo(c: Class[_]): Boolean = message.isBodyAssignableTo(c)
   }
+
+  private final class BytesMessageInputStream(message: BytesMessage) extends InputStream {
+    private val chunk = Array.ofDim[Byte](StreamChunkSize)
+    private var position = 0
+    private var limit = 0
+
+    private def fill(): Boolean = {
+      if (position == limit && limit != -1) {
+        limit = message.readBytes(chunk, chunk.length)
+        position = 0
+      }
+      limit > position
+    }
+
+    override def read(): Int =
+      if (fill()) {
+        val b = chunk(position) & 0xff
+        position += 1
+        b
+      } else {
+        -1
+      }
+
+    override def read(b: Array[Byte], off: Int, len: Int): Int =
+      if (len == 0) {
+        0
+      } else if (fill()) {
+        val read = math.min(len, limit - position)
+        System.arraycopy(chunk, position, b, off, read)
+        position += read
+        read
+      } else {
+        -1
+      }
+  }
 }
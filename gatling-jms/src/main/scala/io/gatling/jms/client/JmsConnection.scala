@@ -19,13 +19,15 @@ package io.gatling.jms.client
 import java.util.concurrent.ConcurrentHashMap
 import javax.jms.{ Connection, Destination }
 
+import scala.jdk.CollectionConverters._
+
 import io.gatling.commons.model.Credentials
 import io.gatling.commons.util.Clock
-import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.actor.ActorSystem
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session._
 import io.gatling.core.stats.StatsEngine
-import io.gatling.jms.protocol.JmsMessageMatcher
+import io.gatling.jms.protocol.{ JmsMessageMatcher, JmsSendMode }
 import io.gatling.jms.request._
 
 final class JmsConnection(
@@ -36,7 +38,7 @@ final class JmsConnection(
     clock: Clock,
     configuration: GatlingConfiguration
 ) {
-  private val sessionPool = new JmsSessionPool(connection)
+  private val sessionPool = new JmsSessionPool(connection, transacted = false)
 
   private val staticQueues = new ConcurrentHashMap[String, Destination]
   private val staticTopics = new ConcurrentHashMap[String, Destination]
@@ -56,12 +58,18 @@ final class JmsConnection(
   def producer(destination: Destination, deliveryMode: Int): JmsProducer =
     producerPool.producer(destination, deliveryMode)
 
+  private val transactedBatchPools = new ConcurrentHashMap[JmsSendMode.TransactedBatch, JmsTransactedBatchPool]
+
+  def transactedBatchPool(mode: JmsSendMode.TransactedBatch): JmsTransactedBatchPool =
+    transactedBatchPools.computeIfAbsent(mode, new JmsTransactedBatchPool(connection, _, system))
+
   private val trackerPool = new JmsTrackerPool(sessionPool, system, statsEngine, clock, configuration)
 
-  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): ActorRef[JmsTracker.Command] =
+  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): JmsTrackerShards =
     trackerPool.tracker(destination, selector, listenerThreadCount, messageMatcher)
 
   def close(): Unit = {
+    transactedBatchPools.values.asScala.foreach(_.close())
     producerPool.close()
     sessionPool.close()
     connection.close()
@@ -22,11 +22,11 @@ import javax.jms._
 
 import scala.jdk.CollectionConverters._
 
-final class JmsSessionPool(connection: Connection) {
+final class JmsSessionPool(connection: Connection, transacted: Boolean) {
   private val registeredJmsSessions = Collections.newSetFromMap(new ConcurrentHashMap[Session, java.lang.Boolean])
 
   private val jmsSessions = ThreadLocal.withInitial[Session] { () =>
-    val s = connection.createSession(false, Session.AUTO_ACKNOWLEDGE)
+    val s = connection.createSession(transacted, if (transacted) Session.SESSION_TRANSACTED else Session.AUTO_ACKNOWLEDGE)
     registeredJmsSessions.add(s)
     s
   }
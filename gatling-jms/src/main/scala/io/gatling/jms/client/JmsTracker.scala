@@ -25,7 +25,7 @@ import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.commons.util.Clock
 import io.gatling.commons.validation.Failure
 import io.gatling.core.action.Action
-import io.gatling.core.actor.{ Actor, Behavior }
+import io.gatling.core.actor.{ Actor, ActorRef, Behavior }
 import io.gatling.core.check.Check
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session.Session
@@ -33,6 +33,8 @@ import io.gatling.core.stats.StatsEngine
 import io.gatling.jms._
 
 object JmsTracker {
+  private val TimeoutWheelSize = 512
+
   def actor(actorName: String, statsEngine: StatsEngine, clock: Clock, configuration: GatlingConfiguration): Actor[Command] =
     new JmsTracker(actorName, statsEngine, clock, configuration.jms.replyTimeoutScanPeriod)
 
@@ -44,6 +46,7 @@ object JmsTracker {
         sent: Long,
         replyTimeoutInMs: Long,
         checks: List[JmsCheck],
+        streamableBody: Boolean,
         session: Session,
         next: Action,
         requestName: String
@@ -59,6 +62,20 @@ object JmsTracker {
   }
 }
 
+/**
+ * Spreads the bookkeeping of a given (destination, selector) over several [[JmsTracker]] actors, so that listener threads and senders don't all funnel into
+ * the same mailbox. All the commands for a given matchId go to the same shard.
+ */
+final class JmsTrackerShards(shards: Array[ActorRef[JmsTracker.Command]]) {
+  def shard(matchId: String): ActorRef[JmsTracker.Command] =
+    if (matchId == null) {
+      shards(0)
+    } else {
+      val hash = matchId.hashCode
+      shards(Math.floorMod(hash ^ (hash >>> 16), shards.length))
+    }
+}
+
 /**
  * Bookkeeping actor to correlate request and response JMS messages Once a message is correlated, it publishes to the Gatling core DataWriter
  */
@@ -68,7 +85,10 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
   import JmsTracker.Command._
 
   private val sentMessages = mutable.HashMap.empty[String, MessageSent]
-  private val timedOutMessages = mutable.ArrayBuffer.empty[MessageSent]
+  // expiring only costs the entries of the elapsed ticks, not all the outstanding messages
+  private val replyTimeouts = new TimingWheel[MessageSent](replyTimeoutScanPeriod.toMillis, clock.nowMillis, JmsTracker.TimeoutWheelSize)(message =>
+    message.sent + message.replyTimeoutInMs
+  )
   private var periodicTimeoutScanTriggered = false
 
   private def triggerPeriodicTimeoutScan(): Unit =
@@ -84,6 +104,7 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
     case messageSent: MessageSent =>
       sentMessages += messageSent.matchId -> messageSent
       if (messageSent.replyTimeoutInMs > 0) {
+        replyTimeouts.schedule(messageSent)
         triggerPeriodicTimeoutScan()
       }
       stay
@@ -91,25 +112,21 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
     // message was received; publish stats and remove from the hashmap
     case MessageReceived(matchId, received, message) =>
       // if key is missing, message was already acked and is a dup, or request timedout
-      sentMessages.remove(matchId).foreach { case MessageSent(_, sent, _, checks, session, next, requestName) =>
-        processMessage(session, sent, received, checks, message, next, requestName)
+      sentMessages.remove(matchId).foreach { case MessageSent(_, sent, _, checks, streamableBody, session, next, requestName) =>
+        processMessage(session, sent, received, checks, streamableBody, message, next, requestName)
       }
       stay
 
     case TimeoutScan =>
       val now = clock.nowMillis
-      sentMessages.valuesIterator.foreach { message =>
-        val replyTimeoutInMs = message.replyTimeoutInMs
-        if (replyTimeoutInMs > 0 && (now - message.sent) > replyTimeoutInMs) {
-          timedOutMessages += message
+      replyTimeouts.expire(now) { message =>
+        // replied messages are only removed from the wheel when their tick comes
+        if (sentMessages.get(message.matchId).exists(_ eq message)) {
+          val MessageSent(matchId, sent, replyTimeoutInMs, _, _, session, next, requestName) = message
+          sentMessages.remove(matchId)
+          executeNext(session.markAsFailed, sent, now, KO, next, requestName, Some(s"Reply timeout after $replyTimeoutInMs ms"))
         }
       }
-
-      for (MessageSent(matchId, sent, replyTimeoutInMs, _, session, next, requestName) <- timedOutMessages) {
-        sentMessages.remove(matchId)
-        executeNext(session.markAsFailed, sent, now, KO, next, requestName, Some(s"Reply timeout after $replyTimeoutInMs ms"))
-      }
-      timedOutMessages.clear()
       stay
   }
 
@@ -134,12 +151,13 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
       sent: Long,
       received: Long,
       checks: List[JmsCheck],
+      streamableBody: Boolean,
       message: Message,
       next: Action,
       requestName: String
   ): Unit = {
     // run all the checks, advise the Gatling API that it is complete and move to next
-    val (newSession, error) = Check.check(CachingMessage(message), session, checks)
+    val (newSession, error) = Check.check(CachingMessage(message, streamableBody), session, checks)
     error match {
       case Some(Failure(errorMessage)) => executeNext(newSession.markAsFailed, sent, received, KO, next, requestName, Some(errorMessage))
       case _                           => executeNext(newSession, sent, received, OK, next, requestName, None)
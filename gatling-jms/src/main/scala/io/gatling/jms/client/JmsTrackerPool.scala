@@ -20,7 +20,7 @@ import java.util.concurrent.ConcurrentHashMap
 import javax.jms.Destination
 
 import io.gatling.commons.util.Clock
-import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.actor.ActorSystem
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.stats.StatsEngine
 import io.gatling.core.util.NameGen
@@ -31,6 +31,7 @@ import io.netty.util.concurrent.DefaultThreadFactory
 
 object JmsTrackerPool {
   private val JmsConsumerThreadFactory = new DefaultThreadFactory("gatling-jms-consumer")
+  private val ShardCount = Runtime.getRuntime.availableProcessors
 }
 
 final class JmsTrackerPool(
@@ -41,13 +42,15 @@ final class JmsTrackerPool(
     configuration: GatlingConfiguration
 ) extends JmsLogging
     with NameGen {
-  private val trackers = new ConcurrentHashMap[(Destination, Option[String]), ActorRef[JmsTracker.Command]]
+  private val trackers = new ConcurrentHashMap[(Destination, Option[String]), JmsTrackerShards]
 
-  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): ActorRef[JmsTracker.Command] =
+  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): JmsTrackerShards =
     trackers.computeIfAbsent(
       (destination, selector),
       _ => {
-        val tracker = system.actorOf(JmsTracker.actor(genName("jmsTrackerActor"), statsEngine, clock, configuration))
+        val tracker = new JmsTrackerShards(
+          Array.fill(JmsTrackerPool.ShardCount)(system.actorOf(JmsTracker.actor(genName("jmsTrackerActor"), statsEngine, clock, configuration)))
+        )
 
         for (_ <- 1 to listenerThreadCount) {
           // jms session pool logic creates a session per thread and stores it in thread local.
@@ -57,7 +60,7 @@ final class JmsTrackerPool(
             consumer.setMessageListener { message =>
               val matchId = messageMatcher.responseMatchId(message)
               logMessage(s"Message received JMSMessageID=${message.getJMSMessageID} matchId=$matchId", message)
-              tracker ! JmsTracker.Command.MessageReceived(matchId, clock.nowMillis, message)
+              tracker.shard(matchId) ! JmsTracker.Command.MessageReceived(matchId, clock.nowMillis, message)
             }
           }
 
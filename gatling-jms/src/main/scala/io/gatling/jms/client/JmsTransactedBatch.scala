@@ -0,0 +1,116 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import javax.jms.{ CompletionListener, Message, MessageProducer, Session => JmsSession }
+
+import scala.collection.mutable
+import scala.concurrent.ExecutionContext
+import scala.concurrent.duration.FiniteDuration
+import scala.util.control.NonFatal
+
+import io.gatling.core.actor.Scheduler
+
+import com.typesafe.scalalogging.StrictLogging
+
+private final class PendingMessage(val message: Message, val listener: CompletionListener)
+
+/**
+ * Pending messages of a transacted session, committed every `maxSize` messages or `maxDelay` after the first pending one. Listeners are notified once the
+ * commit succeeded or failed.
+ *
+ * A JMS session is single threaded, while the delayed commits run on another thread: creating producers and messages, sending and committing all go through
+ * this batch and are guarded by its lock.
+ */
+final class JmsTransactedBatch(
+    session: JmsSession,
+    maxSize: Int,
+    maxDelay: FiniteDuration,
+    scheduler: Scheduler,
+    executionContext: ExecutionContext
+) extends StrictLogging {
+  private val pending = mutable.ArrayBuffer.empty[PendingMessage]
+  // stale flush timers are ignored instead of being cancelled
+  private var generation = 0L
+
+  /**
+   * Runs f with the lock held, so it can safely use the session, eg to create a message.
+   */
+  def withSession[T](f: JmsSession => T): T = synchronized(f(session))
+
+  /**
+   * Only notifies the listener once the transaction holding this message is committed, meaning the virtual user waits for the commit, but no thread is
+   * blocked meanwhile unless this message completes the batch.
+   */
+  def send(producer: MessageProducer, message: Message, listener: CompletionListener): Unit = {
+    val committed = synchronized {
+      try {
+        producer.send(message)
+        pending += new PendingMessage(message, listener)
+        if (pending.size >= maxSize) {
+          commit()
+        } else {
+          if (pending.size == 1) {
+            val flushedGeneration = generation
+            // commit is blocking, don't run it on the scheduler thread
+            scheduler.scheduleOnce(maxDelay)(executionContext.execute(() => flush(flushedGeneration)))
+          }
+          Nil
+        }
+      } catch {
+        case NonFatal(e) => List(() => listener.onException(message, toException(e)))
+      }
+    }
+    committed.foreach(_.apply())
+  }
+
+  private def flush(flushedGeneration: Long): Unit = {
+    val committed = synchronized {
+      if (generation == flushedGeneration && pending.nonEmpty) commit() else Nil
+    }
+    committed.foreach(_.apply())
+  }
+
+  def flush(): Unit = flush(synchronized(generation))
+
+  // must be called with the lock held, listeners are notified by the caller once the lock is released
+  private def commit(): List[() => Unit] = {
+    val messages = pending.toList
+    pending.clear()
+    generation += 1
+
+    try {
+      session.commit()
+      messages.map(m => () => m.listener.onCompletion(m.message))
+    } catch {
+      case NonFatal(e) =>
+        try {
+          session.rollback()
+        } catch {
+          case NonFatal(rollbackException) => logger.debug("Failed to rollback JMS transaction", rollbackException)
+        }
+        val exception = toException(e)
+        messages.map(m => () => m.listener.onException(m.message, exception))
+    }
+  }
+
+  private def toException(t: Throwable): Exception =
+    t match {
+      case e: Exception => e
+      case _            => new Exception(t)
+    }
+}
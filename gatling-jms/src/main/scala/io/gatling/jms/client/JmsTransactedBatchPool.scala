@@ -0,0 +1,54 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.Collections
+import java.util.concurrent.ConcurrentHashMap
+import javax.jms.{ Connection, Destination }
+
+import scala.jdk.CollectionConverters._
+
+import io.gatling.core.actor.ActorSystem
+import io.gatling.jms.protocol.JmsSendMode
+
+/**
+ * Transacted sessions, along with their producers and pending batch, one per thread like the regular ones.
+ */
+final class JmsTransactedBatchPool(connection: Connection, mode: JmsSendMode.TransactedBatch, system: ActorSystem) {
+  private val sessionPool = new JmsSessionPool(connection, transacted = true)
+  private val producerPool = new JmsProducerPool(sessionPool)
+
+  private val registeredBatches = Collections.newSetFromMap(new ConcurrentHashMap[JmsTransactedBatch, java.lang.Boolean])
+  private val batches = ThreadLocal.withInitial[JmsTransactedBatch] { () =>
+    val batch = new JmsTransactedBatch(sessionPool.jmsSession(), mode.maxSize, mode.maxDelay, system.scheduler, system.executionContext)
+    registeredBatches.add(batch)
+    batch
+  }
+
+  // the session might be committing on another thread
+  def producer(destination: Destination, deliveryMode: Int): JmsProducer =
+    batch().withSession(_ => producerPool.producer(destination, deliveryMode))
+
+  // bound to the same session as the producers of the current thread
+  def batch(): JmsTransactedBatch = batches.get()
+
+  def close(): Unit = {
+    registeredBatches.asScala.foreach(_.flush())
+    producerPool.close()
+    sessionPool.close()
+  }
+}
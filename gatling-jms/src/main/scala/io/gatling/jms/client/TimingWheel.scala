@@ -0,0 +1,65 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import scala.collection.mutable
+
+/**
+ * A hashed timing wheel, not thread-safe: entries are bucketed by deadline tick, so expiring only walks the buckets of the elapsed ticks instead of all the
+ * pending entries. Entries further away than a full rotation stay in their bucket until their round comes.
+ *
+ * Cancellation is lazy: when a bucket is processed, `onExpired` decides, typically by checking if the entry is still pending, whether it actually expired.
+ *
+ * @param tickMillis
+ *   the resolution of the wheel
+ * @param startMillis
+ *   the time the wheel starts ticking from
+ * @param wheelSize
+ *   the number of buckets
+ * @param deadline
+ *   the expiry time of an entry
+ */
+private[client] final class TimingWheel[T](tickMillis: Long, startMillis: Long, wheelSize: Int)(deadline: T => Long) {
+  private val buckets = Array.fill(wheelSize)(mutable.ArrayBuffer.empty[T])
+  private var currentTick = startMillis / tickMillis
+  def schedule(entry: T): Unit = {
+    // deadlines are checked when the bucket of the tick following them is processed, never too early
+    val tick = math.max(deadline(entry) / tickMillis + 1, currentTick)
+    buckets((tick % wheelSize).toInt) += entry
+  }
+
+  def expire(now: Long)(onExpired: T => Unit): Unit = {
+    val nowTick = now / tickMillis
+    // no need to go around more than once
+    val lastTick = math.min(nowTick, currentTick + wheelSize - 1)
+    while (currentTick <= lastTick) {
+      val bucket = buckets((currentTick % wheelSize).toInt)
+      if (bucket.nonEmpty) {
+        bucket.filterInPlace { entry =>
+          if (deadline(entry) < now) {
+            onExpired(entry)
+            false
+          } else {
+            true
+          }
+        }
+      }
+      currentTick += 1
+    }
+    currentTick = math.max(currentTick, nowTick)
+  }
+}
@@ -49,7 +49,8 @@ final case class JmsProtocol(
     deliveryMode: Int,
     replyTimeout: Option[FiniteDuration],
     listenerThreadCount: Int,
-    messageMatcher: JmsMessageMatcher
+    messageMatcher: JmsMessageMatcher,
+    sendMode: JmsSendMode
 ) extends Protocol {
   type Components = JmsComponents
 }
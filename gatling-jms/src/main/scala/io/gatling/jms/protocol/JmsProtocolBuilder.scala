@@ -27,7 +27,8 @@ import io.gatling.commons.model.Credentials
  * your JMS provider documentation for information on the values to set here.
  */
 case object JmsProtocolBuilderBase {
-  def connectionFactory(cf: ConnectionFactory): JmsProtocolBuilder = JmsProtocolBuilder(cf, None, DeliveryMode.NON_PERSISTENT, MessageIdMessageMatcher, 1, None)
+  def connectionFactory(cf: ConnectionFactory): JmsProtocolBuilder =
+    JmsProtocolBuilder(cf, None, DeliveryMode.NON_PERSISTENT, MessageIdMessageMatcher, 1, None, JmsSendMode.Sync)
 }
 
 final case class JmsProtocolBuilder(
@@ -36,7 +37,8 @@ final case class JmsProtocolBuilder(
     deliveryMode: Int,
     messageMatcher: JmsMessageMatcher,
     listenerThreadCount: Int,
-    replyTimeout: Option[FiniteDuration]
+    replyTimeout: Option[FiniteDuration],
+    sendMode: JmsSendMode
 ) {
   def credentials(user: String, password: String): JmsProtocolBuilder = copy(creds = Some(Credentials(user, password)))
   def usePersistentDeliveryMode: JmsProtocolBuilder = copy(deliveryMode = DeliveryMode.PERSISTENT)
@@ -46,6 +48,9 @@ final case class JmsProtocolBuilder(
   def messageMatcher(matcher: JmsMessageMatcher): JmsProtocolBuilder = copy(messageMatcher = matcher)
   def replyTimeout(timeout: FiniteDuration): JmsProtocolBuilder = copy(replyTimeout = Some(timeout))
   def listenerThreadCount(threadCount: Int): JmsProtocolBuilder = copy(listenerThreadCount = threadCount)
+  def syncSend: JmsProtocolBuilder = copy(sendMode = JmsSendMode.Sync)
+  def asyncSend: JmsProtocolBuilder = copy(sendMode = JmsSendMode.Async)
+  def transactedBatchSend(maxSize: Int, maxDelay: FiniteDuration): JmsProtocolBuilder = copy(sendMode = JmsSendMode.TransactedBatch(maxSize, maxDelay))
 
   def build: JmsProtocol = JmsProtocol(
     credentials = creds,
@@ -53,6 +58,7 @@ final case class JmsProtocolBuilder(
     messageMatcher = messageMatcher,
     replyTimeout = replyTimeout,
     listenerThreadCount = listenerThreadCount,
-    connectionFactory = connectionFactory
+    connectionFactory = connectionFactory,
+    sendMode = sendMode
   )
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.protocol
+
+import scala.concurrent.duration.FiniteDuration
+
+/**
+ * How `send` actions hand their messages over to the broker.
+ */
+sealed trait JmsSendMode
+
+object JmsSendMode {
+
+  /**
+   * Blocking send, the message is considered delivered as soon as `MessageProducer.send` returns.
+   */
+  case object Sync extends JmsSendMode
+
+  /**
+   * JMS 2.0 asynchronous send, response time is recorded when the broker acknowledges the message. Falls back to a blocking send with brokers that don't
+   * support it.
+   */
+  case object Async extends JmsSendMode
+
+  /**
+   * Messages are sent in a transacted session that gets committed every `maxSize` messages or `maxDelay` after the first pending message, whichever comes
+   * first. Response time is recorded on commit, and the virtual user only resumes then, so possibly up to `maxDelay` after sending its message.
+   */
+  final case class TransactedBatch(maxSize: Int, maxDelay: FiniteDuration) extends JmsSendMode {
+    require(maxSize > 0, "maxSize must be strictly positive")
+  }
+}
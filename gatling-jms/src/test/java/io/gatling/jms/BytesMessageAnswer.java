@@ -21,6 +21,7 @@ import org.mockito.invocation.InvocationOnMock;
 
 class BytesMessageAnswer extends ReturnsEmptyValues {
   private byte[] bytes;
+  private int position;
 
   public BytesMessageAnswer(byte[] bytes) {
     this.bytes = bytes;
@@ -33,8 +34,17 @@ class BytesMessageAnswer extends ReturnsEmptyValues {
         return (long) bytes.length;
       case "readBytes":
         byte[] targetBuffer = invocation.getArgument(0);
-        System.arraycopy(bytes, 0, targetBuffer, 0, targetBuffer.length);
-        return targetBuffer.length;
+        int length =
+            invocation.getArguments().length > 1
+                ? invocation.<Integer>getArgument(1)
+                : targetBuffer.length;
+        int read = Math.min(length, bytes.length - position);
+        if (read <= 0) {
+          return -1;
+        }
+        System.arraycopy(bytes, position, targetBuffer, 0, read);
+        position += read;
+        return read;
       case "readUTF":
         return new String(bytes);
       default:
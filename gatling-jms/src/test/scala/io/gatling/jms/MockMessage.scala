@@ -35,5 +35,10 @@ trait MockMessage extends MockitoSugar {
     CachingMessage(msg)
   }
 
+  def streamedBytesMessage(bytes: Array[Byte]): Message = {
+    val msg = mock[BytesMessage](new BytesMessageAnswer(bytes))
+    CachingMessage(msg, streamableBody = true)
+  }
+
   def message: Message = mock[Message]
 }
@@ -36,7 +36,7 @@ class JmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage
     val nextActor = mockActorRef[Session]("next")
     val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
 
-    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "success")
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, false, emptySession, new ActorDelegatingAction("next", nextActor), "success")
     tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("test"))
 
     val nextSession = nextActor.expectMsgType[Session]()
@@ -52,7 +52,7 @@ class JmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage
     val nextActor = mockActorRef[Session]("next")
     val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
 
-    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, List(failedCheck), emptySession, new ActorDelegatingAction("next", nextActor), "failure")
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, List(failedCheck), false, emptySession, new ActorDelegatingAction("next", nextActor), "failure")
     tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("test"))
 
     val nextSession = nextActor.expectMsgType[Session]()
@@ -68,7 +68,7 @@ class JmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage
     val nextActor = mockActorRef[Session]("next")
     val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
 
-    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, List(check), emptySession, new ActorDelegatingAction("next", nextActor), "updated")
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, List(check), false, emptySession, new ActorDelegatingAction("next", nextActor), "updated")
     tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("<id>5</id>"))
 
     val nextSession = nextActor.expectMsgType[Session]()
@@ -84,14 +84,14 @@ class JmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage
     val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
 
     val groupSession = emptySession.enterGroup("group", clock.nowMillis)
-    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, groupSession, new ActorDelegatingAction("next", nextActor), "logGroupResponse")
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, false, groupSession, new ActorDelegatingAction("next", nextActor), "logGroupResponse")
     tracker ! JmsTracker.Command.MessageReceived("1", 30, textMessage("group"))
 
     val newSession = groupSession.logGroupRequestTimings(15, 30)
     val nextSession1 = nextActor.expectMsgType[Session]()
 
     val failedCheck = simpleCheck(_ => false)
-    tracker ! JmsTracker.Command.MessageSent("2", 25, 0, List(failedCheck), newSession, new ActorDelegatingAction("next", nextActor), "logGroupResponse")
+    tracker ! JmsTracker.Command.MessageSent("2", 25, 0, List(failedCheck), false, newSession, new ActorDelegatingAction("next", nextActor), "logGroupResponse")
     tracker ! JmsTracker.Command.MessageReceived("2", 50, textMessage("group"))
 
     val nextSession2 = nextActor.expectMsgType[Session]()
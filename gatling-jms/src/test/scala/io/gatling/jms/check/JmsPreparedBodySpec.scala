@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.check
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.gatling.ValidationValues
+import io.gatling.commons.validation._
+import io.gatling.core.{ CoreDsl, EmptySession }
+import io.gatling.core.check.{ Check, CheckResult }
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.session.Session
+import io.gatling.jms.{ JmsCheck, MockMessage }
+import io.gatling.jms.client.CachingMessage
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class JmsPreparedBodySpec extends AnyFlatSpecLike with Matchers with ValidationValues with MockMessage with CoreDsl with JmsCheckSupport with EmptySession {
+  override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+
+  private val largeJson = (1 to 2000).map(i => s"""{"id":$i,"name":"item$i"}""").mkString("""{"items":[""", ",", "]}")
+
+  "streamableBody" should "be enabled when the body is only parsed by a single streaming preparer" in {
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](jsonPath("$.id").find, jmesPath("id").find)) shouldBe true
+  }
+
+  it should "be enabled when the other checks don't read the body" in {
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](jsonPath("$.id").find, jmsProperty("foo").find, bodyLength.is(1))) shouldBe true
+  }
+
+  it should "be disabled when the body is read in several forms" in {
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](jsonPath("$.id").find, bodyString.find)) shouldBe false
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](jsonPath("$.id").find, xpath("/ok").find)) shouldBe false
+  }
+
+  it should "be disabled for xpath as the document might be read several times" in {
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](xpath("/ok").find)) shouldBe false
+  }
+
+  it should "be disabled when the body isn't parsed" in {
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](bodyString.find, substring("foo").find)) shouldBe false
+    JmsCheckMaterializer.streamableBody(Nil) shouldBe false
+  }
+
+  it should "be disabled when a custom check or condition might read the body" in {
+    JmsCheckMaterializer.streamableBody(List[JmsCheck](jsonPath("$.id").find, simpleCheck(_ => true))) shouldBe false
+    val conditional: JmsCheck = jsonPath("$.id").find
+    JmsCheckMaterializer.streamableBody(List(conditional.checkIf((_: Session) => true.success))) shouldBe false
+  }
+
+  "prepared body" should "decode BytesMessages only once" in {
+    val message = bytesMessage(largeJson.getBytes(UTF_8)).asInstanceOf[CachingMessage.Bytes]
+    message.string(UTF_8) should be theSameInstanceAs message.string(UTF_8)
+  }
+
+  it should "refuse to read a streamed BytesMessage body again" in {
+    val message = streamedBytesMessage(largeJson.getBytes(UTF_8)).asInstanceOf[CachingMessage.Bytes]
+    message.stream().close()
+    an[UnsupportedOperationException] should be thrownBy message.stream()
+    an[UnsupportedOperationException] should be thrownBy message.string(UTF_8)
+  }
+
+  it should "be shared by string based checks" in {
+    val checks = List[JmsCheck](bodyString.is(largeJson), substring("item2000").count.is(1))
+    val (_, failure) = Check.check(bytesMessage(largeJson.getBytes(UTF_8)), emptySession, checks)
+    failure shouldBe None
+  }
+
+  it should "support parsing JSON streamed from a BytesMessage larger than a chunk" in {
+    val checks = List[JmsCheck](jsonPath("$.items[1999].name").is("item2000"), jsonPath("$.items[0].id").ofType[Int].is(1))
+    val (_, failure) = Check.check(streamedBytesMessage(largeJson.getBytes(UTF_8)), emptySession, checks)
+    failure shouldBe None
+  }
+
+  it should "support parsing XML streamed from a BytesMessage" in {
+    val check: JmsCheck = xpath("/ok/value").is("foo")
+    check.check(streamedBytesMessage("<ok><value>foo</value></ok>".getBytes(UTF_8)), emptySession, Check.newPreparedCache).succeeded shouldBe CheckResult(
+      Some("foo"),
+      None
+    )
+  }
+}
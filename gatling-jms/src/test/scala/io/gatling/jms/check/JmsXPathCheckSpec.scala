@@ -28,7 +28,7 @@ import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
 class JmsXPathCheckSpec extends AnyFlatSpecLike with Matchers with ValidationValues with MockMessage with CoreDsl with JmsCheckSupport with EmptySession {
-  override val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+  override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
 
   private val check: JmsCheck = xpath("/ok").find
 
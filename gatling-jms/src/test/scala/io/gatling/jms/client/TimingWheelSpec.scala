@@ -0,0 +1,73 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import scala.collection.mutable
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class TimingWheelSpec extends AnyFlatSpecLike with Matchers {
+  private def expired(wheel: TimingWheel[Long], now: Long): List[Long] = {
+    val entries = mutable.ListBuffer.empty[Long]
+    wheel.expire(now)(entries += _)
+    entries.toList.sorted
+  }
+
+  // entries are their own deadline
+  private def newWheel(wheelSize: Int): TimingWheel[Long] = new TimingWheel[Long](tickMillis = 100, startMillis = 0, wheelSize)(identity)
+
+  "TimingWheel" should "only expire entries whose deadline has passed, on the tick following it" in {
+    val wheel = newWheel(wheelSize = 8)
+    wheel.schedule(150)
+    wheel.schedule(250)
+    wheel.schedule(420)
+
+    expired(wheel, 199) shouldBe Nil
+    expired(wheel, 200) shouldBe List(150)
+    expired(wheel, 399) shouldBe List(250)
+    expired(wheel, 420) shouldBe Nil
+    expired(wheel, 550) shouldBe List(420)
+  }
+
+  it should "keep entries scheduled more than a rotation away until their round comes" in {
+    val wheel = newWheel(wheelSize = 4)
+    wheel.schedule(150)
+    wheel.schedule(950)
+
+    expired(wheel, 500) shouldBe List(150)
+    expired(wheel, 900) shouldBe Nil
+    expired(wheel, 1000) shouldBe List(950)
+  }
+
+  it should "expire entries scheduled with a deadline already passed on next expiry" in {
+    val wheel = newWheel(wheelSize = 8)
+    expired(wheel, 1000) shouldBe Nil
+
+    wheel.schedule(500)
+    expired(wheel, 1001) shouldBe List(500)
+  }
+
+  it should "expire everything when more than a rotation elapsed between 2 expiries" in {
+    val wheel = newWheel(wheelSize = 4)
+    wheel.schedule(150)
+    wheel.schedule(350)
+    wheel.schedule(1250)
+
+    expired(wheel, 2000) shouldBe List(150, 350, 1250)
+  }
+}
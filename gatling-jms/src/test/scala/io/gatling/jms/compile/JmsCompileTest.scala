@@ -50,6 +50,9 @@ class JmsCompileTest extends Simulation {
     .messageMatcher(HeaderMatcher)
     .matchByCorrelationId
     .matchByMessageId
+    .asyncSend
+    .transactedBatchSend(100, 10.millis)
+    .syncSend
 
   private val scn = scenario("scn")
     // requestReply
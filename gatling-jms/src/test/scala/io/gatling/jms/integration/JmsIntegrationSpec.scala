@@ -17,9 +17,12 @@
 package io.gatling.jms.integration
 
 import java.util.Locale
-import javax.jms.TextMessage
+import javax.jms.{ Session => JmsSession, TextMessage }
+
+import scala.concurrent.duration._
 
 import io.gatling.core.CoreDsl
+import io.gatling.core.protocol.Protocol
 import io.gatling.jms.request.JmsDestination
 
 class JmsIntegrationSpec extends JmsSpec with CoreDsl {
@@ -57,4 +60,40 @@ class JmsIntegrationSpec extends JmsSpec with CoreDsl {
     session("propertyValue").as[String] shouldBe "test value"
     session("jmsType").as[String] shouldBe "test jmsType"
   }
+
+  private def receiveText(queueName: String): String = {
+    val connection = cf.createConnection()
+    try {
+      connection.start()
+      val jmsSession = connection.createSession(false, JmsSession.AUTO_ACKNOWLEDGE)
+      jmsSession.createConsumer(jmsSession.createQueue(queueName)).receive(5000) match {
+        case tm: TextMessage => tm.getText
+        case other           => fail(s"Unexpected message $other")
+      }
+    } finally {
+      connection.close()
+    }
+  }
+
+  it should "send JMS message asynchronously" in {
+    val session = runScenario(
+      scenario("Jms async send")
+        .exec(jms("asyncSend").send.queue("asyncSend").textMessage("async")),
+      protocols = Protocol.indexByType(Seq(jmsProtocol.asyncSend))
+    )
+
+    session.isFailed shouldBe false
+    receiveText("asyncSend") shouldBe "async"
+  }
+
+  it should "commit JMS message sent in transacted batches once max delay is reached" in {
+    val session = runScenario(
+      scenario("Jms transacted send")
+        .exec(jms("transactedSend").send.queue("transactedSend").textMessage("transacted")),
+      protocols = Protocol.indexByType(Seq(jmsProtocol.transactedBatchSend(10, 100.millis)))
+    )
+
+    session.isFailed shouldBe false
+    receiveText("transactedSend") shouldBe "transacted"
+  }
 }
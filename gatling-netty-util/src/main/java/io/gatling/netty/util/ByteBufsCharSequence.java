@@ -0,0 +1,226 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.Charset;
+
+/**
+ * A text view over some ByteBufs that doesn't copy them into a String, so searches such as regular
+ * expressions or {@link ByteBufsSubstringSearch} can run on the raw body.
+ *
+ * <ul>
+ *   <li>ISO-8859-1: chars are read directly from the bytes
+ *   <li>UTF-8 (US-ASCII is decoded as UTF-8): the bytes are scanned once on first access to
+ *       compute the length and build a sparse char index to byte offset index, chars are then
+ *       decoded on the fly from the nearest checkpoint, or read directly if the content is ASCII
+ *   <li>other charsets: the bytes are decoded into a String on first access
+ * </ul>
+ *
+ * <p>Malformed UTF-8 sequences are replaced with U+FFFD chars, like {@code new String(bytes,
+ * UTF_8)} does.
+ *
+ * <p>Not thread-safe, and it doesn't retain the buffers, so it must not outlive them.
+ */
+public final class ByteBufsCharSequence implements CharSequence {
+
+  private static final int CHECKPOINT_STRIDE = 256;
+
+  private final Charset charset;
+  private final ByteBuf[] bufs;
+  private final boolean latin1;
+  private final boolean utf8;
+  private ByteBufsReader reader;
+  private String string;
+  // UTF-8 index, built on first access
+  private boolean indexed;
+  private boolean ascii;
+  private int length;
+  private int[] checkpointChars;
+  private int[] checkpointOffsets;
+  // decoding cursor, always on a code point boundary
+  private int cursorChar;
+  private int cursorOffset;
+
+  public ByteBufsCharSequence(Charset charset, ByteBuf... bufs) {
+    this.charset = charset;
+    this.bufs = bufs;
+    latin1 = charset.equals(ISO_8859_1);
+    utf8 = charset.equals(UTF_8) || charset.equals(US_ASCII);
+  }
+
+  public Charset charset() {
+    return charset;
+  }
+
+  public ByteBuf[] bufs() {
+    return bufs;
+  }
+
+  private ByteBufsReader reader() {
+    if (reader == null) {
+      reader = new ByteBufsReader(bufs);
+    }
+    return reader;
+  }
+
+  private void index() {
+    if (indexed) {
+      return;
+    }
+    indexed = true;
+    ByteBufsReader reader = reader();
+    int byteLength = reader.length();
+    // there are at most as many chars as bytes
+    checkpointChars = new int[byteLength / CHECKPOINT_STRIDE + 2];
+    checkpointOffsets = new int[checkpointChars.length];
+    int chars = 0;
+    int offset = 0;
+    int checkpoint = 0;
+    boolean onlyAscii = true;
+    while (offset < byteLength) {
+      if (chars >= checkpoint * CHECKPOINT_STRIDE) {
+        checkpointChars[checkpoint] = chars;
+        checkpointOffsets[checkpoint] = offset;
+        checkpoint++;
+      }
+      int sequence = reader.utf8Sequence(offset);
+      onlyAscii &= sequence == 1;
+      chars += sequence == 4 ? 2 : 1;
+      offset += sequence & ByteBufsReader.UTF8_LENGTH_MASK;
+    }
+    length = chars;
+    ascii = onlyAscii;
+    if (ascii) {
+      checkpointChars = null;
+      checkpointOffsets = null;
+    }
+  }
+
+  @Override
+  public int length() {
+    if (string != null) {
+      return string.length();
+    } else if (latin1) {
+      return reader().length();
+    } else if (utf8) {
+      index();
+      return length;
+    }
+    return toString().length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (string != null) {
+      return string.charAt(index);
+    } else if (latin1) {
+      return (char) (reader().byteAt(index) & 0xFF);
+    } else if (utf8) {
+      index();
+      if (index < 0 || index >= length) {
+        throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+      } else if (ascii) {
+        return (char) reader.byteAt(index);
+      }
+      return utf8CharAt(index);
+    }
+    return toString().charAt(index);
+  }
+
+  private char utf8CharAt(int index) {
+    if (index < cursorChar || index - cursorChar > CHECKPOINT_STRIDE) {
+      int checkpoint = index / CHECKPOINT_STRIDE;
+      // a checkpoint can be one char past its stride boundary if it fell in a surrogate pair
+      if (checkpointChars[checkpoint] > index) {
+        checkpoint--;
+      }
+      cursorChar = checkpointChars[checkpoint];
+      cursorOffset = checkpointOffsets[checkpoint];
+    }
+
+    while (true) {
+      int sequence = reader.utf8Sequence(cursorOffset);
+      int chars = sequence == 4 ? 2 : 1;
+      if (index < cursorChar + chars) {
+        return decode(cursorOffset, sequence, index - cursorChar);
+      }
+      cursorChar += chars;
+      cursorOffset += sequence & ByteBufsReader.UTF8_LENGTH_MASK;
+    }
+  }
+
+  private char decode(int offset, int sequence, int surrogateIndex) {
+    if ((sequence & ByteBufsReader.UTF8_MALFORMED) != 0) {
+      return '\uFFFD';
+    }
+    int b0 = reader.byteAt(offset);
+    switch (sequence) {
+      case 1:
+        return (char) b0;
+      case 2:
+        return (char) (((b0 & 0x1F) << 6) | (reader.byteAt(offset + 1) & 0x3F));
+      case 3:
+        return (char)
+            (((b0 & 0x0F) << 12)
+                | ((reader.byteAt(offset + 1) & 0x3F) << 6)
+                | (reader.byteAt(offset + 2) & 0x3F));
+      default:
+        int codePoint =
+            ((b0 & 0x07) << 18)
+                | ((reader.byteAt(offset + 1) & 0x3F) << 12)
+                | ((reader.byteAt(offset + 2) & 0x3F) << 6)
+                | (reader.byteAt(offset + 3) & 0x3F);
+        return surrogateIndex == 0
+            ? Character.highSurrogate(codePoint)
+            : Character.lowSurrogate(codePoint);
+    }
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (string == null && (latin1 || utf8)) {
+      if (start < 0 || end > length() || start > end) {
+        throw new IndexOutOfBoundsException(
+            "start " + start + ", end " + end + ", length " + length());
+      }
+      // typically a regex group, way smaller than the whole text
+      StringBuilder sb = new StringBuilder(end - start);
+      for (int i = start; i < end; i++) {
+        sb.append(charAt(i));
+      }
+      return sb.toString();
+    }
+    return toString().subSequence(start, end);
+  }
+
+  @Override
+  public String toString() {
+    if (string == null) {
+      ByteBuf[] duplicates = new ByteBuf[bufs.length];
+      for (int i = 0; i < bufs.length; i++) {
+        duplicates[i] = bufs[i].duplicate();
+      }
+      string = ByteBufUtils.byteBuf2String(charset, duplicates);
+    }
+    return string;
+  }
+}
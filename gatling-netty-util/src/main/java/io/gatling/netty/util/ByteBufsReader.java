@@ -0,0 +1,134 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Random access to the bytes of some ByteBufs as if they were a single one, without copying them.
+ * Optimized for mostly sequential accesses, by remembering the last accessed buf.
+ *
+ * <p>Not thread-safe, and it doesn't retain the buffers, so it must not outlive them.
+ */
+final class ByteBufsReader {
+
+  // flag on a UTF-8 sequence byte length for a malformed sequence
+  static final int UTF8_MALFORMED = 0x8;
+  static final int UTF8_LENGTH_MASK = 0x7;
+
+  private final ByteBuf[] bufs;
+  private final int[] starts;
+  private final int length;
+  // cached position of the last accessed buf
+  private int current;
+  private int currentStart;
+  private int currentEnd;
+
+  ByteBufsReader(ByteBuf[] bufs) {
+    this.bufs = bufs;
+    starts = new int[bufs.length];
+    int start = 0;
+    for (int i = 0; i < bufs.length; i++) {
+      starts[i] = start;
+      start += bufs[i].readableBytes();
+    }
+    length = start;
+    currentEnd = bufs.length == 0 ? 0 : bufs[0].readableBytes();
+  }
+
+  int length() {
+    return length;
+  }
+
+  byte byteAt(int offset) {
+    if (offset < currentStart || offset >= currentEnd) {
+      // moves are mostly forward and by less than a buf, a linear walk beats a binary search
+      while (offset >= currentEnd) {
+        current++;
+        currentStart = starts[current];
+        currentEnd = currentStart + bufs[current].readableBytes();
+      }
+      while (offset < currentStart) {
+        current--;
+        currentStart = starts[current];
+        currentEnd = currentStart + bufs[current].readableBytes();
+      }
+    }
+    ByteBuf buf = bufs[current];
+    return buf.getByte(buf.readerIndex() + offset - currentStart);
+  }
+
+  private static boolean isContinuation(int b) {
+    return (b & 0xC0) == 0x80;
+  }
+
+  /**
+   * Reads the UTF-8 sequence starting at offset the same way the JDK decoder does: a malformed
+   * sequence is its longest valid prefix (at least the lead byte), and is replaced with one U+FFFD
+   * char.
+   *
+   * @return the byte length of the sequence, flagged with {@link #UTF8_MALFORMED} if it's malformed
+   */
+  int utf8Sequence(int offset) {
+    int lead = byteAt(offset) & 0xFF;
+    int n;
+    // bounds of the first continuation byte, that reject overlong and out of range sequences
+    int min = 0x80;
+    int max = 0xBF;
+    if (lead < 0x80) {
+      return 1;
+    } else if (lead < 0xC2) {
+      // unexpected continuation byte, or overlong 2 bytes sequence
+      return 1 | UTF8_MALFORMED;
+    } else if (lead < 0xE0) {
+      n = 2;
+    } else if (lead < 0xF0) {
+      n = 3;
+      if (lead == 0xE0) {
+        min = 0xA0;
+      }
+    } else if (lead < 0xF5) {
+      n = 4;
+      if (lead == 0xF0) {
+        min = 0x90;
+      } else if (lead == 0xF4) {
+        max = 0x8F;
+      }
+    } else {
+      return 1 | UTF8_MALFORMED;
+    }
+
+    int remaining = length - offset;
+    int valid = 1;
+    while (valid < n && valid < remaining) {
+      int b = byteAt(offset + valid) & 0xFF;
+      if (valid == 1 ? b < min || b > max : !isContinuation(b)) {
+        break;
+      }
+      valid++;
+    }
+
+    if (valid < n) {
+      // truncated sequence, or invalid continuation byte
+      return valid | UTF8_MALFORMED;
+    } else if (lead == 0xED && (byteAt(offset + 1) & 0xFF) >= 0xA0) {
+      // encoded surrogate, replaced as a whole like the JDK does
+      return 3 | UTF8_MALFORMED;
+    }
+    return n;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Searches the non-overlapping occurrences of a pattern directly in some ByteBufs, possibly
+ * spanning over several of them, with Boyer-Moore-Horspool, without decoding them.
+ *
+ * <p>Occurrences are returned as byte offsets, only converted into char indexes on demand, see
+ * {@link #charIndex(int)}.
+ *
+ * <p>Not thread-safe, and it doesn't retain the buffers, so it must not outlive them.
+ */
+public final class ByteBufsSubstringSearch {
+
+  /**
+   * Matching the encoded pattern against the encoded text is only equivalent to matching the
+   * decoded strings for charsets where a char sequence has a single encoding and can't match in
+   * the middle of another char: UTF-8, which is self-synchronizing (US-ASCII bodies are decoded as
+   * UTF-8), and ISO-8859-1, as long as the pattern is encodable.
+   */
+  public static boolean isSupported(Charset charset, String pattern) {
+    if (pattern.isEmpty()) {
+      return false;
+    } else if (charset.equals(UTF_8) || charset.equals(US_ASCII)) {
+      return true;
+    } else if (charset.equals(ISO_8859_1)) {
+      for (int i = 0; i < pattern.length(); i++) {
+        if (pattern.charAt(i) > 0xFF) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private final ByteBufsReader reader;
+  private final boolean utf8;
+  private final byte[] pattern;
+  private final int[] shifts;
+  private int fromOffset;
+  // last computed byte offset to char index mapping, as char indexes are computed incrementally
+  private int charIndexByteOffset;
+  private int charIndex;
+
+  /** Beware: the charset and the pattern must be checked with {@link #isSupported} first. */
+  public ByteBufsSubstringSearch(ByteBuf[] bufs, Charset charset, String pattern) {
+    reader = new ByteBufsReader(bufs);
+    utf8 = !charset.equals(ISO_8859_1);
+    this.pattern = pattern.getBytes(utf8 ? UTF_8 : ISO_8859_1);
+    shifts = shifts(this.pattern);
+  }
+
+  // Boyer-Moore-Horspool bad character shifts
+  static int[] shifts(byte[] pattern) {
+    int[] shifts = new int[256];
+    int last = pattern.length - 1;
+    Arrays.fill(shifts, pattern.length);
+    for (int i = 0; i < last; i++) {
+      shifts[pattern[i] & 0xFF] = last - i;
+    }
+    return shifts;
+  }
+
+  /**
+   * @return the byte offset of the next occurrence, or -1 if there's none
+   */
+  public int next() {
+    int length = reader.length();
+    int last = pattern.length - 1;
+    int offset = fromOffset;
+    while (offset + last < length) {
+      byte lastByte = reader.byteAt(offset + last);
+      if (lastByte == pattern[last]) {
+        int i = last - 1;
+        while (i >= 0 && reader.byteAt(offset + i) == pattern[i]) {
+          i--;
+        }
+        if (i < 0) {
+          fromOffset = offset + pattern.length;
+          return offset;
+        }
+      }
+      offset += shifts[lastByte & 0xFF];
+    }
+    fromOffset = length;
+    return -1;
+  }
+
+  /**
+   * @param byteOffset an offset returned by {@link #next()}, offsets must be passed in increasing
+   *     order
+   * @return the index of the char starting at this offset in the decoded string
+   */
+  public int charIndex(int byteOffset) {
+    if (!utf8) {
+      return byteOffset;
+    }
+    if (byteOffset < charIndexByteOffset) {
+      throw new IllegalArgumentException(
+          "Offsets must be increasing, got " + byteOffset + " after " + charIndexByteOffset);
+    }
+    // decode like the JDK so indexes match the decoded string even on malformed input, occurrences
+    // start on a sequence boundary as the pattern never starts with a continuation byte
+    int offset = charIndexByteOffset;
+    while (offset < byteOffset) {
+      int sequence = reader.utf8Sequence(offset);
+      // 4 bytes sequences decode into surrogate pairs
+      charIndex += sequence == 4 ? 2 : 1;
+      offset += sequence & ByteBufsReader.UTF8_LENGTH_MASK;
+    }
+    charIndexByteOffset = offset;
+    return charIndex;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.IntConsumer;
+
+/**
+ * Searches the non-overlapping occurrences of a pattern in a body fed chunk by chunk as it's
+ * received, without retaining it: like {@link ByteBufsSubstringSearch}, but only the bytes that
+ * may still be the start of an occurrence or of a UTF-8 sequence are copied over to the next
+ * chunk.
+ *
+ * <p>Occurrences are returned as char indexes in the decoded body.
+ *
+ * <p>Not thread-safe.
+ */
+public final class StreamingSubstringSearch {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final boolean utf8;
+  private final byte[] pattern;
+  private final int[] shifts;
+  // the bytes of the previous chunks that haven't been searched or decoded yet
+  private byte[] carry = EMPTY;
+  // offsets in the current chunk, prefixed with the carry, where the search resumes and where the
+  // chars stopped being counted
+  private int searchOffset;
+  private int charIndexByteOffset;
+  private int charIndex;
+
+  /**
+   * Beware: the charset and the pattern must be checked with {@link
+   * ByteBufsSubstringSearch#isSupported} first.
+   */
+  public StreamingSubstringSearch(Charset charset, String pattern) {
+    utf8 = !charset.equals(ISO_8859_1);
+    this.pattern = pattern.getBytes(utf8 ? UTF_8 : ISO_8859_1);
+    shifts = ByteBufsSubstringSearch.shifts(this.pattern);
+  }
+
+  /**
+   * @param chunk the next chunk, its position isn't moved
+   * @param occurrences receives the char indexes of the occurrences ending in this chunk
+   */
+  public void onChunk(ByteBuffer chunk, IntConsumer occurrences) {
+    ByteBufsReader reader =
+        new ByteBufsReader(
+            new ByteBuf[] {Unpooled.wrappedBuffer(carry), Unpooled.wrappedBuffer(chunk)});
+    int length = reader.length();
+    int last = pattern.length - 1;
+    int offset = searchOffset;
+    while (offset + last < length) {
+      byte lastByte = reader.byteAt(offset + last);
+      if (lastByte == pattern[last]) {
+        int i = last - 1;
+        while (i >= 0 && reader.byteAt(offset + i) == pattern[i]) {
+          i--;
+        }
+        if (i < 0) {
+          occurrences.accept(charIndex(reader, offset));
+          offset += pattern.length;
+          continue;
+        }
+      }
+      offset += shifts[lastByte & 0xFF];
+    }
+
+    // count the chars of the bytes that won't be searched anymore, as long as their UTF-8 sequences
+    // can't be completed by the next chunks
+    if (utf8) {
+      while (charIndexByteOffset < offset && charIndexByteOffset + 3 < length) {
+        decodeUtf8Sequence(reader);
+      }
+    } else {
+      charIndex += offset - charIndexByteOffset;
+      charIndexByteOffset = offset;
+    }
+
+    int carryStart = Math.min(offset, charIndexByteOffset);
+    byte[] newCarry = new byte[length - carryStart];
+    for (int i = 0; i < newCarry.length; i++) {
+      newCarry[i] = reader.byteAt(carryStart + i);
+    }
+    carry = newCarry;
+    searchOffset = offset - carryStart;
+    charIndexByteOffset -= carryStart;
+  }
+
+  private int charIndex(ByteBufsReader reader, int byteOffset) {
+    if (utf8) {
+      // occurrences start on a sequence boundary, so the sequences before them never read past them
+      while (charIndexByteOffset < byteOffset) {
+        decodeUtf8Sequence(reader);
+      }
+    } else {
+      charIndex += byteOffset - charIndexByteOffset;
+      charIndexByteOffset = byteOffset;
+    }
+    return charIndex;
+  }
+
+  private void decodeUtf8Sequence(ByteBufsReader reader) {
+    int sequence = reader.utf8Sequence(charIndexByteOffset);
+    // 4 bytes sequences decode into surrogate pairs
+    charIndex += sequence == 4 ? 2 : 1;
+    charIndexByteOffset += sequence & ByteBufsReader.UTF8_LENGTH_MASK;
+  }
+}
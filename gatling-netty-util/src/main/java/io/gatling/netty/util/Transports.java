@@ -17,6 +17,7 @@
 package io.gatling.netty.util;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -93,6 +94,15 @@ public final class Transports {
     return NIO_DATAGRAM_CHANNEL_FACTORY;
   }
 
+  /**
+   * @param channel the channel
+   * @return if the channel can write FileRegions, ie sendfile with NIO and epoll. The io_uring
+   *     incubator transport only supports ByteBufs.
+   */
+  public static boolean supportsFileRegion(Channel channel) {
+    return !(channel instanceof IOUringSocketChannel);
+  }
+
   public static void configureOptions(
       Bootstrap bootstrap,
       int connectTimeout,
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+public final class ByteBufsCharSequenceTest {
+
+  private static ByteBufsCharSequence view(String text, Charset charset, int chunkSize) {
+    byte[] bytes = text.getBytes(charset);
+    List<ByteBuf> bufs = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      bufs.add(Unpooled.wrappedBuffer(bytes, i, Math.min(chunkSize, bytes.length - i)));
+    }
+    return new ByteBufsCharSequence(charset, bufs.toArray(ByteBufUtils.EMPTY_BYTEBUF_ARRAY));
+  }
+
+  private static String repeat(String s, int times) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      sb.append(s).append(i);
+    }
+    return sb.toString();
+  }
+
+  private static void assertSameChars(String expected, CharSequence actual) {
+    assertEquals(expected.length(), actual.length());
+    // forward, then backward to exercise the checkpoints
+    for (int i = 0; i < expected.length(); i++) {
+      assertEquals(expected.charAt(i), actual.charAt(i), "char " + i);
+    }
+    for (int i = expected.length() - 1; i >= 0; i--) {
+      assertEquals(expected.charAt(i), actual.charAt(i), "char " + i);
+    }
+  }
+
+  private static List<String> findAll(String regex, CharSequence text) {
+    List<String> matches = new ArrayList<>();
+    Matcher matcher = Pattern.compile(regex).matcher(text);
+    while (matcher.find()) {
+      matches.add(matcher.group(1));
+    }
+    return matches;
+  }
+
+  @Test
+  void shouldReadAsciiContent() {
+    String text = repeat("<a href=\"/foo\">", 100);
+    for (int chunkSize : new int[] {1, 7, 1000}) {
+      assertSameChars(text, view(text, UTF_8, chunkSize));
+    }
+  }
+
+  @Test
+  void shouldReadLatin1Content() {
+    String text = repeat("<a href=\"/é\">à", 100);
+    for (int chunkSize : new int[] {1, 7, 1000}) {
+      assertSameChars(text, view(text, ISO_8859_1, chunkSize));
+    }
+  }
+
+  @Test
+  void shouldDecodeUtf8ContentFromCheckpoints() {
+    // 2 bytes, 3 bytes and surrogate pairs chars, over several checkpoint strides
+    String text = repeat("<a href=\"/é€😀\">", 300);
+    for (int chunkSize : new int[] {1, 7, 1000}) {
+      assertSameChars(text, view(text, UTF_8, chunkSize));
+    }
+  }
+
+  @Test
+  void shouldMatchRegexLikeOnString() {
+    String text = repeat("<a href=\"/é€😀\">", 300);
+    ByteBufsCharSequence view = view(text, UTF_8, 100);
+    String regex = "href=\"([^\"]+)\">(\\d+)";
+    assertEquals(findAll(regex, text), findAll(regex, view));
+  }
+
+  @Test
+  void shouldReadMalformedUtf8AsReplacementChars() {
+    ByteBuf buf = Unpooled.wrappedBuffer(new byte[] {'a', (byte) 0x80, 'b', (byte) 0xE2});
+    assertSameChars("a\uFFFDb\uFFFD", new ByteBufsCharSequence(UTF_8, buf));
+  }
+
+  @Test
+  void shouldReplaceMalformedUtf8LikeString() {
+    byte[][] inputs = {
+      // invalid continuation bytes after 2, 3 and 4 bytes leads
+      {(byte) 0xC3, 'a', (byte) 0xE2, (byte) 0x82, 'b', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, 'c'},
+      // overlong sequences and out of range leads
+      {(byte) 0xC0, (byte) 0xAF, (byte) 0xE0, (byte) 0x80, (byte) 0xAF, (byte) 0xF8, 'a'},
+      // encoded surrogate and code point above U+10FFFF
+      {(byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+      // truncated sequence at the end
+      {'a', (byte) 0xF0, (byte) 0x9F, (byte) 0x98}
+    };
+    for (byte[] bytes : inputs) {
+      for (int chunkSize : new int[] {1, 2, 1000}) {
+        List<ByteBuf> bufs = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+          bufs.add(Unpooled.wrappedBuffer(bytes, i, Math.min(chunkSize, bytes.length - i)));
+        }
+        assertSameChars(
+            new String(bytes, UTF_8),
+            new ByteBufsCharSequence(UTF_8, bufs.toArray(ByteBufUtils.EMPTY_BYTEBUF_ARRAY)));
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public final class ByteBufsSubstringSearchTest {
+
+  private static ByteBuf[] split(String text, Charset charset, int chunkSize) {
+    return split(text.getBytes(charset), chunkSize);
+  }
+
+  private static ByteBuf[] split(byte[] bytes, int chunkSize) {
+    List<ByteBuf> bufs = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      bufs.add(Unpooled.wrappedBuffer(bytes, i, Math.min(chunkSize, bytes.length - i)));
+    }
+    return bufs.toArray(ByteBufUtils.EMPTY_BYTEBUF_ARRAY);
+  }
+
+  private static int[] charIndexes(String text, Charset charset, int chunkSize, String pattern) {
+    return charIndexes(split(text, charset, chunkSize), charset, pattern);
+  }
+
+  private static int[] charIndexes(ByteBuf[] bufs, Charset charset, String pattern) {
+    ByteBufsSubstringSearch search = new ByteBufsSubstringSearch(bufs, charset, pattern);
+    List<Integer> indexes = new ArrayList<>();
+    for (int offset = search.next(); offset != -1; offset = search.next()) {
+      indexes.add(search.charIndex(offset));
+    }
+    return indexes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static int[] stringIndexes(String text, String pattern) {
+    List<Integer> indexes = new ArrayList<>();
+    for (int i = text.indexOf(pattern); i != -1; i = text.indexOf(pattern, i + pattern.length())) {
+      indexes.add(i);
+    }
+    return indexes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  @Test
+  void shouldFindOccurrencesSpanningOverSeveralBufs() {
+    String text = "[{\"id\":\"1072920417\"},\"id\":\"1072920418\"]";
+    for (int chunkSize = 1; chunkSize <= text.length(); chunkSize++) {
+      assertArrayEquals(
+          stringIndexes(text, "\"id\":"), charIndexes(text, UTF_8, chunkSize, "\"id\":"));
+    }
+  }
+
+  @Test
+  void shouldNotReturnOverlappingOccurrences() {
+    assertArrayEquals(new int[] {0, 2}, charIndexes("aaaaa", UTF_8, 2, "aa"));
+  }
+
+  @Test
+  void shouldComputeUtf8CharIndexes() {
+    // 2 bytes, 3 bytes and surrogate pairs chars before the matches
+    String text = "é€😀foo é€😀 foo😀foo";
+    for (int chunkSize = 1; chunkSize <= 8; chunkSize++) {
+      assertArrayEquals(stringIndexes(text, "foo"), charIndexes(text, UTF_8, chunkSize, "foo"));
+      assertArrayEquals(stringIndexes(text, "€😀"), charIndexes(text, UTF_8, chunkSize, "€😀"));
+    }
+  }
+
+  @Test
+  void shouldComputeUtf8CharIndexesLikeStringOnMalformedInput() {
+    // stray continuation byte, truncated 4 bytes sequence, encoded surrogate and overlong sequence
+    byte[] bytes = {
+      (byte) 0x80, 'f', 'o', 'o', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, 'f', 'o', 'o',
+      (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'f', 'o', 'o', (byte) 0xE0, (byte) 0x80, 'f', 'o', 'o'
+    };
+    String text = new String(bytes, UTF_8);
+    for (int chunkSize = 1; chunkSize <= 8; chunkSize++) {
+      assertArrayEquals(
+          stringIndexes(text, "foo"), charIndexes(split(bytes, chunkSize), UTF_8, "foo"));
+    }
+  }
+
+  @Test
+  void shouldComputeIso88591CharIndexes() {
+    String text = "éàfooéà foo";
+    assertArrayEquals(stringIndexes(text, "éfoo"), charIndexes(text, ISO_8859_1, 3, "éfoo"));
+    assertArrayEquals(stringIndexes(text, "à foo"), charIndexes(text, ISO_8859_1, 3, "à foo"));
+  }
+
+  @Test
+  void shouldOnlySupportSafeCharsetsAndPatterns() {
+    assertTrue(ByteBufsSubstringSearch.isSupported(UTF_8, "€"));
+    assertTrue(ByteBufsSubstringSearch.isSupported(ISO_8859_1, "é"));
+    assertFalse(ByteBufsSubstringSearch.isSupported(ISO_8859_1, "€"));
+    assertFalse(ByteBufsSubstringSearch.isSupported(UTF_16, "foo"));
+    assertFalse(ByteBufsSubstringSearch.isSupported(UTF_8, ""));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public final class StreamingSubstringSearchTest {
+
+  private static int[] charIndexes(byte[] bytes, Charset charset, int chunkSize, String pattern) {
+    StreamingSubstringSearch search = new StreamingSubstringSearch(charset, pattern);
+    List<Integer> indexes = new ArrayList<>();
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      ByteBuffer chunk = ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i));
+      search.onChunk(chunk, indexes::add);
+      assertEquals(i, chunk.position());
+    }
+    return indexes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static int[] stringIndexes(String text, String pattern) {
+    List<Integer> indexes = new ArrayList<>();
+    for (int i = text.indexOf(pattern); i != -1; i = text.indexOf(pattern, i + pattern.length())) {
+      indexes.add(i);
+    }
+    return indexes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static void assertSameIndexesAsDecodedString(
+      byte[] bytes, Charset charset, String pattern) {
+    int[] expected = stringIndexes(new String(bytes, charset), pattern);
+    for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+      assertArrayEquals(expected, charIndexes(bytes, charset, chunkSize, pattern));
+    }
+  }
+
+  @Test
+  void shouldFindOccurrencesSpanningOverSeveralChunks() {
+    assertSameIndexesAsDecodedString(
+        "[{\"id\":\"1072920417\"},\"id\":\"1072920418\"]".getBytes(UTF_8), UTF_8, "\"id\":");
+  }
+
+  @Test
+  void shouldNotReturnOverlappingOccurrences() {
+    assertArrayEquals(new int[] {0, 2}, charIndexes("aaaaa".getBytes(UTF_8), UTF_8, 1, "aa"));
+  }
+
+  @Test
+  void shouldReturnCharIndexesWithMultiBytesCharsSplitOverChunks() {
+    assertSameIndexesAsDecodedString(
+        "[{\"é\":\"€\"},{\"id\":\"😀\"},\"id\":1]".getBytes(UTF_8), UTF_8, "\"id\":");
+    assertSameIndexesAsDecodedString("é€😀é€😀".getBytes(UTF_8), UTF_8, "😀");
+  }
+
+  @Test
+  void shouldReturnCharIndexesLikeTheJdkOnMalformedUtf8() {
+    byte[] bytes = {
+      'a', (byte) 0xE2, (byte) 0x82, 'x', 'a', (byte) 0xF0, (byte) 0x9F, 'x', 'a', (byte) 0xED,
+      (byte) 0xA0, (byte) 0x80, 'x', 'a', (byte) 0xFF, 'x', 'a'
+    };
+    assertSameIndexesAsDecodedString(bytes, UTF_8, "xa");
+  }
+
+  @Test
+  void shouldReturnByteOffsetsWithIso88591() {
+    assertSameIndexesAsDecodedString(
+        "àé\"id\":ù\"id\":".getBytes(ISO_8859_1), ISO_8859_1, "\"id\":");
+  }
+}
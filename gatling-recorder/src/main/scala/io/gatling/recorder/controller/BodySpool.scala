@@ -0,0 +1,99 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.recorder.controller
+
+import java.nio.file.{ Files, Path }
+import java.util.Comparator
+import java.util.concurrent.{ ArrayBlockingQueue, ThreadPoolExecutor, TimeUnit }
+import java.util.concurrent.atomic.AtomicLong
+
+import scala.util.Using
+
+import io.gatling.recorder.render._
+
+private[controller] object BodySpool {
+  private val MaxPendingTasks = 1024
+}
+
+/**
+ * Spills the recorded bodies to temporary files as the traffic is captured, so a long recording session doesn't retain all of them in memory until the
+ * simulation is rendered.
+ *
+ * Elements are built and spilled on a dedicated thread instead of the proxy ones. When it falls behind, the proxy threads run the tasks themselves, slowing
+ * down the recorded traffic instead of queueing more bodies in memory.
+ *
+ * @param keepResponseBodies
+ *   if response bodies will be rendered, otherwise they're dropped
+ */
+private[controller] final class BodySpool(keepResponseBodies: Boolean) extends AutoCloseable {
+  private val directory = Files.createTempDirectory("gatling-recorder-bodies")
+  private val fileCounter = new AtomicLong
+
+  private val executor = new ThreadPoolExecutor(
+    1,
+    1,
+    0L,
+    TimeUnit.MILLISECONDS,
+    new ArrayBlockingQueue[Runnable](BodySpool.MaxPendingTasks),
+    { (runnable: Runnable) =>
+      val thread = new Thread(runnable, "gatling-recorder-body-spool")
+      thread.setDaemon(true)
+      thread
+    },
+    new ThreadPoolExecutor.CallerRunsPolicy
+  )
+
+  private def spill(bytes: Array[Byte]): Path =
+    Files.write(directory.resolve(fileCounter.incrementAndGet().toString), bytes)
+
+  private def spill(element: RequestElement): RequestElement =
+    element.copy(
+      body = element.body.map {
+        case RequestBodyBytes(bytes) => RequestBodyFile(spill(bytes))
+        case body                    => body
+      },
+      responseBody =
+        if (keepResponseBodies) {
+          element.responseBody.map {
+            case ResponseBodyBytes(bytes) => ResponseBodyFile(spill(bytes))
+            case body                     => body
+          }
+        } else {
+          None
+        }
+    )
+
+  def submit(element: => RequestElement)(f: RequestElement => Unit): Unit =
+    executor.execute(() => f(spill(element)))
+
+  /**
+   * Waits for the pending bodies to be spilled, must be called before rendering.
+   */
+  def awaitPending(): Unit = {
+    executor.shutdown()
+    executor.awaitTermination(Long.MaxValue, TimeUnit.MILLISECONDS)
+  }
+
+  override def close(): Unit = {
+    executor.shutdownNow()
+    // a task still spilling would otherwise write its file after the directory is deleted
+    executor.awaitTermination(Long.MaxValue, TimeUnit.MILLISECONDS)
+    Using.resource(Files.walk(directory)) {
+      _.sorted(Comparator.reverseOrder[Path]).forEach(Files.deleteIfExists(_))
+    }
+  }
+}
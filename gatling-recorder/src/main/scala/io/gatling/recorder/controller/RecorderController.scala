@@ -39,6 +39,7 @@ private[recorder] final class RecorderController(clock: Clock) extends StrictLog
   private val frontEnd = RecorderFrontEnd.newFrontend(this, RecorderConfiguration.recorderConfiguration)
 
   private var mitm: Mitm = _
+  private var bodySpool: BodySpool = _
   private var converter: HttpTrafficConverter = _
   private val requests = new ConcurrentLinkedQueue[TimedScenarioElement[RequestElement]]()
   private val tags = new ConcurrentLinkedQueue[TimedScenarioElement[TagElement]]()
@@ -62,6 +63,7 @@ private[recorder] final class RecorderController(clock: Clock) extends StrictLog
               case _               => frontEnd.handleHarExportSuccess()
             }
           case Proxy =>
+            bodySpool = new BodySpool(config.http.checkResponseBodies)
             mitm = Mitm(this, clock, config)
             frontEnd.recordingStarted()
         }
@@ -73,6 +75,7 @@ private[recorder] final class RecorderController(clock: Clock) extends StrictLog
     try {
       frontEnd.recordingStopped()
       if (save) {
+        bodySpool.awaitPending()
         if (requests.isEmpty) {
           logger.info("Nothing was recorded, skipping Simulation generation")
         } else {
@@ -83,6 +86,7 @@ private[recorder] final class RecorderController(clock: Clock) extends StrictLog
       }
     } finally {
       mitm.shutdown()
+      bodySpool.close()
       clearRecorderState()
       frontEnd.init()
     }
@@ -93,15 +97,14 @@ private[recorder] final class RecorderController(clock: Clock) extends StrictLog
       config.filters.filters.forall(_.accept(request.uri))
       && Filters.BrowserNoiseFilters.accept(request.uri)
     ) {
-      requests.add(TimedScenarioElement(request.timestamp, response.timestamp, RequestElement(request, response, config)))
+      bodySpool.submit(RequestElement(request, response, config)) { element =>
+        requests.add(TimedScenarioElement(request.timestamp, response.timestamp, element))
+      }
 
       // Notify frontend
-      val previousSendTime = requests.asScala.lastOption.map(_.sendTime)
-      previousSendTime.foreach { t =>
-        val delta = (response.timestamp - t).milliseconds
-        if (delta > config.core.thresholdForPauseCreation)
-          frontEnd.receiveEvent(PauseFrontEndEvent(delta))
-      }
+      val delta = (response.timestamp - request.timestamp).milliseconds
+      if (delta > config.core.thresholdForPauseCreation)
+        frontEnd.receiveEvent(PauseFrontEndEvent(delta))
       frontEnd.receiveEvent(RequestFrontEndEvent(request, response, config))
     }
   }
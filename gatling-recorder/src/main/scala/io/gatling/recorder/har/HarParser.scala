@@ -18,11 +18,14 @@ package io.gatling.recorder.har
 
 import java.io.InputStream
 
-import scala.jdk.CollectionConverters._
+import scala.collection.mutable
+import scala.util.Using
 
-import com.fasterxml.jackson.core.{ JsonFactoryBuilder, StreamReadConstraints }
-import com.fasterxml.jackson.databind.{ DeserializationFeature, ObjectMapper }
+import com.fasterxml.jackson.core.{ JsonFactoryBuilder, JsonParser, JsonToken, StreamReadConstraints }
 
+/**
+ * Streams the HAR `log.entries` so only one entry is held in memory at a time, instead of binding the whole archive that can weigh several GB.
+ */
 object HarParser {
   final case class HarEntry(startedDateTime: String, time: Option[Double], timings: Option[HarTimings], request: HarRequest, response: HarResponse)
 
@@ -42,94 +45,204 @@ object HarParser {
     val time: Double = blocked + dns + connect + ssl + send + waitTiming + receive
   }
 
-  private val TheObjectMapper = {
-    val jsonFactory = new JsonFactoryBuilder()
+  private val TheJsonFactory =
+    new JsonFactoryBuilder()
       .streamReadConstraints(StreamReadConstraints.builder.maxStringLength(Int.MaxValue).build)
       .build
 
-    new ObjectMapper(jsonFactory)
-      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+  /**
+   * @param keepResponseText
+   *   if the response body should be read, given its mime type. Otherwise, it's skipped without being decoded. Browsers write the mime type before the text,
+   *   if not, the text is always read.
+   * @param f
+   *   the entry callback
+   */
+  def foreachHarEntry(is: InputStream, keepResponseText: Option[String] => Boolean)(f: HarEntry => Unit): Unit =
+    Using.resource(TheJsonFactory.createParser(is)) { parser =>
+      parser.nextToken()
+      foreachField(parser) {
+        case "log" =>
+          foreachField(parser) {
+            case "entries" => foreachElement(parser)(f(readEntry(parser, keepResponseText)))
+            case _         => parser.skipChildren()
+          }
+        case _ => parser.skipChildren()
+      }
+    }
+
+  private def foreachField(parser: JsonParser)(f: String => Unit): Unit =
+    if (parser.currentToken == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val name = parser.currentName
+        parser.nextToken()
+        f(name)
+      }
+    } else {
+      parser.skipChildren()
+    }
+
+  private def foreachElement(parser: JsonParser)(f: => Unit): Unit =
+    if (parser.currentToken == JsonToken.START_ARRAY) {
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        f
+      }
+    } else {
+      parser.skipChildren()
+    }
+
+  private def isObject(parser: JsonParser): Boolean =
+    parser.currentToken == JsonToken.START_OBJECT
+
+  private def readString(parser: JsonParser): Option[String] =
+    if (parser.currentToken.isScalarValue) {
+      Option(parser.getValueAsString)
+    } else {
+      parser.skipChildren()
+      None
+    }
+
+  private def readInt(parser: JsonParser): Option[Int] =
+    if (parser.currentToken.isScalarValue) {
+      Some(parser.getValueAsInt)
+    } else {
+      parser.skipChildren()
+      None
+    }
+
+  private def readDouble(parser: JsonParser): Option[Double] =
+    if (parser.currentToken.isNumeric) {
+      Some(parser.getDoubleValue)
+    } else {
+      parser.skipChildren()
+      None
+    }
+
+  private def readSeq[T](parser: JsonParser)(readElement: JsonParser => T): Seq[T] = {
+    val elements = Vector.newBuilder[T]
+    foreachElement(parser)(elements += readElement(parser))
+    elements.result()
   }
 
-  def parseHarEntries(is: InputStream): List[HarEntry] = {
-    val javaModel = TheObjectMapper.readValue(is, classOf[HarJavaModel.HarHttpArchive])
-
-    Option(javaModel.getLog.getEntries)
-      .map {
-        _.asScala.map { entry =>
-          HarEntry(
-            startedDateTime = entry.getStartedDateTime,
-            time = Option(entry.getTime),
-            timings = Option(entry.getTimings).map(timings =>
-              HarTimings(
-                blocked = timings.getBlocked,
-                dns = timings.getDns,
-                connect = timings.getConnect,
-                ssl = timings.getSsl,
-                send = timings.getSend,
-                waitTiming = timings.getWait,
-                receive = timings.getReceive
-              )
-            ),
-            request = HarRequest(
-              httpVersion = entry.getRequest.getHttpVersion,
-              method = entry.getRequest.getMethod,
-              url = entry.getRequest.getUrl,
-              headers = Option(entry.getRequest.getHeaders)
-                .map(
-                  _.asScala
-                    .map(header =>
-                      HarHeader(
-                        name = header.getName,
-                        value = header.getValue
-                      )
-                    )
-                    .toSeq
-                )
-                .getOrElse(Nil),
-              postData = Option(entry.getRequest.getPostData).map(postData =>
-                HarRequestPostData(
-                  text = Option(postData.getText),
-                  params = Option(postData.getParams)
-                    .map(
-                      _.asScala
-                        .map(param =>
-                          HarRequestPostParam(
-                            name = param.getName,
-                            value = param.getValue
-                          )
-                        )
-                        .toSeq
-                    )
-                    .getOrElse(Nil)
-                )
-              )
-            ),
-            response = HarResponse(
-              status = entry.getResponse.getStatus,
-              headers = Option(entry.getResponse.getHeaders)
-                .map(
-                  _.asScala
-                    .map(header =>
-                      HarHeader(
-                        name = header.getName,
-                        value = header.getValue
-                      )
-                    )
-                    .toSeq
-                )
-                .getOrElse(Nil),
-              statusText = entry.getResponse.getStatusText,
-              content = HarResponseContent(
-                mimeType = Option(entry.getResponse.getContent.getMimeType),
-                encoding = Option(entry.getResponse.getContent.getEncoding),
-                text = Option(entry.getResponse.getContent.getText),
-                comment = Option(entry.getResponse.getContent.getComment)
-              )
-            )
-          )
-        }.toList
-      }
-      .getOrElse(Nil)
+  private def readNameValue[T](parser: JsonParser)(f: (String, String) => T): T = {
+    var name: String = null
+    var value: String = null
+    foreachField(parser) {
+      case "name"  => name = readString(parser).orNull
+      case "value" => value = readString(parser).orNull
+      case _       => parser.skipChildren()
+    }
+    f(name, value)
+  }
+
+  private def readEntry(parser: JsonParser, keepResponseText: Option[String] => Boolean): HarEntry = {
+    var startedDateTime: String = null
+    var time: Option[Double] = None
+    var timings: Option[HarTimings] = None
+    var request: Option[HarRequest] = None
+    var response: Option[HarResponse] = None
+
+    foreachField(parser) {
+      case "startedDateTime"              => startedDateTime = readString(parser).orNull
+      case "time"                         => time = readDouble(parser)
+      case "timings" if isObject(parser)  => timings = Some(readTimings(parser))
+      case "request" if isObject(parser)  => request = Some(readRequest(parser))
+      case "response" if isObject(parser) => response = Some(readResponse(parser, keepResponseText))
+      case _                              => parser.skipChildren()
+    }
+
+    HarEntry(
+      startedDateTime = startedDateTime,
+      time = time,
+      timings = timings,
+      request = request.getOrElse(throw new IllegalArgumentException(s"HAR entry started at $startedDateTime doesn't have a request")),
+      response = response.getOrElse(throw new IllegalArgumentException(s"HAR entry started at $startedDateTime doesn't have a response"))
+    )
+  }
+
+  private def readTimings(parser: JsonParser): HarTimings = {
+    val timings = mutable.Map.empty[String, Double]
+    foreachField(parser)(name => readDouble(parser).foreach(timings.update(name, _)))
+    def timing(name: String): Double = timings.getOrElse(name, 0d)
+
+    HarTimings(
+      blocked = timing("blocked"),
+      dns = timing("dns"),
+      connect = timing("connect"),
+      ssl = timing("ssl"),
+      send = timing("send"),
+      waitTiming = timing("wait"),
+      receive = timing("receive")
+    )
+  }
+
+  private def readHeaders(parser: JsonParser): Seq[HarHeader] =
+    readSeq(parser)(readNameValue(_)(HarHeader.apply))
+
+  private def readRequest(parser: JsonParser): HarRequest = {
+    var httpVersion: String = null
+    var method: String = null
+    var url: String = null
+    var headers: Seq[HarHeader] = Nil
+    var postData: Option[HarRequestPostData] = None
+
+    foreachField(parser) {
+      case "httpVersion"                  => httpVersion = readString(parser).orNull
+      case "method"                       => method = readString(parser).orNull
+      case "url"                          => url = readString(parser).orNull
+      case "headers"                      => headers = readHeaders(parser)
+      case "postData" if isObject(parser) => postData = Some(readPostData(parser))
+      case _                              => parser.skipChildren()
+    }
+
+    HarRequest(httpVersion, method, url, headers, postData)
+  }
+
+  private def readPostData(parser: JsonParser): HarRequestPostData = {
+    var text: Option[String] = None
+    var params: Seq[HarRequestPostParam] = Nil
+
+    foreachField(parser) {
+      case "text"   => text = readString(parser)
+      case "params" => params = readSeq(parser)(readNameValue(_)(HarRequestPostParam.apply))
+      case _        => parser.skipChildren()
+    }
+
+    HarRequestPostData(text, params)
+  }
+
+  private def readResponse(parser: JsonParser, keepResponseText: Option[String] => Boolean): HarResponse = {
+    var status = 0
+    var headers: Seq[HarHeader] = Nil
+    var statusText: String = null
+    var content = HarResponseContent(None, None, None, None)
+
+    foreachField(parser) {
+      case "status"                      => status = readInt(parser).getOrElse(0)
+      case "headers"                     => headers = readHeaders(parser)
+      case "statusText"                  => statusText = readString(parser).orNull
+      case "content" if isObject(parser) => content = readContent(parser, keepResponseText)
+      case _                             => parser.skipChildren()
+    }
+
+    HarResponse(status, headers, statusText, content)
+  }
+
+  private def readContent(parser: JsonParser, keepResponseText: Option[String] => Boolean): HarResponseContent = {
+    var mimeType: Option[String] = None
+    var encoding: Option[String] = None
+    var text: Option[String] = None
+    var comment: Option[String] = None
+
+    foreachField(parser) {
+      case "mimeType" => mimeType = readString(parser)
+      case "encoding" => encoding = readString(parser)
+      // not reading the value lets the parser skip it without buffering it
+      case "text" if mimeType.isDefined && !keepResponseText(mimeType) => parser.skipChildren()
+      case "text"                                                      => text = readString(parser)
+      case "comment"                                                   => comment = readString(parser)
+      case _                                                           => parser.skipChildren()
+    }
+
+    HarResponseContent(mimeType, encoding, text, comment)
   }
 }
@@ -36,36 +36,40 @@ import io.netty.util.AsciiString
 final case class HttpTransaction(request: HttpRequest, response: HttpResponse)
 
 private[recorder] object HarReader {
-  def readFile(path: Path, filters: Option[Filters]): List[HttpTransaction] =
-    Using.resource(new BufferedInputStream(new FileInputStream(path.toFile)))(readStream(_, filters))
-
-  private[har] def readStream(is: InputStream, filters: Option[Filters]): List[HttpTransaction] = {
-    val harEntries = HarParser.parseHarEntries(is)
-    val filteredHarEntries = harEntries
-      .filter(entry => filters.forall(_.accept(entry.request.url) && Filters.BrowserNoiseFilters.accept(entry.request.url)))
-    buildHttpTransactions(filteredHarEntries)
+  def readFile(path: Path, filters: Option[Filters], keepResponseBody: Option[String] => Boolean): List[HttpTransaction] =
+    Using.resource(new BufferedInputStream(new FileInputStream(path.toFile)))(readStream(_, filters, keepResponseBody))
+
+  private[har] def readStream(is: InputStream, filters: Option[Filters], keepResponseBody: Option[String] => Boolean): List[HttpTransaction] = {
+    val transactions = List.newBuilder[HttpTransaction]
+    var lastTimestamp = Long.MinValue
+    var sorted = true
+
+    HarParser.foreachHarEntry(is, keepResponseBody) { entry =>
+      if (isAccepted(entry, filters)) {
+        val transaction = buildHttpTransaction(entry)
+        sorted = sorted && transaction.request.timestamp >= lastTimestamp
+        lastTimestamp = transaction.request.timestamp
+        transactions += transaction
+      }
+    }
+
+    // Chrome can mess up with request order
+    if (sorted) transactions.result() else transactions.result().sortBy(_.request.timestamp)
   }
 
   private def parseMillisFromIso8601DateTime(time: String): Long =
     ZonedDateTime.parse(time).toInstant.toEpochMilli
 
-  private def buildHttpTransactions(harEntries: List[HarEntry]): List[HttpTransaction] =
-    harEntries.iterator
+  private def isAccepted(entry: HarEntry, filters: Option[Filters]): Boolean =
+    filters.forall(_.accept(entry.request.url) && Filters.BrowserNoiseFilters.accept(entry.request.url)) &&
       // filter out cancelled requests
-      .filter(_.response.status != 0)
+      entry.response.status != 0 &&
       // filter out all non-HTTP protocols (eg: ws://)
-      .filter(_.request.url.toLowerCase(Locale.ROOT).startsWith("http"))
+      entry.request.url.toLowerCase(Locale.ROOT).startsWith("http") &&
       // filter out CONNECT (if HAR was generated with a proxy such as Charles) and Upgrade requests (WebSockets)
-      .filter(entry =>
-        entry.request.method != HttpMethod.CONNECT.name && !entry.request.headers.exists(header =>
-          AsciiString.contentEqualsIgnoreCase(header.name, HttpHeaderValues.UPGRADE)
-        )
-      )
-      .filter(entry => isValidURL(entry.request.url))
-      .map(buildHttpTransaction)
-      .toList
-      // Chrome can mess up with request order
-      .sortBy(_.request.timestamp)
+      entry.request.method != HttpMethod.CONNECT.name &&
+      !entry.request.headers.exists(header => AsciiString.contentEqualsIgnoreCase(header.name, HttpHeaderValues.UPGRADE)) &&
+      isValidURL(entry.request.url)
 
   private def isValidURL(url: String): Boolean = Try(new URI(url)).isSuccess
 
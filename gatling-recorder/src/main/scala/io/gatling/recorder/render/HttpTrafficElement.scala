@@ -18,6 +18,7 @@ package io.gatling.recorder.render
 
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path, StandardCopyOption }
 import java.util.Base64
 
 import scala.concurrent.duration.FiniteDuration
@@ -35,14 +36,31 @@ import jodd.net.MimeTypes
 
 private[recorder] final case class TimedScenarioElement[+T <: HttpTrafficElement](sendTime: Long, arrivalTime: Long, element: T)
 
+// a body dumped into the simulation resources, either held in memory or spilled to a temporary file while recording
+private[recorder] sealed trait DumpableBody {
+  def writeTo(target: Path): Unit
+}
+
+private[recorder] sealed trait InMemoryDumpableBody extends DumpableBody {
+  def bytes: Array[Byte]
+  override def writeTo(target: Path): Unit = Files.write(target, bytes)
+}
+
+private[recorder] sealed trait SpilledDumpableBody extends DumpableBody {
+  def file: Path
+  override def writeTo(target: Path): Unit = Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING)
+}
+
 private[recorder] sealed trait RequestBody extends Product with Serializable
 private[recorder] final case class RequestBodyParams(params: List[(String, String)]) extends RequestBody
 @SuppressWarnings(Array("org.wartremover.warts.ArrayEquals"))
-private[recorder] final case class RequestBodyBytes(bytes: Array[Byte]) extends RequestBody
+private[recorder] final case class RequestBodyBytes(bytes: Array[Byte]) extends RequestBody with InMemoryDumpableBody
+private[recorder] final case class RequestBodyFile(file: Path) extends RequestBody with SpilledDumpableBody
 
 private[recorder] sealed trait ResponseBody extends Product with Serializable
 @SuppressWarnings(Array("org.wartremover.warts.ArrayEquals"))
-private[recorder] final case class ResponseBodyBytes(bytes: Array[Byte]) extends ResponseBody
+private[recorder] final case class ResponseBodyBytes(bytes: Array[Byte]) extends ResponseBody with InMemoryDumpableBody
+private[recorder] final case class ResponseBodyFile(file: Path) extends ResponseBody with SpilledDumpableBody
 
 private[recorder] sealed trait HttpTrafficElement extends Product with Serializable
 private[recorder] final case class PauseElement(duration: FiniteDuration) extends HttpTrafficElement
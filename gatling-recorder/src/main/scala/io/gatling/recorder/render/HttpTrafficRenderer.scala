@@ -54,19 +54,19 @@ private[render] class DumpedBodies(
     bodiesFolderPath: Path,
     bodiesClassPathLocation: String
 ) {
-  def forRequest(request: RequestElement, bytes: Array[Byte]): DumpedBody =
-    make(request, bytes, "request")
+  def forRequest(request: RequestElement, content: DumpableBody): DumpedBody =
+    make(request, content, "request")
 
-  def forResponse(request: RequestElement, bytes: Array[Byte]): DumpedBody =
-    make(request, bytes, "response")
+  def forResponse(request: RequestElement, content: DumpableBody): DumpedBody =
+    make(request, content, "response")
 
-  private def make(request: RequestElement, bytes: Array[Byte], suffix: String): DumpedBody = {
+  private def make(request: RequestElement, content: DumpableBody, suffix: String): DumpedBody = {
     val fileName = s"${request.id.toString.leftPad(4, "0")}_$suffix.${request.responseFileExtension}"
 
     new DumpedBody(
       bodiesClassPathLocation + "/" + fileName,
       bodiesFolderPath.resolve(fileName),
-      bytes
+      content
     )
   }
 }
@@ -74,7 +74,7 @@ private[render] class DumpedBodies(
 private[render] class DumpedBody(
     val classPathLocation: String,
     val filePath: Path,
-    val bytes: Array[Byte]
+    val content: DumpableBody
 )
 
 private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) extends StrictLogging {
@@ -87,18 +87,20 @@ private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) exte
   def simulationFileExists: Boolean = Files.exists(simulationFile)
 
   private def dumpBody(body: DumpedBody): Unit =
-    Using.resource(new BufferedOutputStream(Files.newOutputStream(body.filePath))) { fw =>
-      try {
-        fw.write(body.bytes)
-      } catch {
-        case e: IOException => logger.error(s"Failed to dump body ${body.filePath}", e)
-      }
+    try {
+      body.content.writeTo(body.filePath)
+    } catch {
+      case e: IOException => logger.error(s"Failed to dump body ${body.filePath}", e)
     }
 
+  // response bodies make for most of the HAR weight, only read the ones that will be used
+  private def keepHarResponseBody(mimeType: Option[String]): Boolean =
+    config.http.checkResponseBodies || (config.http.inferHtmlResources && mimeType.exists(_.toLowerCase(Locale.ROOT).contains("html")))
+
   // RecorderController
   def renderHarFile(harFile: Path): Validation[Unit] =
     safely(error => s"Error while processing HAR file: $error") {
-      val transactions = HarReader.readFile(harFile, config.filters.filters)
+      val transactions = HarReader.readFile(harFile, config.filters.filters, keepHarResponseBody)
 
       if (transactions.isEmpty) {
         "the selected file doesn't contain any valid HTTP requests".failure
@@ -161,8 +163,8 @@ private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) exte
     val requestBodies: Map[Int, DumpedBody] = {
       for {
         request <- requestElements
-        bytes <- request.body.collect { case RequestBodyBytes(bytes) => bytes }.toList
-      } yield request.id -> dumpedBodies.forRequest(request, bytes)
+        content <- request.body.collect { case content: DumpableBody => content }.toList
+      } yield request.id -> dumpedBodies.forRequest(request, content)
     }.toMap
 
     val responseBodies: Map[Int, DumpedBody] =
@@ -170,8 +172,8 @@ private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) exte
         {
           for {
             request <- requestElements
-            bytes <- request.responseBody.collect { case ResponseBodyBytes(bytes) => bytes }.toList
-          } yield request.id -> dumpedBodies.forResponse(request, bytes)
+            content <- request.responseBody.collect { case content: DumpableBody => content }.toList
+          } yield request.id -> dumpedBodies.forResponse(request, content)
         }.toMap
       } else {
         Map.empty
@@ -16,6 +16,8 @@
 
 package io.gatling.recorder.ui
 
+import java.nio.charset.Charset
+
 import scala.concurrent.duration._
 
 import io.gatling.recorder.config.RecorderConfiguration
@@ -28,12 +30,30 @@ private[recorder] final case class PauseFrontEndEvent(duration: FiniteDuration)
   override def toString = s"PAUSE $toPrint"
 }
 
-private[recorder] final case class RequestFrontEndEvent(request: HttpRequest, response: HttpResponse, configuration: RecorderConfiguration)
-    extends FrontEndEvent {
-  val requestBody = new String(request.body, configuration.core.encoding)
+private[recorder] object RequestFrontEndEvent {
+  private[ui] val MaxDisplayedBodyLength = 10 * 1024
 
-  val responseBody = new String(response.body, configuration.core.encoding)
+  /**
+   * The events are all kept for display until recording stops, so they don't retain the bodies, only a preview of them.
+   */
+  def apply(request: HttpRequest, response: HttpResponse, configuration: RecorderConfiguration): RequestFrontEndEvent =
+    new RequestFrontEndEvent(
+      request.copy(body = Array.emptyByteArray),
+      response.copy(body = Array.emptyByteArray),
+      preview(request.body, configuration.core.encoding),
+      preview(response.body, configuration.core.encoding)
+    )
 
+  private def preview(body: Array[Byte], charset: Charset): String =
+    if (body.length <= MaxDisplayedBodyLength) {
+      new String(body, charset)
+    } else {
+      s"${new String(body, 0, MaxDisplayedBodyLength, charset)}\n[${body.length - MaxDisplayedBodyLength} more bytes not displayed]"
+    }
+}
+
+private[recorder] final case class RequestFrontEndEvent(request: HttpRequest, response: HttpResponse, requestBody: String, responseBody: String)
+    extends FrontEndEvent {
   override def toString = s"${request.method} | ${request.uri}"
 }
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.recorder.controller
+
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.Files
+import java.util.concurrent.atomic.AtomicReference
+
+import scala.util.Using
+
+import io.gatling.recorder.render._
+
+import io.netty.handler.codec.http.DefaultHttpHeaders
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class BodySpoolSpec extends AnyFlatSpecLike with Matchers {
+  private val element = RequestElement(
+    "http://gatling.io/foo",
+    "POST",
+    new DefaultHttpHeaders,
+    Some(RequestBodyBytes("request".getBytes(UTF_8))),
+    new DefaultHttpHeaders,
+    Some(ResponseBodyBytes("response".getBytes(UTF_8))),
+    200,
+    Nil,
+    Nil
+  )
+
+  private def spill(bodySpool: BodySpool): RequestElement = {
+    val spilled = new AtomicReference[RequestElement]
+    bodySpool.submit(element)(spilled.set)
+    bodySpool.awaitPending()
+    spilled.get
+  }
+
+  "BodySpool" should "spill the request and response bodies into files" in {
+    Using.resource(new BodySpool(keepResponseBodies = true)) { bodySpool =>
+      val spilled = spill(bodySpool)
+      spilled.body.collect { case RequestBodyFile(file) => new String(Files.readAllBytes(file), UTF_8) } shouldBe Some("request")
+      spilled.responseBody.collect { case ResponseBodyFile(file) => new String(Files.readAllBytes(file), UTF_8) } shouldBe Some("response")
+    }
+  }
+
+  it should "drop the response bodies when they're not rendered" in {
+    Using.resource(new BodySpool(keepResponseBodies = false)) { bodySpool =>
+      spill(bodySpool).responseBody shouldBe None
+    }
+  }
+
+  it should "delete the spilled bodies when closed" in {
+    val bodySpool = new BodySpool(keepResponseBodies = false)
+    val files = spill(bodySpool).body.collect { case RequestBodyFile(file) => file }.toList
+    files should have size 1
+    bodySpool.close()
+    files.foreach(Files.exists(_) shouldBe false)
+  }
+}
@@ -16,6 +16,7 @@
 
 package io.gatling.recorder.har
 
+import java.io.ByteArrayInputStream
 import java.nio.charset.StandardCharsets.UTF_8
 
 import scala.util.Using
@@ -29,8 +30,11 @@ import org.scalatest.matchers.should.Matchers
 @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
 class HarReaderSpec extends AnyFlatSpecLike with Matchers {
   private def readHar(file: String, filters: Option[Filters]): Seq[HttpTransaction] =
+    readHar(file, filters, _ => true)
+
+  private def readHar(file: String, filters: Option[Filters], keepResponseBody: Option[String] => Boolean): Seq[HttpTransaction] =
     Using.resource(Thread.currentThread.getContextClassLoader.getResourceAsStream("har/" + file)) { is =>
-      HarReader.readStream(is, filters)
+      HarReader.readStream(is, filters, keepResponseBody)
     }
 
   private def testGet(file: String): Unit = {
@@ -147,4 +151,28 @@ class HarReaderSpec extends AnyFlatSpecLike with Matchers {
   it should "work with Charles 4.2" in {
     testRedirectAfterPost("charles42/redirect-post.har")
   }
+
+  "Skipping response bodies" should "not read the bodies that aren't kept" in {
+    val transactions = readHar("chrome61/form.har", None, _ => false)
+    transactions should have size 2
+    transactions.foreach(_.response.body shouldBe empty)
+    new String(transactions(1).request.body, UTF_8) shouldBe "name=NAME&quest=QUEST&color=chartreuse&swallow=african&text=HI"
+  }
+
+  it should "still read the bodies whose mime type is accepted" in {
+    val transactions = readHar("firefox56/get.har", None, _.exists(_.contains("html")))
+    transactions.head.response.body should have length 7256
+  }
+
+  "Parsing a malformed status" should "skip it without losing track of the following fields" in {
+    val har =
+      """{"log": {"entries": [{
+        |  "request": {"method": "GET", "url": "http://gatling.io"},
+        |  "response": {"status": {"code": 200}, "statusText": "OK"}
+        |}]}}""".stripMargin
+    val responses = Seq.newBuilder[HarParser.HarResponse]
+    HarParser.foreachHarEntry(new ByteArrayInputStream(har.getBytes(UTF_8)), _ => true)(entry => responses += entry.response)
+
+    responses.result().map(response => response.status -> response.statusText) shouldBe Seq(0 -> "OK")
+  }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.recorder.ui
+
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.Path
+
+import io.gatling.recorder.cli.RecorderArgs
+import io.gatling.recorder.config.RecorderConfiguration
+import io.gatling.recorder.model.{ HttpRequest, HttpResponse }
+
+import io.netty.handler.codec.http.DefaultHttpHeaders
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class FrontEndEventSpec extends AnyFlatSpecLike with Matchers {
+  private val config: RecorderConfiguration =
+    RecorderConfiguration.testConfig(
+      args = RecorderArgs(
+        simulationsFolder = Path.of(""),
+        resourcesFolder = Path.of(""),
+        pkg = None,
+        className = None,
+        format = None
+      ),
+      fakeSystemProps = Map.empty
+    )
+
+  private def event(requestBody: String, responseBody: String): RequestFrontEndEvent =
+    RequestFrontEndEvent(
+      HttpRequest("HTTP/1.1", "POST", "http://gatling.io/foo", new DefaultHttpHeaders, requestBody.getBytes(UTF_8), 0),
+      HttpResponse(200, "OK", new DefaultHttpHeaders, responseBody.getBytes(UTF_8), 1),
+      config
+    )
+
+  "RequestFrontEndEvent" should "display the bodies without retaining them" in {
+    val requestEvent = event("request", "response")
+
+    requestEvent.requestBody shouldBe "request"
+    requestEvent.responseBody shouldBe "response"
+    requestEvent.request.body shouldBe empty
+    requestEvent.response.body shouldBe empty
+  }
+
+  it should "only display the beginning of large bodies" in {
+    val largeBody = "a" * (RequestFrontEndEvent.MaxDisplayedBodyLength + 10)
+
+    event("", largeBody).responseBody shouldBe s"${"a" * RequestFrontEndEvent.MaxDisplayedBodyLength}\n[10 more bytes not displayed]"
+  }
+}
@@ -71,6 +71,33 @@ public final class RedisFeederBuilder implements Supplier<Iterator<Map<String, O
     return new RedisFeederBuilder(wrapped.RPOPLPUSH());
   }
 
+  /**
+   * Prefetch values ahead of demand, fetching them in batches from a dedicated thread instead of
+   * paying a round trip per record. Refill is triggered once half of the values have been fed.
+   * Beware that with destructive commands, values prefetched but never fed are lost.
+   *
+   * @param depth the number of values to prefetch
+   * @return a new RedisFeederBuilder instance
+   */
+  @NonNull
+  public RedisFeederBuilder prefetch(int depth) {
+    return new RedisFeederBuilder(wrapped.prefetch(depth));
+  }
+
+  /**
+   * Prefetch values ahead of demand, fetching them in batches from a dedicated thread instead of
+   * paying a round trip per record. Beware that with destructive commands, values prefetched but
+   * never fed are lost.
+   *
+   * @param depth the number of values to prefetch
+   * @param lowWatermark the number of remaining values triggering a refill
+   * @return a new RedisFeederBuilder instance
+   */
+  @NonNull
+  public RedisFeederBuilder prefetch(int depth, int lowWatermark) {
+    return new RedisFeederBuilder(wrapped.prefetch(depth, lowWatermark));
+  }
+
   @Override
   public Iterator<Map<String, Object>> get() {
     return toJavaFeeder(wrapped.apply());
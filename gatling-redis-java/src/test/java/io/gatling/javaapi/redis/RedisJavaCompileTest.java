@@ -27,5 +27,7 @@ public class RedisJavaCompileTest extends Simulation {
 
   {
     feed(redisFeeder(redisPool, "key", "keydest").LPOP().SPOP().SRANDMEMBER().RPOPLPUSH());
+    feed(redisFeeder(redisPool, "key").prefetch(1000));
+    feed(redisFeeder(redisPool, "key").SPOP().prefetch(1000, 100));
   }
 }
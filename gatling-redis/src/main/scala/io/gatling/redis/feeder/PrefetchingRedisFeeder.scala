@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011-2025 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.redis.feeder
+
+import java.util.concurrent.{ Executors, LinkedBlockingQueue, TimeUnit }
+import java.util.concurrent.atomic.AtomicBoolean
+
+import scala.util.control.NonFatal
+
+import io.gatling.core.feeder.{ CloseableFeeder, Record }
+
+/**
+ * Buffers values ahead of demand so the feeder doesn't pay a Redis round trip per record. Once at most `lowWatermark` values are buffered, a dedicated thread
+ * fetches the missing ones to get back to `prefetchDepth` in a single round trip.
+ *
+ * Beware that with destructive commands such as LPOP, values prefetched but never fed are lost.
+ */
+private final class PrefetchingRedisFeeder(fetchBatch: Int => Seq[String], key: String, prefetchDepth: Int, lowWatermark: Int) extends CloseableFeeder[Any] {
+  private val buffer = new LinkedBlockingQueue[String]
+  private val fetching = new AtomicBoolean
+  @volatile private var exhausted = false
+  @volatile private var failure: Throwable = _
+  private var head: String = _
+
+  private val fetcher = Executors.newSingleThreadExecutor { runnable =>
+    val thread = new Thread(runnable, "gatling-redis-feeder")
+    thread.setDaemon(true)
+    thread
+  }
+
+  refillIfNeeded()
+
+  private def refillIfNeeded(): Unit =
+    if (!exhausted && buffer.size <= lowWatermark && fetching.compareAndSet(false, true)) {
+      fetcher.execute { () =>
+        try {
+          val values = fetchBatch(prefetchDepth - buffer.size)
+          if (values.isEmpty) {
+            exhausted = true
+          } else {
+            values.foreach(buffer.add)
+          }
+        } catch {
+          case NonFatal(e) =>
+            failure = e
+            exhausted = true
+        } finally {
+          fetching.set(false)
+        }
+      }
+    }
+
+  private def take(): String = {
+    var value = buffer.poll()
+    while (value == null && !exhausted) {
+      // only waiting when demand outpaces the prefetching
+      refillIfNeeded()
+      value = buffer.poll(1, TimeUnit.MILLISECONDS)
+    }
+    if (value == null) {
+      value = buffer.poll()
+    }
+    refillIfNeeded()
+    if (value == null && failure != null) {
+      throw new IllegalStateException(s"Failed to fetch values from Redis key $key", failure)
+    }
+    value
+  }
+
+  override def hasNext: Boolean = {
+    if (head == null) {
+      head = take()
+    }
+    head != null
+  }
+
+  override def next(): Record[Any] =
+    if (hasNext) {
+      val value = head
+      head = null
+      Map(key -> value)
+    } else {
+      throw new NoSuchElementException(s"Redis key $key is exhausted")
+    }
+
+  override def close(): Unit = fetcher.shutdownNow()
+}
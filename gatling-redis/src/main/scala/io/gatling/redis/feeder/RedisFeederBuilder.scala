@@ -26,36 +26,74 @@ import com.redis.{ RedisClient, RedisClientPool }
  * Originally contributed by Krishnen Chedambarum. RPOPLPUSH added by Shoaib Khan
  */
 object RedisFeederBuilder {
-  // Function for executing Redis command
-  private type RedisCommand = (RedisClient, String, String) => Option[String]
+  /**
+   * @param fetch
+   *   fetches a single value
+   * @param fetchBatchScript
+   *   a Lua script fetching up to ARGV[1] values in a single round trip, KEYS being the source and destination keys
+   */
+  private[feeder] final class RedisCommand(val fetch: (RedisClient, String, String) => Option[String], val fetchBatchScript: String)
 
-  private val LPOP: RedisCommand = (redisClient, keySrc, _) => redisClient.lpop(keySrc)
+  private def repeatUntilEmptyScript(call: String): String =
+    s"""local values = {}
+       |for i = 1, tonumber(ARGV[1]) do
+       |  local value = redis.call($call)
+       |  if not value then break end
+       |  values[i] = value
+       |end
+       |return values""".stripMargin
 
-  private val SPOP: RedisCommand = (redisClient, keySrc, _) => redisClient.spop(keySrc)
+  private val LPOP = new RedisCommand((redisClient, keySrc, _) => redisClient.lpop(keySrc), repeatUntilEmptyScript("'LPOP', KEYS[1]"))
 
-  private val SRANDMEMBER: RedisCommand = (redisClient, keySrc, _) => redisClient.srandmember(keySrc)
+  private val SPOP = new RedisCommand((redisClient, keySrc, _) => redisClient.spop(keySrc), "return redis.call('SPOP', KEYS[1], ARGV[1])")
 
-  private val RPOPLPUSH: RedisCommand = (redisClient, keySrc, keyDest) => redisClient.rpoplpush(keySrc, keyDest)
+  // a negative count allows for the same member to be returned multiple times, like with distinct calls
+  private val SRANDMEMBER =
+    new RedisCommand((redisClient, keySrc, _) => redisClient.srandmember(keySrc), "return redis.call('SRANDMEMBER', KEYS[1], -tonumber(ARGV[1]))")
+
+  private val RPOPLPUSH =
+    new RedisCommand((redisClient, keySrc, keyDest) => redisClient.rpoplpush(keySrc, keyDest), repeatUntilEmptyScript("'RPOPLPUSH', KEYS[1], KEYS[2]"))
 
   def apply(clientPool: RedisClientPool, keySrc: String, keyDest: String): RedisFeederBuilder =
-    new RedisFeederBuilder(clientPool, RedisFeederBuilder.LPOP, keySrc, keyDest)
+    new RedisFeederBuilder(clientPool, RedisFeederBuilder.LPOP, keySrc, keyDest, prefetchDepth = 0, lowWatermark = 0)
 }
 
-final case class RedisFeederBuilder(clientPool: RedisClientPool, command: RedisFeederBuilder.RedisCommand, keySrc: String, keyDest: String)
-    extends NamedFeederBuilder {
+final case class RedisFeederBuilder(
+    clientPool: RedisClientPool,
+    command: RedisFeederBuilder.RedisCommand,
+    keySrc: String,
+    keyDest: String,
+    prefetchDepth: Int,
+    lowWatermark: Int
+) extends NamedFeederBuilder {
   def LPOP: RedisFeederBuilder = copy(command = RedisFeederBuilder.LPOP)
   def SPOP: RedisFeederBuilder = copy(command = RedisFeederBuilder.SPOP)
   def SRANDMEMBER: RedisFeederBuilder = copy(command = RedisFeederBuilder.SRANDMEMBER)
   def RPOPLPUSH: RedisFeederBuilder = copy(command = RedisFeederBuilder.RPOPLPUSH)
 
-  override def apply(): Feeder[Any] = {
-    def next: Option[Map[String, String]] = clientPool.withClient { client =>
-      val value = command(client, keySrc, keyDest)
-      value.map(value => Map(keySrc -> value))
-    }
+  def prefetch(depth: Int): RedisFeederBuilder = prefetch(depth, depth / 2)
 
-    Iterator.continually(next).takeWhile(_.isDefined).map(_.get)
+  def prefetch(depth: Int, lowWatermark: Int): RedisFeederBuilder = {
+    require(depth > 0, s"Prefetch depth $depth must be strictly positive")
+    require(lowWatermark >= 0 && lowWatermark < depth, s"Low watermark $lowWatermark must be positive and lower than prefetch depth $depth")
+    copy(prefetchDepth = depth, lowWatermark = lowWatermark)
   }
 
+  override def apply(): Feeder[Any] =
+    if (prefetchDepth > 0) {
+      val fetchBatch: Int => Seq[String] = count =>
+        clientPool.withClient { client =>
+          client.evalMultiBulk[String](command.fetchBatchScript, List(keySrc, keyDest), List(count)).getOrElse(Nil).flatten
+        }
+      new PrefetchingRedisFeeder(fetchBatch, keySrc, prefetchDepth, lowWatermark)
+    } else {
+      def next: Option[Map[String, String]] = clientPool.withClient { client =>
+        val value = command.fetch(client, keySrc, keyDest)
+        value.map(value => Map(keySrc -> value))
+      }
+
+      Iterator.continually(next).takeWhile(_.isDefined).map(_.get)
+    }
+
   override val name: String = "redis"
 }
@@ -25,6 +25,8 @@ class RedisCompileTest extends Simulation {
   private val redisPool = new RedisClientPool("localhost", 6379)
 
   redisFeeder(redisPool, "key")
+  redisFeeder(redisPool, "key").SPOP.prefetch(1000)
+  redisFeeder(redisPool, "key").prefetch(1000, 100)
 
   after {
     redisPool.close()
@@ -20,6 +20,7 @@ import io.gatling.core.feeder.Record
 import io.gatling.redis.Predef._
 
 import com.redis._
+import org.mockito.ArgumentMatchers
 import org.mockito.ArgumentMatchers._
 import org.mockito.Mockito._
 import org.scalatest.flatspec.AnyFlatSpecLike
@@ -79,4 +80,29 @@ class RedisFeederSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
       redisFeeder(clientPool, KEY, KEYDEST).RPOPLPUSH.apply().toList shouldBe valsLst(KEY, "v3", "v2", "v1")
     }
   }
+
+  it should "prefetch values in batches" in {
+    new MockContext {
+      when(client.evalMultiBulk[String](anyString(), any(), any())(any(), any()))
+        .thenReturn(Some(List(Some("v1"), Some("v2"))), Some(List(Some("v3"))), Some(Nil))
+
+      redisFeeder(clientPool, KEY).prefetch(2, 0).apply().toList shouldBe valsLst(KEY, "v1", "v2", "v3")
+    }
+  }
+
+  it should "fetch up to the prefetch depth" in {
+    new MockContext {
+      when(client.evalMultiBulk[String](anyString(), any(), any())(any(), any()))
+        .thenReturn(Some(List(Some("v1"), Some("v2"), Some("v3"), Some("v4"))), Some(Nil))
+
+      redisFeeder(clientPool, KEY).prefetch(4, 2).apply().toList shouldBe valsLst(KEY, "v1", "v2", "v3", "v4")
+      verify(client, atLeastOnce()).evalMultiBulk[String](anyString(), any(), ArgumentMatchers.eq(List(4)))(any(), any())
+    }
+  }
+
+  it should "reject a low watermark not lower than the prefetch depth" in {
+    new MockContext {
+      an[IllegalArgumentException] should be thrownBy redisFeeder(clientPool, KEY).prefetch(10, 10)
+    }
+  }
 }
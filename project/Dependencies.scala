@@ -35,6 +35,7 @@ object Dependencies {
   private val brotli4cOsXX86                 = brotli4j.withName("native-osx-x86_64")
   private val brotli4cOsXArm                 = brotli4j.withName("native-osx-aarch64")
   private val brotli4jWindows                = brotli4j.withName("native-windows-x86_64")
+  private val zstdJni                        = "com.github.luben"                     % "zstd-jni"                          % "1.5.6-9"
   private val config                         = "com.typesafe"                         % "config"                            % "1.4.3"
   private val saxon                          = "net.sf.saxon"                         % "Saxon-HE"                          % "12.5"
   private val xmlresolver                    = "org.xmlresolver"                      % "xmlresolver"                       % "6.0.12"
@@ -169,6 +170,7 @@ object Dependencies {
     brotli4cOsXX86,
     brotli4cOsXArm,
     brotli4jWindows,
+    zstdJni,
     junit,
     junitEngine,
     jupiterInterface,
@@ -184,7 +186,7 @@ object Dependencies {
 
   val jdbcDependencies = h2 +: testDeps
 
-  val chartsDependencies = tdigest +: testDeps
+  val chartsDependencies = Seq(tdigest, hdrHistogram) ++ testDeps
 
   val benchmarkDependencies = Seq(jmh)
 